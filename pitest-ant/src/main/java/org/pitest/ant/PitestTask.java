@@ -224,6 +224,14 @@ public class PitestTask extends Task { // NO_UCD (test only)
     this.setOption(ConfigOption.HISTORY_OUTPUT_LOCATION, value);
   }
 
+  public void setHistoryFormat(final String value) {
+    this.setOption(ConfigOption.HISTORY_FORMAT, value);
+  }
+
+  public void setUseCoverageCache(final String value) {
+    this.setOption(ConfigOption.USE_COVERAGE_CACHE, value);
+  }
+
   public void setMutationThreshold(final String value) {
     this.setOption(ConfigOption.MUTATION_THRESHOLD, value);
   }
@@ -253,4 +261,28 @@ public class PitestTask extends Task { // NO_UCD (test only)
   public void setUseClasspathJar(String value) {
     this.setOption(ConfigOption.USE_CLASSPATH_JAR, value);
   }
+
+  public void setMutantSchemata(String value) {
+    this.setOption(ConfigOption.MUTANT_SCHEMATA, value);
+  }
+
+  public void setCooperativeTimeouts(String value) {
+    this.setOption(ConfigOption.COOPERATIVE_TIMEOUTS, value);
+  }
+
+  public void setPrioritiseByKillHistory(String value) {
+    this.setOption(ConfigOption.PRIORITISE_BY_KILL_HISTORY, value);
+  }
+
+  public void setCostBalancedGrouping(String value) {
+    this.setOption(ConfigOption.COST_BALANCED_GROUPING, value);
+  }
+
+  public void setPipelinedAnalysis(String value) {
+    this.setOption(ConfigOption.PIPELINED_ANALYSIS, value);
+  }
+
+  public void setMinionTransport(String value) {
+    this.setOption(ConfigOption.MINION_TRANSPORT, value);
+  }
 }
\ No newline at end of file
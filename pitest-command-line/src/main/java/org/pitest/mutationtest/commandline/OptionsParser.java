@@ -19,6 +19,8 @@ import static org.pitest.mutationtest.config.ConfigOption.CHILD_JVM;
 import static org.pitest.mutationtest.config.ConfigOption.CLASSPATH;
 import static org.pitest.mutationtest.config.ConfigOption.CLASSPATH_FILE;
 import static org.pitest.mutationtest.config.ConfigOption.CODE_PATHS;
+import static org.pitest.mutationtest.config.ConfigOption.COOPERATIVE_TIMEOUTS;
+import static org.pitest.mutationtest.config.ConfigOption.COST_BALANCED_GROUPING;
 import static org.pitest.mutationtest.config.ConfigOption.COVERAGE_THRESHOLD;
 import static org.pitest.mutationtest.config.ConfigOption.DEPENDENCY_DISTANCE;
 import static org.pitest.mutationtest.config.ConfigOption.EXCLUDED_CLASSES;
@@ -30,6 +32,7 @@ import static org.pitest.mutationtest.config.ConfigOption.FAIL_WHEN_NOT_MUTATION
 import static org.pitest.mutationtest.config.ConfigOption.FEATURES;
 import static org.pitest.mutationtest.config.ConfigOption.FULL_MUTATION_MATRIX;
 import static org.pitest.mutationtest.config.ConfigOption.HISTORY_INPUT_LOCATION;
+import static org.pitest.mutationtest.config.ConfigOption.HISTORY_FORMAT;
 import static org.pitest.mutationtest.config.ConfigOption.HISTORY_OUTPUT_LOCATION;
 import static org.pitest.mutationtest.config.ConfigOption.INCLUDED_GROUPS;
 import static org.pitest.mutationtest.config.ConfigOption.INCLUDED_TEST_METHODS;
@@ -37,12 +40,16 @@ import static org.pitest.mutationtest.config.ConfigOption.INCLUDE_LAUNCH_CLASSPA
 import static org.pitest.mutationtest.config.ConfigOption.JVM_PATH;
 import static org.pitest.mutationtest.config.ConfigOption.MAX_MUTATIONS_PER_CLASS;
 import static org.pitest.mutationtest.config.ConfigOption.MAX_SURVIVING;
+import static org.pitest.mutationtest.config.ConfigOption.MINION_TRANSPORT;
 import static org.pitest.mutationtest.config.ConfigOption.MUTATIONS;
+import static org.pitest.mutationtest.config.ConfigOption.MUTANT_SCHEMATA;
 import static org.pitest.mutationtest.config.ConfigOption.MUTATION_ENGINE;
 import static org.pitest.mutationtest.config.ConfigOption.MUTATION_THRESHOLD;
 import static org.pitest.mutationtest.config.ConfigOption.MUTATION_UNIT_SIZE;
 import static org.pitest.mutationtest.config.ConfigOption.OUTPUT_FORMATS;
+import static org.pitest.mutationtest.config.ConfigOption.PIPELINED_ANALYSIS;
 import static org.pitest.mutationtest.config.ConfigOption.PLUGIN_CONFIGURATION;
+import static org.pitest.mutationtest.config.ConfigOption.PRIORITISE_BY_KILL_HISTORY;
 import static org.pitest.mutationtest.config.ConfigOption.REPORT_DIR;
 import static org.pitest.mutationtest.config.ConfigOption.SOURCE_DIR;
 import static org.pitest.mutationtest.config.ConfigOption.TARGET_CLASSES;
@@ -53,6 +60,7 @@ import static org.pitest.mutationtest.config.ConfigOption.TIMEOUT_CONST;
 import static org.pitest.mutationtest.config.ConfigOption.TIMEOUT_FACTOR;
 import static org.pitest.mutationtest.config.ConfigOption.TIME_STAMPED_REPORTS;
 import static org.pitest.mutationtest.config.ConfigOption.USE_CLASSPATH_JAR;
+import static org.pitest.mutationtest.config.ConfigOption.USE_COVERAGE_CACHE;
 import static org.pitest.mutationtest.config.ConfigOption.USE_INLINED_CODE_DETECTION;
 import static org.pitest.mutationtest.config.ConfigOption.VERBOSE;
 
@@ -99,6 +107,8 @@ public class OptionsParser {
   private final OptionSpec<Integer>                  threadsSpec;
   private final OptionSpec<File>                     sourceDirSpec;
   private final OptionSpec<File>                     historyOutputSpec;
+  private final OptionSpec<String>                   historyFormatSpec;
+  private final ArgumentAcceptingOptionSpec<Boolean> useCoverageCacheSpec;
   private final OptionSpec<File>                     historyInputSpec;
   private final OptionSpec<String>                   mutators;
   private final OptionSpec<String>                   features;
@@ -131,6 +141,12 @@ public class OptionsParser {
   private final OptionSpec<String>                   testPluginSpec;
   private final ArgumentAcceptingOptionSpec<Boolean> includeLaunchClasspathSpec;
   private final ArgumentAcceptingOptionSpec<Boolean> useClasspathJarSpec;
+  private final ArgumentAcceptingOptionSpec<Boolean> mutantSchemataSpec;
+  private final ArgumentAcceptingOptionSpec<Boolean> cooperativeTimeoutsSpec;
+  private final ArgumentAcceptingOptionSpec<Boolean> prioritiseByKillHistorySpec;
+  private final ArgumentAcceptingOptionSpec<Boolean> costBalancedGroupingSpec;
+  private final ArgumentAcceptingOptionSpec<Boolean> pipelinedAnalysisSpec;
+  private final OptionSpec<String>                   minionTransportSpec;
   
   public OptionsParser(Predicate<String> dependencyFilter) {
 
@@ -256,6 +272,31 @@ public class OptionsParser {
     this.useClasspathJarSpec = parserAccepts(USE_CLASSPATH_JAR)
         .withOptionalArg().ofType(Boolean.class).defaultsTo(false)
         .describedAs("support large classpaths by creating a classpath jar");
+
+    this.mutantSchemataSpec = parserAccepts(MUTANT_SCHEMATA)
+        .withOptionalArg().ofType(Boolean.class).defaultsTo(false)
+        .describedAs("install the mutants of each class as a single class");
+
+    this.cooperativeTimeoutsSpec = parserAccepts(COOPERATIVE_TIMEOUTS)
+        .withOptionalArg().ofType(Boolean.class).defaultsTo(false)
+        .describedAs("stop timed out mutants without restarting the minion");
+
+    this.prioritiseByKillHistorySpec = parserAccepts(PRIORITISE_BY_KILL_HISTORY)
+        .withOptionalArg().ofType(Boolean.class).defaultsTo(false)
+        .describedAs("run the tests most likely to kill each mutant first");
+
+    this.costBalancedGroupingSpec = parserAccepts(COST_BALANCED_GROUPING)
+        .withOptionalArg().ofType(Boolean.class).defaultsTo(false)
+        .describedAs("balance work between threads using test execution times");
+
+    this.pipelinedAnalysisSpec = parserAccepts(PIPELINED_ANALYSIS)
+        .withOptionalArg().ofType(Boolean.class).defaultsTo(false)
+        .describedAs("analyse mutations while others are still being found");
+
+    this.minionTransportSpec = parserAccepts(MINION_TRANSPORT)
+        .withRequiredArg().ofType(String.class)
+        .defaultsTo(MINION_TRANSPORT.getDefault(String.class))
+        .describedAs("how minions connect to the main process, socket or pipe");
     
     this.includeLaunchClasspathSpec = parserAccepts(INCLUDE_LAUNCH_CLASSPATH)
         .withOptionalArg().ofType(Boolean.class).defaultsTo(true)
@@ -321,6 +362,15 @@ public class OptionsParser {
         .withRequiredArg().ofType(File.class)
         .describedAs("File to write history to for incremental analysis");
 
+    this.historyFormatSpec = parserAccepts(HISTORY_FORMAT)
+        .withRequiredArg().ofType(String.class)
+        .defaultsTo(HISTORY_FORMAT.getDefault(String.class))
+        .describedAs("Format of history file, text or binary");
+
+    this.useCoverageCacheSpec = parserAccepts(USE_COVERAGE_CACHE)
+        .withOptionalArg().ofType(Boolean.class).defaultsTo(false)
+        .describedAs("whether to reuse coverage cached with the history");
+
     this.mutationThreshHoldSpec = parserAccepts(MUTATION_THRESHOLD)
         .withRequiredArg().ofType(Integer.class)
         .describedAs("Mutation score below which to throw an error")
@@ -396,6 +446,16 @@ public class OptionsParser {
         .valueOf(this.includeLaunchClasspathSpec));
 
     data.setUseClasspathJar(userArgs.valueOf(useClasspathJarSpec));
+    data.setUseMutantSchemata(userArgs.valueOf(this.mutantSchemataSpec));
+    data.setUseCooperativeTimeouts(userArgs
+        .valueOf(this.cooperativeTimeoutsSpec));
+    data.setPrioritiseByKillHistory(userArgs
+        .valueOf(this.prioritiseByKillHistorySpec));
+    data.setUseCostBalancedGrouping(userArgs
+        .valueOf(this.costBalancedGroupingSpec));
+    data.setUsePipelinedAnalysis(userArgs
+        .valueOf(this.pipelinedAnalysisSpec));
+    data.setMinionTransport(this.minionTransportSpec.value(userArgs));
     
     data.setShouldCreateTimestampedReports(userArgs
         .valueOf(this.timestampedReportsSpec));
@@ -417,6 +477,8 @@ public class OptionsParser {
 
     data.setHistoryInputLocation(this.historyInputSpec.value(userArgs));
     data.setHistoryOutputLocation(this.historyOutputSpec.value(userArgs));
+    data.setHistoryFormat(this.historyFormatSpec.value(userArgs));
+    data.setUseCoverageCache(this.useCoverageCacheSpec.value(userArgs));
     data.setMutationThreshold(this.mutationThreshHoldSpec.value(userArgs));
     data.setMaximumAllowedSurvivors(this.maxSurvivingSpec.value(userArgs));
     data.setCoverageThreshold(this.coverageThreshHoldSpec.value(userArgs));
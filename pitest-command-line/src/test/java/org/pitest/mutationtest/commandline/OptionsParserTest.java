@@ -372,6 +372,45 @@ public class OptionsParserTest {
     assertEquals(new File("foo"), actual.getHistoryOutputLocation());
   }
 
+  @Test
+  public void shouldDefaultToTextHistoryFormat() {
+    final ReportOptions actual = parseAddingRequiredArgs("");
+    assertEquals("text", actual.getHistoryFormat());
+  }
+
+  @Test
+  public void shouldParseHistoryFormat() {
+    final ReportOptions actual = parseAddingRequiredArgs("--historyFormat",
+        "binary");
+    assertEquals("binary", actual.getHistoryFormat());
+  }
+
+  @Test
+  public void shouldNotUseCoverageCacheByDefault() {
+    final ReportOptions actual = parseAddingRequiredArgs("");
+    assertFalse(actual.isUseCoverageCache());
+  }
+
+  @Test
+  public void shouldUseCoverageCacheWhenFlagSet() {
+    final ReportOptions actual = parseAddingRequiredArgs(
+        "--useCoverageCache=true");
+    assertTrue(actual.isUseCoverageCache());
+  }
+
+  @Test
+  public void shouldDefaultToSocketMinionTransport() {
+    final ReportOptions actual = parseAddingRequiredArgs("");
+    assertEquals("socket", actual.getMinionTransport());
+  }
+
+  @Test
+  public void shouldParseMinionTransport() {
+    final ReportOptions actual = parseAddingRequiredArgs("--minionTransport",
+        "pipe");
+    assertEquals("pipe", actual.getMinionTransport());
+  }
+
   @Test
   public void shouldParseMutationThreshold() {
     final ReportOptions actual = parseAddingRequiredArgs("--mutationThreshold",
@@ -499,6 +538,66 @@ public class OptionsParserTest {
     assertTrue(actual.useClasspathJar());
   }
   
+  @Test
+  public void shouldDefaultToNotUsingMutantSchemata() {
+    final ReportOptions actual = parseAddingRequiredArgs("");
+    assertFalse(actual.useMutantSchemata());
+  }
+
+  @Test
+  public void shouldUseMutantSchemataWhenFlagSet() {
+    final ReportOptions actual = parseAddingRequiredArgs("--mutantSchemata=true");
+    assertTrue(actual.useMutantSchemata());
+  }
+
+  @Test
+  public void shouldDefaultToNotUsingCooperativeTimeouts() {
+    final ReportOptions actual = parseAddingRequiredArgs("");
+    assertFalse(actual.useCooperativeTimeouts());
+  }
+
+  @Test
+  public void shouldUseCooperativeTimeoutsWhenFlagSet() {
+    final ReportOptions actual = parseAddingRequiredArgs("--cooperativeTimeouts=true");
+    assertTrue(actual.useCooperativeTimeouts());
+  }
+
+  @Test
+  public void shouldDefaultToNotPrioritisingByKillHistory() {
+    final ReportOptions actual = parseAddingRequiredArgs("");
+    assertFalse(actual.prioritiseByKillHistory());
+  }
+
+  @Test
+  public void shouldPrioritiseByKillHistoryWhenFlagSet() {
+    final ReportOptions actual = parseAddingRequiredArgs("--prioritiseByKillHistory=true");
+    assertTrue(actual.prioritiseByKillHistory());
+  }
+
+  @Test
+  public void shouldDefaultToNotUsingCostBalancedGrouping() {
+    final ReportOptions actual = parseAddingRequiredArgs("");
+    assertFalse(actual.useCostBalancedGrouping());
+  }
+
+  @Test
+  public void shouldUseCostBalancedGroupingWhenFlagSet() {
+    final ReportOptions actual = parseAddingRequiredArgs("--costBalancedGrouping=true");
+    assertTrue(actual.useCostBalancedGrouping());
+  }
+
+  @Test
+  public void shouldDefaultToNotUsingPipelinedAnalysis() {
+    final ReportOptions actual = parseAddingRequiredArgs("");
+    assertFalse(actual.usePipelinedAnalysis());
+  }
+
+  @Test
+  public void shouldUsePipelinedAnalysisWhenFlagSet() {
+    final ReportOptions actual = parseAddingRequiredArgs("--pipelinedAnalysis=true");
+    assertTrue(actual.usePipelinedAnalysis());
+  }
+
   @Test
   public void shouldDefaultMatrixFlagToFalse() {
     final ReportOptions actual = parseAddingRequiredArgs("");
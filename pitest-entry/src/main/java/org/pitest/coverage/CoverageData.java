@@ -16,8 +16,10 @@
 package org.pitest.coverage;
 
 import java.math.BigInteger;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.List;
@@ -25,13 +27,9 @@ import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Optional;
 import java.util.Set;
-import java.util.TreeSet;
 import java.util.function.BiFunction;
 import java.util.function.Function;
-import java.util.function.Predicate;
 import java.util.logging.Logger;
-import java.util.stream.Collectors;
-import java.util.stream.Stream;
 
 import org.pitest.classinfo.ClassInfo;
 import org.pitest.classinfo.ClassName;
@@ -40,17 +38,31 @@ import org.pitest.functional.FCollection;
 import org.pitest.testapi.Description;
 import org.pitest.util.Log;
 
+/**
+ * Coverage is recorded and queried under a lock, as derived line and class
+ * coverage is built lazily and mutations may be discovered by several threads.
+ */
 public class CoverageData implements CoverageDatabase {
 
   private static final Logger                                 LOG           = Log
       .getLogger();
 
+  private final TestTable                                     tests         = new TestTable();
+
   // We calculate block coverage, but everything currently runs on line
   // coverage. Ugly mess of maps below should go when
   // api changed to work via blocks
-  private final Map<BlockLocation, Set<TestInfo>>             blockCoverage;
+  // test sets are built on first use. Until then, and after more coverage is
+  // recorded, the tests for a block are held by a builder
+  private final Map<BlockLocation, TestSet>                   blockCoverage = new LinkedHashMap<>();
+  private final Map<BlockLocation, TestSet.Builder>           pendingTests  = new HashMap<>();
+  // identical test sets are shared between blocks, lines and classes
+  private final Map<TestSet, TestSet>                         testSets      = new HashMap<>();
   private final Map<BlockLocation, Set<Integer>>              blocksToLines = new LinkedHashMap<>();
-  private final Map<ClassName, Map<ClassLine, Set<TestInfo>>> lineCoverage  = new LinkedHashMap<>();
+  private final Map<ClassName, Map<ClassLine, TestSet>>       lineCoverage  = new LinkedHashMap<>();
+  // blocks of each class, so that queries for a class do not scan every block
+  private final Map<ClassName, List<BlockLocation>>           classBlocks   = new HashMap<>();
+  private final Map<ClassName, TestSet>                       classTests    = new HashMap<>();
   private final Map<String, Collection<ClassInfo>>            classesForFile;
 
   private final CodeSource                                    code;
@@ -65,15 +77,20 @@ public class CoverageData implements CoverageDatabase {
 
 
   public CoverageData(final CodeSource code, final LineMap lm, Map<BlockLocation, Set<TestInfo>> blockCoverage) {
-    this.blockCoverage = blockCoverage;
     this.code = code;
     this.lm = lm;
     this.classesForFile = FCollection.bucket(this.code.getCode(),
         keyFromClassInfo());
+    for (final Entry<BlockLocation, Set<TestInfo>> each : blockCoverage
+        .entrySet()) {
+      for (final TestInfo test : each.getValue()) {
+        addTestsToBlockMap(test, each.getKey());
+      }
+    }
   }
 
   @Override
-  public Collection<TestInfo> getTestsForClassLine(final ClassLine classLine) {
+  public synchronized Collection<TestInfo> getTestsForClassLine(final ClassLine classLine) {
     final Collection<TestInfo> result = getTestsForClassName(
         classLine.getClassName()).get(classLine);
     if (result == null) {
@@ -83,11 +100,11 @@ public class CoverageData implements CoverageDatabase {
     }
   }
 
-  public boolean allTestsGreen() {
+  public synchronized boolean allTestsGreen() {
     return countFailedTests == 0;
   }
 
-  public int getCountFailedTests() {
+  public synchronized int getCountFailedTests() {
     return countFailedTests;
   }
 
@@ -97,43 +114,89 @@ public class CoverageData implements CoverageDatabase {
   }
 
   @Override
-  public int getNumberOfCoveredLines(final Collection<ClassName> mutatedClass) {
+  public synchronized int getNumberOfCoveredLines(final Collection<ClassName> mutatedClass) {
     return FCollection.fold(numberCoveredLines(), 0, mutatedClass);
   }
 
   @Override
-  public Collection<TestInfo> getTestsForClass(final ClassName clazz) {
-    final Set<TestInfo> tis = new TreeSet<>(
-        new TestInfoNameComparator());
-    tis.addAll(this.blockCoverage.entrySet().stream().filter(isFor(clazz))
-        .flatMap(toTests())
-        .collect(Collectors.toList())
-        );
+  public synchronized Collection<TestInfo> getTestsForClass(final ClassName clazz) {
+    TestSet tis = this.classTests.get(clazz);
+    if (tis == null) {
+      final TestSet.Builder builder = new TestSet.Builder();
+      for (final BlockLocation each : blocksFor(clazz)) {
+        builder.addAll(testsForBlock(each));
+      }
+      tis = intern(builder);
+      this.classTests.put(clazz, tis);
+    }
     return tis;
   }
 
-  public void calculateClassCoverage(final CoverageResult cr) {
+  public synchronized void calculateClassCoverage(final CoverageResult cr) {
 
     checkForFailedTest(cr);
     final TestInfo ti = this.createTestInfo(cr.getTestUnitDescription(),
-        cr.getExecutionTime(), cr.getNumberOfCoveredBlocks());
+        cr.getExecutionTime(), cr.getNumberOfCoveredBlocks(),
+        cr.getUnitDescription());
     for (final BlockLocation each : cr.getCoverage()) {
       addTestsToBlockMap(ti, each);
     }
   }
 
   private void addTestsToBlockMap(final TestInfo ti, BlockLocation each) {
-    Set<TestInfo> tests = this.blockCoverage.get(each);
-    if (tests == null) {
-      tests = new TreeSet<>(new TestInfoNameComparator());
-      this.blockCoverage.put(each, tests);
+    TestSet.Builder pending = this.pendingTests.get(each);
+    if (pending == null) {
+      pending = new TestSet.Builder();
+      if (this.blockCoverage.containsKey(each)) {
+        pending.addAll(this.blockCoverage.get(each));
+      } else {
+        this.blockCoverage.put(each, null);
+        indexBlock(each);
+      }
+      this.pendingTests.put(each, pending);
     }
-    tests.add(ti);
+    pending.add(this.tests.idOf(ti));
+    // anything already derived for the class is now out of date
+    final ClassName clazz = each.getLocation().getClassName();
+    this.lineCoverage.remove(clazz);
+    this.classTests.remove(clazz);
+  }
+
+  private void indexBlock(final BlockLocation block) {
+    List<BlockLocation> blocks = this.classBlocks.get(block.getLocation()
+        .getClassName());
+    if (blocks == null) {
+      blocks = new ArrayList<>();
+      this.classBlocks.put(block.getLocation().getClassName(), blocks);
+    }
+    blocks.add(block);
+  }
+
+  private List<BlockLocation> blocksFor(final ClassName clazz) {
+    final List<BlockLocation> blocks = this.classBlocks.get(clazz);
+    if (blocks == null) {
+      return Collections.emptyList();
+    }
+    return blocks;
+  }
+
+  private TestSet testsForBlock(final BlockLocation block) {
+    final TestSet.Builder pending = this.pendingTests.remove(block);
+    if (pending != null) {
+      this.blockCoverage.put(block, intern(pending));
+    }
+    return this.blockCoverage.get(block);
+  }
+
+  private TestSet intern(final TestSet.Builder builder) {
+    final TestSet tests = builder.build(this.tests);
+    final TestSet existing = this.testSets.putIfAbsent(tests, tests);
+    return existing == null ? tests : existing;
   }
 
   @Override
-  public BigInteger getCoverageIdForClass(final ClassName clazz) {
-    final Map<ClassLine, Set<TestInfo>> coverage = getTestsForClassName(clazz);
+  public synchronized BigInteger getCoverageIdForClass(final ClassName clazz) {
+    final Map<ClassLine, TestSet> coverage = getTestsForClassName(clazz);
     if (coverage.isEmpty()) {
       return BigInteger.ZERO;
     }
@@ -141,12 +204,13 @@ public class CoverageData implements CoverageDatabase {
     return generateCoverageNumber(coverage);
   }
 
-  public List<BlockCoverage> createCoverage() {
-    return FCollection.map(this.blockCoverage.entrySet(), toBlockCoverage());
+  public synchronized List<BlockCoverage> createCoverage() {
+    return FCollection.map(new ArrayList<>(this.blockCoverage.keySet()),
+        toBlockCoverage());
   }
 
-  private static Function<Entry<BlockLocation, Set<TestInfo>>, BlockCoverage> toBlockCoverage() {
-    return a -> new BlockCoverage(a.getKey(), FCollection.map(a.getValue(),
+  private Function<BlockLocation, BlockCoverage> toBlockCoverage() {
+    return a -> new BlockCoverage(a, FCollection.map(testsForBlock(a),
         TestInfo.toName()));
   }
 
@@ -167,12 +231,12 @@ public class CoverageData implements CoverageDatabase {
   }
 
   @Override
-  public CoverageSummary createSummary() {
+  public synchronized CoverageSummary createSummary() {
     return new CoverageSummary(numberOfLines(), coveredLines());
   }
 
   private BigInteger generateCoverageNumber(
-      final Map<ClassLine, Set<TestInfo>> coverage) {
+      final Map<ClassLine, TestSet> coverage) {
     BigInteger coverageNumber = BigInteger.ZERO;
     final Set<ClassName> testClasses = new HashSet<>();
     FCollection.flatMapTo(coverage.values(), testsToClassName(), testClasses);
@@ -184,7 +248,7 @@ public class CoverageData implements CoverageDatabase {
     return coverageNumber;
   }
 
-  private Function<Set<TestInfo>, Iterable<ClassName>> testsToClassName() {
+  private Function<TestSet, Iterable<ClassName>> testsToClassName() {
     return a -> FCollection.map(a, TestInfo.toDefiningClassName());
   }
 
@@ -226,11 +290,13 @@ public class CoverageData implements CoverageDatabase {
   }
 
   private TestInfo createTestInfo(final Description description,
-      final int executionTime, final int linesCovered) {
+      final int executionTime, final int linesCovered,
+      final Optional<String> unit) {
     final Optional<ClassName> testee = this.code.findTestee(description
         .getFirstTestClass());
     return new TestInfo(description.getFirstTestClass(),
-        description.getQualifiedName(), executionTime, testee, linesCovered);
+        description.getQualifiedName(), executionTime, testee, linesCovered,
+        unit);
   }
 
   private BiFunction<Integer, ClassName, Integer> numberCoveredLines() {
@@ -238,7 +304,7 @@ public class CoverageData implements CoverageDatabase {
   }
 
   private int getNumberOfCoveredLines(final ClassName clazz) {
-    final Map<ClassLine, Set<TestInfo>> map = getTestsForClassName(clazz);
+    final Map<ClassLine, TestSet> map = getTestsForClassName(clazz);
     if (map != null) {
       return map.size();
     } else {
@@ -247,12 +313,12 @@ public class CoverageData implements CoverageDatabase {
 
   }
 
-  private Map<ClassLine, Set<TestInfo>> getTestsForClassName(
+  private Map<ClassLine, TestSet> getTestsForClassName(
       final ClassName clazz) {
     // Use any test that provided some coverage of the class
     // This fails to consider tests that only accessed a static variable
     // of the class in question as this does not register as coverage.
-    final Map<ClassLine, Set<TestInfo>> map = this.lineCoverage.get(clazz);
+    final Map<ClassLine, TestSet> map = this.lineCoverage.get(clazz);
     if (map != null) {
       return map;
     }
@@ -261,36 +327,32 @@ public class CoverageData implements CoverageDatabase {
 
   }
 
-  private Map<ClassLine, Set<TestInfo>> convertBlockCoverageToLineCoverageForClass(
+  private Map<ClassLine, TestSet> convertBlockCoverageToLineCoverageForClass(
       ClassName clazz) {
-    final List<Entry<BlockLocation, Set<TestInfo>>> tests = FCollection.filter(
-        this.blockCoverage.entrySet(), isFor(clazz));
-
-    final Map<ClassLine, Set<TestInfo>> linesToTests = new LinkedHashMap<>(
+    final Map<ClassLine, TestSet.Builder> linesToTests = new LinkedHashMap<>(
         0);
 
-    for (final Entry<BlockLocation, Set<TestInfo>> each : tests) {
-      for (final int line : getLinesForBlock(each.getKey())) {
-        final Set<TestInfo> tis = getLineTestSet(clazz, linesToTests, each, line);
-        tis.addAll(each.getValue());
+    for (final BlockLocation each : blocksFor(clazz)) {
+      final TestSet blockTests = testsForBlock(each);
+      for (final int line : getLinesForBlock(each)) {
+        final ClassLine cl = new ClassLine(clazz, line);
+        TestSet.Builder tis = linesToTests.get(cl);
+        if (tis == null) {
+          tis = new TestSet.Builder();
+          linesToTests.put(cl, tis);
+        }
+        tis.addAll(blockTests);
       }
     }
 
-    this.lineCoverage.put(clazz, linesToTests);
-    return linesToTests;
-  }
-
-  private static Set<TestInfo> getLineTestSet(ClassName clazz,
-      Map<ClassLine, Set<TestInfo>> linesToTests,
-      Entry<BlockLocation, Set<TestInfo>> each, int line) {
-    final ClassLine cl = new ClassLine(clazz, line);
-    Set<TestInfo> tis = linesToTests.get(cl);
-    if (tis == null) {
-      tis = new TreeSet<>(new TestInfoNameComparator());
-      tis.addAll(each.getValue());
-      linesToTests.put(new ClassLine(clazz, line), tis);
+    final Map<ClassLine, TestSet> lines = new LinkedHashMap<>(
+        linesToTests.size());
+    for (final Entry<ClassLine, TestSet.Builder> each : linesToTests
+        .entrySet()) {
+      lines.put(each.getKey(), intern(each.getValue()));
     }
-    return tis;
+    this.lineCoverage.put(clazz, lines);
+    return lines;
   }
 
   private Set<Integer> getLinesForBlock(BlockLocation bl) {
@@ -315,13 +377,4 @@ public class CoverageData implements CoverageDatabase {
     this.countFailedTests++;
   }
 
-  private Function<Entry<BlockLocation, Set<TestInfo>>, Stream<TestInfo>> toTests() {
-    return a -> a.getValue().stream();
-  }
-
-  private Predicate<Entry<BlockLocation, Set<TestInfo>>> isFor(
-      final ClassName clazz) {
-    return a -> a.getKey().isFor(clazz);
-  }
-
 }
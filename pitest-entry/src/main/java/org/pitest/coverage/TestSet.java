@@ -0,0 +1,185 @@
+package org.pitest.coverage;
+
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.IntConsumer;
+
+/**
+ * An immutable set of tests held as ids from a TestTable.
+ *
+ * Sparse sets are stored as a sorted array of ids and dense sets as a bitmap,
+ * whichever is smaller. TestInfo instances are only created when the set is
+ * iterated, in name order.
+ */
+public final class TestSet extends AbstractSet<TestInfo> {
+
+  private final TestTable table;
+  private final int[]     ids;
+  private final long[]    bitmap;
+  private final int       size;
+  private final int       hash;
+
+  private TestSet(final TestTable table, final int[] ids, final long[] bitmap,
+      final int size) {
+    this.table = table;
+    this.ids = ids;
+    this.bitmap = bitmap;
+    this.size = size;
+    this.hash = elementHash();
+  }
+
+  static TestSet empty(final TestTable table) {
+    return new TestSet(table, new int[0], null, 0);
+  }
+
+  @Override
+  public Iterator<TestInfo> iterator() {
+    final List<TestInfo> tests = new ArrayList<>(this.size);
+    forEachId(id -> tests.add(this.table.get(id)));
+    Collections.sort(tests, new TestInfoNameComparator());
+    return Collections.unmodifiableList(tests).iterator();
+  }
+
+  @Override
+  public int size() {
+    return this.size;
+  }
+
+  @Override
+  public boolean contains(final Object o) {
+    if (!(o instanceof TestInfo)) {
+      return false;
+    }
+    final int id = this.table.find((TestInfo) o);
+    return (id != -1) && containsId(id) && this.table.get(id).equals(o);
+  }
+
+  boolean containsId(final int id) {
+    if (this.bitmap == null) {
+      return Arrays.binarySearch(this.ids, id) >= 0;
+    }
+    final int word = id / Long.SIZE;
+    return (word < this.bitmap.length)
+        && ((this.bitmap[word] & (1L << (id % Long.SIZE))) != 0);
+  }
+
+  void forEachId(final IntConsumer consumer) {
+    if (this.bitmap == null) {
+      for (final int each : this.ids) {
+        consumer.accept(each);
+      }
+      return;
+    }
+    for (int word = 0; word != this.bitmap.length; word++) {
+      long bits = this.bitmap[word];
+      while (bits != 0) {
+        consumer.accept((word * Long.SIZE) + Long.numberOfTrailingZeros(bits));
+        bits &= bits - 1;
+      }
+    }
+  }
+
+  @Override
+  public int hashCode() {
+    return this.hash;
+  }
+
+  @Override
+  public boolean equals(final Object obj) {
+    if (this == obj) {
+      return true;
+    }
+    if (!(obj instanceof TestSet)) {
+      return super.equals(obj);
+    }
+    final TestSet other = (TestSet) obj;
+    if ((this.table != other.table) || (this.size != other.size)
+        || (this.hash != other.hash)) {
+      return false;
+    }
+    // each set has a single representation for its size and largest id
+    return Arrays.equals(this.ids, other.ids)
+        && Arrays.equals(this.bitmap, other.bitmap);
+  }
+
+  private int elementHash() {
+    // consistent with AbstractSet so equal sets of other types hash equally
+    int h = 0;
+    for (final int each : toIds()) {
+      h += this.table.get(each).hashCode();
+    }
+    return h;
+  }
+
+  private int[] toIds() {
+    if (this.bitmap == null) {
+      return this.ids;
+    }
+    final int[] members = new int[this.size];
+    final int[] next = { 0 };
+    forEachId(id -> {
+      members[next[0]] = id;
+      next[0]++;
+    });
+    return members;
+  }
+
+  /**
+   * Collects ids in any order, allowing ids to be added one at a time without
+   * copying the set for each.
+   */
+  static final class Builder {
+
+    private int[] ids = new int[4];
+    private int   size;
+
+    void add(final int id) {
+      // ids are usually added in increasing order, so most duplicates are
+      // caught here
+      if ((this.size != 0) && (this.ids[this.size - 1] == id)) {
+        return;
+      }
+      if (this.size == this.ids.length) {
+        this.ids = Arrays.copyOf(this.ids, this.size * 2);
+      }
+      this.ids[this.size] = id;
+      this.size++;
+    }
+
+    void addAll(final TestSet tests) {
+      tests.forEachId(this::add);
+    }
+
+    TestSet build(final TestTable table) {
+      Arrays.sort(this.ids, 0, this.size);
+      int unique = 0;
+      for (int i = 0; i != this.size; i++) {
+        if ((unique == 0) || (this.ids[unique - 1] != this.ids[i])) {
+          this.ids[unique] = this.ids[i];
+          unique++;
+        }
+      }
+      this.size = unique;
+
+      if (unique == 0) {
+        return empty(table);
+      }
+      final int largest = this.ids[unique - 1];
+      // a bitmap takes one bit per possible id, an array 32 bits per member
+      if (((long) unique * Integer.SIZE) > largest) {
+        final long[] bitmap = new long[(largest / Long.SIZE) + 1];
+        for (int i = 0; i != unique; i++) {
+          bitmap[this.ids[i] / Long.SIZE] |= 1L << (this.ids[i] % Long.SIZE);
+        }
+        return new TestSet(table, null, bitmap, unique);
+      }
+      return new TestSet(table, Arrays.copyOf(this.ids, unique), null, unique);
+    }
+
+  }
+
+}
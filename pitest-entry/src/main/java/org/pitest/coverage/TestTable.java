@@ -0,0 +1,42 @@
+package org.pitest.coverage;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Gives each test a dense integer id, so that sets of tests can be stored as
+ * ids rather than as references.
+ *
+ * Tests are identified by name, matching the TestInfoNameComparator used to
+ * order test sets.
+ */
+final class TestTable {
+
+  private final List<TestInfo>       tests = new ArrayList<>();
+  private final Map<String, Integer> ids   = new HashMap<>();
+
+  int idOf(final TestInfo test) {
+    final Integer id = this.ids.get(test.getName());
+    if (id != null) {
+      return id;
+    }
+    this.tests.add(test);
+    this.ids.put(test.getName(), this.tests.size() - 1);
+    return this.tests.size() - 1;
+  }
+
+  /**
+   * @return the id of the test, or -1 if it has not been given one
+   */
+  int find(final TestInfo test) {
+    final Integer id = this.ids.get(test.getName());
+    return id == null ? -1 : id;
+  }
+
+  TestInfo get(final int id) {
+    return this.tests.get(id);
+  }
+
+}
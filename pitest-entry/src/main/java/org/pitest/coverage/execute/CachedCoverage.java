@@ -0,0 +1,44 @@
+package org.pitest.coverage.execute;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import org.pitest.coverage.CoverageResult;
+
+/**
+ * Coverage read from a {@link CoverageCache}.
+ */
+final class CachedCoverage {
+
+  private final Map<String, List<CoverageResult>> validResults;
+  private final Map<String, Long>                 executionTimes;
+
+  CachedCoverage(final Map<String, List<CoverageResult>> validResults,
+      final Map<String, Long> executionTimes) {
+    this.validResults = validResults;
+    this.executionTimes = executionTimes;
+  }
+
+  static CachedCoverage empty() {
+    return new CachedCoverage(Collections.<String, List<CoverageResult>> emptyMap(),
+        Collections.<String, Long> emptyMap());
+  }
+
+  /**
+   * Results for test classes for which neither the test class nor any covered
+   * class has changed, keyed by internal test class name.
+   */
+  Map<String, List<CoverageResult>> getValidResults() {
+    return this.validResults;
+  }
+
+  /**
+   * Total execution time previously recorded for a test class, whether or not
+   * its results are still valid.
+   */
+  long executionTimeOf(final String testClass) {
+    return this.executionTimes.getOrDefault(testClass, 0L);
+  }
+
+}
@@ -0,0 +1,411 @@
+package org.pitest.coverage.execute;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import org.pitest.classinfo.ClassInfo;
+import org.pitest.classinfo.ClassInfoSource;
+import org.pitest.classinfo.ClassName;
+import org.pitest.coverage.BlockLocation;
+import org.pitest.coverage.CoverageResult;
+import org.pitest.mutationtest.config.TestPluginArguments;
+import org.pitest.mutationtest.engine.Location;
+import org.pitest.mutationtest.engine.MethodName;
+import org.pitest.testapi.Description;
+import org.pitest.util.Log;
+import org.pitest.util.Unchecked;
+
+/**
+ * Stores the coverage gathered for each test class between runs, along with
+ * the hashes of the test class and of every class its tests covered. The
+ * results for a test class are reused only while none of those classes has
+ * changed. Nothing is reused if the settings that control which classes are
+ * instrumented, and which tests are run, differ from those of the run that
+ * wrote the cache.
+ *
+ * Changes to classes that are not instrumented for coverage, such as test
+ * helpers or libraries, are not detected.
+ */
+public class CoverageCache {
+
+  private static final Logger LOG     = Log.getLogger();
+
+  private static final int    VERSION = 3;
+
+  private final Optional<File> input;
+  private final Optional<File> output;
+  private final String         settings;
+
+  /**
+   * @param settings
+   *          hash of the coverage settings, results are only reused by a run
+   *          with the same settings
+   */
+  public CoverageCache(final Optional<File> input,
+      final Optional<File> output, final String settings) {
+    this.input = input;
+    this.output = output;
+    this.settings = settings;
+  }
+
+  public static CoverageCache none() {
+    return new CoverageCache(Optional.<File> empty(), Optional.<File> empty(),
+        "");
+  }
+
+  /**
+   * Creates a cache stored alongside the history files.
+   */
+  public static CoverageCache forHistory(final File historyInput,
+      final File historyOutput, final CoverageOptions options) {
+    return new CoverageCache(cacheFileFor(historyInput),
+        cacheFileFor(historyOutput), hashOf(options));
+  }
+
+  /**
+   * Hashes the settings that change which classes are instrumented and which
+   * tests are run, and so the coverage gathered for a test class.
+   */
+  static String hashOf(final CoverageOptions options) {
+    final TestPluginArguments tests = options.getPitConfig();
+    final String settings = options.getInclude() + "\n"
+        + options.getExclude() + "\n"
+        + options.getDependencyAnalysisMaxDistance() + "\n"
+        + tests.getTestPlugin() + "\n" + tests.getGroupConfig() + "\n"
+        + tests.getExcludedRunners() + "\n" + tests.getIncludedTestMethods();
+    try {
+      final byte[] digest = MessageDigest.getInstance("SHA-256").digest(
+          settings.getBytes(StandardCharsets.UTF_8));
+      final StringBuilder hex = new StringBuilder();
+      for (final byte each : digest) {
+        hex.append(String.format("%02x", each));
+      }
+      return hex.toString();
+    } catch (final NoSuchAlgorithmException e) {
+      throw Unchecked.translateCheckedException(e);
+    }
+  }
+
+  private static Optional<File> cacheFileFor(final File history) {
+    if (history == null) {
+      return Optional.empty();
+    }
+    return Optional.of(new File(history.getPath() + ".coverage"));
+  }
+
+  public boolean isWritable() {
+    return this.output.isPresent();
+  }
+
+  /**
+   * Reads the results stored by a previous run.
+   *
+   * @param tests
+   *          the test classes in the current run
+   * @param code
+   *          source for the current version of the covered classes
+   * @return the stored results, split by whether they are still valid
+   */
+  public CachedCoverage read(final Collection<ClassInfo> tests,
+      final ClassInfoSource code) {
+    if (!this.input.isPresent() || !this.input.get().exists()) {
+      return CachedCoverage.empty();
+    }
+
+    try (DataInputStream is = new DataInputStream(new BufferedInputStream(
+        new FileInputStream(this.input.get())))) {
+      return readCoverage(is, this.settings, new CurrentHashes(tests, code));
+    } catch (final IOException | RuntimeException e) {
+      LOG.warning("Could not read cached coverage from " + this.input.get()
+          + ". Coverage will be recalculated. " + e.getMessage());
+      return CachedCoverage.empty();
+    }
+  }
+
+  /**
+   * Stores results for the next run, replacing anything previously stored.
+   *
+   * @param tests
+   *          the test classes in the current run
+   * @param resultsByTestClass
+   *          results keyed by the internal name of the test class that
+   *          produced them
+   * @param code
+   *          source for the current version of the covered classes
+   */
+  public void write(final Collection<ClassInfo> tests,
+      final Map<String, List<CoverageResult>> resultsByTestClass,
+      final ClassInfoSource code) {
+    if (!this.output.isPresent()) {
+      return;
+    }
+
+    final CurrentHashes hashes = new CurrentHashes(tests, code);
+    final StringTable strings = new StringTable();
+    final Map<String, String> classHashes = new LinkedHashMap<>();
+    for (final Entry<String, List<CoverageResult>> each : resultsByTestClass
+        .entrySet()) {
+      strings.add(each.getKey());
+      recordHash(classHashes, hashes, each.getKey());
+      for (final CoverageResult result : each.getValue()) {
+        strings.add(result.getTestUnitDescription().getName());
+        strings.add(result.getTestUnitDescription().getFirstTestClass());
+        strings.add(result.getUnitDescription().orElse(null));
+        for (final BlockLocation block : result.getCoverage()) {
+          final Location location = block.getLocation();
+          recordHash(classHashes, hashes, location.getClassName()
+              .asInternalName());
+          strings.add(location.getMethodName().name());
+          strings.add(location.getMethodDesc());
+        }
+      }
+    }
+    for (final Entry<String, String> each : classHashes.entrySet()) {
+      strings.add(each.getKey());
+      strings.add(each.getValue());
+    }
+
+    try (DataOutputStream os = new DataOutputStream(new BufferedOutputStream(
+        new FileOutputStream(this.output.get())))) {
+      os.writeInt(VERSION);
+      os.writeUTF(this.settings);
+      strings.write(os);
+      writeClassHashes(os, strings, classHashes);
+      writeResults(os, strings, resultsByTestClass);
+    } catch (final IOException e) {
+      throw Unchecked.translateCheckedException(e);
+    }
+  }
+
+  private static void recordHash(final Map<String, String> classHashes,
+      final CurrentHashes hashes, final String clazz) {
+    if (!classHashes.containsKey(clazz)) {
+      final String hash = hashes.hashOf(clazz);
+      if (hash != null) {
+        classHashes.put(clazz, hash);
+      }
+    }
+  }
+
+  private static void writeClassHashes(final DataOutputStream os,
+      final StringTable strings, final Map<String, String> classHashes)
+      throws IOException {
+    os.writeInt(classHashes.size());
+    for (final Entry<String, String> each : classHashes.entrySet()) {
+      os.writeInt(strings.indexOf(each.getKey()));
+      os.writeInt(strings.indexOf(each.getValue()));
+    }
+  }
+
+  private static void writeResults(final DataOutputStream os,
+      final StringTable strings,
+      final Map<String, List<CoverageResult>> resultsByTestClass)
+      throws IOException {
+    os.writeInt(resultsByTestClass.size());
+    for (final Entry<String, List<CoverageResult>> each : resultsByTestClass
+        .entrySet()) {
+      os.writeInt(strings.indexOf(each.getKey()));
+      os.writeInt(each.getValue().size());
+      for (final CoverageResult result : each.getValue()) {
+        writeResult(os, strings, result);
+      }
+    }
+  }
+
+  private static void writeResult(final DataOutputStream os,
+      final StringTable strings, final CoverageResult result)
+      throws IOException {
+    final Description description = result.getTestUnitDescription();
+    os.writeInt(strings.indexOf(description.getName()));
+    os.writeInt(strings.indexOf(description.getFirstTestClass()));
+    os.writeInt(strings.indexOf(result.getUnitDescription().orElse(null)));
+    os.writeBoolean(result.isGreenTest());
+    os.writeInt(result.getExecutionTime());
+    os.writeInt(result.getCoverage().size());
+    for (final BlockLocation block : result.getCoverage()) {
+      final Location location = block.getLocation();
+      os.writeInt(strings.indexOf(location.getClassName().asInternalName()));
+      os.writeInt(strings.indexOf(location.getMethodName().name()));
+      os.writeInt(strings.indexOf(location.getMethodDesc()));
+      os.writeInt(block.getBlock());
+    }
+  }
+
+  private static CachedCoverage readCoverage(final DataInputStream is,
+      final String settings, final CurrentHashes hashes) throws IOException {
+    final int version = is.readInt();
+    if (version != VERSION) {
+      LOG.info("Ignoring cached coverage written by a different version");
+      return CachedCoverage.empty();
+    }
+    if (!settings.equals(is.readUTF())) {
+      LOG.info("Ignoring cached coverage gathered with different settings");
+      return CachedCoverage.empty();
+    }
+
+    final String[] strings = StringTable.read(is);
+
+    final Map<String, Boolean> unchanged = new HashMap<>();
+    final int numberOfClasses = is.readInt();
+    for (int i = 0; i != numberOfClasses; i++) {
+      final String clazz = StringTable.readString(is, strings);
+      final String hash = StringTable.readString(is, strings);
+      unchanged.put(clazz, hash.equals(hashes.hashOf(clazz)));
+    }
+
+    final Map<String, List<CoverageResult>> valid = new HashMap<>();
+    final Map<String, Long> executionTimes = new HashMap<>();
+    final int numberOfTestClasses = is.readInt();
+    for (int i = 0; i != numberOfTestClasses; i++) {
+      final String testClass = StringTable.readString(is, strings);
+      final int numberOfResults = is.readInt();
+      final List<CoverageResult> results = new ArrayList<>(numberOfResults);
+      boolean isValid = unchanged.getOrDefault(testClass, false);
+      long time = 0;
+      for (int j = 0; j != numberOfResults; j++) {
+        final CoverageResult result = readResult(is, strings);
+        time = time + result.getExecutionTime();
+        isValid = isValid && coversOnlyUnchanged(result, unchanged);
+        results.add(result);
+      }
+      executionTimes.put(testClass, time);
+      if (isValid) {
+        valid.put(testClass, results);
+      }
+    }
+
+    return new CachedCoverage(valid, executionTimes);
+  }
+
+  private static boolean coversOnlyUnchanged(final CoverageResult result,
+      final Map<String, Boolean> unchanged) {
+    for (final BlockLocation each : result.getCoverage()) {
+      if (!unchanged.getOrDefault(each.getLocation().getClassName()
+          .asInternalName(), false)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static CoverageResult readResult(final DataInputStream is,
+      final String[] strings) throws IOException {
+    final String name = StringTable.readString(is, strings);
+    final String testClass = StringTable.readString(is, strings);
+    final String unit = StringTable.readString(is, strings);
+    final boolean green = is.readBoolean();
+    final int executionTime = is.readInt();
+    final int numberOfBlocks = is.readInt();
+    final List<BlockLocation> blocks = new ArrayList<>(numberOfBlocks);
+    for (int i = 0; i != numberOfBlocks; i++) {
+      final ClassName clazz = ClassName.fromString(StringTable.readString(is,
+          strings));
+      final MethodName method = MethodName.fromString(StringTable.readString(
+          is, strings));
+      final String desc = StringTable.readString(is, strings);
+      blocks.add(new BlockLocation(Location.location(clazz, method, desc),
+          is.readInt()));
+    }
+    return new CoverageResult(new Description(name, testClass),
+        executionTime, green, blocks, Optional.ofNullable(unit));
+  }
+
+  /**
+   * Hashes of the current versions of classes, looked up on demand.
+   */
+  private static class CurrentHashes {
+
+    private final Map<String, ClassInfo> tests = new HashMap<>();
+    private final ClassInfoSource        code;
+    private final Map<String, String>    hashes = new HashMap<>();
+
+    CurrentHashes(final Collection<ClassInfo> tests, final ClassInfoSource code) {
+      for (final ClassInfo each : tests) {
+        this.tests.put(each.getName().asInternalName(), each);
+      }
+      this.code = code;
+    }
+
+    String hashOf(final String clazz) {
+      return this.hashes.computeIfAbsent(clazz, this::lookup);
+    }
+
+    private String lookup(final String clazz) {
+      final ClassInfo test = this.tests.get(clazz);
+      if (test != null) {
+        return test.getHierarchicalId().getHierarchicalHash();
+      }
+      return this.code.fetchClass(ClassName.fromString(clazz))
+          .map(c -> c.getHierarchicalId().getHierarchicalHash()).orElse(null);
+    }
+
+  }
+
+  /**
+   * Strings written once at the start of the file and referred to by index.
+   * Null is stored as index -1.
+   */
+  private static class StringTable {
+
+    private final Map<String, Integer> indexes = new LinkedHashMap<>();
+
+    void add(final String value) {
+      if ((value != null) && !this.indexes.containsKey(value)) {
+        this.indexes.put(value, this.indexes.size());
+      }
+    }
+
+    int indexOf(final String value) {
+      if (value == null) {
+        return -1;
+      }
+      return this.indexes.get(value);
+    }
+
+    void write(final DataOutputStream os) throws IOException {
+      os.writeInt(this.indexes.size());
+      for (final String each : this.indexes.keySet()) {
+        final byte[] bytes = each.getBytes(StandardCharsets.UTF_8);
+        os.writeInt(bytes.length);
+        os.write(bytes);
+      }
+    }
+
+    static String[] read(final DataInputStream is) throws IOException {
+      final int size = is.readInt();
+      // index -1 is read as null
+      final String[] strings = new String[size + 1];
+      for (int i = 0; i != size; i++) {
+        final byte[] bytes = new byte[is.readInt()];
+        is.readFully(bytes);
+        strings[i + 1] = new String(bytes, StandardCharsets.UTF_8);
+      }
+      return strings;
+    }
+
+    static String readString(final DataInputStream is, final String[] strings)
+        throws IOException {
+      return strings[is.readInt() + 1];
+    }
+
+  }
+
+}
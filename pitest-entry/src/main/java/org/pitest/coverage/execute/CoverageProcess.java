@@ -1,7 +1,6 @@
 package org.pitest.coverage.execute;
 
 import java.io.IOException;
-import java.net.ServerSocket;
 import java.util.List;
 
 import org.pitest.coverage.CoverageResult;
@@ -9,6 +8,7 @@ import org.pitest.functional.SideEffect1;
 import org.pitest.process.ProcessArgs;
 import org.pitest.process.WrappingProcess;
 import org.pitest.util.ExitCode;
+import org.pitest.util.MinionChannel;
 
 public class CoverageProcess {
 
@@ -16,12 +16,12 @@ public class CoverageProcess {
   private final CoverageCommunicationThread crt;
 
   public CoverageProcess(final ProcessArgs processArgs,
-      final CoverageOptions arguments, final ServerSocket socket,
+      final CoverageOptions arguments, final MinionChannel channel,
       final List<String> testClases, final SideEffect1<CoverageResult> handler)
           throws IOException {
-    this.process = new WrappingProcess(socket.getLocalPort(), processArgs,
+    this.process = new WrappingProcess(channel, processArgs,
         CoverageMinion.class);
-    this.crt = new CoverageCommunicationThread(socket, arguments, testClases,
+    this.crt = new CoverageCommunicationThread(channel, arguments, testClases,
         handler);
   }
 
@@ -17,14 +17,17 @@ package org.pitest.coverage.execute;
 
 import java.io.File;
 import java.io.IOException;
-import java.net.ServerSocket;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.ExecutionException;
 import java.util.function.Function;
 import java.util.logging.Logger;
 
 import org.pitest.classinfo.ClassInfo;
+import org.pitest.classinfo.ClassName;
 import org.pitest.classpath.CodeSource;
 import org.pitest.coverage.CoverageData;
 import org.pitest.coverage.CoverageExporter;
@@ -41,27 +44,30 @@ import org.pitest.process.LaunchOptions;
 import org.pitest.process.ProcessArgs;
 import org.pitest.util.ExitCode;
 import org.pitest.util.Log;
+import org.pitest.util.MinionChannel;
 import org.pitest.util.PitError;
-import org.pitest.util.SocketFinder;
 import org.pitest.util.Timings;
 import org.pitest.util.Unchecked;
 
 public class DefaultCoverageGenerator implements CoverageGenerator {
 
-  private static final Logger    LOG = Log.getLogger();
+  private static final Logger        LOG = Log.getLogger();
 
-  private final CoverageOptions  coverageOptions;
-  private final LaunchOptions    launchOptions;
-  private final CodeSource       code;
-  private final Timings          timings;
-  private final File             workingDir;
-  private final CoverageExporter exporter;
-  private final boolean          showProgress;
+  private final CoverageOptions      coverageOptions;
+  private final LaunchOptions        launchOptions;
+  private final CodeSource           code;
+  private final Timings              timings;
+  private final File                 workingDir;
+  private final CoverageExporter     exporter;
+  private final boolean              showProgress;
+  private final int                  numberOfThreads;
+  private final CoverageCache        cache;
 
   public DefaultCoverageGenerator(final File workingDir,
       final CoverageOptions coverageOptions, final LaunchOptions launchOptions,
       final CodeSource code, final CoverageExporter exporter,
-      final Timings timings, final boolean showProgress) {
+      final Timings timings, final boolean showProgress,
+      final int numberOfThreads, final CoverageCache cache) {
     this.coverageOptions = coverageOptions;
     this.code = code;
     this.launchOptions = launchOptions;
@@ -69,6 +75,8 @@ public class DefaultCoverageGenerator implements CoverageGenerator {
     this.workingDir = workingDir;
     this.exporter = exporter;
     this.showProgress = showProgress;
+    this.numberOfThreads = Math.max(1, numberOfThreads);
+    this.cache = cache;
   }
 
   @Override
@@ -84,7 +92,7 @@ public class DefaultCoverageGenerator implements CoverageGenerator {
           this.code));
 
       this.timings.registerStart(Timings.Stage.COVERAGE);
-      gatherCoverageData(tests, coverage);
+      final ResultsByTestClass results = gatherCoverageData(tests, coverage);
       this.timings.registerEnd(Timings.Stage.COVERAGE);
 
       final long time = (System.currentTimeMillis() - t0) / 1000;
@@ -93,6 +101,8 @@ public class DefaultCoverageGenerator implements CoverageGenerator {
 
       verifyBuildSuitableForMutationTesting(coverage);
 
+      results.store(tests);
+
       this.exporter.recordCoverage(coverage.createCoverage());
 
       return coverage;
@@ -110,28 +120,80 @@ public class DefaultCoverageGenerator implements CoverageGenerator {
     }
   }
 
-  private void gatherCoverageData(final Collection<ClassInfo> tests,
-      final CoverageData coverage) throws IOException, InterruptedException,
-      ExecutionException {
+  private ResultsByTestClass gatherCoverageData(
+      final Collection<ClassInfo> tests, final CoverageData coverage)
+      throws IOException, InterruptedException, ExecutionException {
 
     final List<String> filteredTests = FCollection
         .map(tests, classInfoToName());
 
-    final SideEffect1<CoverageResult> handler = resultProcessor(coverage);
+    final CachedCoverage cached = this.cache.read(tests, this.code);
+    final ResultsByTestClass results = new ResultsByTestClass(filteredTests);
+    final List<String> testsToRun = new ArrayList<>();
+    for (final String each : filteredTests) {
+      final List<CoverageResult> previous = cached.getValidResults().get(each);
+      if (previous == null) {
+        testsToRun.add(each);
+      } else {
+        for (final CoverageResult cr : previous) {
+          coverage.calculateClassCoverage(cr);
+          results.add(cr);
+        }
+      }
+    }
+    if (testsToRun.size() != filteredTests.size()) {
+      LOG.info("Reusing cached coverage for "
+          + (filteredTests.size() - testsToRun.size()) + " of "
+          + filteredTests.size() + " test classes");
+    }
+
+    if (testsToRun.isEmpty()) {
+      return results;
+    }
+
+    final SideEffect1<CoverageResult> handler = resultProcessor(coverage,
+        results);
+
+    final TestClassPartitioner partitioner = new TestClassPartitioner(
+        cached::executionTimeOf);
+    final List<List<String>> partitions = partitioner.partition(testsToRun,
+        this.numberOfThreads);
+    LOG.fine("Gathering coverage using " + partitions.size() + " minions");
+
+    final List<CoverageProcess> processes = new ArrayList<>(partitions.size());
+    for (final List<String> each : partitions) {
+      final CoverageProcess process = createProcess(each, handler);
+      process.start();
+      processes.add(process);
+    }
+
+    // wait for every minion before inspecting exit codes, so none are left
+    // running if one of them fails
+    final List<ExitCode> exitCodes = new ArrayList<>(processes.size());
+    for (final CoverageProcess each : processes) {
+      exitCodes.add(each.waitToDie());
+    }
+
+    for (final ExitCode each : exitCodes) {
+      checkExitCode(each);
+    }
+
+    return results;
+  }
 
-    final SocketFinder sf = new SocketFinder();
-    final ServerSocket socket = sf.getNextAvailableServerSocket();
+  private CoverageProcess createProcess(final List<String> tests,
+      final SideEffect1<CoverageResult> handler) throws IOException {
+    final MinionChannel channel = this.launchOptions.getMinionTransport()
+        .open();
 
-    final CoverageProcess process = new CoverageProcess(ProcessArgs
+    return new CoverageProcess(ProcessArgs
         .withClassPath(this.code.getClassPath()).andBaseDir(this.workingDir)
         .andLaunchOptions(this.launchOptions).andStderr(logInfo())
         .andStdout(captureStandardOutIfVerbose()), this.coverageOptions,
-        socket, filteredTests, handler);
-
-    process.start();
-
-    final ExitCode exitCode = process.waitToDie();
+        channel, tests, handler);
+  }
 
+  private static void checkExitCode(final ExitCode exitCode) {
     if (exitCode == ExitCode.JUNIT_ISSUE) {
       LOG.severe("Error generating coverage. Please check that your classpath contains JUnit 4.6 or above.");
       throw new PitError(
@@ -166,15 +228,17 @@ public class DefaultCoverageGenerator implements CoverageGenerator {
   }
 
   private SideEffect1<CoverageResult> resultProcessor(
-      final CoverageData coverage) {
+      final CoverageData coverage, final ResultsByTestClass results) {
     return new SideEffect1<CoverageResult>() {
       private final String[] spinner = new String[] { "\u0008/", "\u0008-",
           "\u0008\\", "\u0008|" };
       int i = 0;
 
+      // results arrive from one communication thread per minion
       @Override
-      public void apply(final CoverageResult cr) {
+      public synchronized void apply(final CoverageResult cr) {
         coverage.calculateClassCoverage(cr);
+        results.add(cr);
         if (DefaultCoverageGenerator.this.showProgress) {
           System.out.printf("%s", this.spinner[this.i % this.spinner.length]);
         }
@@ -184,6 +248,47 @@ public class DefaultCoverageGenerator implements CoverageGenerator {
     };
   }
 
+  /**
+   * Gathers results by the test class that produced them, so they can be
+   * written to the cache.
+   */
+  private class ResultsByTestClass {
+
+    private final Map<String, List<CoverageResult>> results = new LinkedHashMap<>();
+    private boolean                                 allAttributed = true;
+
+    ResultsByTestClass(final List<String> testClasses) {
+      for (final String each : testClasses) {
+        this.results.put(each, new ArrayList<CoverageResult>());
+      }
+    }
+
+    void add(final CoverageResult cr) {
+      if (!DefaultCoverageGenerator.this.cache.isWritable()) {
+        return;
+      }
+      final String testClass = cr.getTestUnitDescription().getFirstTestClass();
+      final List<CoverageResult> forClass = testClass == null ? null
+          : this.results.get(ClassName.fromString(testClass).asInternalName());
+      if (forClass == null) {
+        this.allAttributed = false;
+      } else {
+        forClass.add(cr);
+      }
+    }
+
+    void store(final Collection<ClassInfo> tests) {
+      if (this.allAttributed) {
+        DefaultCoverageGenerator.this.cache.write(tests, this.results,
+            DefaultCoverageGenerator.this.code);
+      } else {
+        LOG.fine("Not caching coverage as some tests could not be matched to"
+            + " a test class");
+      }
+    }
+
+  }
+
   @Override
   public TestPluginArguments getConfiguration() {
     return this.coverageOptions.getPitConfig();
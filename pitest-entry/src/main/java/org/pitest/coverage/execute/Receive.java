@@ -1,10 +1,12 @@
 package org.pitest.coverage.execute;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
-import java.util.HashSet;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
-import java.util.Set;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.Optional;
 
 import org.pitest.classinfo.ClassName;
 import org.pitest.coverage.BlockLocation;
@@ -17,12 +19,16 @@ import org.pitest.util.Id;
 import org.pitest.util.ReceiveStrategy;
 import org.pitest.util.SafeDataInputStream;
 
-import sun.pitest.CodeCoverageStore;
-
+/**
+ * Decodes the messages sent by a single coverage minion. Class ids are handed
+ * out sequentially by the minion, so probes are indexed by array position
+ * rather than through a map of boxed keys.
+ */
 final class Receive implements ReceiveStrategy {
 
-  private final Map<Integer, ClassName>     classIdToName = new ConcurrentHashMap<>();
-  private final Map<Long, BlockLocation>    probeToBlock  = new ConcurrentHashMap<>();
+  private ClassName[]                       classIdToName = new ClassName[64];
+  private BlockLocation[][]                 probeToBlock  = new BlockLocation[64][];
+  private final Map<Description, String>    units         = new HashMap<>();
 
   private final SideEffect1<CoverageResult> handler;
 
@@ -36,11 +42,14 @@ final class Receive implements ReceiveStrategy {
     case Id.CLAZZ:
       final int id = is.readInt();
       final String name = is.readString();
-      this.classIdToName.put(id, ClassName.fromString(name));
+      registerClass(id, ClassName.fromString(name));
       break;
     case Id.PROBES:
       handleProbes(is);
       break;
+    case Id.UNIT:
+      handleUnit(is);
+      break;
     case Id.OUTCOME:
       handleTestEnd(is);
       break;
@@ -49,44 +58,90 @@ final class Receive implements ReceiveStrategy {
     }
   }
 
+  private void registerClass(final int id, final ClassName name) {
+    if (id >= this.classIdToName.length) {
+      final int size = Math.max(id + 1, this.classIdToName.length * 2);
+      this.classIdToName = Arrays.copyOf(this.classIdToName, size);
+      this.probeToBlock = Arrays.copyOf(this.probeToBlock, size);
+    }
+    this.classIdToName[id] = name;
+  }
+
   private void handleProbes(final SafeDataInputStream is) {
     final int classId = is.readInt();
     final String methodName = is.readString();
     final String methodSig = is.readString();
     final int first = is.readInt();
     final int last = is.readInt();
-    final Location loc = Location.location(this.classIdToName.get(classId),
+    final Location loc = Location.location(this.classIdToName[classId],
         MethodName.fromString(methodName), methodSig);
+    final BlockLocation[] blocks = probesFor(classId, last + 1);
     for (int i = first; i != (last + 1); i++) {
       // nb, convert from classwide id to method scoped index within
       // BlockLocation
-      this.probeToBlock.put(CodeCoverageStore.encode(classId, i),
-          new BlockLocation(loc, i - first));
+      blocks[i] = new BlockLocation(loc, i - first);
     }
   }
 
-  private void handleTestEnd(final SafeDataInputStream is) {
-    final Description d = is.read(Description.class);
-    final int numberOfResults = is.readInt();
+  private BlockLocation[] probesFor(final int classId, final int size) {
+    BlockLocation[] blocks = this.probeToBlock[classId];
+    if (blocks == null) {
+      blocks = new BlockLocation[size];
+    } else if (blocks.length < size) {
+      blocks = Arrays.copyOf(blocks, Math.max(size, blocks.length * 2));
+    } else {
+      return blocks;
+    }
+    this.probeToBlock[classId] = blocks;
+    return blocks;
+  }
 
-    final Set<BlockLocation> hits = new HashSet<>(numberOfResults);
+  private void handleUnit(final SafeDataInputStream is) {
+    final String testClass = is.readInternedString();
+    final Description d = new Description(is.readString(), testClass);
+    this.units.put(d, is.readString());
+  }
 
-    for (int i = 0; i != numberOfResults; i++) {
-      readProbeHit(is, hits);
+  private void handleTestEnd(final SafeDataInputStream is) {
+    final String testClass = is.readInternedString();
+    final Description d = new Description(is.readString(), testClass);
+
+    // the minion reports each probe at most once per test, so a list is
+    // sufficient and avoids hashing every location. It is sized from the
+    // bits set in each word of probes as they are read.
+    final ArrayList<BlockLocation> hits = new ArrayList<>();
+
+    int classId = is.readInt();
+    while (classId != CoveragePipe.END_OF_HITS) {
+      readClassHits(is, classId, hits);
+      classId = is.readInt();
     }
 
     this.handler.apply(createCoverageResult(is, d, hits));
   }
 
-  private void readProbeHit(final SafeDataInputStream is,
-      final Set<BlockLocation> hits) {
-    final long encoded = is.readLong();
-    final BlockLocation location = probeToBlock(encoded);
-    hits.add(location);
+  private void readClassHits(final SafeDataInputStream is, final int classId,
+      final ArrayList<BlockLocation> hits) {
+    final BlockLocation[] blocks = classId < this.probeToBlock.length
+        ? this.probeToBlock[classId] : null;
+    final int numberOfWords = is.readInt();
+    for (int word = 0; word != numberOfWords; word++) {
+      long bits = is.readLong();
+      hits.ensureCapacity(hits.size() + Long.bitCount(bits));
+      while (bits != 0) {
+        final int probe = (word << 6) + Long.numberOfTrailingZeros(bits);
+        addHit(blocks, probe, hits);
+        bits &= bits - 1;
+      }
+    }
   }
 
-  private BlockLocation probeToBlock(long encoded) {
-    return this.probeToBlock.get(encoded);
+  private static void addHit(final BlockLocation[] blocks, final int probe,
+      final List<BlockLocation> hits) {
+    if ((blocks != null) && (probe < blocks.length)
+        && (blocks[probe] != null)) {
+      hits.add(blocks[probe]);
+    }
   }
 
   private CoverageResult createCoverageResult(final SafeDataInputStream is,
@@ -94,8 +149,8 @@ final class Receive implements ReceiveStrategy {
     final boolean isGreen = is.readBoolean();
     final int executionTime = is.readInt();
     final CoverageResult cr = new CoverageResult(d, executionTime, isGreen,
-        visitedBlocks);
+        visitedBlocks, Optional.ofNullable(this.units.get(d)));
     return cr;
   }
 
-}
\ No newline at end of file
+}
@@ -19,6 +19,7 @@ final class SendData implements SideEffect1<SafeDataOutputStream> {
 
   @Override
   public void apply(final SafeDataOutputStream dos) {
+    dos.writeProtocolVersion();
     sendArguments(dos);
     sendTests(dos);
   }
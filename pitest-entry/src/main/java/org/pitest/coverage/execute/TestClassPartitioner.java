@@ -0,0 +1,71 @@
+package org.pitest.coverage.execute;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.ToLongFunction;
+
+/**
+ * Splits test classes between coverage minions so that each receives a
+ * similar amount of work. Classes are assigned heaviest first to the least
+ * loaded partition, with ties broken by name so the split is repeatable.
+ */
+public class TestClassPartitioner {
+
+  private final ToLongFunction<String> weights;
+
+  public TestClassPartitioner(final ToLongFunction<String> weights) {
+    this.weights = weights;
+  }
+
+  public static TestClassPartitioner unweighted() {
+    return new TestClassPartitioner(c -> 1);
+  }
+
+  public List<List<String>> partition(final Collection<String> testClasses,
+      final int maxPartitions) {
+    final int numberOfPartitions = Math.max(1,
+        Math.min(maxPartitions, testClasses.size()));
+
+    final List<String> sorted = new ArrayList<>(testClasses);
+    Collections.sort(sorted, heaviestFirst());
+
+    final List<List<String>> partitions = new ArrayList<>(numberOfPartitions);
+    final long[] load = new long[numberOfPartitions];
+    for (int i = 0; i != numberOfPartitions; i++) {
+      partitions.add(new ArrayList<String>());
+    }
+
+    for (final String each : sorted) {
+      final int target = leastLoaded(load);
+      partitions.get(target).add(each);
+      load[target] = load[target] + weightOf(each);
+    }
+
+    return partitions;
+  }
+
+  private Comparator<String> heaviestFirst() {
+    final Comparator<String> byWeight = Comparator.comparingLong(this::weightOf);
+    return byWeight.reversed().thenComparing(Comparator.naturalOrder());
+  }
+
+  private long weightOf(final String testClass) {
+    // every class costs something to load and run, even if we know nothing
+    // about it
+    return Math.max(1, this.weights.applyAsLong(testClass));
+  }
+
+  private static int leastLoaded(final long[] load) {
+    int min = 0;
+    for (int i = 1; i != load.length; i++) {
+      if (load[i] < load[min]) {
+        min = i;
+      }
+    }
+    return min;
+  }
+
+}
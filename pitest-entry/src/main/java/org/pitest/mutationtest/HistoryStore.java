@@ -20,4 +20,11 @@ public interface HistoryStore {
 
   Map<ClassName, ClassHistory> getHistoricClassPath();
 
+  /**
+   * Called once the run is complete and no further results will be recorded.
+   */
+  default void close() {
+
+  }
+
 }
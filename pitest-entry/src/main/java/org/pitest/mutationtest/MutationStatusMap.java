@@ -14,25 +14,31 @@
  */
 package org.pitest.mutationtest;
 
-import static org.pitest.functional.prelude.Prelude.putToMap;
-
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.EnumMap;
 import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
 import java.util.function.Function;
 import java.util.function.Predicate;
-import java.util.stream.Collectors;
 
 import org.pitest.functional.FCollection;
 import org.pitest.mutationtest.engine.MutationDetails;
+import org.pitest.mutationtest.engine.MutationIdentifier;
 
 public class MutationStatusMap {
 
   private final Map<MutationDetails, MutationStatusTestPair> mutationMap = new HashMap<>();
+  // the mutations with each status, so that the mutations still to run can be
+  // found without checking every mutation after each minion exits
+  private final Map<DetectionStatus, Set<MutationDetails>>   byStatus    = new EnumMap<>(
+                                                                           DetectionStatus.class);
+  private final Map<MutationIdentifier, MutationDetails>     byId        = new HashMap<>();
 
   public void setStatusForMutation(final MutationDetails mutation,
       final DetectionStatus status) {
@@ -41,13 +47,33 @@ public class MutationStatusMap {
 
   public void setStatusForMutation(final MutationDetails mutation,
       final MutationStatusTestPair status) {
-    this.mutationMap.put(mutation, status);
+    final MutationStatusTestPair previous = this.mutationMap.put(mutation,
+        status);
+    if (previous == null) {
+      this.byId.put(mutation.getId(), mutation);
+    } else {
+      withStatus(previous.getStatus()).remove(mutation);
+    }
+    withStatus(status.getStatus()).add(mutation);
   }
 
   public void setStatusForMutations(
       final Collection<MutationDetails> mutations, final DetectionStatus status) {
-    FCollection.forEach(mutations,
-        putToMap(this.mutationMap, new MutationStatusTestPair(0, status)));
+    final MutationStatusTestPair pair = new MutationStatusTestPair(0, status);
+    for (final MutationDetails each : mutations) {
+      setStatusForMutation(each, pair);
+    }
+  }
+
+  /**
+   * Sets the status of the mutation with the given id, if it is in the map
+   */
+  public void setStatusForMutation(final MutationIdentifier id,
+      final MutationStatusTestPair status) {
+    final MutationDetails mutation = this.byId.get(id);
+    if (mutation != null) {
+      setStatusForMutation(mutation, status);
+    }
   }
 
   public List<MutationResult> createMutationResults() {
@@ -57,21 +83,15 @@ public class MutationStatusMap {
   }
 
   public boolean hasUnrunMutations() {
-    return !getUnrunMutations().isEmpty();
+    return !withStatus(DetectionStatus.NOT_STARTED).isEmpty();
   }
 
   public Collection<MutationDetails> getUnrunMutations() {
-    return this.mutationMap.entrySet().stream()
-        .filter(hasStatus(DetectionStatus.NOT_STARTED))
-        .map(toMutationDetails())
-        .collect(Collectors.toList());
+    return new ArrayList<>(withStatus(DetectionStatus.NOT_STARTED));
   }
 
   public Collection<MutationDetails> getUnfinishedRuns() {
-    return this.mutationMap.entrySet().stream()
-        .filter(hasStatus(DetectionStatus.STARTED))
-        .map(toMutationDetails())
-        .collect(Collectors.toList());
+    return new ArrayList<>(withStatus(DetectionStatus.STARTED));
   }
 
   public Set<MutationDetails> allMutations() {
@@ -82,13 +102,8 @@ public class MutationStatusMap {
     return a -> new MutationResult(a.getKey(), a.getValue());
   }
 
-  private static Function<Entry<MutationDetails, MutationStatusTestPair>, MutationDetails> toMutationDetails() {
-    return a -> a.getKey();
-  }
-
-  private static Predicate<Entry<MutationDetails, MutationStatusTestPair>> hasStatus(
-      final DetectionStatus status) {
-    return a -> a.getValue().getStatus().equals(status);
+  private Set<MutationDetails> withStatus(final DetectionStatus status) {
+    return this.byStatus.computeIfAbsent(status, s -> new LinkedHashSet<>());
   }
 
   public void markUncoveredMutations() {
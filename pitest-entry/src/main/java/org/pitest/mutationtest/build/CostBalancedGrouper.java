@@ -0,0 +1,104 @@
+package org.pitest.mutationtest.build;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+import org.pitest.classinfo.ClassName;
+import org.pitest.coverage.TestInfo;
+import org.pitest.functional.FCollection;
+import org.pitest.mutationtest.engine.MutationDetails;
+
+/**
+ * Groups the mutations of each class into units of similar estimated cost,
+ * where the cost of a mutation is the time taken by the tests assigned to it.
+ *
+ * No unit costs more than a share of the total cost, so that when units are
+ * run most expensive first no single unit is left running long after the
+ * others have finished. Units may steal work from each other to even out any
+ * remaining imbalance.
+ */
+public class CostBalancedGrouper implements MutationGrouper {
+
+  // enough units per thread for the most expensive first ordering to balance
+  // the load, without starting a minion for every mutation
+  private static final int UNITS_PER_THREAD = 2;
+
+  private final int        numberOfThreads;
+  private final int        unitSize;
+
+  public CostBalancedGrouper(final int numberOfThreads, final int unitSize) {
+    this.numberOfThreads = Math.max(1, numberOfThreads);
+    this.unitSize = unitSize;
+  }
+
+  @Override
+  public List<List<MutationDetails>> groupMutations(
+      final Collection<ClassName> codeClasses,
+      final Collection<MutationDetails> mutations) {
+    final long maxCost = Math.max(1,
+        totalCost(mutations) / (this.numberOfThreads * UNITS_PER_THREAD));
+
+    final Map<ClassName, Collection<MutationDetails>> bucketed = FCollection
+        .bucket(mutations, MutationDetails::getClassName);
+    final List<List<MutationDetails>> grouped = new ArrayList<>();
+    for (final Collection<MutationDetails> each : bucketed.values()) {
+      splitByCost(grouped, each, maxCost);
+    }
+
+    return grouped;
+  }
+
+  @Override
+  public int costOf(final Collection<MutationDetails> group) {
+    return (int) Math.min(Integer.MAX_VALUE, totalCost(group));
+  }
+
+  @Override
+  public boolean allowsWorkStealing() {
+    return true;
+  }
+
+  private void splitByCost(final List<List<MutationDetails>> grouped,
+      final Collection<MutationDetails> mutations, final long maxCost) {
+    List<MutationDetails> unit = new ArrayList<>();
+    long unitCost = 0;
+    for (final MutationDetails each : mutations) {
+      final long cost = costOfMutation(each);
+      if (!unit.isEmpty()
+          && (((unitCost + cost) > maxCost) || isFull(unit))) {
+        grouped.add(unit);
+        unit = new ArrayList<>();
+        unitCost = 0;
+      }
+      unit.add(each);
+      unitCost += cost;
+    }
+    if (!unit.isEmpty()) {
+      grouped.add(unit);
+    }
+  }
+
+  private boolean isFull(final List<MutationDetails> unit) {
+    return (this.unitSize > 0) && (unit.size() >= this.unitSize);
+  }
+
+  private static long totalCost(final Collection<MutationDetails> mutations) {
+    long cost = 0;
+    for (final MutationDetails each : mutations) {
+      cost += costOfMutation(each);
+    }
+    return cost;
+  }
+
+  private static long costOfMutation(final MutationDetails mutation) {
+    // uncovered mutations are cheap, but still need a slot in a minion
+    long cost = 1;
+    for (final TestInfo each : mutation.getTestsInOrder()) {
+      cost += each.getTime();
+    }
+    return cost;
+  }
+
+}
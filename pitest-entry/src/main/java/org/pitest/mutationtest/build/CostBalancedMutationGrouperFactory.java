@@ -0,0 +1,21 @@
+package org.pitest.mutationtest.build;
+
+import java.util.Properties;
+
+import org.pitest.classpath.CodeSource;
+
+public class CostBalancedMutationGrouperFactory implements
+    MutationGrouperFactory {
+
+  @Override
+  public String description() {
+    return "Cost balanced mutation grouping";
+  }
+
+  @Override
+  public MutationGrouper makeFactory(final Properties props,
+      final CodeSource codeSource, final int numberOfThreads, final int unitSize) {
+    return new CostBalancedGrouper(numberOfThreads, unitSize);
+  }
+
+}
@@ -2,12 +2,15 @@ package org.pitest.mutationtest.build;
 
 import java.util.Collection;
 import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.logging.Logger;
 
 import org.pitest.classinfo.ClassName;
 import org.pitest.coverage.CoverageDatabase;
 import org.pitest.coverage.TestInfo;
+import org.pitest.coverage.TestSet;
 import org.pitest.functional.FCollection;
 import org.pitest.functional.prelude.Prelude;
 import org.pitest.mutationtest.engine.MutationDetails;
@@ -30,13 +33,34 @@ public class DefaultTestPrioritiser implements TestPrioritiser {
 
   private final CoverageDatabase coverage;
 
+  // mutations of a class that are covered by the same tests share one ordered
+  // list. Test sets from the coverage data are shared, so can be compared by
+  // identity. Classes may be processed concurrently, so each thread keeps the
+  // lists for the class it is currently working on
+  private final ThreadLocal<SharedOrder>     ordered = ThreadLocal
+      .withInitial(SharedOrder::new);
+
   public DefaultTestPrioritiser(CoverageDatabase coverage) {
     this.coverage = coverage;
   }
 
   @Override
   public List<TestInfo> assignTests(MutationDetails mutation) {
-    return prioritizeTests(mutation.getClassName(), pickTests(mutation));
+    final Collection<TestInfo> tests = pickTests(mutation);
+    if (tests instanceof TestSet) {
+      return sharedOrder(mutation.getClassName(), (TestSet) tests);
+    }
+    return prioritizeTests(mutation.getClassName(), tests);
+  }
+
+  private List<TestInfo> sharedOrder(ClassName clazz, TestSet tests) {
+    final SharedOrder order = this.ordered.get();
+    if (!clazz.equals(order.clazz)) {
+      order.lists.clear();
+      order.clazz = clazz;
+    }
+    return order.lists.computeIfAbsent(tests,
+        t -> Collections.unmodifiableList(prioritizeTests(clazz, t)));
   }
 
   private Collection<TestInfo> pickTests(MutationDetails mutation) {
@@ -57,4 +81,9 @@ public class DefaultTestPrioritiser implements TestPrioritiser {
     return sortedTis;
   }
 
+  private static final class SharedOrder {
+    private final Map<TestSet, List<TestInfo>> lists = new IdentityHashMap<>();
+    private ClassName                          clazz;
+  }
+
 }
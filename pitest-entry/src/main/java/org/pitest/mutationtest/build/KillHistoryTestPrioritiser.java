@@ -0,0 +1,93 @@
+package org.pitest.mutationtest.build;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+
+import org.pitest.coverage.TestInfo;
+import org.pitest.mutationtest.build.KillStatistics.TestRecord;
+import org.pitest.mutationtest.engine.MutationDetails;
+import org.pitest.mutationtest.engine.MutationIdentifier;
+
+/**
+ * Orders the tests chosen by the {@link DefaultTestPrioritiser} so that the
+ * test most likely to kill a mutant quickly runs first.
+ *
+ * Tests that killed the same mutant in the previous run come first. They are
+ * followed by tests that have killed mutants from the same mutator and method,
+ * ordered by expected time to kill, which is their execution time divided by
+ * how often they kill. Tests with no statistics come next, and then tests
+ * that have been run against the mutants and never killed one. Each of the
+ * last two groups keeps the default order.
+ */
+public class KillHistoryTestPrioritiser implements TestPrioritiser {
+
+  private static final int      PREVIOUS_KILLER = 0;
+  private static final int      HAS_KILLED      = 1;
+  private static final int      NO_STATISTICS   = 2;
+  private static final int      NEVER_KILLED    = 3;
+
+  private final TestPrioritiser defaultOrder;
+  private final KillStatistics  statistics;
+
+  public KillHistoryTestPrioritiser(final TestPrioritiser defaultOrder,
+      final KillStatistics statistics) {
+    this.defaultOrder = defaultOrder;
+    this.statistics = statistics;
+  }
+
+  @Override
+  public List<TestInfo> assignTests(final MutationDetails mutation) {
+    final MutationIdentifier id = mutation.getId();
+    final List<String> killers = this.statistics.previousKillersOf(id);
+    final List<RankedTest> ranked = new ArrayList<>();
+    for (final TestInfo each : this.defaultOrder.assignTests(mutation)) {
+      ranked.add(rank(id, killers, each));
+    }
+
+    // the sort is stable, so tests that rank equally keep the default order
+    ranked.sort(Comparator.comparingInt((RankedTest r) -> r.group)
+        .thenComparingDouble(r -> r.expectedTimeToKill));
+
+    final List<TestInfo> tests = new ArrayList<>(ranked.size());
+    for (final RankedTest each : ranked) {
+      tests.add(each.test);
+    }
+    return tests;
+  }
+
+  private RankedTest rank(final MutationIdentifier id,
+      final List<String> killers, final TestInfo test) {
+    final int killerIndex = killers.indexOf(test.getName());
+    if (killerIndex != -1) {
+      return new RankedTest(test, PREVIOUS_KILLER, killerIndex);
+    }
+
+    final Optional<TestRecord> record = this.statistics.recordFor(id,
+        test.getName());
+    if (!record.isPresent()) {
+      return new RankedTest(test, NO_STATISTICS, 0);
+    }
+    if (record.get().kills == 0) {
+      return new RankedTest(test, NEVER_KILLED, 0);
+    }
+    // add one to the time so that fast tests are still ranked by kill rate
+    final double killRate = record.get().kills / (double) record.get().runs;
+    return new RankedTest(test, HAS_KILLED, (test.getTime() + 1) / killRate);
+  }
+
+  private static final class RankedTest {
+    private final TestInfo test;
+    private final int      group;
+    private final double   expectedTimeToKill;
+
+    RankedTest(final TestInfo test, final int group,
+        final double expectedTimeToKill) {
+      this.test = test;
+      this.group = group;
+      this.expectedTimeToKill = expectedTimeToKill;
+    }
+  }
+
+}
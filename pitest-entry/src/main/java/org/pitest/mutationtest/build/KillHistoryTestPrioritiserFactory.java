@@ -0,0 +1,29 @@
+package org.pitest.mutationtest.build;
+
+import java.util.Properties;
+
+import org.pitest.classpath.CodeSource;
+import org.pitest.coverage.CoverageDatabase;
+
+public class KillHistoryTestPrioritiserFactory implements
+    TestPrioritiserFactory {
+
+  private final KillStatistics statistics;
+
+  public KillHistoryTestPrioritiserFactory(final KillStatistics statistics) {
+    this.statistics = statistics;
+  }
+
+  @Override
+  public String description() {
+    return "Kill history test prioritiser";
+  }
+
+  @Override
+  public TestPrioritiser makeTestPrioritiser(final Properties props,
+      final CodeSource code, final CoverageDatabase coverage) {
+    return new KillHistoryTestPrioritiser(new DefaultTestPrioritiser(coverage),
+        this.statistics);
+  }
+
+}
@@ -0,0 +1,242 @@
+package org.pitest.mutationtest.build;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Optional;
+import java.util.Set;
+import java.util.logging.Logger;
+
+import org.pitest.coverage.TestInfo;
+import org.pitest.mutationtest.DetectionStatus;
+import org.pitest.mutationtest.MutationResult;
+import org.pitest.mutationtest.MutationStatusTestPair;
+import org.pitest.mutationtest.engine.MutationIdentifier;
+import org.pitest.mutationtest.execute.MutationResultCodec;
+import org.pitest.util.Log;
+import org.pitest.util.SafeDataInputStream;
+import org.pitest.util.SafeDataOutputStream;
+import org.pitest.util.Unchecked;
+
+/**
+ * Records how often each test has been run against, and has killed, the
+ * mutants created by each mutator in each method, along with the tests that
+ * last killed each mutant.
+ *
+ * Statistics are kept in a file alongside the history files so that they
+ * accumulate across runs.
+ */
+public final class KillStatistics {
+
+  private static final Logger LOG     = Log.getLogger();
+
+  private static final int    VERSION = 1;
+
+  private final Map<MutationIdentifier, Map<String, TestRecord>> buckets = new HashMap<>();
+  private final Map<MutationIdentifier, List<String>>            killers = new HashMap<>();
+
+  private KillStatistics() {
+  }
+
+  public static KillStatistics empty() {
+    return new KillStatistics();
+  }
+
+  /**
+   * @return the statistics stored alongside the history file, or no
+   *         statistics if the file does not exist or cannot be read
+   */
+  public static KillStatistics forHistory(final File historyInput) {
+    final Optional<File> file = statisticsFileFor(historyInput);
+    if (!file.isPresent() || !file.get().exists()) {
+      return empty();
+    }
+    try {
+      return read(file.get());
+    } catch (final RuntimeException ex) {
+      LOG.warning("Could not read kill statistics from " + file.get()
+          + ". Tests will be prioritised without them.");
+      return empty();
+    }
+  }
+
+  public static Optional<File> statisticsFileFor(final File history) {
+    if (history == null) {
+      return Optional.empty();
+    }
+    return Optional.of(new File(history.getPath() + ".kills"));
+  }
+
+  /**
+   * @return a copy of the statistics, which is not changed by results
+   *         recorded in this instance
+   */
+  public synchronized KillStatistics copy() {
+    final KillStatistics copy = new KillStatistics();
+    for (final Entry<MutationIdentifier, Map<String, TestRecord>> bucket : this.buckets
+        .entrySet()) {
+      final Map<String, TestRecord> tests = new HashMap<>();
+      for (final Entry<String, TestRecord> each : bucket.getValue().entrySet()) {
+        final TestRecord record = new TestRecord();
+        record.runs = each.getValue().runs;
+        record.kills = each.getValue().kills;
+        tests.put(each.getKey(), record);
+      }
+      copy.buckets.put(bucket.getKey(), tests);
+    }
+    copy.killers.putAll(this.killers);
+    return copy;
+  }
+
+  /**
+   * Records which of the tests run against a mutant killed it. With early exit
+   * only a killing test and those that ran before it are recorded.
+   */
+  public synchronized void record(final MutationResult result) {
+    final MutationStatusTestPair status = result.getStatusTestPair();
+    if ((status.getStatus() != DetectionStatus.KILLED)
+        && (status.getStatus() != DetectionStatus.SURVIVED)) {
+      return;
+    }
+
+    final MutationIdentifier id = result.getDetails().getId();
+    final List<TestInfo> tests = result.getDetails().getTestsInOrder();
+    final Set<String> killing = new HashSet<>(status.getKillingTests());
+    final Map<String, TestRecord> bucket = this.buckets.computeIfAbsent(
+        bucketOf(id), k -> new HashMap<>());
+    final int run = Math.min(status.getNumberOfTestsRun(), tests.size());
+    for (int i = 0; i != run; i++) {
+      final TestRecord record = bucket.computeIfAbsent(tests.get(i).getName(),
+          k -> new TestRecord());
+      record.runs++;
+      if (killing.contains(tests.get(i).getName())) {
+        record.kills++;
+      }
+    }
+
+    if (killing.isEmpty()) {
+      this.killers.remove(id);
+    } else {
+      this.killers.put(id, status.getKillingTests());
+    }
+  }
+
+  /**
+   * @return the tests that killed the mutant the last time it was run
+   */
+  public synchronized List<String> previousKillersOf(final MutationIdentifier id) {
+    final List<String> names = this.killers.get(id);
+    return names == null ? Collections.<String> emptyList() : names;
+  }
+
+  synchronized Optional<TestRecord> recordFor(final MutationIdentifier id,
+      final String test) {
+    final Map<String, TestRecord> bucket = this.buckets.get(bucketOf(id));
+    if (bucket == null) {
+      return Optional.empty();
+    }
+    return Optional.ofNullable(bucket.get(test));
+  }
+
+  public synchronized void write(final File file) {
+    try (BufferedOutputStream bos = new BufferedOutputStream(
+        new FileOutputStream(file))) {
+      final SafeDataOutputStream os = new SafeDataOutputStream(bos);
+      os.writeInt(VERSION);
+      os.writeInt(this.buckets.size());
+      for (final Entry<MutationIdentifier, Map<String, TestRecord>> bucket : this.buckets
+          .entrySet()) {
+        MutationResultCodec.writeIdentifier(os, bucket.getKey());
+        os.writeInt(bucket.getValue().size());
+        for (final Entry<String, TestRecord> each : bucket.getValue()
+            .entrySet()) {
+          os.writeInternedString(each.getKey());
+          os.writeInt(each.getValue().runs);
+          os.writeInt(each.getValue().kills);
+        }
+      }
+      os.writeInt(this.killers.size());
+      for (final Entry<MutationIdentifier, List<String>> each : this.killers
+          .entrySet()) {
+        MutationResultCodec.writeIdentifier(os, each.getKey());
+        writeNames(os, each.getValue());
+      }
+      os.flush();
+    } catch (final IOException ex) {
+      throw Unchecked.translateCheckedException(ex);
+    }
+  }
+
+  static KillStatistics read(final File file) {
+    final KillStatistics stats = new KillStatistics();
+    try (BufferedInputStream bis = new BufferedInputStream(
+        new FileInputStream(file))) {
+      final SafeDataInputStream is = new SafeDataInputStream(bis);
+      if (is.readInt() != VERSION) {
+        LOG.info("Ignoring kill statistics written by a different version");
+        return stats;
+      }
+      final int numberOfBuckets = is.readInt();
+      for (int i = 0; i != numberOfBuckets; i++) {
+        final MutationIdentifier bucket = MutationResultCodec.readIdentifier(is);
+        final int numberOfTests = is.readInt();
+        final Map<String, TestRecord> tests = new HashMap<>(numberOfTests);
+        for (int j = 0; j != numberOfTests; j++) {
+          final String name = is.readInternedString();
+          final TestRecord record = new TestRecord();
+          record.runs = is.readInt();
+          record.kills = is.readInt();
+          tests.put(name, record);
+        }
+        stats.buckets.put(bucket, tests);
+      }
+      final int numberOfKilled = is.readInt();
+      for (int i = 0; i != numberOfKilled; i++) {
+        stats.killers.put(MutationResultCodec.readIdentifier(is),
+            readNames(is));
+      }
+      return stats;
+    } catch (final IOException ex) {
+      throw Unchecked.translateCheckedException(ex);
+    }
+  }
+
+  private static MutationIdentifier bucketOf(final MutationIdentifier id) {
+    // mutants of a method created by the same mutator differ only by index
+    return new MutationIdentifier(id.getLocation(),
+        Collections.<Integer> emptyList(), id.getMutator());
+  }
+
+  private static void writeNames(final SafeDataOutputStream os,
+      final List<String> names) {
+    os.writeInt(names.size());
+    for (final String each : names) {
+      os.writeInternedString(each);
+    }
+  }
+
+  private static List<String> readNames(final SafeDataInputStream is) {
+    final int size = is.readInt();
+    final List<String> names = new ArrayList<>(size);
+    for (int i = 0; i != size; i++) {
+      names.add(is.readInternedString());
+    }
+    return names;
+  }
+
+  static final class TestRecord {
+    int runs;
+    int kills;
+  }
+
+}
@@ -0,0 +1,42 @@
+package org.pitest.mutationtest.build;
+
+import java.io.File;
+import java.util.Optional;
+
+import org.pitest.mutationtest.ClassMutationResults;
+import org.pitest.mutationtest.MutationResult;
+import org.pitest.mutationtest.MutationResultListener;
+
+/**
+ * Adds the results of a run to the kill statistics, and stores them for the
+ * next run once the run ends.
+ */
+public class KillStatisticsListener implements MutationResultListener {
+
+  private final KillStatistics statistics;
+  private final Optional<File> output;
+
+  public KillStatisticsListener(final KillStatistics statistics,
+      final Optional<File> output) {
+    this.statistics = statistics;
+    this.output = output;
+  }
+
+  @Override
+  public void runStart() {
+
+  }
+
+  @Override
+  public void handleMutationResult(final ClassMutationResults results) {
+    for (final MutationResult each : results.getMutations()) {
+      this.statistics.record(each);
+    }
+  }
+
+  @Override
+  public void runEnd() {
+    this.output.ifPresent(this.statistics::write);
+  }
+
+}
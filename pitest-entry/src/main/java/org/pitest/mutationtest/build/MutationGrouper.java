@@ -11,4 +11,20 @@ public interface MutationGrouper {
   List<List<MutationDetails>> groupMutations(Collection<ClassName> codeClasses,
       Collection<MutationDetails> mutations);
 
+  /**
+   * @return the estimated cost of analysing a group. Groups with the highest
+   *         cost are analysed first.
+   */
+  default int costOf(Collection<MutationDetails> group) {
+    return group.size();
+  }
+
+  /**
+   * @return true if threads that have finished their own groups may take
+   *         unstarted mutations from groups that are still being analysed
+   */
+  default boolean allowsWorkStealing() {
+    return false;
+  }
+
 }
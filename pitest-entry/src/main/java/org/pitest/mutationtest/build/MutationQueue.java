@@ -0,0 +1,59 @@
+package org.pitest.mutationtest.build;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.List;
+
+import org.pitest.mutationtest.engine.MutationDetails;
+
+/**
+ * The mutations of a unit that have not yet been sent to a minion.
+ *
+ * The unit takes batches from the head of the queue, while other threads
+ * steal from the tail, so that the unit keeps the mutations it would have
+ * analysed next.
+ */
+final class MutationQueue {
+
+  private final Deque<MutationDetails> unstarted;
+  private boolean                      started;
+
+  MutationQueue(final Collection<MutationDetails> mutations) {
+    this.unstarted = new ArrayDeque<>(mutations);
+  }
+
+  /**
+   * Takes half of the remaining mutations, leaving the rest to be taken by
+   * the unit or stolen by an idle thread while the batch is analysed.
+   */
+  synchronized List<MutationDetails> takeBatch() {
+    this.started = true;
+    final int size = (this.unstarted.size() + 1) / 2;
+    final List<MutationDetails> batch = new ArrayList<>(size);
+    for (int i = 0; i != size; i++) {
+      batch.add(this.unstarted.pollFirst());
+    }
+    return batch;
+  }
+
+  synchronized List<MutationDetails> steal() {
+    final int size = Math.max(this.unstarted.size() / 2,
+        Math.min(this.unstarted.size(), 1));
+    final List<MutationDetails> stolen = new ArrayList<>(size);
+    for (int i = 0; i != size; i++) {
+      stolen.add(0, this.unstarted.pollLast());
+    }
+    return stolen;
+  }
+
+  synchronized boolean hasStarted() {
+    return this.started;
+  }
+
+  synchronized int remaining() {
+    return this.unstarted.size();
+  }
+
+}
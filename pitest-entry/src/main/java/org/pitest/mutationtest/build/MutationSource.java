@@ -16,6 +16,7 @@ package org.pitest.mutationtest.build;
 
 import java.util.Collection;
 import java.util.List;
+import java.util.function.Supplier;
 import java.util.logging.Logger;
 
 import org.pitest.bytecode.analysis.ClassTree;
@@ -28,23 +29,42 @@ import org.pitest.mutationtest.engine.Mutater;
 import org.pitest.mutationtest.engine.MutationDetails;
 import org.pitest.util.Log;
 
+/**
+ * Finds the mutations for a class and assigns tests to them. Classes may be
+ * processed concurrently as each thread is given its own interceptor.
+ */
 public class MutationSource {
 
-  private static final Logger        LOG = Log.getLogger();
+  private static final Logger                    LOG = Log.getLogger();
 
-  private final MutationConfig       mutationConfig;
-  private final TestPrioritiser      testPrioritiser;
-  private final ClassByteArraySource source;
-  private final MutationInterceptor interceptor;
+  private final MutationConfig                   mutationConfig;
+  private final TestPrioritiser                  testPrioritiser;
+  private final ClassByteArraySource             source;
+  private final ThreadLocal<MutationInterceptor> interceptor;
 
+  /**
+   * Creates a source that shares a single interceptor, so must be used by only
+   * one thread.
+   */
   public MutationSource(final MutationConfig mutationConfig,
       final TestPrioritiser testPrioritiser,
       final ClassByteArraySource source,
       final MutationInterceptor interceptor) {
+    this(mutationConfig, testPrioritiser, source, () -> interceptor);
+  }
+
+  /**
+   * Creates a source that may be used by several threads. Interceptors hold
+   * state between begin and end, so one is created for each thread.
+   */
+  public MutationSource(final MutationConfig mutationConfig,
+      final TestPrioritiser testPrioritiser,
+      final ClassByteArraySource source,
+      final Supplier<MutationInterceptor> interceptorFactory) {
     this.mutationConfig = mutationConfig;
     this.testPrioritiser = testPrioritiser;
     this.source = new CachingByteArraySource(source, 200);
-    this.interceptor = interceptor;
+    this.interceptor = ThreadLocal.withInitial(interceptorFactory);
   }
 
   public Collection<MutationDetails> createMutations(final ClassName clazz) {
@@ -60,10 +80,11 @@ public class MutationSource {
       final ClassTree tree = ClassTree
           .fromBytes(this.source.getBytes(clazz.asJavaName()).get());
 
-      this.interceptor.begin(tree);
-      final Collection<MutationDetails> updatedMutations = this.interceptor
+      final MutationInterceptor interceptor = this.interceptor.get();
+      interceptor.begin(tree);
+      final Collection<MutationDetails> updatedMutations = interceptor
           .intercept(availableMutations, m);
-      this.interceptor.end();
+      interceptor.end();
 
       assignTestsToMutations(updatedMutations);
 
@@ -79,7 +100,7 @@ public class MutationSource {
       if (testDetails.isEmpty()) {
         LOG.fine("According to coverage no tests hit the mutation " + mutation);
       }
-      mutation.addTestsInOrder(testDetails);
+      mutation.shareTestsInOrder(testDetails);
     }
   }
 
@@ -18,21 +18,23 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
-import java.util.HashSet;
 import java.util.List;
-import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
 import org.pitest.classinfo.ClassName;
-import org.pitest.coverage.TestInfo;
 import org.pitest.functional.FCollection;
 import org.pitest.functional.prelude.Prelude;
 import org.pitest.mutationtest.DetectionStatus;
 import org.pitest.mutationtest.MutationAnalyser;
 import org.pitest.mutationtest.MutationResult;
 import org.pitest.mutationtest.engine.MutationDetails;
+import org.pitest.util.IsolationUtils;
+import org.pitest.util.Unchecked;
 
 public class MutationTestBuilder {
 
@@ -40,23 +42,55 @@ public class MutationTestBuilder {
   private final MutationAnalyser analyser;
   private final WorkerFactory    workerFactory;
   private final MutationGrouper  grouper;
+  private final int              discoveryThreads;
 
   public MutationTestBuilder(final WorkerFactory workerFactory,
       final MutationAnalyser analyser, final MutationSource mutationSource,
       final MutationGrouper grouper) {
+    this(workerFactory, analyser, mutationSource, grouper, 1);
+  }
+
+  /**
+   * @param discoveryThreads
+   *          number of threads used to find the mutations in the code
+   *          classes. The mutation source must be safe for use by this many
+   *          threads.
+   */
+  public MutationTestBuilder(final WorkerFactory workerFactory,
+      final MutationAnalyser analyser, final MutationSource mutationSource,
+      final MutationGrouper grouper, final int discoveryThreads) {
 
     this.mutationSource = mutationSource;
     this.analyser = analyser;
     this.workerFactory = workerFactory;
     this.grouper = grouper;
+    this.discoveryThreads = discoveryThreads;
   }
 
   public List<MutationAnalysisUnit> createMutationTestUnits(
       final Collection<ClassName> codeClasses) {
-    final List<MutationAnalysisUnit> tus = new ArrayList<>();
+    return createUnits(codeClasses, findMutations(codeClasses));
+  }
 
-    final List<MutationDetails> mutations = FCollection.flatMap(codeClasses,
-        classToMutations());
+  /**
+   * Finds mutations on a background thread, handing out the units for each
+   * class in turn as soon as they have been created. Units are grouped and
+   * ordered one class at a time.
+   */
+  public MutationTestUnitPipeline streamMutationTestUnits(
+      final Collection<ClassName> codeClasses) {
+    // enough classes in hand to keep each discovery thread busy while the
+    // units of earlier classes wait to be taken
+    final MutationTestUnitPipeline pipeline = new MutationTestUnitPipeline(
+        this, codeClasses, Math.max(1, this.discoveryThreads) * 2);
+    pipeline.start();
+    return pipeline;
+  }
+
+  List<MutationAnalysisUnit> createUnits(
+      final Collection<ClassName> codeClasses,
+      final List<MutationDetails> mutations) {
+    final List<MutationAnalysisUnit> tus = new ArrayList<>();
 
     Collections.sort(mutations, comparator());
 
@@ -76,9 +110,10 @@ public class MutationTestBuilder {
     }
 
     if (!needAnalysis.isEmpty()) {
+      final WorkStealingGroup stealingGroup = new WorkStealingGroup();
       for (final Collection<MutationDetails> ms : this.grouper.groupMutations(
           codeClasses, needAnalysis)) {
-        tus.add(makeUnanalysedUnit(ms));
+        tus.add(makeUnanalysedUnit(ms, stealingGroup));
       }
     }
 
@@ -90,6 +125,49 @@ public class MutationTestBuilder {
     return (arg0, arg1) -> arg0.getId().compareTo(arg1.getId());
   }
 
+  private List<MutationDetails> findMutations(
+      final Collection<ClassName> codeClasses) {
+    if ((this.discoveryThreads <= 1) || (codeClasses.size() <= 1)) {
+      return FCollection.flatMap(codeClasses, classToMutations());
+    }
+
+    final ForkJoinPool pool = createDiscoveryPool();
+    try {
+      // the stream is ordered, so mutations are returned in class order
+      // however the work is split
+      return pool.submit(() -> codeClasses.parallelStream()
+          .flatMap(c -> this.mutationSource.createMutations(c).stream())
+          .collect(Collectors.toList())).get();
+    } catch (final InterruptedException e) {
+      throw Unchecked.translateCheckedException(e);
+    } catch (final ExecutionException e) {
+      // fail as a serial search would have
+      if (e.getCause() instanceof RuntimeException) {
+        throw (RuntimeException) e.getCause();
+      }
+      throw Unchecked.translateCheckedException(e.getCause());
+    } finally {
+      pool.shutdown();
+    }
+  }
+
+  Collection<MutationDetails> findMutations(final ClassName clazz) {
+    return this.mutationSource.createMutations(clazz);
+  }
+
+  ForkJoinPool createDiscoveryPool() {
+    // workers would otherwise not share the caller's context loader on all
+    // jvms
+    final ClassLoader loader = IsolationUtils.getContextClassLoader();
+    return new ForkJoinPool(Math.max(1, this.discoveryThreads), pool -> {
+      final ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory
+          .newThread(pool);
+      thread.setName("mutationDiscovery-" + thread.getPoolIndex());
+      thread.setContextClassLoader(loader);
+      return thread;
+    }, null, false);
+  }
+
   private Function<ClassName, Iterable<MutationDetails>> classToMutations() {
     return a -> MutationTestBuilder.this.mutationSource.createMutations(a);
   }
@@ -100,13 +178,18 @@ public class MutationTestBuilder {
   }
 
   private MutationAnalysisUnit makeUnanalysedUnit(
-      final Collection<MutationDetails> needAnalysis) {
-    final Set<ClassName> uniqueTestClasses = new HashSet<>();
-    FCollection.flatMapTo(needAnalysis, mutationDetailsToTestClass(),
-        uniqueTestClasses);
+      final Collection<MutationDetails> needAnalysis,
+      final WorkStealingGroup stealingGroup) {
+    final int cost = this.grouper.costOf(needAnalysis);
+    if (this.grouper.allowsWorkStealing()) {
+      return new WorkStealingMutationTestUnit(
+          stealingGroup.register(needAnalysis), stealingGroup,
+          this.workerFactory, cost);
+    }
 
-    return new MutationTestUnit(needAnalysis, uniqueTestClasses,
-        this.workerFactory);
+    return new MutationTestUnit(needAnalysis,
+        MutationTestUnit.testClassesFor(needAnalysis), this.workerFactory,
+        cost);
   }
 
   private static Function<MutationResult, MutationDetails> resultToDetails() {
@@ -117,9 +200,4 @@ public class MutationTestBuilder {
     return a -> a.getStatus() == DetectionStatus.NOT_STARTED;
   }
 
-  private static Function<MutationDetails, Iterable<ClassName>> mutationDetailsToTestClass() {
-    return a -> FCollection.map(a.getTestsInOrder(),
-        TestInfo.toDefiningClassName());
-  }
-
 }
@@ -16,9 +16,14 @@ package org.pitest.mutationtest.build;
 
 import java.io.IOException;
 import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.logging.Logger;
 
 import org.pitest.classinfo.ClassName;
+import org.pitest.coverage.TestInfo;
+import org.pitest.functional.FCollection;
 import org.pitest.mutationtest.DetectionStatus;
 import org.pitest.mutationtest.MutationMetaData;
 import org.pitest.mutationtest.MutationStatusMap;
@@ -35,12 +40,21 @@ public class MutationTestUnit implements MutationAnalysisUnit {
   private final WorkerFactory               workerFactory;
 
   private final Collection<ClassName>       testClasses;
+  private final int                         priority;
 
   public MutationTestUnit(final Collection<MutationDetails> availableMutations,
       final Collection<ClassName> testClasses, final WorkerFactory workerFactor) {
+    this(availableMutations, testClasses, workerFactor, availableMutations
+        .size());
+  }
+
+  public MutationTestUnit(final Collection<MutationDetails> availableMutations,
+      final Collection<ClassName> testClasses,
+      final WorkerFactory workerFactor, final int priority) {
     this.availableMutations = availableMutations;
     this.testClasses = testClasses;
     this.workerFactory = workerFactor;
+    this.priority = priority;
   }
 
   @Override
@@ -59,7 +73,20 @@ public class MutationTestUnit implements MutationAnalysisUnit {
 
   @Override
   public int priority() {
-    return this.availableMutations.size();
+    return this.priority;
+  }
+
+  static Set<ClassName> testClassesFor(
+      final Collection<MutationDetails> mutations) {
+    final Set<ClassName> uniqueTestClasses = new HashSet<>();
+    FCollection.flatMapTo(mutations, mutationDetailsToTestClass(),
+        uniqueTestClasses);
+    return uniqueTestClasses;
+  }
+
+  private static Function<MutationDetails, Iterable<ClassName>> mutationDetailsToTestClass() {
+    return a -> FCollection.map(a.getTestsInOrder(),
+        TestInfo.toDefiningClassName());
   }
 
   private void runTestsInSeperateProcess(final MutationStatusMap mutations)
@@ -0,0 +1,156 @@
+package org.pitest.mutationtest.build;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+
+import org.pitest.classinfo.ClassName;
+import org.pitest.mutationtest.engine.MutationDetails;
+import org.pitest.util.Unchecked;
+
+/**
+ * Hands out mutation test units as they are created by a background thread.
+ *
+ * Classes are searched for mutations on the discovery pool, but their units
+ * are created, and handed out, in class order. Only a few classes are searched
+ * ahead of the units being taken, so the mutations for the whole project are
+ * never held at once.
+ */
+public class MutationTestUnitPipeline implements
+    Iterator<MutationAnalysisUnit>, AutoCloseable {
+
+  // classes without units are not queued, so an empty list marks the end
+  private static final List<MutationAnalysisUnit>         END = Collections
+      .emptyList();
+
+  private final MutationTestBuilder                       builder;
+  private final Collection<ClassName>                     codeClasses;
+  private final int                                       lookahead;
+  private final BlockingQueue<List<MutationAnalysisUnit>> ready;
+  private final Thread                                    producer;
+
+  private volatile RuntimeException                       error;
+  private Iterator<MutationAnalysisUnit>                  current = Collections
+      .emptyIterator();
+  private boolean                                         finished;
+
+  MutationTestUnitPipeline(final MutationTestBuilder builder,
+      final Collection<ClassName> codeClasses, final int lookahead) {
+    this.builder = builder;
+    this.codeClasses = codeClasses;
+    this.lookahead = lookahead;
+    this.ready = new ArrayBlockingQueue<>(lookahead);
+    this.producer = new Thread(this::produce, "mutationPipeline");
+    this.producer.setDaemon(true);
+  }
+
+  void start() {
+    this.producer.start();
+  }
+
+  /**
+   * Blocks until the units for the next class are ready, or every class has
+   * been searched.
+   */
+  @Override
+  public boolean hasNext() {
+    while (!this.current.hasNext() && !this.finished) {
+      final List<MutationAnalysisUnit> units = take();
+      if (units == END) {
+        this.finished = true;
+        if (this.error != null) {
+          throw this.error;
+        }
+      } else {
+        this.current = units.iterator();
+      }
+    }
+    return this.current.hasNext();
+  }
+
+  @Override
+  public MutationAnalysisUnit next() {
+    if (!hasNext()) {
+      throw new NoSuchElementException();
+    }
+    return this.current.next();
+  }
+
+  /**
+   * Stops searching for mutations. Units not yet taken are discarded.
+   */
+  @Override
+  public void close() {
+    this.producer.interrupt();
+  }
+
+  private void produce() {
+    final ForkJoinPool pool = this.builder.createDiscoveryPool();
+    final Deque<ClassName> searched = new ArrayDeque<>();
+    final Deque<Future<Collection<MutationDetails>>> searches = new ArrayDeque<>();
+    try {
+      for (final ClassName each : this.codeClasses) {
+        if (searches.size() == this.lookahead) {
+          createUnits(searched.removeFirst(), searches.removeFirst().get());
+        }
+        searched.addLast(each);
+        searches.addLast(pool.submit(() -> this.builder.findMutations(each)));
+      }
+      while (!searches.isEmpty()) {
+        createUnits(searched.removeFirst(), searches.removeFirst().get());
+      }
+      this.ready.put(END);
+    } catch (final InterruptedException ex) {
+      // closed, so nothing is waiting for the end
+    } catch (final ExecutionException ex) {
+      fail(ex.getCause());
+    } catch (final RuntimeException ex) {
+      fail(ex);
+    } finally {
+      pool.shutdownNow();
+    }
+  }
+
+  private void createUnits(final ClassName clazz,
+      final Collection<MutationDetails> mutations) throws InterruptedException {
+    // history is consulted on this thread only, so the analyser need not be
+    // thread safe
+    final List<MutationAnalysisUnit> units = this.builder.createUnits(
+        Collections.singletonList(clazz), new ArrayList<>(mutations));
+    if (!units.isEmpty()) {
+      this.ready.put(units);
+    }
+  }
+
+  private void fail(final Throwable ex) {
+    if (ex instanceof RuntimeException) {
+      this.error = (RuntimeException) ex;
+    } else {
+      this.error = Unchecked.translateCheckedException(ex);
+    }
+    try {
+      this.ready.put(END);
+    } catch (final InterruptedException e) {
+      // closed, so nothing is waiting for the error
+    }
+  }
+
+  private List<MutationAnalysisUnit> take() {
+    try {
+      return this.ready.take();
+    } catch (final InterruptedException ex) {
+      throw Unchecked.translateCheckedException(ex);
+    }
+  }
+
+}
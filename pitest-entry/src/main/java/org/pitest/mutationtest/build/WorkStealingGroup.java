@@ -0,0 +1,44 @@
+package org.pitest.mutationtest.build;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.pitest.mutationtest.engine.MutationDetails;
+
+/**
+ * The queues of units that may steal work from each other.
+ */
+final class WorkStealingGroup {
+
+  private final List<MutationQueue> queues = new CopyOnWriteArrayList<>();
+
+  MutationQueue register(final Collection<MutationDetails> mutations) {
+    final MutationQueue queue = new MutationQueue(mutations);
+    this.queues.add(queue);
+    return queue;
+  }
+
+  /**
+   * Steals from the started unit with the most mutations left. Nothing is
+   * stolen while units are waiting to start, as the thread is better used
+   * starting one of them.
+   */
+  List<MutationDetails> steal() {
+    MutationQueue victim = null;
+    for (final MutationQueue each : this.queues) {
+      if (!each.hasStarted()) {
+        return Collections.emptyList();
+      }
+      if ((victim == null) || (each.remaining() > victim.remaining())) {
+        victim = each;
+      }
+    }
+    if (victim == null) {
+      return Collections.emptyList();
+    }
+    return victim.steal();
+  }
+
+}
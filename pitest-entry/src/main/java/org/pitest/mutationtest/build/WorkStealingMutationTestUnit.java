@@ -0,0 +1,60 @@
+package org.pitest.mutationtest.build;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import org.pitest.mutationtest.MutationMetaData;
+import org.pitest.mutationtest.MutationResult;
+import org.pitest.mutationtest.engine.MutationDetails;
+
+/**
+ * Analyses its mutations in shrinking batches. Once its own mutations have
+ * been analysed it steals unstarted mutations from units in the same group
+ * that are still running, so that threads are not left idle at the end of a
+ * run while a single large unit completes.
+ */
+public class WorkStealingMutationTestUnit implements MutationAnalysisUnit {
+
+  private final MutationQueue     queue;
+  private final WorkStealingGroup group;
+  private final WorkerFactory     workerFactory;
+  private final int               priority;
+
+  WorkStealingMutationTestUnit(final MutationQueue queue,
+      final WorkStealingGroup group, final WorkerFactory workerFactory,
+      final int priority) {
+    this.queue = queue;
+    this.group = group;
+    this.workerFactory = workerFactory;
+    this.priority = priority;
+  }
+
+  @Override
+  public MutationMetaData call() throws Exception {
+    final List<MutationResult> results = new ArrayList<>();
+    for (List<MutationDetails> batch = this.queue.takeBatch(); !batch
+        .isEmpty(); batch = this.queue.takeBatch()) {
+      results.addAll(analyse(batch));
+    }
+
+    for (List<MutationDetails> batch = this.group.steal(); !batch.isEmpty(); batch = this.group
+        .steal()) {
+      results.addAll(analyse(batch));
+    }
+
+    return new MutationMetaData(results);
+  }
+
+  @Override
+  public int priority() {
+    return this.priority;
+  }
+
+  private Collection<MutationResult> analyse(
+      final List<MutationDetails> batch) throws Exception {
+    return new MutationTestUnit(batch, MutationTestUnit.testClassesFor(batch),
+        this.workerFactory).call().getMutations();
+  }
+
+}
@@ -14,10 +14,11 @@ import org.pitest.mutationtest.TimeoutLengthStrategy;
 import org.pitest.mutationtest.config.TestPluginArguments;
 import org.pitest.mutationtest.engine.MutationDetails;
 import org.pitest.mutationtest.execute.MinionArguments;
+import org.pitest.mutationtest.execute.MinionPool;
 import org.pitest.mutationtest.execute.MutationTestProcess;
+import org.pitest.mutationtest.execute.PooledMinion;
 import org.pitest.process.ProcessArgs;
 import org.pitest.util.Log;
-import org.pitest.util.SocketFinder;
 
 public class WorkerFactory {
 
@@ -29,6 +30,7 @@ public class WorkerFactory {
   private final boolean               fullMutationMatrix;
   private final MutationConfig        config;
   private final EngineArguments       args;
+  private final MinionPool            pool;
 
   public WorkerFactory(final File baseDir,
       final TestPluginArguments pitConfig,
@@ -37,7 +39,8 @@ public class WorkerFactory {
       final TimeoutLengthStrategy timeoutStrategy,
       final boolean verbose,
       final boolean fullMutationMatrix,
-      final String classPath) {
+      final String classPath,
+      final int numberOfMinions) {
     this.pitConfig = pitConfig;
     this.timeoutStrategy = timeoutStrategy;
     this.verbose = verbose;
@@ -46,6 +49,7 @@ public class WorkerFactory {
     this.baseDir = baseDir;
     this.config = mutationConfig;
     this.args = args;
+    this.pool = new MinionPool(numberOfMinions, this::createMinion);
   }
 
   public MutationTestProcess createWorker(
@@ -55,15 +59,21 @@ public class WorkerFactory {
         testClasses, this.config.getEngine().getName(), this.args, this.timeoutStrategy,
         Log.isVerbose(), this.fullMutationMatrix, this.pitConfig);
 
+    return new MutationTestProcess(this.pool, fileArgs);
+  }
+
+  public void shutdown() {
+    this.pool.shutdown();
+  }
+
+  private PooledMinion createMinion() {
     final ProcessArgs args = ProcessArgs.withClassPath(this.classPath)
         .andLaunchOptions(this.config.getLaunchOptions())
         .andBaseDir(this.baseDir).andStdout(captureStdOutIfVerbose())
         .andStderr(printWith("stderr "));
 
-    final SocketFinder sf = new SocketFinder();
-    final MutationTestProcess worker = new MutationTestProcess(
-        sf.getNextAvailableServerSocket(), args, fileArgs);
-    return worker;
+    return new PooledMinion(this.config.getLaunchOptions().getMinionTransport()
+        .open(), args);
   }
 
   private SideEffect1<String> captureStdOutIfVerbose() {
@@ -170,6 +170,17 @@ public enum ConfigOption {
    */
   HISTORY_OUTPUT_LOCATION("historyOutputLocation"),
 
+  /**
+   * Format of the history file, text or binary
+   */
+  HISTORY_FORMAT("historyFormat", "text"),
+
+  /**
+   * Reuse coverage cached next to the history files, for tests and classes
+   * that have not changed since the previous run
+   */
+  USE_COVERAGE_CACHE("useCoverageCache", false),
+
   /**
    * Mutation score below which to throw an error
    */
@@ -215,7 +226,42 @@ public enum ConfigOption {
    * Allows very long classpaths that would otherwise exceed OS limits, but
    * may cause problems with some third party libraries.
    */
-  USE_CLASSPATH_JAR("useClasspathJar", false);
+  USE_CLASSPATH_JAR("useClasspathJar", false),
+
+  /**
+   * Install all mutants of a class in a single class, and switch between them
+   * without redefining the class
+   */
+  MUTANT_SCHEMATA("mutantSchemata", false),
+
+  /**
+   * Stop mutants that exceed their time by checking a budget within the
+   * mutated code, rather than by killing the minion
+   */
+  COOPERATIVE_TIMEOUTS("cooperativeTimeouts", false),
+
+  /**
+   * Order the tests run against each mutant using kill statistics gathered in
+   * previous runs
+   */
+  PRIORITISE_BY_KILL_HISTORY("prioritiseByKillHistory", false),
+
+  /**
+   * Group mutations into units of similar cost, estimated from test execution
+   * times, and let idle threads take work from units still running
+   */
+  COST_BALANCED_GROUPING("costBalancedGrouping", false),
+
+  /**
+   * Start analysing the mutations of each class as soon as they are found,
+   * rather than once mutations have been found for every class
+   */
+  PIPELINED_ANALYSIS("pipelinedAnalysis", false),
+
+  /**
+   * How minions connect to the main process, socket or pipe
+   */
+  MINION_TRANSPORT("minionTransport", "socket");
 
   private final String       text;
   private final Serializable defaultValue;
@@ -85,6 +85,8 @@ public class ReportOptions {
 
   private File                           historyInputLocation;
   private File                           historyOutputLocation;
+  private String                         historyFormat                  = "text";
+  private boolean                        useCoverageCache;
 
   private Collection<File>               sourceDirs;
   private Collection<String>             classPathElements;
@@ -137,6 +139,18 @@ public class ReportOptions {
   
   private boolean                        useClasspathJar;
 
+  private boolean                        mutantSchemata;
+
+  private boolean                        cooperativeTimeouts;
+
+  private boolean                        prioritiseByKillHistory;
+
+  private boolean                        costBalancedGrouping;
+
+  private boolean                        pipelinedAnalysis;
+
+  private String                         minionTransport                = "socket";
+
 
   public boolean isVerbose() {
     return this.verbose;
@@ -504,6 +518,22 @@ public class ReportOptions {
     return this.historyOutputLocation;
   }
 
+  public String getHistoryFormat() {
+    return this.historyFormat;
+  }
+
+  public void setHistoryFormat(final String historyFormat) {
+    this.historyFormat = historyFormat;
+  }
+
+  public boolean isUseCoverageCache() {
+    return this.useCoverageCache;
+  }
+
+  public void setUseCoverageCache(final boolean useCoverageCache) {
+    this.useCoverageCache = useCoverageCache;
+  }
+
   public void setExportLineCoverage(final boolean value) {
     this.exportLineCoverage = value;
   }
@@ -608,6 +638,54 @@ public class ReportOptions {
     this.useClasspathJar = useClasspathJar;
   }
 
+  public boolean useMutantSchemata() {
+    return this.mutantSchemata;
+  }
+
+  public void setUseMutantSchemata(boolean mutantSchemata) {
+    this.mutantSchemata = mutantSchemata;
+  }
+
+  public boolean useCooperativeTimeouts() {
+    return this.cooperativeTimeouts;
+  }
+
+  public void setUseCooperativeTimeouts(boolean cooperativeTimeouts) {
+    this.cooperativeTimeouts = cooperativeTimeouts;
+  }
+
+  public boolean prioritiseByKillHistory() {
+    return this.prioritiseByKillHistory;
+  }
+
+  public void setPrioritiseByKillHistory(boolean prioritiseByKillHistory) {
+    this.prioritiseByKillHistory = prioritiseByKillHistory;
+  }
+
+  public boolean useCostBalancedGrouping() {
+    return this.costBalancedGrouping;
+  }
+
+  public void setUseCostBalancedGrouping(boolean costBalancedGrouping) {
+    this.costBalancedGrouping = costBalancedGrouping;
+  }
+
+  public boolean usePipelinedAnalysis() {
+    return this.pipelinedAnalysis;
+  }
+
+  public void setUsePipelinedAnalysis(boolean pipelinedAnalysis) {
+    this.pipelinedAnalysis = pipelinedAnalysis;
+  }
+
+  public String getMinionTransport() {
+    return this.minionTransport;
+  }
+
+  public void setMinionTransport(String minionTransport) {
+    this.minionTransport = minionTransport;
+  }
+
   @Override
   public String toString() {
     return "ReportOptions [targetClasses=" + targetClasses
@@ -615,7 +693,9 @@ public class ReportOptions {
         + excludedClasses + ", excludedTestClasses=" + excludedTestClasses
         + ", codePaths=" + codePaths + ", reportDir=" + reportDir
         + ", historyInputLocation=" + historyInputLocation
-        + ", historyOutputLocation=" + historyOutputLocation + ", sourceDirs="
+        + ", historyOutputLocation=" + historyOutputLocation
+        + ", historyFormat=" + historyFormat + ", useCoverageCache="
+        + useCoverageCache + ", sourceDirs="
         + sourceDirs + ", classPathElements=" + classPathElements
         + ", mutators=" + mutators + ", features=" + features
         + ", dependencyAnalysisMaxDistance=" + dependencyAnalysisMaxDistance
@@ -635,7 +715,11 @@ public class ReportOptions {
         + properties + ", maxSurvivors=" + maxSurvivors + ", excludedRunners="
         + excludedRunners + ", includedTestMethods=" + includedTestMethods
         + ", testPlugin=" + testPlugin + ", useClasspathJar=" + useClasspathJar
-        + "]";
+        + ", mutantSchemata=" + mutantSchemata + ", cooperativeTimeouts="
+        + cooperativeTimeouts + ", prioritiseByKillHistory="
+        + prioritiseByKillHistory + ", costBalancedGrouping="
+        + costBalancedGrouping + ", pipelinedAnalysis=" + pipelinedAnalysis
+        + ", minionTransport=" + minionTransport + "]";
   }
 
   
@@ -4,23 +4,31 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Optional;
 import java.util.function.Function;
 import java.util.function.Predicate;
 
 import org.pitest.coverage.CoverageExporter;
+import org.pitest.coverage.execute.CoverageCache;
 import org.pitest.coverage.execute.CoverageOptions;
 import org.pitest.coverage.export.DefaultCoverageExporter;
 import org.pitest.coverage.export.NullCoverageExporter;
 import org.pitest.functional.FCollection;
 import org.pitest.functional.SideEffect1;
+import org.pitest.mutationtest.HistoryStore;
 import org.pitest.mutationtest.MutationEngineFactory;
 import org.pitest.mutationtest.MutationResultListenerFactory;
 import org.pitest.mutationtest.build.CompoundInterceptorFactory;
+import org.pitest.mutationtest.build.CostBalancedMutationGrouperFactory;
 import org.pitest.mutationtest.build.DefaultMutationGrouperFactory;
 import org.pitest.mutationtest.build.DefaultTestPrioritiserFactory;
+import org.pitest.mutationtest.build.KillHistoryTestPrioritiserFactory;
+import org.pitest.mutationtest.build.KillStatistics;
 import org.pitest.mutationtest.build.MutationGrouperFactory;
 import org.pitest.mutationtest.build.MutationInterceptorFactory;
 import org.pitest.mutationtest.build.TestPrioritiserFactory;
+import org.pitest.mutationtest.incremental.BinaryHistoryStore;
+import org.pitest.mutationtest.incremental.ObjectOutputStreamHistoryStore;
 import org.pitest.plugin.Feature;
 import org.pitest.plugin.FeatureParser;
 import org.pitest.plugin.FeatureSelector;
@@ -29,6 +37,7 @@ import org.pitest.plugin.ProvidesFeature;
 import org.pitest.process.DefaultJavaExecutableLocator;
 import org.pitest.process.JavaExecutableLocator;
 import org.pitest.process.KnownLocationJavaExecutableLocator;
+import org.pitest.util.MinionTransport;
 import org.pitest.util.PitError;
 import org.pitest.util.ResultOutputStrategy;
 import org.pitest.util.StringUtil;
@@ -66,6 +75,41 @@ public class SettingsFactory {
         + this.options.getMutationEngine());
   }
 
+  public HistoryStore createHistoryStore() {
+    final String format = this.options.getHistoryFormat();
+    if ("binary".equalsIgnoreCase(format)) {
+      return new BinaryHistoryStore(
+          Optional.ofNullable(this.options.getHistoryInputLocation()),
+          Optional.ofNullable(this.options.getHistoryOutputLocation()));
+    }
+    if ("text".equalsIgnoreCase(format)) {
+      return new ObjectOutputStreamHistoryStore(
+          this.options.createHistoryWriter(),
+          this.options.createHistoryReader());
+    }
+    throw new PitError("Unknown history format " + format
+        + ". Supported formats are text and binary");
+  }
+
+  public CoverageCache createCoverageCache() {
+    if (!this.options.isUseCoverageCache()) {
+      return CoverageCache.none();
+    }
+    return CoverageCache.forHistory(this.options.getHistoryInputLocation(),
+        this.options.getHistoryOutputLocation(), createCoverageOptions());
+  }
+
+  public MinionTransport getMinionTransport() {
+    final String transport = this.options.getMinionTransport();
+    for (final MinionTransport each : MinionTransport.values()) {
+      if (each.name().equalsIgnoreCase(transport)) {
+        return each;
+      }
+    }
+    throw new PitError("Unknown minion transport " + transport
+        + ". Supported transports are socket and pipe");
+  }
+
   public MutationResultListenerFactory createListener() {
     return new CompoundListenerFactory(findListeners());
   }
@@ -81,6 +125,9 @@ public class SettingsFactory {
   public MutationGrouperFactory getMutationGrouper() {
     final Collection<? extends MutationGrouperFactory> groupers = this.plugins
         .findGroupers();
+    if (this.options.useCostBalancedGrouping()) {
+      return firstOrDefault(groupers, new CostBalancedMutationGrouperFactory());
+    }
     return firstOrDefault(groupers, new DefaultMutationGrouperFactory());
   }
 
@@ -109,6 +156,22 @@ public class SettingsFactory {
     return firstOrDefault(testPickers, new DefaultTestPrioritiserFactory());
   }
 
+  /**
+   * @param statistics
+   *          kill statistics from previous runs, used if tests are to be
+   *          prioritised by kill history and no prioritiser plugin is present
+   */
+  public TestPrioritiserFactory getTestPrioritiser(
+      final KillStatistics statistics) {
+    if (!this.options.prioritiseByKillHistory()) {
+      return getTestPrioritiser();
+    }
+    final Collection<? extends TestPrioritiserFactory> testPickers = this.plugins
+        .findTestPrioritisers();
+    return firstOrDefault(testPickers, new KillHistoryTestPrioritiserFactory(
+        statistics));
+  }
+
   public CoverageOptions createCoverageOptions() {
     return new CoverageOptions(
         this.options.getTargetClasses(), this.options.getExcludedClasses(),
@@ -0,0 +1,48 @@
+package org.pitest.mutationtest.execute;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.function.Supplier;
+
+/**
+ * Keeps up to a fixed number of idle minions alive so that the cost of
+ * launching a jvm is paid once per thread rather than once per unit.
+ */
+public class MinionPool {
+
+  private final BlockingQueue<PooledMinion> idle;
+  private final Supplier<PooledMinion>      factory;
+
+  public MinionPool(final int size, final Supplier<PooledMinion> factory) {
+    this.idle = new ArrayBlockingQueue<>(Math.max(1, size));
+    this.factory = factory;
+  }
+
+  public PooledMinion acquire() throws IOException {
+    final PooledMinion minion = this.idle.poll();
+    if (minion != null) {
+      return minion;
+    }
+    final PooledMinion newMinion = this.factory.get();
+    newMinion.start();
+    return newMinion;
+  }
+
+  public void release(final PooledMinion minion) {
+    if (!minion.isAlive() || !this.idle.offer(minion)) {
+      minion.destroy();
+    }
+  }
+
+  public void shutdown() {
+    final List<PooledMinion> minions = new ArrayList<>();
+    this.idle.drainTo(minions);
+    for (final PooledMinion each : minions) {
+      each.destroy();
+    }
+  }
+
+}
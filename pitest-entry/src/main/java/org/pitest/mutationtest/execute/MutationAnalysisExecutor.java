@@ -1,8 +1,12 @@
 package org.pitest.mutationtest.execute;
 
-import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletionService;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
 import java.util.concurrent.LinkedBlockingQueue;
@@ -24,10 +28,28 @@ public class MutationAnalysisExecutor {
 
   private final List<MutationResultListener> listeners;
   private final ThreadPoolExecutor           executor;
+  private final int                          maxInFlight;
+  private final boolean                      inSubmissionOrder;
 
   public MutationAnalysisExecutor(int numberOfThreads,
       List<MutationResultListener> listeners) {
+    this(numberOfThreads, listeners, false);
+  }
+
+  /**
+   * @param inSubmissionOrder
+   *          pass results to the listeners in the order the units were
+   *          submitted, rather than as they complete, so that reports do not
+   *          depend on the timing of the run. Results of units that complete
+   *          early are held until those submitted before them are done.
+   */
+  public MutationAnalysisExecutor(int numberOfThreads,
+      List<MutationResultListener> listeners, boolean inSubmissionOrder) {
     this.listeners = listeners;
+    this.inSubmissionOrder = inSubmissionOrder;
+    // enough queued work to keep every thread busy while results are being
+    // handed to the listeners, without holding results for the whole run
+    this.maxInFlight = numberOfThreads * 2;
     this.executor = new ThreadPoolExecutor(numberOfThreads, numberOfThreads,
         10, TimeUnit.SECONDS, new LinkedBlockingQueue<Runnable>(),
         Executors.defaultThreadFactory());
@@ -38,39 +60,99 @@ public class MutationAnalysisExecutor {
 
     LOG.fine("Running " + testUnits.size() + " units");
 
-    signalRunStartToAllListeners();
+    run(testUnits.iterator());
+  }
 
-    final List<Future<MutationMetaData>> results = new ArrayList<>(
-        testUnits.size());
+  /**
+   * Runs units as they are taken from the iterator, which may block while
+   * more units are created.
+   */
+  public void run(final Iterator<MutationAnalysisUnit> testUnits) {
 
-    for (final MutationAnalysisUnit unit : testUnits) {
-      results.add(this.executor.submit(unit));
-    }
+    signalRunStartToAllListeners();
 
-    this.executor.shutdown();
+    final CompletionService<MutationMetaData> results = new ExecutorCompletionService<>(
+        this.executor);
 
     try {
-      processResult(results);
+      processUnits(testUnits, results);
     } catch (final InterruptedException e) {
       throw Unchecked.translateCheckedException(e);
     } catch (final ExecutionException e) {
       throw Unchecked.translateCheckedException(e);
+    } finally {
+      this.executor.shutdown();
     }
 
     signalRunEndToAllListeners();
 
   }
 
-  private void processResult(List<Future<MutationMetaData>> results)
+  // units are submitted in priority order, and unless asked to keep that
+  // order results are passed on in the order they complete. Once maxInFlight
+  // units are running no more are submitted until one has completed.
+  private void processUnits(final Iterator<MutationAnalysisUnit> testUnits,
+      final CompletionService<MutationMetaData> results)
       throws InterruptedException, ExecutionException {
-    for (final Future<MutationMetaData> f : results) {
-      final MutationMetaData r = f.get();
-      for (final MutationResultListener l : this.listeners) {
-        for (final ClassMutationResults cr : r.toClassResults()) {
-          l.handleMutationResult(cr);
-        }
+    final Delivery delivery = new Delivery();
+    int outstanding = 0;
+    while (testUnits.hasNext()) {
+      final MutationAnalysisUnit unit = testUnits.next();
+      if (outstanding == this.maxInFlight) {
+        delivery.completed(results.take());
+        outstanding--;
+      }
+      delivery.submitted(results.submit(unit));
+      outstanding++;
+    }
+
+    while (outstanding != 0) {
+      delivery.completed(results.take());
+      outstanding--;
+    }
+  }
+
+  private void processResult(final MutationMetaData r) {
+    for (final MutationResultListener l : this.listeners) {
+      for (final ClassMutationResults cr : r.toClassResults()) {
+        l.handleMutationResult(cr);
+      }
+    }
+  }
+
+  /**
+   * Passes completed results to the listeners, holding them back if they must
+   * be delivered in submission order.
+   */
+  private final class Delivery {
+
+    private final Map<Future<MutationMetaData>, Integer> indexes = new HashMap<>();
+    private final Map<Integer, MutationMetaData>         held    = new HashMap<>();
+    private int                                          submitted;
+    private int                                          next;
+
+    void submitted(final Future<MutationMetaData> unit) {
+      if (MutationAnalysisExecutor.this.inSubmissionOrder) {
+        this.indexes.put(unit, this.submitted);
+        this.submitted++;
       }
     }
+
+    void completed(final Future<MutationMetaData> unit)
+        throws InterruptedException, ExecutionException {
+      if (!MutationAnalysisExecutor.this.inSubmissionOrder) {
+        processResult(unit.get());
+        return;
+      }
+      this.held.put(this.indexes.remove(unit), unit.get());
+      MutationMetaData result = this.held.remove(this.next);
+      while (result != null) {
+        processResult(result);
+        this.next++;
+        result = this.held.remove(this.next);
+      }
+    }
+
   }
 
   private void signalRunStartToAllListeners() {
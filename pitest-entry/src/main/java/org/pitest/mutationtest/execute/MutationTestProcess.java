@@ -1,52 +1,91 @@
 package org.pitest.mutationtest.execute;
 
 import java.io.IOException;
-import java.net.ServerSocket;
 import java.util.HashMap;
+import java.util.Map;
+import java.util.logging.Logger;
 
+import org.pitest.mutationtest.DetectionStatus;
 import org.pitest.mutationtest.MutationStatusMap;
 import org.pitest.mutationtest.MutationStatusTestPair;
-import org.pitest.mutationtest.engine.MutationDetails;
 import org.pitest.mutationtest.engine.MutationIdentifier;
-import org.pitest.process.ProcessArgs;
-import org.pitest.process.WrappingProcess;
 import org.pitest.util.ExitCode;
+import org.pitest.util.Id;
+import org.pitest.util.Log;
+import org.pitest.util.ReceiveStrategy;
+import org.pitest.util.SafeDataInputStream;
 
 public class MutationTestProcess {
 
-  private final WrappingProcess                 process;
-  private final MutationTestCommunicationThread thread;
+  private static final Logger LOG = Log.getLogger();
 
-  public MutationTestProcess(final ServerSocket socket,
-      final ProcessArgs processArgs, final MinionArguments arguments) {
-    this.process = new WrappingProcess(socket.getLocalPort(), processArgs,
-        MutationTestMinion.class);
-    this.thread = new MutationTestCommunicationThread(socket, arguments,
-        new HashMap<MutationIdentifier, MutationStatusTestPair>());
+  private final MinionPool                                      pool;
+  private final MinionArguments                                 arguments;
+  private final Map<MutationIdentifier, MutationStatusTestPair> idMap = new HashMap<>();
 
+  private PooledMinion                                          minion;
+
+  public MutationTestProcess(final MinionPool pool,
+      final MinionArguments arguments) {
+    this.pool = pool;
+    this.arguments = arguments;
   }
 
   public void start() throws IOException, InterruptedException {
-    this.thread.start();
-    this.process.start();
+    this.minion = this.pool.acquire();
   }
 
   public void results(final MutationStatusMap allmutations) throws IOException {
 
-    for (final MutationDetails each : allmutations.allMutations()) {
-      final MutationStatusTestPair status = this.thread.getStatus(each.getId());
-      if (status != null) {
-        allmutations.setStatusForMutation(each, status);
-      }
+    for (final Map.Entry<MutationIdentifier, MutationStatusTestPair> each : this.idMap
+        .entrySet()) {
+      allmutations.setStatusForMutation(each.getKey(), each.getValue());
     }
 
   }
 
   public ExitCode waitToDie() {
     try {
-      return this.thread.waitToFinish();
+      return this.minion.run(this.arguments, new Receive(this.idMap));
     } finally {
-      this.process.destroy();
+      this.pool.release(this.minion);
+    }
+
+  }
+
+  private static class Receive implements ReceiveStrategy {
+
+    private final Map<MutationIdentifier, MutationStatusTestPair> idMap;
+
+    Receive(final Map<MutationIdentifier, MutationStatusTestPair> idMap) {
+      this.idMap = idMap;
+    }
+
+    @Override
+    public void apply(final byte control, final SafeDataInputStream is) {
+      switch (control) {
+      case Id.DESCRIBE:
+        handleDescribe(is);
+        break;
+      case Id.REPORT:
+        handleReport(is);
+        break;
+      }
+    }
+
+    private void handleReport(final SafeDataInputStream is) {
+      final MutationIdentifier mutation = MutationResultCodec
+          .readIdentifier(is);
+      final MutationStatusTestPair value = MutationResultCodec.readStatus(is);
+      this.idMap.put(mutation, value);
+      LOG.fine(mutation + " " + value);
+    }
+
+    private void handleDescribe(final SafeDataInputStream is) {
+      final MutationIdentifier mutation = MutationResultCodec
+          .readIdentifier(is);
+      this.idMap.put(mutation, new MutationStatusTestPair(1,
+          DetectionStatus.STARTED));
     }
 
   }
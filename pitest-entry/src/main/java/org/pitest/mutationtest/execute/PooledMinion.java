@@ -0,0 +1,109 @@
+package org.pitest.mutationtest.execute;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import org.pitest.process.ProcessArgs;
+import org.pitest.process.WrappingProcess;
+import org.pitest.util.ExitCode;
+import org.pitest.util.Id;
+import org.pitest.util.Log;
+import org.pitest.util.MinionChannel;
+import org.pitest.util.MinionConnection;
+import org.pitest.util.ReceiveStrategy;
+import org.pitest.util.SafeDataInputStream;
+import org.pitest.util.SafeDataOutputStream;
+
+/**
+ * A mutation test minion that stays alive between batches of mutations. The
+ * connection is established once, after which any number of
+ * {@link MinionArguments} may be sent down it. A minion that exits for any
+ * reason (timeout, memory, error) is marked as dead and must not be reused.
+ */
+public class PooledMinion {
+
+  private static final Logger   LOG   = Log.getLogger();
+
+  private final MinionChannel   channel;
+  private final WrappingProcess process;
+
+  private MinionConnection      connection;
+  private SafeDataInputStream   is;
+  private SafeDataOutputStream  os;
+  private boolean               alive = true;
+
+  public PooledMinion(final MinionChannel channel,
+      final ProcessArgs processArgs) {
+    this.channel = channel;
+    this.process = new WrappingProcess(channel, processArgs,
+        MutationTestMinion.class);
+  }
+
+  public void start() throws IOException {
+    this.process.start();
+    try {
+      this.connection = this.channel.accept();
+    } finally {
+      this.channel.close();
+    }
+    this.is = new SafeDataInputStream(new BufferedInputStream(
+        this.connection.getInputStream()));
+    this.os = new SafeDataOutputStream(new BufferedOutputStream(
+        this.connection.getOutputStream()));
+    this.os.writeProtocolVersion();
+    this.os.flush();
+  }
+
+  public ExitCode run(final MinionArguments arguments,
+      final ReceiveStrategy receive) {
+    try {
+      this.os.writeByte(Id.RUN);
+      this.os.write(arguments);
+      this.os.flush();
+      return receiveResults(receive);
+    } catch (final RuntimeException e) {
+      LOG.log(Level.WARNING, "Error while communicating with minion", e);
+      this.alive = false;
+      return ExitCode.UNKNOWN_ERROR;
+    }
+  }
+
+  public boolean isAlive() {
+    return this.alive && this.process.getProcess().isAlive();
+  }
+
+  public void destroy() {
+    try {
+      if (this.alive && (this.os != null)) {
+        this.os.writeByte(Id.DONE);
+        this.os.flush();
+      }
+      if (this.connection != null) {
+        this.connection.close();
+      }
+    } catch (final IOException | RuntimeException e) {
+      LOG.log(Level.FINE, "Error while closing minion connection", e);
+    } finally {
+      this.alive = false;
+      this.process.destroy();
+    }
+  }
+
+  private ExitCode receiveResults(final ReceiveStrategy receive) {
+    byte control = this.is.readByte();
+    while (control != Id.BATCH_DONE) {
+      if (control == Id.DONE) {
+        // minion has given up and will not accept any more work
+        this.alive = false;
+        return ExitCode.fromCode(this.is.readInt());
+      }
+      receive.apply(control, this.is);
+      control = this.is.readByte();
+    }
+    return ExitCode.OK;
+  }
+
+}
@@ -0,0 +1,450 @@
+package org.pitest.mutationtest.incremental;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Optional;
+import java.util.Set;
+import java.util.logging.Logger;
+
+import org.pitest.classinfo.ClassIdentifier;
+import org.pitest.classinfo.ClassName;
+import org.pitest.classinfo.HierarchicalClassId;
+import org.pitest.coverage.CoverageDatabase;
+import org.pitest.mutationtest.ClassHistory;
+import org.pitest.mutationtest.HistoryStore;
+import org.pitest.mutationtest.MutationResult;
+import org.pitest.mutationtest.MutationStatusTestPair;
+import org.pitest.mutationtest.engine.MutationIdentifier;
+import org.pitest.mutationtest.execute.MutationResultCodec;
+import org.pitest.util.Log;
+import org.pitest.util.SafeDataInputStream;
+import org.pitest.util.SafeDataOutputStream;
+import org.pitest.util.Unchecked;
+
+/**
+ * History store that writes length prefixed binary records through a buffer.
+ *
+ * When the history is read only the class path is decoded up front. Results
+ * are located through an index of identifier hashes to file offsets, and each
+ * is decoded when it is looked up.
+ *
+ * Files written by {@link ObjectOutputStreamHistoryStore} are recognised and
+ * read in full, so switching format migrates the history on the next run.
+ */
+public class BinaryHistoryStore implements HistoryStore {
+
+  private static final Logger LOG                = Log.getLogger();
+
+  static final int            MAGIC              = 0x50495448;
+  static final int            VERSION            = 1;
+
+  private static final byte   CLASS              = 1;
+  private static final byte   RESULT             = 2;
+
+  private static final int    HEADER_SIZE        = 8;
+  // type, length and identifier hash
+  private static final int    RECORD_HEADER_SIZE = 9;
+
+  private final Optional<File>                                  input;
+  private final Optional<File>                                  output;
+
+  private Map<MutationIdentifier, MutationStatusTestPair>       previousResults   = Collections
+      .emptyMap();
+  private final Map<ClassName, ClassHistory>                    previousClassPath = new HashMap<>();
+
+  private FileChannel                                           channel;
+  private DataOutputStream                                      os;
+  private File                                                  writingTo;
+
+  public BinaryHistoryStore(final Optional<File> input,
+      final Optional<File> output) {
+    this.input = input;
+    this.output = output;
+  }
+
+  @Override
+  public void initialize() {
+    if (!this.input.isPresent() || !this.input.get().exists()
+        || (this.input.get().length() == 0)) {
+      return;
+    }
+
+    try {
+      if (isBinaryHistory(this.input.get())) {
+        restore(this.input.get());
+      } else {
+        LOG.info("Migrating history in " + this.input.get()
+            + " to binary format");
+        migrate(this.input.get());
+      }
+    } catch (final IOException e) {
+      LOG.warning("Could not read previous history " + e.getMessage());
+    }
+  }
+
+  @Override
+  public void recordClassPath(final Collection<HierarchicalClassId> ids,
+      final CoverageDatabase coverageInfo) {
+    for (final HierarchicalClassId each : ids) {
+      final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+      writeClass(new SafeDataOutputStream(bytes), new ClassHistory(each,
+          coverageInfo.getCoverageIdForClass(each.getName()).toString(16)));
+      write(CLASS, 0, bytes.toByteArray());
+    }
+  }
+
+  @Override
+  public void recordResult(final MutationResult result) {
+    final MutationIdentifier id = result.getDetails().getId();
+    final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    final SafeDataOutputStream record = new SafeDataOutputStream(bytes);
+    MutationResultCodec.writeIdentifier(record, id);
+    MutationResultCodec.writeStatus(record, result.getStatusTestPair());
+    write(RESULT, id.hashCode(), bytes.toByteArray());
+  }
+
+  @Override
+  public Map<MutationIdentifier, MutationStatusTestPair> getHistoricResults() {
+    return this.previousResults;
+  }
+
+  @Override
+  public Map<ClassName, ClassHistory> getHistoricClassPath() {
+    return this.previousClassPath;
+  }
+
+  @Override
+  public void close() {
+    try {
+      if (this.channel != null) {
+        this.channel.close();
+      }
+      if (this.os != null) {
+        this.os.close();
+        if (!this.writingTo.equals(this.output.get())) {
+          Files.move(this.writingTo.toPath(), this.output.get().toPath(),
+              StandardCopyOption.REPLACE_EXISTING);
+        }
+      }
+    } catch (final IOException e) {
+      throw Unchecked.translateCheckedException(e);
+    }
+  }
+
+  static boolean isBinaryHistory(final File file) throws IOException {
+    if (file.length() < HEADER_SIZE) {
+      return false;
+    }
+    try (DataInputStream is = new DataInputStream(new FileInputStream(file))) {
+      return is.readInt() == MAGIC;
+    }
+  }
+
+  private void write(final byte type, final int hash, final byte[] record) {
+    if (!this.output.isPresent()) {
+      return;
+    }
+    try {
+      if (this.os == null) {
+        this.os = openOutput();
+      }
+      this.os.writeByte(type);
+      this.os.writeInt(record.length);
+      this.os.writeInt(hash);
+      this.os.write(record);
+    } catch (final IOException e) {
+      throw Unchecked.translateCheckedException(e);
+    }
+  }
+
+  private DataOutputStream openOutput() throws IOException {
+    final File file = this.output.get();
+    if (file.getParentFile() != null) {
+      file.getParentFile().mkdirs();
+    }
+    // the history being written is often the one still being read from, so
+    // write alongside it and replace it on close
+    this.writingTo = isBeingRead(file) ? new File(file.getPath() + ".tmp")
+        : file;
+    final DataOutputStream dos = new DataOutputStream(new BufferedOutputStream(
+        new FileOutputStream(this.writingTo), 64 * 1024));
+    dos.writeInt(MAGIC);
+    dos.writeInt(VERSION);
+    return dos;
+  }
+
+  private boolean isBeingRead(final File file) throws IOException {
+    return (this.channel != null)
+        && file.getCanonicalFile().equals(this.input.get().getCanonicalFile());
+  }
+
+  private void restore(final File file) throws IOException {
+    final IndexBuilder index = new IndexBuilder();
+    try (DataInputStream is = new DataInputStream(new BufferedInputStream(
+        new FileInputStream(file), 64 * 1024))) {
+      is.readInt();
+      final int version = is.readInt();
+      if (version != VERSION) {
+        LOG.warning("Ignoring history written in unsupported format "
+            + version);
+        return;
+      }
+      final long fileLength = file.length();
+      long offset = HEADER_SIZE;
+      try {
+        while (true) {
+          final byte type = is.readByte();
+          final int length = is.readInt();
+          final int hash = is.readInt();
+          if ((length < 0) || ((type != CLASS) && (type != RESULT))) {
+            LOG.warning("Ignoring corrupt history after offset " + offset);
+            break;
+          }
+          if ((offset + RECORD_HEADER_SIZE + length) > fileLength) {
+            // the last record of a run that did not complete
+            break;
+          }
+          if (type == CLASS) {
+            final byte[] record = new byte[length];
+            is.readFully(record);
+            final ClassHistory history = readClass(new SafeDataInputStream(
+                new ByteArrayInputStream(record)));
+            this.previousClassPath.put(history.getName(), history);
+          } else {
+            is.skipBytes(length);
+            index.add(hash, offset + RECORD_HEADER_SIZE, length);
+          }
+          offset = offset + RECORD_HEADER_SIZE + length;
+        }
+      } catch (final EOFException e) {
+        // end of history
+      }
+    }
+
+    this.channel = FileChannel.open(file.toPath(), StandardOpenOption.READ);
+    this.previousResults = new IndexedResults(this.channel, index.build());
+  }
+
+  private void migrate(final File file) throws IOException {
+    try (Reader reader = new InputStreamReader(new FileInputStream(file),
+        StandardCharsets.UTF_8)) {
+      final ObjectOutputStreamHistoryStore old = new ObjectOutputStreamHistoryStore(
+          new NullWriterFactory(), Optional.of(reader));
+      old.initialize();
+      this.previousResults = old.getHistoricResults();
+      this.previousClassPath.putAll(old.getHistoricClassPath());
+    }
+  }
+
+  private static void writeClass(final SafeDataOutputStream os,
+      final ClassHistory history) {
+    final HierarchicalClassId id = history.getId();
+    os.writeString(id.getName().asInternalName());
+    os.writeLong(id.getId().getHash());
+    os.writeString(id.getHierarchicalHash());
+    os.writeString(history.getCoverageId());
+  }
+
+  private static ClassHistory readClass(final SafeDataInputStream is) {
+    final ClassName name = ClassName.fromString(is.readString());
+    final long hash = is.readLong();
+    final String hierarchicalHash = is.readString();
+    final String coverageId = is.readString();
+    return new ClassHistory(new HierarchicalClassId(new ClassIdentifier(hash,
+        name), hierarchicalHash), coverageId);
+  }
+
+  /**
+   * Offsets of result records, sorted by the hash of their identifier.
+   */
+  private static class Index {
+
+    private final int[]  hashes;
+    private final long[] offsets;
+    private final int[]  lengths;
+
+    Index(final int[] hashes, final long[] offsets, final int[] lengths) {
+      this.hashes = hashes;
+      this.offsets = offsets;
+      this.lengths = lengths;
+    }
+
+    int size() {
+      return this.hashes.length;
+    }
+
+    int firstWithHash(final int hash) {
+      int i = Arrays.binarySearch(this.hashes, hash);
+      if (i < 0) {
+        return -1;
+      }
+      while ((i > 0) && (this.hashes[i - 1] == hash)) {
+        i--;
+      }
+      return i;
+    }
+
+  }
+
+  private static class IndexBuilder {
+
+    private int[]  hashes  = new int[1024];
+    private long[] offsets = new long[1024];
+    private int[]  lengths = new int[1024];
+    private int    size;
+
+    void add(final int hash, final long offset, final int length) {
+      if (this.size == this.hashes.length) {
+        final int newLength = this.size * 2;
+        this.hashes = Arrays.copyOf(this.hashes, newLength);
+        this.offsets = Arrays.copyOf(this.offsets, newLength);
+        this.lengths = Arrays.copyOf(this.lengths, newLength);
+      }
+      this.hashes[this.size] = hash;
+      this.offsets[this.size] = offset;
+      this.lengths[this.size] = length;
+      this.size++;
+    }
+
+    Index build() {
+      // sort by hash, keeping file order for equal hashes so later results
+      // replace earlier ones
+      final Integer[] order = new Integer[this.size];
+      for (int i = 0; i != this.size; i++) {
+        order[i] = i;
+      }
+      Arrays.sort(order, (a, b) -> Integer.compare(this.hashes[a],
+          this.hashes[b]));
+      final int[] sortedHashes = new int[this.size];
+      final long[] sortedOffsets = new long[this.size];
+      final int[] sortedLengths = new int[this.size];
+      for (int i = 0; i != this.size; i++) {
+        sortedHashes[i] = this.hashes[order[i]];
+        sortedOffsets[i] = this.offsets[order[i]];
+        sortedLengths[i] = this.lengths[order[i]];
+      }
+      return new Index(sortedHashes, sortedOffsets, sortedLengths);
+    }
+
+  }
+
+  /**
+   * Read only view of the results in a history file, decoded on access.
+   */
+  private static class IndexedResults extends
+      AbstractMap<MutationIdentifier, MutationStatusTestPair> {
+
+    private final FileChannel channel;
+    private final Index       index;
+
+    IndexedResults(final FileChannel channel, final Index index) {
+      this.channel = channel;
+      this.index = index;
+    }
+
+    @Override
+    public MutationStatusTestPair get(final Object key) {
+      if (!(key instanceof MutationIdentifier)) {
+        return null;
+      }
+      final int hash = key.hashCode();
+      final int first = this.index.firstWithHash(hash);
+      if (first == -1) {
+        return null;
+      }
+      MutationStatusTestPair found = null;
+      for (int i = first; (i != this.index.size())
+          && (this.index.hashes[i] == hash); i++) {
+        final SafeDataInputStream record = read(i);
+        if (key.equals(MutationResultCodec.readIdentifier(record))) {
+          found = MutationResultCodec.readStatus(record);
+        }
+      }
+      return found;
+    }
+
+    @Override
+    public boolean containsKey(final Object key) {
+      return get(key) != null;
+    }
+
+    @Override
+    public Set<Entry<MutationIdentifier, MutationStatusTestPair>> entrySet() {
+      return new AbstractSet<Entry<MutationIdentifier, MutationStatusTestPair>>() {
+        @Override
+        public Iterator<Entry<MutationIdentifier, MutationStatusTestPair>> iterator() {
+          return new Iterator<Entry<MutationIdentifier, MutationStatusTestPair>>() {
+            private int next = 0;
+
+            @Override
+            public boolean hasNext() {
+              return this.next != IndexedResults.this.index.size();
+            }
+
+            @Override
+            public Entry<MutationIdentifier, MutationStatusTestPair> next() {
+              if (!hasNext()) {
+                throw new NoSuchElementException();
+              }
+              final SafeDataInputStream record = read(this.next++);
+              return new SimpleImmutableEntry<>(
+                  MutationResultCodec.readIdentifier(record),
+                  MutationResultCodec.readStatus(record));
+            }
+          };
+        }
+
+        @Override
+        public int size() {
+          return IndexedResults.this.index.size();
+        }
+      };
+    }
+
+    private SafeDataInputStream read(final int entry) {
+      final ByteBuffer buffer = ByteBuffer
+          .allocate(this.index.lengths[entry]);
+      long position = this.index.offsets[entry];
+      try {
+        while (buffer.hasRemaining()) {
+          final int read = this.channel.read(buffer, position);
+          if (read < 0) {
+            throw new EOFException();
+          }
+          position = position + read;
+        }
+      } catch (final IOException e) {
+        throw Unchecked.translateCheckedException(e);
+      }
+      return new SafeDataInputStream(new ByteArrayInputStream(buffer.array()));
+    }
+
+  }
+
+}
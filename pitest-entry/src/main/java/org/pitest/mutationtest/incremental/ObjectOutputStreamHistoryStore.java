@@ -80,6 +80,11 @@ public class ObjectOutputStreamHistoryStore implements HistoryStore {
     return this.previousClassPath;
   }
 
+  @Override
+  public void close() {
+    this.outputFactory.close();
+  }
+
   @Override
   public void initialize() {
     if (this.input != null) {
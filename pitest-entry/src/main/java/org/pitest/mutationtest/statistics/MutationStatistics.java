@@ -24,13 +24,23 @@ public final class MutationStatistics {
   private final long totalMutations;
   private final long numberOfTestsRun;
   private final long totalDetected;
+  private final long totalKilled;
+  private final long testsRunToKill;
 
   public MutationStatistics(Iterable<Score> scores, long totalMutations,
       long totalDetected, long numberOfTestsRun) {
+    this(scores, totalMutations, totalDetected, numberOfTestsRun, 0, 0);
+  }
+
+  public MutationStatistics(Iterable<Score> scores, long totalMutations,
+      long totalDetected, long numberOfTestsRun, long totalKilled,
+      long testsRunToKill) {
     this.scores = scores;
     this.totalMutations = totalMutations;
     this.totalDetected = totalDetected;
     this.numberOfTestsRun = numberOfTestsRun;
+    this.totalKilled = totalKilled;
+    this.testsRunToKill = testsRunToKill;
   }
 
   public Iterable<Score> getScores() {
@@ -71,6 +81,27 @@ public final class MutationStatistics {
 
   }
 
+  /**
+   * Reports how many tests were run before mutations were killed, which is
+   * only of interest when tests are prioritised by kill history.
+   */
+  public void reportTestsRunToKill(final PrintStream out) {
+    out.println(">> Ran " + this.testsRunToKill
+        + " tests against killed mutations (" + getTestsPerKilledMutation()
+        + " tests per killed mutation)");
+  }
+
+  /**
+   * @return the average number of tests run against a mutation before it was
+   *         killed, which is lower the better tests are prioritised
+   */
+  public double getAverageTestsRunPerKilledMutation() {
+    if (this.totalKilled == 0) {
+      return 0;
+    }
+    return this.testsRunToKill / (double) this.totalKilled;
+  }
+
   private String getTestsPerMutation() {
     if (this.getTotalMutations() == 0) {
       return "0";
@@ -78,8 +109,16 @@ public final class MutationStatistics {
 
     final float testsPerMutation = this.numberOfTestsRun
         / (float) this.getTotalMutations();
+    return format(testsPerMutation);
+  }
+
+  private String getTestsPerKilledMutation() {
+    return format(getAverageTestsRunPerKilledMutation());
+  }
+
+  private static String format(final double value) {
     return new DecimalFormat("#.##", new DecimalFormatSymbols(Locale.ENGLISH))
-        .format(testsPerMutation);
+        .format(value);
   }
 
 }
@@ -8,11 +8,14 @@ import java.util.function.Function;
 
 import org.pitest.functional.FCollection;
 import org.pitest.functional.SideEffect1;
+import org.pitest.mutationtest.DetectionStatus;
 import org.pitest.mutationtest.MutationResult;
 
 class MutationStatisticsPrecursor {
   private final Map<String, ScorePrecursor> mutatorTotalMap  = new HashMap<>();
   private long                              numberOfTestsRun = 0;
+  private long                              numberOfKilled   = 0;
+  private long                              testsRunToKill   = 0;
 
   public void registerResults(final Collection<MutationResult> results) {
     FCollection.forEach(results, register());
@@ -22,6 +25,14 @@ class MutationStatisticsPrecursor {
     return mr -> {
       MutationStatisticsPrecursor.this.numberOfTestsRun = MutationStatisticsPrecursor.this.numberOfTestsRun
           + mr.getNumberOfTestsRun();
+      // kills replayed from history ran no tests, so say nothing about how
+      // quickly tests found the mutant
+      if ((mr.getStatus() == DetectionStatus.KILLED)
+          && (mr.getNumberOfTestsRun() > 0)) {
+        MutationStatisticsPrecursor.this.numberOfKilled++;
+        MutationStatisticsPrecursor.this.testsRunToKill = MutationStatisticsPrecursor.this.testsRunToKill
+            + mr.getNumberOfTestsRun();
+      }
       final String key = mr.getDetails().getId().getMutator();
       ScorePrecursor total = MutationStatisticsPrecursor.this.mutatorTotalMap
           .get(key);
@@ -39,7 +50,7 @@ class MutationStatisticsPrecursor {
     final long totalDetected = FCollection
         .fold(addDetectedTotals(), 0L, scores);
     return new MutationStatistics(scores, totalMutations, totalDetected,
-        this.numberOfTestsRun);
+        this.numberOfTestsRun, this.numberOfKilled, this.testsRunToKill);
   }
 
   Iterable<Score> getScores() {
@@ -2,7 +2,6 @@ package org.pitest.mutationtest.tooling;
 
 import java.io.File;
 import java.io.IOException;
-import java.io.Reader;
 import java.util.Map;
 
 import org.pitest.classpath.ClassPath;
@@ -12,15 +11,12 @@ import org.pitest.classpath.ProjectClassPaths;
 import org.pitest.coverage.CoverageGenerator;
 import org.pitest.coverage.execute.CoverageOptions;
 import org.pitest.coverage.execute.DefaultCoverageGenerator;
-import java.util.Optional;
 import org.pitest.functional.SideEffect1;
 import org.pitest.mutationtest.HistoryStore;
 import org.pitest.mutationtest.MutationResultListenerFactory;
 import org.pitest.mutationtest.config.PluginServices;
 import org.pitest.mutationtest.config.ReportOptions;
 import org.pitest.mutationtest.config.SettingsFactory;
-import org.pitest.mutationtest.incremental.ObjectOutputStreamHistoryStore;
-import org.pitest.mutationtest.incremental.WriterFactory;
 import org.pitest.plugin.Feature;
 import org.pitest.plugin.FeatureParameter;
 import org.pitest.process.JavaAgent;
@@ -78,9 +74,6 @@ public class EntryPoint {
 
     final ClassPath cp = data.getClassPath();
 
-    final Optional<Reader> reader = data.createHistoryReader();
-    final WriterFactory historyWriter = data.createHistoryWriter();
-
     // workaround for apparent java 1.5 JVM bug . . . might not play nicely
     // with distributed testing
     final JavaAgent jac = new JarCreatingJarFinder(
@@ -97,7 +90,8 @@ public class EntryPoint {
     final CoverageOptions coverageOptions = settings.createCoverageOptions();
     final LaunchOptions launchOptions = new LaunchOptions(ja,
         settings.getJavaExecutable(), data.getJvmArgs(), environmentVariables)
-        .usingClassPathJar(data.useClasspathJar());
+        .usingClassPathJar(data.useClasspathJar())
+        .usingMinionTransport(settings.getMinionTransport());
     final ProjectClassPaths cps = data.getMutationClassPaths();
 
     final CodeSource code = new CodeSource(cps);
@@ -105,9 +99,10 @@ public class EntryPoint {
     final Timings timings = new Timings();
     final CoverageGenerator coverageDatabase = new DefaultCoverageGenerator(
         baseDir, coverageOptions, launchOptions, code,
-        settings.createCoverageExporter(), timings, !data.isVerbose());
+        settings.createCoverageExporter(), timings, !data.isVerbose(),
+        data.getNumberOfThreads(), settings.createCoverageCache());
 
-    final HistoryStore history = new ObjectOutputStreamHistoryStore(historyWriter, reader);
+    final HistoryStore history = settings.createHistoryStore();
 
     final MutationStrategies strategies = new MutationStrategies(
         settings.createEngine(), history, coverageDatabase, reportFactory,
@@ -123,7 +118,9 @@ public class EntryPoint {
     } finally {
       jac.close();
       ja.close();
-      historyWriter.close();
+      history.close();
+      cp.close();
+      cps.getClassPath().close();
     }
 
   }
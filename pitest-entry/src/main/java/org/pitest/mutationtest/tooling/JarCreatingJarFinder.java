@@ -31,8 +31,12 @@ import org.pitest.util.FileUtil;
 import org.pitest.util.PitError;
 import org.pitest.util.Unchecked;
 
+import sun.pitest.ActiveMutant;
 import sun.pitest.CodeCoverageStore;
 import sun.pitest.InvokeReceiver;
+import sun.pitest.MutantTimedOutError;
+import sun.pitest.ProbeHitsReceiver;
+import sun.pitest.TimeoutBudget;
 
 public class JarCreatingJarFinder implements JavaAgent {
 
@@ -98,6 +102,10 @@ public class JarCreatingJarFinder implements JavaAgent {
       addClass(HotSwapAgent.class, jos);
       addClass(CodeCoverageStore.class, jos);
       addClass(InvokeReceiver.class, jos);
+      addClass(ProbeHitsReceiver.class, jos);
+      addClass(ActiveMutant.class, jos);
+      addClass(TimeoutBudget.class, jos);
+      addClass(MutantTimedOutError.class, jos);
     }
   }
 
@@ -19,10 +19,12 @@ import java.io.IOException;
 import java.io.PrintStream;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.Supplier;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -45,11 +47,15 @@ import org.pitest.mutationtest.ListenerArguments;
 import org.pitest.mutationtest.MutationAnalyser;
 import org.pitest.mutationtest.MutationConfig;
 import org.pitest.mutationtest.MutationResultListener;
+import org.pitest.mutationtest.build.CompoundInterceptorFactory;
+import org.pitest.mutationtest.build.KillStatistics;
+import org.pitest.mutationtest.build.KillStatisticsListener;
 import org.pitest.mutationtest.build.MutationAnalysisUnit;
 import org.pitest.mutationtest.build.MutationGrouper;
 import org.pitest.mutationtest.build.MutationInterceptor;
 import org.pitest.mutationtest.build.MutationSource;
 import org.pitest.mutationtest.build.MutationTestBuilder;
+import org.pitest.mutationtest.build.MutationTestUnitPipeline;
 import org.pitest.mutationtest.build.PercentAndConstantTimeoutStrategy;
 import org.pitest.mutationtest.build.TestPrioritiser;
 import org.pitest.mutationtest.build.WorkerFactory;
@@ -121,19 +127,52 @@ public class MutationCoverage {
 
     final MutationStatisticsListener stats = new MutationStatisticsListener();
 
+    // tests are prioritised using only the statistics of previous runs, so
+    // that the order does not depend on which units of this run finish first
+    final KillStatistics previousKillStatistics = killStatistics();
+    final KillStatistics killStatistics = previousKillStatistics.copy();
+
     final EngineArguments args = EngineArguments.arguments()
         .withExcludedMethods(this.data.getExcludedMethods())
-        .withMutators(this.data.getMutators());
+        .withMutators(this.data.getMutators())
+        .withMutantSchemata(this.data.useMutantSchemata())
+        .withCooperativeTimeouts(this.data.useCooperativeTimeouts());
     final MutationEngine engine = this.strategies.factory().createEngine(args);
 
     final List<MutationResultListener> config = createConfig(t0, coverageData,
-        stats, engine);
+        stats, killStatistics, engine);
 
     history().initialize();
 
+    final MutationConfig mutationConfig = new MutationConfig(engine, coverage()
+        .getLaunchOptions());
+
+    final WorkerFactory wf = createWorkerFactory(mutationConfig, args);
+
     this.timings.registerStart(Timings.Stage.BUILD_MUTATION_TESTS);
-    final List<MutationAnalysisUnit> tus = buildMutationTests(coverageData,
-        engine, args);
+    final MutationTestBuilder builder = createMutationTestBuilder(
+        coverageData, mutationConfig, wf, previousKillStatistics);
+
+    if (usePipelinedAnalysis()) {
+      runPipelined(builder, coverageData, config, wf);
+    } else {
+      runAfterBuilding(builder, coverageData, config, wf);
+    }
+
+    LOG.info("Completed in " + timeSpan(t0));
+
+    printStats(stats);
+
+    return new CombinedStatistics(stats.getStatistics(),
+        coverageData.createSummary());
+
+  }
+
+  private void runAfterBuilding(final MutationTestBuilder builder,
+      final CoverageDatabase coverageData,
+      final List<MutationResultListener> config, final WorkerFactory wf) {
+    final List<MutationAnalysisUnit> tus = builder
+        .createMutationTestUnits(this.code.getCodeUnderTestNames());
     this.timings.registerEnd(Timings.Stage.BUILD_MUTATION_TESTS);
 
     LOG.info("Created  " + tus.size() + " mutation test units");
@@ -141,24 +180,70 @@ public class MutationCoverage {
 
     recordClassPath(coverageData);
 
-    LOG.fine("Used memory before analysis start "
-        + ((runtime.totalMemory() - runtime.freeMemory()) / MB) + " mb");
-    LOG.fine("Free Memory before analysis start " + (runtime.freeMemory() / MB)
-        + " mb");
+    logMemoryBeforeAnalysis();
 
     final MutationAnalysisExecutor mae = new MutationAnalysisExecutor(
         numberOfThreads(), config);
     this.timings.registerStart(Timings.Stage.RUN_MUTATION_TESTS);
-    mae.run(tus);
+    try {
+      mae.run(tus);
+    } finally {
+      wf.shutdown();
+    }
     this.timings.registerEnd(Timings.Stage.RUN_MUTATION_TESTS);
+  }
 
-    LOG.info("Completed in " + timeSpan(t0));
+  private void runPipelined(final MutationTestBuilder builder,
+      final CoverageDatabase coverageData,
+      final List<MutationResultListener> config, final WorkerFactory wf) {
+    LOG.info("Mutations will be analysed as they are found");
+    try (MutationTestUnitPipeline tus = builder
+        .streamMutationTestUnits(this.code.getCodeUnderTestNames())) {
+      // mutations are found while the others are analysed, so only the wait
+      // for the first unit is spent purely on building
+      final boolean found = tus.hasNext();
+      this.timings.registerEnd(Timings.Stage.BUILD_MUTATION_TESTS);
+      if (!found) {
+        checkMutationsFound(Collections.<MutationAnalysisUnit> emptyList());
+      }
 
-    printStats(stats);
+      recordClassPath(coverageData);
 
-    return new CombinedStatistics(stats.getStatistics(),
-        coverageData.createSummary());
+      logMemoryBeforeAnalysis();
 
+      // units finish in an order that depends on timing, so results are
+      // reported in the order the units were created
+      final MutationAnalysisExecutor mae = new MutationAnalysisExecutor(
+          numberOfThreads(), config, true);
+      this.timings.registerStart(Timings.Stage.RUN_MUTATION_TESTS);
+      try {
+        mae.run(tus);
+      } finally {
+        wf.shutdown();
+      }
+      this.timings.registerEnd(Timings.Stage.RUN_MUTATION_TESTS);
+    }
+  }
+
+  private boolean usePipelinedAnalysis() {
+    if (!this.data.usePipelinedAnalysis()) {
+      return false;
+    }
+    if (this.data.useCostBalancedGrouping()) {
+      LOG.warning("Cost balanced grouping needs every mutation to be found "
+          + "before any are grouped, so mutations will not be analysed as they "
+          + "are found");
+      return false;
+    }
+    return true;
+  }
+
+  private void logMemoryBeforeAnalysis() {
+    final Runtime runtime = Runtime.getRuntime();
+    LOG.fine("Used memory before analysis start "
+        + ((runtime.totalMemory() - runtime.freeMemory()) / MB) + " mb");
+    LOG.fine("Free Memory before analysis start " + (runtime.freeMemory() / MB)
+        + " mb");
   }
 
   private void checkExcludedRunners() {
@@ -180,7 +265,8 @@ private int numberOfThreads() {
 
   private List<MutationResultListener> createConfig(final long t0,
       final CoverageDatabase coverageData,
-      final MutationStatisticsListener stats, final MutationEngine engine) {
+      final MutationStatisticsListener stats,
+      final KillStatistics killStatistics, final MutationEngine engine) {
     final List<MutationResultListener> ls = new ArrayList<>();
 
     ls.add(stats);
@@ -194,6 +280,10 @@ private int numberOfThreads() {
 
     ls.add(mutationReportListener);
     ls.add(new HistoryListener(history()));
+    if (this.data.prioritiseByKillHistory()) {
+      ls.add(new KillStatisticsListener(killStatistics, KillStatistics
+          .statisticsFileFor(this.data.getHistoryOutputLocation())));
+    }
 
     if (!this.data.isVerbose()) {
       ls.add(new SpinnerListener(System.out));
@@ -201,6 +291,13 @@ private int numberOfThreads() {
     return ls;
   }
 
+  private KillStatistics killStatistics() {
+    if (this.data.prioritiseByKillHistory()) {
+      return KillStatistics.forHistory(this.data.getHistoryInputLocation());
+    }
+    return KillStatistics.empty();
+  }
+
   private void recordClassPath(final CoverageDatabase coverageData) {
     final Set<ClassName> allClassNames = getAllClassesAndTests(coverageData);
     final Collection<HierarchicalClassId> ids = FCollection.map(
@@ -243,42 +340,49 @@ private int numberOfThreads() {
     ps.println("- Statistics");
     ps.println(StringUtil.separatorLine('='));
     stats.getStatistics().report(ps);
+    if (this.data.prioritiseByKillHistory()) {
+      stats.getStatistics().reportTestsRunToKill(ps);
+    }
   }
 
-  private List<MutationAnalysisUnit> buildMutationTests(
-      final CoverageDatabase coverageData, final MutationEngine engine, EngineArguments args) {
+  private WorkerFactory createWorkerFactory(final MutationConfig mutationConfig,
+      final EngineArguments args) {
+    return new WorkerFactory(this.baseDir, coverage()
+        .getConfiguration(), mutationConfig, args,
+        new PercentAndConstantTimeoutStrategy(this.data.getTimeoutFactor(),
+            this.data.getTimeoutConstant()), this.data.isVerbose(), this.data.isFullMutationMatrix(),
+            this.data.getClassPath().getLocalClassPath(), numberOfThreads());
+  }
 
-    final MutationConfig mutationConfig = new MutationConfig(engine, coverage()
-        .getLaunchOptions());
+  private MutationTestBuilder createMutationTestBuilder(
+      final CoverageDatabase coverageData, final MutationConfig mutationConfig,
+      final WorkerFactory wf, final KillStatistics killStatistics) {
 
     final ClassByteArraySource bas = fallbackToClassLoader(new ClassPathByteArraySource(
         this.data.getClassPath()));
 
-    final TestPrioritiser testPrioritiser = this.settings.getTestPrioritiser()
+    final TestPrioritiser testPrioritiser = this.settings.getTestPrioritiser(
+        killStatistics)
         .makeTestPrioritiser(this.data.getFreeFormProperties(), this.code,
             coverageData);
 
-    final MutationInterceptor interceptor = this.settings.getInterceptor()
+    // interceptors hold state while a class is processed, so each discovery
+    // thread is given its own
+    final CompoundInterceptorFactory interceptorFactory = this.settings
+        .getInterceptor();
+    final Supplier<MutationInterceptor> interceptors = () -> interceptorFactory
         .createInterceptor(this.data, bas);
 
-    final MutationSource source = new MutationSource(mutationConfig, testPrioritiser, bas, interceptor);
+    final MutationSource source = new MutationSource(mutationConfig, testPrioritiser, bas, interceptors);
 
     final MutationAnalyser analyser = new IncrementalAnalyser(
         new DefaultCodeHistory(this.code, history()), coverageData);
 
-    final WorkerFactory wf = new WorkerFactory(this.baseDir, coverage()
-        .getConfiguration(), mutationConfig, args,
-        new PercentAndConstantTimeoutStrategy(this.data.getTimeoutFactor(),
-            this.data.getTimeoutConstant()), this.data.isVerbose(), this.data.isFullMutationMatrix(),
-            this.data.getClassPath().getLocalClassPath());
-
     final MutationGrouper grouper = this.settings.getMutationGrouper().makeFactory(
         this.data.getFreeFormProperties(), this.code,
         this.data.getNumberOfThreads(), this.data.getMutationUnitSize());
-    final MutationTestBuilder builder = new MutationTestBuilder(wf, analyser,
-        source, grouper);
-
-    return builder.createMutationTestUnits(this.code.getCodeUnderTestNames());
+    return new MutationTestBuilder(wf, analyser, source, grouper,
+        this.data.getNumberOfThreads());
   }
 
   private void checkMutationsFound(final List<MutationAnalysisUnit> tus) {
@@ -35,19 +35,37 @@ public class JavaProcess {
     this.err.requestStart();
   }
 
+  /**
+   * Monitors only the standard error of a process whose standard output is
+   * used for something else.
+   */
+  public JavaProcess(Process process, SideEffect1<String> syserrHandler) {
+    this.process = process;
+
+    this.out = null;
+    this.err = new StreamMonitor(process.getErrorStream(), syserrHandler);
+
+    this.err.requestStart();
+  }
+
   public void destroy() {
-    this.out.requestStop();
-    this.err.requestStop();
+    stopMonitors();
     this.process.destroy();
   }
 
   public int waitToDie() throws InterruptedException {
     final int exitVal = this.process.waitFor();
-    this.out.requestStop();
-    this.err.requestStop();
+    stopMonitors();
     return exitVal;
   }
 
+  private void stopMonitors() {
+    if (this.out != null) {
+      this.out.requestStop();
+    }
+    this.err.requestStop();
+  }
+
   public boolean isAlive() {
     try {
       this.process.exitValue();
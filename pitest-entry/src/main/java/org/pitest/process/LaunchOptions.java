@@ -19,6 +19,8 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
+import org.pitest.util.MinionTransport;
+
 public class LaunchOptions {
 
   private final JavaAgent             javaAgentFinder;
@@ -26,6 +28,7 @@ public class LaunchOptions {
   private final JavaExecutableLocator javaExecutable;
   private final Map<String, String>   environmentVariables;
   private final boolean               usingClassPathJar;
+  private final MinionTransport       minionTransport;
 
   public LaunchOptions(JavaAgent javaAgentFinder) {
     this(javaAgentFinder, new DefaultJavaExecutableLocator(), Collections
@@ -41,11 +44,20 @@ public class LaunchOptions {
   public LaunchOptions(JavaAgent javaAgentFinder,
       JavaExecutableLocator javaExecutable, List<String> childJVMArgs,
       Map<String, String> environmentVariables, boolean usingClassPathJar) {
+    this(javaAgentFinder, javaExecutable, childJVMArgs, environmentVariables,
+        usingClassPathJar, MinionTransport.SOCKET);
+  }
+
+  public LaunchOptions(JavaAgent javaAgentFinder,
+      JavaExecutableLocator javaExecutable, List<String> childJVMArgs,
+      Map<String, String> environmentVariables, boolean usingClassPathJar,
+      MinionTransport minionTransport) {
     this.javaAgentFinder = javaAgentFinder;
     this.childJVMArgs = childJVMArgs;
     this.javaExecutable = javaExecutable;
     this.environmentVariables = environmentVariables;
     this.usingClassPathJar = usingClassPathJar;
+    this.minionTransport = minionTransport;
   }
 
   public JavaAgent getJavaAgentFinder() {
@@ -65,10 +77,18 @@ public class LaunchOptions {
   }
 
   public LaunchOptions usingClassPathJar(boolean useJar) {
-    return new LaunchOptions(javaAgentFinder, javaExecutable, childJVMArgs, environmentVariables, useJar);
+    return new LaunchOptions(javaAgentFinder, javaExecutable, childJVMArgs, environmentVariables, useJar, minionTransport);
   }
   
   public boolean useClasspathJar() {
     return usingClassPathJar;
   }
+
+  public LaunchOptions usingMinionTransport(MinionTransport transport) {
+    return new LaunchOptions(javaAgentFinder, javaExecutable, childJVMArgs, environmentVariables, usingClassPathJar, transport);
+  }
+
+  public MinionTransport getMinionTransport() {
+    return minionTransport;
+  }
 }
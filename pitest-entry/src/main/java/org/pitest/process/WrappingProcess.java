@@ -15,23 +15,25 @@ import java.util.function.Predicate;
 
 import org.pitest.functional.FCollection;
 import org.pitest.util.ManifestUtils;
+import org.pitest.util.MinionChannel;
 
 public class WrappingProcess {
 
-  private final int         port;
-  private final ProcessArgs processArgs;
-  private final Class<?>    minionClass;
+  private final MinionChannel channel;
+  private final ProcessArgs   processArgs;
+  private final Class<?>      minionClass;
 
-  private JavaProcess       process;
+  private JavaProcess         process;
 
-  public WrappingProcess(int port, ProcessArgs args, Class<?> minionClass) {
-    this.port = port;
+  public WrappingProcess(MinionChannel channel, ProcessArgs args,
+      Class<?> minionClass) {
+    this.channel = channel;
     this.processArgs = args;
     this.minionClass = minionClass;
   }
 
   public void start() throws IOException {
-    final String[] args = { "" + this.port };
+    final String[] args = { this.channel.address() };
 
     final ProcessBuilder processBuilder = createProcessBuilder(
         this.processArgs.getJavaExecutable(), this.processArgs.getJvmArgs(),
@@ -46,8 +48,13 @@ public class WrappingProcess {
         this.processArgs.getEnvironmentVariables());
 
     final Process process = processBuilder.start();
-    this.process = new JavaProcess(process, this.processArgs.getStdout(),
-        this.processArgs.getStdErr());
+    if (this.channel.usesStandardStreams()) {
+      this.process = new JavaProcess(process, this.processArgs.getStdErr());
+    } else {
+      this.process = new JavaProcess(process, this.processArgs.getStdout(),
+          this.processArgs.getStdErr());
+    }
+    this.channel.launched(process);
   }
 
   
@@ -15,7 +15,6 @@
 package org.pitest.util;
 
 import java.io.IOException;
-import java.net.ServerSocket;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.FutureTask;
 import java.util.logging.Level;
@@ -29,13 +28,13 @@ public class CommunicationThread {
 
   private final SideEffect1<SafeDataOutputStream> sendInitialData;
   private final ReceiveStrategy                   receive;
-  private final ServerSocket                      socket;
+  private final MinionChannel                     channel;
   private FutureTask<ExitCode>                    future;
 
-  public CommunicationThread(final ServerSocket socket,
+  public CommunicationThread(final MinionChannel channel,
       final SideEffect1<SafeDataOutputStream> sendInitialData,
       final ReceiveStrategy receive) {
-    this.socket = socket;
+    this.channel = channel;
     this.sendInitialData = sendInitialData;
     this.receive = receive;
   }
@@ -46,7 +45,7 @@ public class CommunicationThread {
 
   private FutureTask<ExitCode> createFuture() {
     final FutureTask<ExitCode> newFuture = new FutureTask<>(
-        new SocketReadingCallable(this.socket, this.sendInitialData,
+        new SocketReadingCallable(this.channel, this.sendInitialData,
             this.receive));
     final Thread thread = new Thread(newFuture);
     thread.setDaemon(true);
@@ -0,0 +1,33 @@
+package org.pitest.util;
+
+import java.io.Closeable;
+import java.io.IOException;
+
+/**
+ * A way for a minion to connect back to the process that launched it. Each
+ * channel connects a single minion.
+ */
+public interface MinionChannel extends Closeable {
+
+  /**
+   * @return the argument that tells the minion how to connect
+   */
+  String address();
+
+  /**
+   * @return true if the channel is carried by the standard input and output
+   *         of the minion, which then cannot be used for anything else
+   */
+  boolean usesStandardStreams();
+
+  /**
+   * Called once the minion has been launched.
+   */
+  void launched(Process minion);
+
+  /**
+   * Waits for the minion to connect.
+   */
+  MinionConnection accept() throws IOException;
+
+}
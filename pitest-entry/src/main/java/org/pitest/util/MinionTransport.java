@@ -0,0 +1,36 @@
+package org.pitest.util;
+
+/**
+ * The ways in which minions can be connected to the main process.
+ */
+public enum MinionTransport {
+
+  /**
+   * A loopback socket for each minion
+   */
+  SOCKET {
+    @Override
+    public MinionChannel open() {
+      return new SocketMinionChannel(
+          new SocketFinder().getNextAvailableServerSocket());
+    }
+  },
+
+  /**
+   * The standard input and output of each minion. Avoids using a port for
+   * each minion, but the tests must not write directly to the standard output
+   * file descriptor.
+   */
+  PIPE {
+    @Override
+    public MinionChannel open() {
+      return new PipeMinionChannel();
+    }
+  };
+
+  /**
+   * Opens a channel through which a single minion can connect.
+   */
+  public abstract MinionChannel open();
+
+}
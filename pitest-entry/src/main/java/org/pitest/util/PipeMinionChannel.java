@@ -0,0 +1,67 @@
+package org.pitest.util;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.concurrent.CountDownLatch;
+
+/**
+ * Connects a minion through its standard input and output, so that no port is
+ * needed. Anything the JVM prints to standard output before the minion starts
+ * is skipped, but output written directly to the file descriptor after that
+ * would corrupt the channel.
+ */
+public class PipeMinionChannel implements MinionChannel {
+
+  private final CountDownLatch launched = new CountDownLatch(1);
+
+  private volatile Process     minion;
+
+  @Override
+  public String address() {
+    return MinionConnection.PIPE;
+  }
+
+  @Override
+  public boolean usesStandardStreams() {
+    return true;
+  }
+
+  @Override
+  public void launched(final Process minion) {
+    this.minion = minion;
+    this.launched.countDown();
+  }
+
+  @Override
+  public MinionConnection accept() throws IOException {
+    try {
+      this.launched.await();
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IOException("Interrupted while waiting for minion", e);
+    }
+    final Process process = this.minion;
+    if (process == null) {
+      throw new IOException("Minion was not launched");
+    }
+
+    final InputStream in = process.getInputStream();
+    final OutputStream out = process.getOutputStream();
+    MinionConnection.skipToPipeHeader(in);
+    return new MinionConnection(in, out, () -> {
+      try {
+        out.close();
+      } finally {
+        in.close();
+      }
+    });
+  }
+
+  @Override
+  public void close() {
+    // release anything waiting for a minion that will never be launched
+    this.launched.countDown();
+  }
+
+}
@@ -0,0 +1,48 @@
+package org.pitest.util;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.Socket;
+
+/**
+ * Connects a minion through a loopback socket.
+ */
+public class SocketMinionChannel implements MinionChannel {
+
+  private final ServerSocket socket;
+
+  public SocketMinionChannel(final ServerSocket socket) {
+    this.socket = socket;
+  }
+
+  @Override
+  public String address() {
+    return "" + this.socket.getLocalPort();
+  }
+
+  @Override
+  public boolean usesStandardStreams() {
+    return false;
+  }
+
+  @Override
+  public void launched(final Process minion) {
+    // the minion connects to the socket
+  }
+
+  @Override
+  public MinionConnection accept() throws IOException {
+    try {
+      final Socket s = this.socket.accept();
+      return new MinionConnection(s.getInputStream(), s.getOutputStream(), s);
+    } finally {
+      this.socket.close();
+    }
+  }
+
+  @Override
+  public void close() throws IOException {
+    this.socket.close();
+  }
+
+}
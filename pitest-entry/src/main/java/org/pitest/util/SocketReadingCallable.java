@@ -3,8 +3,6 @@ package org.pitest.util;
 import java.io.BufferedInputStream;
 import java.io.IOException;
 import java.io.OutputStream;
-import java.net.ServerSocket;
-import java.net.Socket;
 import java.util.concurrent.Callable;
 
 import org.pitest.functional.SideEffect1;
@@ -13,23 +11,23 @@ class SocketReadingCallable implements Callable<ExitCode> {
 
   private final SideEffect1<SafeDataOutputStream> sendInitialData;
   private final ReceiveStrategy                   receive;
-  private final ServerSocket                      socket;
+  private final MinionChannel                     channel;
 
-  SocketReadingCallable(final ServerSocket socket,
+  SocketReadingCallable(final MinionChannel channel,
       final SideEffect1<SafeDataOutputStream> sendInitialData,
       final ReceiveStrategy receive) {
-    this.socket = socket;
+    this.channel = channel;
     this.sendInitialData = sendInitialData;
     this.receive = receive;
   }
 
   @Override
   public ExitCode call() throws Exception {
-    try (Socket clientSocket = this.socket.accept()) {
+    try (MinionConnection connection = this.channel.accept()) {
       try (BufferedInputStream bif = new BufferedInputStream(
-          clientSocket.getInputStream())) {
+          connection.getInputStream())) {
 
-        sendDataToMinion(clientSocket);
+        sendDataToMinion(connection);
 
         final SafeDataInputStream is = new SafeDataInputStream(bif);
         return receiveResults(is);
@@ -38,15 +36,15 @@ class SocketReadingCallable implements Callable<ExitCode> {
       }
     } finally {
       try {
-        this.socket.close();
+        this.channel.close();
       } catch (final IOException e) {
         throw Unchecked.translateCheckedException(e);
       }
     }
   }
 
-  private void sendDataToMinion(final Socket clientSocket) throws IOException {
-    final OutputStream os = clientSocket.getOutputStream();
+  private void sendDataToMinion(final MinionConnection connection) {
+    final OutputStream os = connection.getOutputStream();
     final SafeDataOutputStream dos = new SafeDataOutputStream(os);
     this.sendInitialData.apply(dos);
   }
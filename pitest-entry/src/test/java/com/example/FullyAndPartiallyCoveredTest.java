@@ -0,0 +1,15 @@
+package com.example;
+
+import static org.junit.Assert.assertEquals;
+
+import org.junit.Test;
+
+public class FullyAndPartiallyCoveredTest {
+
+  @Test
+  public void testCoverBoth() {
+    assertEquals(1, new FullyCoveredTestee().coverMe());
+    assertEquals(1, new PartiallyCoveredTestee().coverMe());
+  }
+
+}
@@ -31,6 +31,7 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Map;
 import java.util.Set;
 import java.util.function.Function;
 
@@ -142,6 +143,51 @@ public class CoverageDataTest {
         this.testee.getTestsForClass(this.foo), testInfoToString()));
   }
 
+  @Test
+  public void shouldNotReturnTestsThatOnlyCoverOtherClasses() {
+    this.testee.calculateClassCoverage(makeCoverageResult("foo", "fooTest", 0,
+        1));
+    this.testee.calculateClassCoverage(makeCoverageResult("bar", "barTest", 0,
+        1));
+    assertEquals(Arrays.asList("barTest"), FCollection.map(
+        this.testee.getTestsForClass(this.bar), testInfoToString()));
+  }
+
+  @Test
+  public void shouldIncludeTestsRecordedAfterClassWasQueried() {
+    this.testee.calculateClassCoverage(makeCoverageResult("foo", "fooTest", 0,
+        1));
+    this.testee.getTestsForClass(this.foo);
+    this.testee.calculateClassCoverage(makeCoverageResult("foo", "fooTest2", 0,
+        2));
+    assertEquals(Arrays.asList("fooTest", "fooTest2"), FCollection.map(
+        this.testee.getTestsForClass(this.foo), testInfoToString()));
+  }
+
+  @Test
+  public void shouldReturnTestsForClassFromCoverageSuppliedOnConstruction() {
+    final Map<BlockLocation, Set<TestInfo>> coverage = new HashMap<>();
+    coverage.put(makeCoverage("foo", 1).iterator().next(),
+        Collections.singleton(new TestInfo("fooTest", "fooTest", 0,
+            Optional.<ClassName> empty(), 1)));
+    this.testee = new CoverageData(this.code, this.lm, coverage);
+    assertEquals(Arrays.asList("fooTest"), FCollection.map(
+        this.testee.getTestsForClass(this.foo), testInfoToString()));
+  }
+
+  @Test
+  public void shouldShareTestSetsBetweenLinesCoveredBySameTests() {
+    final BlockLocationBuilder block = aBlockLocation().withLocation(
+        aLocation().withClass(this.foo));
+    when(this.lm.mapLines(any(ClassName.class))).thenReturn(
+        makeCoverageMapForBlock(block, 1, 2));
+    this.testee.calculateClassCoverage(aCoverageResult().withVisitedBlocks(
+        block.build(1)).build());
+
+    assertThat(this.testee.getTestsForClassLine(new ClassLine(this.foo, 1)))
+        .isSameAs(this.testee.getTestsForClassLine(new ClassLine(this.foo, 2)));
+  }
+
   @Test
   public void shouldReportAGreenSuiteWhenNoTestHasFailed() {
     this.testee.calculateClassCoverage(makeCoverageResult("foo", "fooTest", 42,
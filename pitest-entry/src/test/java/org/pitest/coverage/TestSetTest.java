@@ -0,0 +1,100 @@
+package org.pitest.coverage;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.Test;
+import org.pitest.classinfo.ClassName;
+
+public class TestSetTest {
+
+  private final TestTable table = new TestTable();
+
+  @Test
+  public void shouldIgnoreDuplicateIds() {
+    makeTests(4);
+    assertThat(build(3, 1, 3, 1, 2)).hasSize(3);
+  }
+
+  @Test
+  public void shouldIterateTestsInNameOrder() {
+    final TestInfo b = test("b");
+    final TestInfo a = test("a");
+    final TestSet.Builder builder = new TestSet.Builder();
+    builder.add(this.table.idOf(b));
+    builder.add(this.table.idOf(a));
+    assertThat(new ArrayList<>(builder.build(this.table))).containsExactly(a,
+        b);
+  }
+
+  @Test
+  public void shouldContainOnlyTestsThatWereAdded() {
+    final List<TestInfo> tests = makeTests(100);
+    final TestSet.Builder builder = new TestSet.Builder();
+    builder.add(this.table.idOf(tests.get(70)));
+    final TestSet actual = builder.build(this.table);
+    assertThat(actual.contains(tests.get(70))).isTrue();
+    assertThat(actual.contains(tests.get(7))).isFalse();
+    assertThat(actual.contains(test("unknown"))).isFalse();
+  }
+
+  @Test
+  public void shouldContainTestsWhenStoredAsBitmap() {
+    final List<TestInfo> tests = makeTests(200);
+    final TestSet actual = build(0, 64, 65, 130, 199);
+    assertThat(actual.contains(tests.get(130))).isTrue();
+    assertThat(actual.contains(tests.get(131))).isFalse();
+    assertThat(actual).hasSize(5);
+  }
+
+  @Test
+  public void shouldBeEqualToSetsWithSameTests() {
+    makeTests(200);
+    assertThat(build(5, 150)).isEqualTo(build(150, 5));
+    assertThat(build(5, 150)).isNotEqualTo(build(5, 151));
+    assertThat(build(0, 1, 2)).isEqualTo(build(2, 1, 0));
+  }
+
+  @Test
+  public void shouldBeEqualToOtherSetsContainingSameTests() {
+    final List<TestInfo> tests = makeTests(3);
+    final TestSet actual = build(0, 2);
+    assertThat(actual).isEqualTo(
+        new HashSet<>(Arrays.asList(tests.get(0), tests.get(2))));
+    assertThat(actual.hashCode()).isEqualTo(
+        new HashSet<>(Arrays.asList(tests.get(0), tests.get(2))).hashCode());
+  }
+
+  @Test
+  public void shouldCreateEmptySetWhenNoIdsAdded() {
+    assertThat(new TestSet.Builder().build(this.table)).isEmpty();
+  }
+
+  private TestSet build(final int... ids) {
+    final TestSet.Builder builder = new TestSet.Builder();
+    for (final int each : ids) {
+      builder.add(each);
+    }
+    return builder.build(this.table);
+  }
+
+  private List<TestInfo> makeTests(final int count) {
+    final List<TestInfo> tests = new ArrayList<>();
+    for (int i = 0; i != count; i++) {
+      final TestInfo test = test("test" + i);
+      this.table.idOf(test);
+      tests.add(test);
+    }
+    return tests;
+  }
+
+  private static TestInfo test(final String name) {
+    return new TestInfo("foo", name, 0, Optional.<ClassName> empty(), 0);
+  }
+
+}
@@ -0,0 +1,207 @@
+package org.pitest.coverage.execute;
+
+import static java.util.Arrays.asList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.when;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.pitest.classinfo.ClassIdentifier;
+import org.pitest.classinfo.ClassInfo;
+import org.pitest.classinfo.ClassInfoMother;
+import org.pitest.classinfo.ClassInfoSource;
+import org.pitest.classinfo.ClassName;
+import org.pitest.coverage.BlockLocation;
+import org.pitest.coverage.CoverageResult;
+import org.pitest.mutationtest.config.TestPluginArguments;
+import org.pitest.mutationtest.engine.Location;
+import org.pitest.mutationtest.engine.MethodName;
+import org.pitest.testapi.Description;
+import org.pitest.testapi.TestGroupConfig;
+
+public class CoverageCacheTest {
+
+  private static final ClassName TEST    = ClassName.fromString("com.example.FooTest");
+  private static final ClassName COVERED = ClassName.fromString("com.example.Foo");
+
+  @Rule
+  public TemporaryFolder         folder  = new TemporaryFolder();
+
+  @Mock
+  private ClassInfoSource        code;
+
+  private File                   file;
+
+  private CoverageCache          testee;
+
+  @Before
+  public void setUp() throws IOException {
+    MockitoAnnotations.initMocks(this);
+    this.file = new File(this.folder.getRoot(), "history.coverage");
+    this.testee = new CoverageCache(Optional.of(this.file),
+        Optional.of(this.file), "settings");
+    setCoveredHash(1);
+  }
+
+  @Test
+  public void shouldReturnNothingWhenNoCacheFileExists() {
+    final CachedCoverage actual = this.testee.read(tests(1), this.code);
+    assertThat(actual.getValidResults()).isEmpty();
+    assertThat(actual.executionTimeOf(TEST.asInternalName())).isEqualTo(0);
+  }
+
+  @Test
+  public void shouldReturnStoredResultsWhenNothingHasChanged() {
+    this.testee.write(tests(1), results(aResult()), this.code);
+
+    final CachedCoverage actual = this.testee.read(tests(1), this.code);
+
+    final List<CoverageResult> results = actual.getValidResults().get(
+        TEST.asInternalName());
+    assertThat(results).hasSize(1);
+    final CoverageResult result = results.get(0);
+    assertThat(result.getTestUnitDescription()).isEqualTo(
+        aResult().getTestUnitDescription());
+    assertThat(result.getExecutionTime()).isEqualTo(42);
+    assertThat(result.isGreenTest()).isTrue();
+    assertThat(result.getCoverage()).containsExactlyElementsOf(
+        aResult().getCoverage());
+  }
+
+  @Test
+  public void shouldStoreDescriptionsOfTestUnits() {
+    final CoverageResult described = new CoverageResult(
+        aResult().getTestUnitDescription(), 42, true,
+        aResult().getCoverage(), Optional.of("unit"));
+    this.testee.write(tests(1), results(described, aResult()), this.code);
+
+    final List<CoverageResult> results = this.testee.read(tests(1), this.code)
+        .getValidResults().get(TEST.asInternalName());
+
+    assertThat(results.get(0).getUnitDescription()).contains("unit");
+    assertThat(results.get(1).getUnitDescription()).isEmpty();
+  }
+
+  @Test
+  public void shouldNotReuseResultsWhenTestClassHasChanged() {
+    this.testee.write(tests(1), results(aResult()), this.code);
+
+    final CachedCoverage actual = this.testee.read(tests(2), this.code);
+
+    assertThat(actual.getValidResults()).isEmpty();
+  }
+
+  @Test
+  public void shouldNotReuseResultsWhenCoveredClassHasChanged() {
+    this.testee.write(tests(1), results(aResult()), this.code);
+
+    setCoveredHash(2);
+    final CachedCoverage actual = this.testee.read(tests(1), this.code);
+
+    assertThat(actual.getValidResults()).isEmpty();
+  }
+
+  @Test
+  public void shouldNotReuseResultsGatheredWithDifferentSettings() {
+    this.testee.write(tests(1), results(aResult()), this.code);
+
+    final CachedCoverage actual = new CoverageCache(Optional.of(this.file),
+        Optional.of(this.file), "other settings").read(tests(1), this.code);
+
+    assertThat(actual.getValidResults()).isEmpty();
+  }
+
+  @Test
+  public void shouldHashSameSettingsToSameValue() {
+    assertThat(CoverageCache.hashOf(options(asList("com.example.*"))))
+        .isEqualTo(CoverageCache.hashOf(options(asList("com.example.*"))));
+  }
+
+  @Test
+  public void shouldHashDifferentTargetClassesToDifferentValues() {
+    assertThat(CoverageCache.hashOf(options(asList("com.example.Foo"))))
+        .isNotEqualTo(CoverageCache.hashOf(options(asList("com.example.*"))));
+  }
+
+  @Test
+  public void shouldHashDifferentTestGroupsToDifferentValues() {
+    final TestPluginArguments slowTests = new TestPluginArguments("junit",
+        new TestGroupConfig().withIncludedGroups("Slow"),
+        Collections.<String> emptyList(), Collections.<String> emptyList());
+    assertThat(CoverageCache.hashOf(options(asList("com.example.*"))))
+        .isNotEqualTo(CoverageCache.hashOf(new CoverageOptions(
+            asList("com.example.*"), Collections.<String> emptyList(),
+            slowTests, false, -1)));
+  }
+
+  @Test
+  public void shouldProvideExecutionTimesOfChangedTestClasses() {
+    this.testee.write(tests(1), results(aResult()), this.code);
+
+    final CachedCoverage actual = this.testee.read(tests(2), this.code);
+
+    assertThat(actual.executionTimeOf(TEST.asInternalName())).isEqualTo(42);
+  }
+
+  @Test
+  public void shouldIgnoreUnreadableCacheFiles() throws IOException {
+    this.file.createNewFile();
+
+    final CachedCoverage actual = this.testee.read(tests(1), this.code);
+
+    assertThat(actual.getValidResults()).isEmpty();
+  }
+
+  @Test
+  public void shouldNotWriteWhenNoOutputIsConfigured() {
+    CoverageCache.none().write(tests(1), results(aResult()), this.code);
+    assertThat(CoverageCache.none().isWritable()).isFalse();
+    assertThat(this.file).doesNotExist();
+  }
+
+  private void setCoveredHash(final long hash) {
+    when(this.code.fetchClass(any(ClassName.class))).thenReturn(
+        Optional.of(ClassInfoMother.make(new ClassIdentifier(hash, COVERED))));
+  }
+
+  private static CoverageOptions options(final List<String> targetClasses) {
+    return new CoverageOptions(targetClasses, Collections.<String> emptyList(),
+        TestPluginArguments.defaults(), false, -1);
+  }
+
+  private static Collection<ClassInfo> tests(final long hash) {
+    return Collections.singletonList(ClassInfoMother.make(new ClassIdentifier(
+        hash, TEST)));
+  }
+
+  private static Map<String, List<CoverageResult>> results(
+      final CoverageResult... results) {
+    final Map<String, List<CoverageResult>> map = new HashMap<>();
+    map.put(TEST.asInternalName(), Arrays.asList(results));
+    return map;
+  }
+
+  private static CoverageResult aResult() {
+    final Location location = Location.location(COVERED,
+        MethodName.fromString("foo"), "()V");
+    return new CoverageResult(new Description("foo", TEST.asJavaName()), 42,
+        true, Arrays.asList(new BlockLocation(location, 0), new BlockLocation(
+            location, 3)));
+  }
+
+}
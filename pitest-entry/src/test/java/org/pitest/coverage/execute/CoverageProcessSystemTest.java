@@ -4,6 +4,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
+import static org.pitest.functional.prelude.Prelude.printTo;
 
 import java.io.BufferedReader;
 import java.io.File;
@@ -35,7 +36,7 @@ import org.pitest.mutationtest.tooling.JarCreatingJarFinder;
 import org.pitest.process.LaunchOptions;
 import org.pitest.process.ProcessArgs;
 import org.pitest.util.ExitCode;
-import org.pitest.util.SocketFinder;
+import org.pitest.util.MinionTransport;
 import org.pitest.util.XStreamCloning;
 
 import com.example.coverage.execute.samples.exceptions.CoveredBeforeExceptionTestee;
@@ -64,6 +65,16 @@ public class CoverageProcessSystemTest {
     assertFalse(coverage.iterator().next().getCoverage().isEmpty());
   }
 
+  @Test
+  public void shouldDescribeUnitsThatRanEachTest() throws IOException,
+  InterruptedException, ExecutionException {
+    final List<CoverageResult> coverage = runCoverageForTest(TestsForMultiBlockCoverage.class);
+    assertFalse(coverage.isEmpty());
+    for (final CoverageResult each : coverage) {
+      assertTrue(each.getUnitDescription().isPresent());
+    }
+  }
+
   // check all the specialised implementations broadly work
   @Test
   public void shouldCalculateCoverageForSingleBlockMethods()
@@ -294,6 +305,42 @@ public class CoverageProcessSystemTest {
     assertThat(coveredClasses).noneMatch(failingTest());
   }
 
+  public static class WritesToStandardOut {
+    @Test
+    public void testWrites() {
+      System.out.println("sent to someone@example.com");
+      final Testee testee = new Testee();
+      testee.foo();
+    }
+  }
+
+  @Test
+  public void shouldGatherCoverageThroughPipes() throws Exception {
+    final List<CoverageResult> coveredClasses = runCoverageForTest(
+        TestsForMultiBlockCoverage.class, MinionTransport.PIPE);
+    assertCoverage(coveredClasses, "test1", 1);
+  }
+
+  @Test
+  public void shouldNotCorruptPipeWhenTestsWriteToStandardOut()
+      throws Exception {
+    final List<CoverageResult> coveredClasses = runCoverageForTest(
+        WritesToStandardOut.class, MinionTransport.PIPE);
+    assertThat(coveredClasses).noneMatch(failingTest());
+    assertThat(coveredClasses).anyMatch(coverageFor(Testee.class));
+  }
+
+  @Test
+  public void shouldNotEchoWhatTestsWriteToStandardOutUnlessVerbose()
+      throws Exception {
+    final List<CoverageResult> coveredClasses = new ArrayList<>();
+    final StringBuffer stderr = new StringBuffer();
+    runCoverageProcess(WritesToStandardOut.class, coveredClasses,
+        MinionTransport.PIPE, false, a -> stderr.append(a));
+    assertThat(coveredClasses).anyMatch(coverageFor(Testee.class));
+    assertThat(stderr.toString()).doesNotContain("someone@example.com");
+  }
+
   @Test
   public void shouldFailWithExitCode() throws Exception {
     final SideEffect1<CoverageResult> noOpHandler = a -> {
@@ -303,10 +350,9 @@ public class CoverageProcessSystemTest {
 
     final JarCreatingJarFinder agent = new JarCreatingJarFinder();
     final LaunchOptions lo = new LaunchOptions(agent);
-    final SocketFinder sf = new SocketFinder();
     final CoverageProcess process = new CoverageProcess(ProcessArgs
         .withClassPath(classPathWithoutJUnit()).andLaunchOptions(lo), sa,
-        sf.getNextAvailableServerSocket(),
+        MinionTransport.SOCKET.open(),
         Arrays.asList(TestsForMultiBlockCoverage.class.getName()), noOpHandler);
     process.start();
 
@@ -329,27 +375,35 @@ public class CoverageProcessSystemTest {
 
   private List<CoverageResult> runCoverageForTest(final Class<?> test)
       throws IOException, InterruptedException, ExecutionException {
+    return runCoverageForTest(test, MinionTransport.SOCKET);
+  }
+
+  private List<CoverageResult> runCoverageForTest(final Class<?> test,
+      final MinionTransport transport) throws IOException,
+      InterruptedException {
 
     final List<CoverageResult> coveredClasses = new ArrayList<>();
 
-    runCoverageProcess(test, coveredClasses);
+    runCoverageProcess(test, coveredClasses, transport, true,
+        printTo(String.class, System.err));
     return coveredClasses;
   }
 
   private void runCoverageProcess(final Class<?> test,
-      final List<CoverageResult> coveredClasses) throws IOException,
+      final List<CoverageResult> coveredClasses,
+      final MinionTransport transport, final boolean verbose,
+      final SideEffect1<String> stderr) throws IOException,
       InterruptedException {
     final SideEffect1<CoverageResult> handler = a -> coveredClasses.add(a);
 
-    final CoverageOptions sa = new CoverageOptions(coverOnlyTestees(), excludeTests(), TestPluginArguments.defaults(), true, -1);
+    final CoverageOptions sa = new CoverageOptions(coverOnlyTestees(), excludeTests(), TestPluginArguments.defaults(), verbose, -1);
 
     final JarCreatingJarFinder agent = new JarCreatingJarFinder();
     try {
       final LaunchOptions lo = new LaunchOptions(agent);
-      final SocketFinder sf = new SocketFinder();
       final CoverageProcess process = new CoverageProcess(ProcessArgs
-          .withClassPath(new ClassPath()).andLaunchOptions(lo), sa,
-          sf.getNextAvailableServerSocket(), Arrays.asList(test.getName()),
+          .withClassPath(new ClassPath()).andLaunchOptions(lo)
+          .andStderr(stderr), sa, transport.open(), Arrays.asList(test.getName()),
           handler);
       process.start();
 
@@ -1,5 +1,6 @@
 package org.pitest.coverage.execute;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNull;
 import static org.mockito.Mockito.when;
@@ -8,14 +9,16 @@ import org.junit.Before;
 import org.junit.Test;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.pitest.classinfo.ClassName;
+import org.pitest.coverage.BlockLocation;
 import org.pitest.coverage.CoverageResult;
 import org.pitest.functional.SideEffect1;
+import org.pitest.mutationtest.engine.Location;
+import org.pitest.mutationtest.engine.MethodName;
 import org.pitest.testapi.Description;
 import org.pitest.util.Id;
 import org.pitest.util.SafeDataInputStream;
 
-import sun.pitest.CodeCoverageStore;
-
 // does this test add any value?
 public class ReceiveTest {
 
@@ -60,18 +63,141 @@ public class ReceiveTest {
     assertEquals(true, this.result.isGreenTest());
   }
 
-  private void recordTestCoverage(final int executionTime, final int classId,
-      final int probeNumber, final boolean testPassed) {
-    when(this.is.readInt()).thenReturn(classId, executionTime);
-    when(this.is.readString()).thenReturn("foo");
+  @Test
+  public void shouldMapProbeHitsToBlocksWithinMethod() {
+    registerClass(0, "foo");
+    registerProbes(0, "bar", 2, 4);
+
+    recordHits(0, 1L << 3);
+
+    assertThat(this.result.getCoverage()).containsExactly(
+        new BlockLocation(location("foo", "bar"), 1));
+  }
+
+  @Test
+  public void shouldMapProbeHitsAcrossManyClasses() {
+    for (int i = 0; i != 200; i++) {
+      registerClass(i, "foo" + i);
+      registerProbes(i, "bar", 0, 0);
+    }
+
+    recordHits(7, 1L, 199, 1L);
+
+    assertThat(this.result.getCoverage()).containsExactly(
+        new BlockLocation(location("foo7", "bar"), 0),
+        new BlockLocation(location("foo199", "bar"), 0));
+  }
+
+  @Test
+  public void shouldDecodeProbesBeyondFirstWordOfBitmap() {
+    registerClass(0, "foo");
+    registerProbes(0, "bar", 0, 69);
+
+    recordHits(0, 2, new long[] { 1L << 63, 1L | (1L << 5) });
+
+    assertThat(this.result.getCoverage()).containsExactly(
+        new BlockLocation(location("foo", "bar"), 63),
+        new BlockLocation(location("foo", "bar"), 64),
+        new BlockLocation(location("foo", "bar"), 69));
+  }
+
+  @Test
+  public void shouldIgnoreHitsForUnknownProbes() {
+    registerClass(0, "foo");
+    registerProbes(0, "bar", 0, 1);
+
+    recordHits(0, 1L << 5, 3, 1L);
+
+    assertThat(this.result.getCoverage()).isEmpty();
+  }
+
+  @Test
+  public void shouldAttachDescriptionOfUnitToItsResult() {
+    when(this.is.readInternedString()).thenReturn(
+        this.description.getFirstTestClass());
+    when(this.is.readString()).thenReturn(this.description.getName(), "unit");
+    this.testee.apply(Id.UNIT, this.is);
+
+    recordTestCoverage(0, 0, 0, true);
+
+    assertThat(this.result.getUnitDescription()).contains("unit");
+  }
+
+  @Test
+  public void shouldNotDescribeUnitsThatWereNotDescribedByMinion() {
+    recordTestCoverage(0, 0, 0, true);
+    assertThat(this.result.getUnitDescription()).isEmpty();
+  }
+
+  private Location location(final String clazz, final String method) {
+    return Location.location(ClassName.fromString(clazz),
+        MethodName.fromString(method), "()V");
+  }
+
+  private void registerClass(final int id, final String name) {
+    when(this.is.readInt()).thenReturn(id);
+    when(this.is.readString()).thenReturn(name);
     this.testee.apply(Id.CLAZZ, this.is);
+  }
+
+  private void registerProbes(final int classId, final String method,
+      final int first, final int last) {
+    when(this.is.readInt()).thenReturn(classId, first, last);
+    when(this.is.readString()).thenReturn(method, "()V");
+    this.testee.apply(Id.PROBES, this.is);
+  }
+
+  private void recordHits(final int classId, final long word) {
+    recordTestOutcome(true, new int[] { classId, 1, CoveragePipe.END_OF_HITS,
+        0 }, word);
+  }
+
+  private void recordHits(final int classId, final long word,
+      final int secondClassId, final long secondWord) {
+    recordTestOutcome(true, new int[] { classId, 1, secondClassId, 1,
+        CoveragePipe.END_OF_HITS, 0 }, word, secondWord);
+  }
 
-    when(this.is.read(Description.class)).thenReturn(this.description);
-    when(this.is.readInt()).thenReturn(1);
-    when(this.is.readLong()).thenReturn(1l,
-        CodeCoverageStore.encode(classId, probeNumber));
+  private void recordHits(final int classId, final int numberOfWords,
+      final long[] words) {
+    recordTestOutcome(true, new int[] { classId, numberOfWords,
+        CoveragePipe.END_OF_HITS, 0 }, words);
+  }
+
+  private void recordTestOutcome(final boolean testPassed, final int[] ints,
+      final long... longs) {
+    when(this.is.readInternedString()).thenReturn(
+        this.description.getFirstTestClass());
+    when(this.is.readString()).thenReturn(this.description.getName());
+    when(this.is.readInt()).thenReturn(ints[0], boxed(ints));
+    if (longs.length != 0) {
+      when(this.is.readLong()).thenReturn(longs[0], boxed(longs));
+    }
     when(this.is.readBoolean()).thenReturn(testPassed);
     this.testee.apply(Id.OUTCOME, this.is);
   }
 
+  private static Integer[] boxed(final int[] values) {
+    final Integer[] boxed = new Integer[values.length - 1];
+    for (int i = 1; i != values.length; i++) {
+      boxed[i - 1] = values[i];
+    }
+    return boxed;
+  }
+
+  private static Long[] boxed(final long[] values) {
+    final Long[] boxed = new Long[values.length - 1];
+    for (int i = 1; i != values.length; i++) {
+      boxed[i - 1] = values[i];
+    }
+    return boxed;
+  }
+
+  private void recordTestCoverage(final int executionTime, final int classId,
+      final int probeNumber, final boolean testPassed) {
+    registerClass(classId, "foo");
+    recordTestOutcome(testPassed, new int[] { classId, 1,
+        CoveragePipe.END_OF_HITS, executionTime }, 1L << probeNumber);
+  }
+
 }
@@ -1,5 +1,6 @@
 package org.pitest.coverage.execute;
 
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.verify;
 
 import java.util.ArrayList;
@@ -7,6 +8,7 @@ import java.util.List;
 
 import org.junit.Before;
 import org.junit.Test;
+import org.mockito.InOrder;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 import org.pitest.util.SafeDataOutputStream;
@@ -36,6 +38,14 @@ public class SendDataTest {
     verify(this.os).write(this.arguments);
   }
 
+  @Test
+  public void shouldSendProtocolVersionFirst() {
+    this.testee.apply(this.os);
+    final InOrder order = inOrder(this.os);
+    order.verify(this.os).writeProtocolVersion();
+    order.verify(this.os).write(this.arguments);
+  }
+
   @Test
   public void shouldSendTestClassesToMinion() {
     this.testClasses.add("foo");
@@ -0,0 +1,62 @@
+package org.pitest.coverage.execute;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Test;
+
+public class TestClassPartitionerTest {
+
+  private TestClassPartitioner testee = TestClassPartitioner.unweighted();
+
+  @Test
+  public void shouldCreateSinglePartitionWhenNoTestsSupplied() {
+    final List<List<String>> actual = this.testee.partition(
+        Collections.<String> emptyList(), 4);
+    assertThat(actual).hasSize(1);
+    assertThat(actual.get(0)).isEmpty();
+  }
+
+  @Test
+  public void shouldNotCreateMorePartitionsThanTestClasses() {
+    final List<List<String>> actual = this.testee.partition(
+        Arrays.asList("a", "b"), 4);
+    assertThat(actual).hasSize(2);
+  }
+
+  @Test
+  public void shouldAssignEveryTestClassToExactlyOnePartition() {
+    final List<List<String>> actual = this.testee.partition(
+        Arrays.asList("a", "b", "c", "d", "e"), 2);
+    assertThat(actual.get(0)).containsExactly("a", "c", "e");
+    assertThat(actual.get(1)).containsExactly("b", "d");
+  }
+
+  @Test
+  public void shouldProduceSamePartitionsRegardlessOfInputOrder() {
+    final List<List<String>> first = this.testee.partition(
+        Arrays.asList("c", "a", "b", "d"), 3);
+    final List<List<String>> second = this.testee.partition(
+        Arrays.asList("d", "b", "a", "c"), 3);
+    assertThat(first).isEqualTo(second);
+  }
+
+  @Test
+  public void shouldBalancePartitionsByWeight() {
+    final Map<String, Long> times = new HashMap<>();
+    times.put("slow", 100L);
+    times.put("a", 30L);
+    times.put("b", 30L);
+    times.put("c", 30L);
+    this.testee = new TestClassPartitioner(c -> times.get(c));
+    final List<List<String>> actual = this.testee.partition(times.keySet(), 2);
+    assertThat(actual.get(0)).containsExactly("slow");
+    assertThat(actual.get(1)).containsExactly("a", "b", "c");
+  }
+
+}
@@ -16,6 +16,7 @@
 package org.pitest.mutationtest;
 
 import static java.util.Arrays.asList;
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.Assert.assertEquals;
 import static org.pitest.mutationtest.DetectionStatus.KILLED;
 import static org.pitest.mutationtest.DetectionStatus.NO_COVERAGE;
@@ -49,6 +50,7 @@ import com.example.CoveredByEasyMock;
 import com.example.CoveredByJUnitThreeSuite;
 import com.example.CrashesJVMWhenMutated;
 import com.example.FailsTestWhenEnvVariableSetTestee;
+import com.example.FullyAndPartiallyCoveredTest;
 import com.example.FullyCoveredTestee;
 import com.example.FullyCoveredTesteeTest;
 import com.example.HasMutationInFinallyBlockNonTest;
@@ -87,6 +89,126 @@ public class MutationCoverageReportSystemTest extends ReportTestBase {
     verifyResults(KILLED);
   }
 
+  @Test
+  public void shouldGatherCoverageAndRunMutationsAcrossSeveralMinions() {
+    this.data.setNumberOfThreads(2);
+    this.data.setTargetClasses(asList("com.example.FullyCovered*",
+        "com.example.PartiallyCovered*"));
+    createAndRun();
+    verifyResults(KILLED, KILLED, NO_COVERAGE);
+  }
+
+  @Test
+  public void shouldConnectToMinionsThroughPipes() {
+    this.data.setMinionTransport("pipe");
+    this.data.setNumberOfThreads(2);
+    this.data.setTargetClasses(asList("com.example.FullyCovered*",
+        "com.example.PartiallyCovered*"));
+    createAndRun();
+    verifyResults(KILLED, KILLED, NO_COVERAGE);
+  }
+
+  @Test
+  public void shouldAnalyseMutationsAsTheyAreFoundWhenPipelined() {
+    this.data.setUsePipelinedAnalysis(true);
+    this.data.setNumberOfThreads(2);
+    this.data.setTargetClasses(asList("com.example.FullyCovered*",
+        "com.example.PartiallyCovered*"));
+    createAndRun();
+    verifyResults(KILLED, KILLED, NO_COVERAGE);
+  }
+
+  @Test(expected = PitHelpError.class)
+  public void shouldReportHelpfulErrorIfNoMutationsFoundWhenPipelined() {
+    this.data.setUsePipelinedAnalysis(true);
+    this.data.setFailWhenNoMutations(true);
+    this.data.setTargetClasses(asList("foo"));
+    createAndRun();
+  }
+
+  @Test
+  public void shouldGiveSameResultsEachTimeWhenPipelinedWithKillHistory()
+      throws IOException {
+    final File history = File.createTempFile("pit", "history");
+    final File next = File.createTempFile("pit", "history");
+    try {
+      this.data.setUsePipelinedAnalysis(true);
+      this.data.setPrioritiseByKillHistory(true);
+      this.data.setNumberOfThreads(2);
+      // one unit per mutant, so that units finish in a different order to
+      // the one they were created in
+      this.data.setMutationUnitSize(1);
+      // several tests kill each mutant, so the order they run in matters
+      this.data.setTargetTests(
+          predicateFor("com.example.coverage.execute.samples.mutationMatrix.*"));
+      this.data.setTargetClasses(
+          asList("com.example.coverage.execute.samples.mutationMatrix.*"));
+      this.data.setExcludedClasses(asGlobs(TestsForSimpleCalculator.class));
+      this.data.setHistoryInputLocation(history);
+      this.data.setHistoryOutputLocation(history);
+      createAndRun();
+
+      // later runs read the statistics of the first without changing them
+      this.data.setHistoryOutputLocation(next);
+      this.metaDataExtractor = new MetaDataExtractor();
+      createAndRun();
+      final List<String> first = describeResults();
+
+      this.metaDataExtractor = new MetaDataExtractor();
+      createAndRun();
+      assertThat(describeResults()).isEqualTo(first);
+    } finally {
+      deleteHistory(history);
+      deleteHistory(next);
+    }
+  }
+
+  @Test
+  public void shouldReuseCachedCoverageOnSecondRun() throws IOException {
+    final File history = File.createTempFile("pit", "history");
+    final File cache = new File(history.getPath() + ".coverage");
+    try {
+      this.data.setUseCoverageCache(true);
+      this.data.setHistoryInputLocation(history);
+      this.data.setHistoryOutputLocation(history);
+      this.data.setTargetClasses(asList("com.example.FullyCovered*",
+          "com.example.PartiallyCovered*"));
+      createAndRun();
+      assertThat(cache).exists();
+
+      this.metaDataExtractor = new MetaDataExtractor();
+      createAndRun();
+      verifyResults(KILLED, KILLED, NO_COVERAGE);
+    } finally {
+      history.delete();
+      cache.delete();
+    }
+  }
+
+  @Test
+  public void shouldNotReuseCachedCoverageWhenTargetClassesAreWidened()
+      throws IOException {
+    final File history = File.createTempFile("pit", "history");
+    try {
+      this.data.setUseCoverageCache(true);
+      this.data.setHistoryInputLocation(history);
+      this.data.setHistoryOutputLocation(history);
+      this.data.setTargetTests(predicateFor(FullyAndPartiallyCoveredTest.class));
+      this.data.setTargetClasses(asList("com.example.FullyCovered*"));
+      createAndRun();
+      verifyResults(KILLED);
+
+      // the cached run did not instrument the newly targeted class
+      this.data.setTargetClasses(asList("com.example.FullyCovered*",
+          "com.example.PartiallyCovered*"));
+      this.metaDataExtractor = new MetaDataExtractor();
+      createAndRun();
+      verifyResults(KILLED, KILLED, NO_COVERAGE);
+    } finally {
+      deleteHistory(history);
+    }
+  }
+
   @Test
   public void shouldReportUnCoveredMutations() {
     this.data.setTargetClasses(asList("com.example.PartiallyCovered*"));
@@ -427,6 +549,22 @@ public class MutationCoverageReportSystemTest extends ReportTestBase {
   }
 
 
+  private List<String> describeResults() {
+    final List<String> results = new ArrayList<>();
+    for (final MutationResult each : this.metaDataExtractor.getData()) {
+      results.add(each.getDetails().getId() + " "
+          + each.getStatus() + " " + each.getKillingTests());
+    }
+    // in the order they were reported, so that the order is compared too
+    return results;
+  }
+
+  private static void deleteHistory(final File history) {
+    history.delete();
+    new File(history.getPath() + ".kills").delete();
+    new File(history.getPath() + ".coverage").delete();
+  }
+
   private static void copy(final InputStream in, final OutputStream out)
       throws IOException {
     // Read bytes and write to destination until eof
@@ -74,6 +74,33 @@ public class MutationStatusMapTest {
     assertEquals(Collections.emptyList(), this.testee.getUnrunMutations());
   }
 
+  @Test
+  public void shouldNoLongerReturnMutationsAsUnfinishedOnceTheyFinish() {
+    this.testee.setStatusForMutations(
+        Arrays.asList(this.details, this.detailsTwo), DetectionStatus.STARTED);
+    this.testee.setStatusForMutation(this.details, DetectionStatus.KILLED);
+    assertThat(this.testee.getUnfinishedRuns()).containsExactly(
+        this.detailsTwo);
+  }
+
+  @Test
+  public void shouldSetStatusOfMutationWithMatchingId() {
+    this.testee.setStatusForMutation(this.details, DetectionStatus.NOT_STARTED);
+    final MutationStatusTestPair killed = new MutationStatusTestPair(1,
+        DetectionStatus.KILLED, "foo");
+    this.testee.setStatusForMutation(this.details.getId(), killed);
+    assertFalse(this.testee.hasUnrunMutations());
+    assertThat(this.testee.createMutationResults()).containsExactly(
+        new MutationResult(this.details, killed));
+  }
+
+  @Test
+  public void shouldIgnoreStatusForUnknownMutationId() {
+    this.testee.setStatusForMutation(this.detailsTwo.getId(),
+        new MutationStatusTestPair(1, DetectionStatus.KILLED, "foo"));
+    assertThat(this.testee.createMutationResults()).isEmpty();
+  }
+
   @Test
   public void shouldCreateResultsForAllMutations() {
     final MutationStatusTestPair statusPairOne = new MutationStatusTestPair(42,
@@ -106,7 +106,8 @@ public abstract class ReportTestBase {
       final CoverageOptions coverageOptions = createCoverageOptions(settings.createCoverageOptions().getPitConfig());
       final LaunchOptions launchOptions = new LaunchOptions(agent,
           new DefaultJavaExecutableLocator(), this.data.getJvmArgs(),
-          new HashMap<String, String>());
+          new HashMap<String, String>())
+          .usingMinionTransport(settings.getMinionTransport());
 
       final PathFilter pf = new PathFilter(p -> true, p -> true);
       final ProjectClassPaths cps = new ProjectClassPaths(
@@ -117,7 +118,8 @@ public abstract class ReportTestBase {
 
       final CoverageGenerator coverageDatabase = new DefaultCoverageGenerator(
           null, coverageOptions, launchOptions, code,
-          new NullCoverageExporter(), timings, false);
+          new NullCoverageExporter(), timings, false,
+          this.data.getNumberOfThreads(), settings.createCoverageCache());
 
       final HistoryStore history = new NullHistoryStore();
 
@@ -46,6 +46,7 @@ import org.pitest.classpath.ProjectClassPaths;
 import org.pitest.coverage.CoverageDatabase;
 import org.pitest.coverage.CoverageGenerator;
 import org.pitest.coverage.execute.CoverageOptions;
+import org.pitest.coverage.execute.CoverageCache;
 import org.pitest.coverage.execute.DefaultCoverageGenerator;
 import org.pitest.coverage.export.NullCoverageExporter;
 import org.pitest.functional.FCollection;
@@ -85,6 +86,8 @@ public class TestMutationTesting {
 
   private MetaDataExtractor        metaDataExtractor;
 
+  private boolean                  cooperativeTimeouts;
+
   @Before
   public void setUp() {
     MockitoAnnotations.initMocks(this);
@@ -221,6 +224,14 @@ public class TestMutationTesting {
     verifyResults(KILLED, TIMED_OUT);
   }
 
+  @Test(timeout = 30000)
+  public void shouldStopInfiniteLoopsWithinMinionWhenTimeoutsAreCooperative() {
+    this.cooperativeTimeouts = true;
+    run(InfiniteLoop.class, InfiniteLoopTest.class,
+        "INCREMENTS");
+    verifyResults(KILLED, TIMED_OUT);
+  }
+
   public static class OneMutationFullTestWithSystemPropertyDependency {
     @TestAnnotationForTesting
     public void testReturnOne() {
@@ -321,6 +332,7 @@ public class TestMutationTesting {
 
     data.setTimeoutConstant(PercentAndConstantTimeoutStrategy.DEFAULT_CONSTANT);
     data.setTimeoutFactor(PercentAndConstantTimeoutStrategy.DEFAULT_FACTOR);
+    data.setUseCooperativeTimeouts(this.cooperativeTimeouts);
 
     final JavaAgent agent = new JarCreatingJarFinder();
 
@@ -353,7 +365,7 @@ public class TestMutationTesting {
 
     final CoverageGenerator coverageGenerator = new DefaultCoverageGenerator(
         null, coverageOptions, launchOptions, code, new NullCoverageExporter(),
-        timings, false);
+        timings, false, 1, CoverageCache.none());
 
     final CoverageDatabase coverageData = coverageGenerator.calculateCoverage();
 
@@ -361,7 +373,8 @@ public class TestMutationTesting {
         ClassInfo.toClassName());
 
     final EngineArguments arguments = EngineArguments.arguments()
-        .withMutators(mutators);
+        .withMutators(mutators)
+        .withCooperativeTimeouts(data.useCooperativeTimeouts());
 
     final MutationEngine engine = new GregorEngineFactory().createEngine(arguments);
 
@@ -381,7 +394,7 @@ public class TestMutationTesting {
         coverageOptions.getPitConfig(), mutationConfig, arguments,
         new PercentAndConstantTimeoutStrategy(data.getTimeoutFactor(),
             data.getTimeoutConstant()), data.isVerbose(), false, data.getClassPath()
-            .getLocalClassPath());
+            .getLocalClassPath(), 1);
 
 
 
@@ -392,7 +405,11 @@ public class TestMutationTesting {
     final List<MutationAnalysisUnit> tus = builder
         .createMutationTestUnits(codeClasses);
 
-    this.mae.run(tus);
+    try {
+      this.mae.run(tus);
+    } finally {
+      wf.shutdown();
+    }
   }
 
   private CoverageOptions createCoverageOptions(ReportOptions data) {
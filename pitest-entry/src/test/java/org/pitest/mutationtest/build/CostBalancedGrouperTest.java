@@ -0,0 +1,88 @@
+package org.pitest.mutationtest.build;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.pitest.mutationtest.LocationMother.aLocation;
+import static org.pitest.mutationtest.LocationMother.aMutationId;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.Test;
+import org.pitest.coverage.TestInfo;
+import org.pitest.mutationtest.engine.MutationDetails;
+
+public class CostBalancedGrouperTest {
+
+  private CostBalancedGrouper testee = new CostBalancedGrouper(2, 0);
+
+  @Test
+  public void shouldEstimateCostFromTestExecutionTimes() {
+    assertThat(this.testee.costOf(Arrays.asList(mutation("foo", 10, 20),
+        mutation("foo", 5)))).isEqualTo(37);
+  }
+
+  @Test
+  public void shouldGiveUncoveredMutationsAMinimalCost() {
+    assertThat(this.testee.costOf(Arrays.asList(mutation("foo"))))
+        .isEqualTo(1);
+  }
+
+  @Test
+  public void shouldSplitExpensiveClassesIntoUnitsOfSimilarCost() {
+    final List<MutationDetails> mutations = new ArrayList<>();
+    for (int i = 0; i != 8; i++) {
+      mutations.add(mutation("slow", 99));
+    }
+    mutations.add(mutation("fast", 99));
+
+    final List<List<MutationDetails>> actual = this.testee.groupMutations(
+        null, mutations);
+
+    // nine mutations costing 100 each, split into units costing no more than
+    // a quarter of the total
+    assertThat(actual).hasSize(5);
+    for (final List<MutationDetails> each : actual) {
+      assertThat(this.testee.costOf(each)).isLessThanOrEqualTo(225);
+    }
+  }
+
+  @Test
+  public void shouldKeepCheapClassesInSingleUnit() {
+    final List<List<MutationDetails>> actual = this.testee.groupMutations(
+        null, Arrays.asList(mutation("cheap", 1), mutation("cheap", 1),
+            mutation("expensive", 1000)));
+    assertThat(actual).hasSize(2);
+  }
+
+  @Test
+  public void shouldNotExceedMaximumUnitSize() {
+    final List<MutationDetails> mutations = new ArrayList<>();
+    for (int i = 0; i != 6; i++) {
+      mutations.add(mutation("foo"));
+    }
+    // cost alone would allow units of three
+    this.testee = new CostBalancedGrouper(1, 2);
+    assertThat(this.testee.groupMutations(null, mutations)).hasSize(3);
+  }
+
+  @Test
+  public void shouldAllowWorkStealing() {
+    assertThat(this.testee.allowsWorkStealing()).isTrue();
+  }
+
+  private static MutationDetails mutation(final String clazz,
+      final int... testTimes) {
+    final MutationDetails md = new MutationDetails(aMutationId().withLocation(
+        aLocation(clazz)).build(), "", "desc", 42, 0);
+    final List<TestInfo> tests = new ArrayList<>();
+    for (final int each : testTimes) {
+      tests.add(new TestInfo("test", "test" + tests.size(), each,
+          Optional.empty(), 0));
+    }
+    md.addTestsInOrder(tests);
+    return md;
+  }
+
+}
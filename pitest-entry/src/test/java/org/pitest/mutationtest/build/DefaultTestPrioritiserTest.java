@@ -1,5 +1,6 @@
 package org.pitest.mutationtest.build;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.Assert.assertEquals;
 import static org.mockito.Matchers.any;
 import static org.mockito.Mockito.when;
@@ -7,16 +8,23 @@ import static org.pitest.mutationtest.LocationMother.aLocation;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import java.util.function.Function;
 
 import org.junit.Before;
 import org.junit.Test;
 import org.mockito.Mock;
+import org.mockito.Mockito;
 import org.mockito.MockitoAnnotations;
 import org.pitest.classinfo.ClassByteArraySource;
 import org.pitest.classinfo.ClassName;
+import org.pitest.classpath.CodeSource;
+import org.pitest.coverage.BlockLocation;
 import org.pitest.coverage.ClassLine;
+import org.pitest.coverage.CoverageData;
+import org.pitest.coverage.CoverageResult;
+import org.pitest.coverage.LineMap;
 import org.pitest.coverage.CoverageDatabase;
 import org.pitest.coverage.TestInfo;
 import org.pitest.functional.FCollection;
@@ -24,6 +32,7 @@ import java.util.Optional;
 import org.pitest.mutationtest.engine.MutationDetails;
 import org.pitest.mutationtest.engine.MutationIdentifier;
 import org.pitest.mutationtest.engine.PoisonStatus;
+import org.pitest.testapi.Description;
 
 public class DefaultTestPrioritiserTest {
 
@@ -73,6 +82,29 @@ public class DefaultTestPrioritiserTest {
         FCollection.map(actual, toTime()));
   }
 
+  @Test
+  public void shouldShareOrderedTestsBetweenMutationsCoveredBySameTests() {
+    final CoverageData data = coverageOfLineOneOfFoo();
+    this.testee = new DefaultTestPrioritiser(data);
+    final List<TestInfo> first = this.testee.assignTests(makeMutation("foo"));
+    assertThat(first).hasSize(1);
+    assertThat(this.testee.assignTests(makeMutation("bar"))).isSameAs(first);
+  }
+
+  private CoverageData coverageOfLineOneOfFoo() {
+    final CodeSource code = Mockito.mock(CodeSource.class);
+    final LineMap lm = Mockito.mock(LineMap.class);
+    when(code.findTestee(any())).thenReturn(Optional.empty());
+    final BlockLocation block = new BlockLocation(aLocation().withClass(
+        this.foo).build(), 0);
+    when(lm.mapLines(this.foo)).thenReturn(
+        Collections.singletonMap(block, Collections.singleton(1)));
+    final CoverageData data = new CoverageData(code, lm);
+    data.calculateClassCoverage(new CoverageResult(new Description("fooTest",
+        "FooTest"), 1, true, Collections.singleton(block)));
+    return data;
+  }
+
   private Function<TestInfo, Integer> toTime() {
     return a -> a.getTime();
   }
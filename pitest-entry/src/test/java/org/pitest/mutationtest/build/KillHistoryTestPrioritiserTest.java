@@ -0,0 +1,117 @@
+package org.pitest.mutationtest.build;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+import static org.pitest.mutationtest.LocationMother.aMutationId;
+import static org.pitest.mutationtest.build.KillStatisticsTest.result;
+import static org.pitest.mutationtest.engine.MutationDetailsMother.aMutationDetail;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.pitest.coverage.TestInfo;
+import org.pitest.mutationtest.DetectionStatus;
+import org.pitest.mutationtest.engine.MutationDetails;
+import org.pitest.mutationtest.engine.MutationIdentifier;
+
+public class KillHistoryTestPrioritiserTest {
+
+  private KillHistoryTestPrioritiser testee;
+
+  @Mock
+  private TestPrioritiser            defaultOrder;
+
+  private KillStatistics             statistics;
+
+  private final MutationIdentifier   mutant   = aMutationId().withIndex(1)
+                                                  .build();
+
+  private final MutationDetails      mutation = aMutationDetail()
+                                                  .withId(this.mutant).build();
+
+  @Before
+  public void setUp() {
+    MockitoAnnotations.initMocks(this);
+    this.statistics = KillStatistics.empty();
+    this.testee = new KillHistoryTestPrioritiser(this.defaultOrder,
+        this.statistics);
+  }
+
+  @Test
+  public void shouldKeepDefaultOrderWhenNoStatisticsRecorded() {
+    givenDefaultOrder(test("a", 10), test("b", 1), test("c", 5));
+    assertThat(names(this.testee.assignTests(this.mutation))).containsExactly(
+        "a", "b", "c");
+  }
+
+  @Test
+  public void shouldRunPreviousKillerOfMutantFirst() {
+    this.statistics.record(result(this.mutant, DetectionStatus.KILLED, 3, "c",
+        "a", "b", "c"));
+    givenDefaultOrder(test("a", 1), test("b", 1), test("c", 1));
+    assertThat(names(this.testee.assignTests(this.mutation))).startsWith("c");
+  }
+
+  @Test
+  public void shouldOrderTestsThatHaveKilledByExpectedTimeToKill() {
+    final MutationIdentifier sibling = aMutationId().withIndex(2).build();
+    // a kills once in two runs, b kills every time
+    this.statistics.record(result(sibling, DetectionStatus.KILLED, 1, "a",
+        "a"));
+    this.statistics.record(result(sibling, DetectionStatus.SURVIVED, 1, null,
+        "a"));
+    this.statistics.record(result(sibling, DetectionStatus.KILLED, 1, "b",
+        "b"));
+    givenDefaultOrder(test("a", 9), test("b", 9));
+    assertThat(names(this.testee.assignTests(this.mutation))).containsExactly(
+        "b", "a");
+  }
+
+  @Test
+  public void shouldPreferFastTestsWithEqualKillRates() {
+    final MutationIdentifier sibling = aMutationId().withIndex(2).build();
+    this.statistics.record(result(sibling, DetectionStatus.KILLED, 1, "a",
+        "a"));
+    this.statistics.record(result(sibling, DetectionStatus.KILLED, 1, "b",
+        "b"));
+    givenDefaultOrder(test("a", 100), test("b", 1));
+    assertThat(names(this.testee.assignTests(this.mutation))).containsExactly(
+        "b", "a");
+  }
+
+  @Test
+  public void shouldRunTestsThatHaveNeverKilledLast() {
+    final MutationIdentifier sibling = aMutationId().withIndex(2).build();
+    this.statistics.record(result(sibling, DetectionStatus.SURVIVED, 1, null,
+        "a"));
+    this.statistics.record(result(sibling, DetectionStatus.KILLED, 1, "b",
+        "b"));
+    givenDefaultOrder(test("a", 1), test("c", 1), test("b", 1));
+    assertThat(names(this.testee.assignTests(this.mutation))).containsExactly(
+        "b", "c", "a");
+  }
+
+  private void givenDefaultOrder(final TestInfo... tests) {
+    when(this.defaultOrder.assignTests(this.mutation)).thenReturn(
+        Arrays.asList(tests));
+  }
+
+  private static TestInfo test(final String name, final int time) {
+    return new TestInfo("foo", name, time, Optional.empty(), 0);
+  }
+
+  private static List<String> names(final List<TestInfo> tests) {
+    final List<String> names = new ArrayList<>();
+    for (final TestInfo each : tests) {
+      names.add(each.getName());
+    }
+    return names;
+  }
+
+}
@@ -0,0 +1,53 @@
+package org.pitest.mutationtest.build;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.pitest.mutationtest.LocationMother.aMutationId;
+import static org.pitest.mutationtest.build.KillStatisticsTest.result;
+
+import java.io.File;
+import java.util.Collections;
+import java.util.Optional;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.pitest.mutationtest.ClassMutationResults;
+import org.pitest.mutationtest.DetectionStatus;
+import org.pitest.mutationtest.engine.MutationIdentifier;
+
+public class KillStatisticsListenerTest {
+
+  @Rule
+  public TemporaryFolder           folder     = new TemporaryFolder();
+
+  private final KillStatistics     statistics = KillStatistics.empty();
+
+  private final MutationIdentifier mutant     = aMutationId().build();
+
+  @Test
+  public void shouldRecordResultsInStatistics() {
+    final KillStatisticsListener testee = new KillStatisticsListener(
+        this.statistics, Optional.<File> empty());
+    testee.handleMutationResult(killedByA());
+    assertThat(this.statistics.previousKillersOf(this.mutant)).containsExactly(
+        "a");
+  }
+
+  @Test
+  public void shouldWriteStatisticsWhenRunEnds() {
+    final File file = new File(this.folder.getRoot(), "history.kills");
+    final KillStatisticsListener testee = new KillStatisticsListener(
+        this.statistics, Optional.of(file));
+    testee.runStart();
+    testee.handleMutationResult(killedByA());
+    testee.runEnd();
+    assertThat(KillStatistics.read(file).previousKillersOf(this.mutant))
+        .containsExactly("a");
+  }
+
+  private ClassMutationResults killedByA() {
+    return new ClassMutationResults(Collections.singletonList(result(
+        this.mutant, DetectionStatus.KILLED, 1, "a", "a")));
+  }
+
+}
@@ -0,0 +1,166 @@
+package org.pitest.mutationtest.build;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.pitest.mutationtest.LocationMother.aMutationId;
+import static org.pitest.mutationtest.engine.MutationDetailsMother.aMutationDetail;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.pitest.coverage.TestInfo;
+import org.pitest.mutationtest.DetectionStatus;
+import org.pitest.mutationtest.MutationResult;
+import org.pitest.mutationtest.MutationStatusTestPair;
+import org.pitest.mutationtest.build.KillStatistics.TestRecord;
+import org.pitest.mutationtest.engine.MutationIdentifier;
+
+public class KillStatisticsTest {
+
+  @Rule
+  public TemporaryFolder           folder  = new TemporaryFolder();
+
+  private final KillStatistics     testee  = KillStatistics.empty();
+
+  private final MutationIdentifier mutant  = aMutationId().withIndex(1)
+                                               .build();
+
+  private final MutationIdentifier sibling = aMutationId().withIndex(2)
+                                               .build();
+
+  @Test
+  public void shouldRecordRunsAndKillsForTestsThatWereRun() {
+    this.testee.record(result(this.mutant, DetectionStatus.KILLED, 2, "b",
+        "a", "b", "c"));
+    assertRecord(this.mutant, "a", 1, 0);
+    assertRecord(this.mutant, "b", 1, 1);
+    assertThat(this.testee.recordFor(this.mutant, "c")).isEmpty();
+  }
+
+  @Test
+  public void shouldShareStatisticsBetweenMutantsOfSameMutatorAndMethod() {
+    this.testee.record(result(this.mutant, DetectionStatus.KILLED, 1, "a",
+        "a"));
+    this.testee.record(result(this.sibling, DetectionStatus.SURVIVED, 1, null,
+        "a"));
+    assertRecord(this.sibling, "a", 2, 1);
+  }
+
+  @Test
+  public void shouldNotRecordTestsAgainstMutantsFromOtherMutators() {
+    this.testee.record(result(this.mutant, DetectionStatus.KILLED, 1, "a",
+        "a"));
+    assertThat(
+        this.testee.recordFor(aMutationId().withMutator("other").build(), "a"))
+        .isEmpty();
+  }
+
+  @Test
+  public void shouldRecordKillersOfEachMutant() {
+    this.testee.record(result(this.mutant, DetectionStatus.KILLED, 2, "b",
+        "a", "b"));
+    assertThat(this.testee.previousKillersOf(this.mutant)).containsExactly("b");
+    assertThat(this.testee.previousKillersOf(this.sibling)).isEmpty();
+  }
+
+  @Test
+  public void shouldForgetKillersOfMutantsThatSurvive() {
+    this.testee.record(result(this.mutant, DetectionStatus.KILLED, 1, "a",
+        "a"));
+    this.testee.record(result(this.mutant, DetectionStatus.SURVIVED, 1, null,
+        "a"));
+    assertThat(this.testee.previousKillersOf(this.mutant)).isEmpty();
+  }
+
+  @Test
+  public void shouldNotChangeCopyWhenResultsAreRecorded() {
+    this.testee.record(result(this.mutant, DetectionStatus.KILLED, 1, "a",
+        "a"));
+    final KillStatistics copy = this.testee.copy();
+    this.testee.record(result(this.mutant, DetectionStatus.SURVIVED, 2, null,
+        "a", "b"));
+
+    final TestRecord record = copy.recordFor(this.mutant, "a").get();
+    assertThat(record.runs).isEqualTo(1);
+    assertThat(record.kills).isEqualTo(1);
+    assertThat(copy.recordFor(this.mutant, "b")).isEmpty();
+    assertThat(copy.previousKillersOf(this.mutant)).containsExactly("a");
+  }
+
+  @Test
+  public void shouldIgnoreMutantsThatWereNeitherKilledNorSurvived() {
+    this.testee.record(result(this.mutant, DetectionStatus.TIMED_OUT, 1, null,
+        "a"));
+    assertThat(this.testee.recordFor(this.mutant, "a")).isEmpty();
+  }
+
+  @Test
+  public void shouldReadStatisticsThatWereWritten() throws IOException {
+    this.testee.record(result(this.mutant, DetectionStatus.KILLED, 2, "b",
+        "a", "b"));
+    final File file = this.folder.newFile();
+    this.testee.write(file);
+
+    final KillStatistics actual = KillStatistics.read(file);
+    assertThat(actual.previousKillersOf(this.mutant)).containsExactly("b");
+    assertThat(actual.recordFor(this.mutant, "a").get().runs).isEqualTo(1);
+    assertThat(actual.recordFor(this.mutant, "b").get().kills).isEqualTo(1);
+  }
+
+  @Test
+  public void shouldStoreStatisticsAlongsideHistoryFile() {
+    assertThat(KillStatistics.statisticsFileFor(new File("foo"))).contains(
+        new File("foo.kills"));
+    assertThat(KillStatistics.statisticsFileFor(null)).isEmpty();
+  }
+
+  @Test
+  public void shouldReturnNoStatisticsWhenNoneStoredForHistory() {
+    final KillStatistics actual = KillStatistics.forHistory(new File(
+        this.folder.getRoot(), "history"));
+    assertThat(actual.recordFor(this.mutant, "a")).isEmpty();
+  }
+
+  @Test
+  public void shouldReturnNoStatisticsWhenStoredStatisticsCannotBeRead()
+      throws IOException {
+    final File history = new File(this.folder.getRoot(), "history");
+    try (FileOutputStream fos = new FileOutputStream(KillStatistics
+        .statisticsFileFor(history).get())) {
+      fos.write(new byte[] { 0, 0, 0, 1, 0, 0 });
+    }
+    final KillStatistics actual = KillStatistics.forHistory(history);
+    assertThat(actual.recordFor(this.mutant, "a")).isEmpty();
+  }
+
+  private void assertRecord(final MutationIdentifier id, final String test,
+      final int runs, final int kills) {
+    final Optional<TestRecord> record = this.testee.recordFor(id, test);
+    assertThat(record).isPresent();
+    assertThat(record.get().runs).isEqualTo(runs);
+    assertThat(record.get().kills).isEqualTo(kills);
+  }
+
+  static MutationResult result(final MutationIdentifier id,
+      final DetectionStatus status, final int testsRun, final String killer,
+      final String... tests) {
+    final List<TestInfo> infos = new ArrayList<>();
+    for (final String each : tests) {
+      infos.add(new TestInfo("foo", each, 1, Optional.empty(), 0));
+    }
+    final List<String> killers = killer == null ? Collections.<String> emptyList()
+        : Arrays.asList(killer);
+    return new MutationResult(aMutationDetail().withId(id)
+        .withTestsInOrder(infos).build(), new MutationStatusTestPair(testsRun,
+        status, killers, Collections.<String> emptyList()));
+  }
+
+}
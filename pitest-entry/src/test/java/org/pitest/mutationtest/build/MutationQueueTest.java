@@ -0,0 +1,58 @@
+package org.pitest.mutationtest.build;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.pitest.mutationtest.LocationMother.aMutationId;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+import org.pitest.mutationtest.engine.MutationDetails;
+
+public class MutationQueueTest {
+
+  private final List<MutationDetails> mutations = makeMutations(5);
+
+  private final MutationQueue         testee    = new MutationQueue(
+                                                    this.mutations);
+
+  @Test
+  public void shouldTakeHalfOfRemainingMutationsFromHead() {
+    assertThat(this.testee.takeBatch()).containsExactlyElementsOf(
+        this.mutations.subList(0, 3));
+    assertThat(this.testee.takeBatch()).containsExactly(this.mutations.get(3));
+    assertThat(this.testee.takeBatch()).containsExactly(this.mutations.get(4));
+    assertThat(this.testee.takeBatch()).isEmpty();
+  }
+
+  @Test
+  public void shouldStealHalfOfRemainingMutationsFromTail() {
+    assertThat(this.testee.steal()).containsExactlyElementsOf(
+        this.mutations.subList(3, 5));
+    assertThat(this.testee.remaining()).isEqualTo(3);
+  }
+
+  @Test
+  public void shouldStealLastRemainingMutation() {
+    final MutationQueue single = new MutationQueue(makeMutations(1));
+    assertThat(single.steal()).hasSize(1);
+    assertThat(single.steal()).isEmpty();
+  }
+
+  @Test
+  public void shouldBeStartedOnceABatchHasBeenTaken() {
+    assertThat(this.testee.hasStarted()).isFalse();
+    this.testee.takeBatch();
+    assertThat(this.testee.hasStarted()).isTrue();
+  }
+
+  static List<MutationDetails> makeMutations(final int count) {
+    final List<MutationDetails> mutations = new ArrayList<>();
+    for (int i = 0; i != count; i++) {
+      mutations.add(new MutationDetails(aMutationId().withIndex(i).build(),
+          "file", "desc", 0, 0));
+    }
+    return mutations;
+  }
+
+}
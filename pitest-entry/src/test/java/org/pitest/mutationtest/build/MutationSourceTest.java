@@ -1,7 +1,13 @@
 package org.pitest.mutationtest.build;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.Assert.assertEquals;
+import static org.mockito.AdditionalAnswers.returnsFirstArg;
 import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyCollectionOf;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.pitest.mutationtest.LocationMother.aLocation;
 
@@ -9,6 +15,7 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.function.Function;
 
 import org.junit.Before;
@@ -76,6 +83,33 @@ public class MutationSourceTest {
     assertEquals(expected, actual.getTestsInOrder());
   }
 
+  @Test
+  public void shouldGiveEachThreadItsOwnInterceptor() throws Exception {
+    final List<MutationInterceptor> created = new CopyOnWriteArrayList<>();
+    this.testee = new MutationSource(this.config, this.prioritiser,
+        this.source, () -> {
+          final MutationInterceptor interceptor = mock(MutationInterceptor.class);
+          when(interceptor.intercept(anyCollectionOf(MutationDetails.class),
+              any(Mutater.class))).then(returnsFirstArg());
+          created.add(interceptor);
+          return interceptor;
+        });
+    when(this.prioritiser.assignTests(any(MutationDetails.class))).thenReturn(
+        makeTestInfos(0));
+    when(this.mutater.findMutations(any(ClassName.class))).thenReturn(
+        makeMutations("foo"));
+
+    this.testee.createMutations(this.foo);
+    final Thread other = new Thread(() -> this.testee.createMutations(this.foo));
+    other.start();
+    other.join();
+    this.testee.createMutations(this.foo);
+
+    assertThat(created).hasSize(2);
+    verify(created.get(0), times(2)).end();
+    verify(created.get(1)).end();
+  }
+
   private List<TestInfo> makeTestInfos(final Integer... times) {
     return new ArrayList<>(FCollection.map(Arrays.asList(times),
         timeToTestInfo()));
@@ -1,5 +1,6 @@
 package org.pitest.mutationtest.build;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.Matchers.any;
@@ -7,17 +8,26 @@ import static org.mockito.Mockito.when;
 import static org.pitest.mutationtest.LocationMother.aLocation;
 import static org.pitest.mutationtest.LocationMother.aMutationId;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.junit.Before;
 import org.junit.Test;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 import org.pitest.classinfo.ClassName;
+import org.pitest.coverage.TestInfo;
 import org.pitest.mutationtest.NullAnalyser;
 import org.pitest.mutationtest.engine.MutationDetails;
+import org.pitest.util.PitError;
 
 public class MutationTestBuilderTest {
 
@@ -80,6 +90,75 @@ public class MutationTestBuilderTest {
     assertTrue(actual.get(0).priority() > actual.get(1).priority());
   }
 
+  @Test
+  public void shouldOrderUnitsByCostEstimatedByGrouper() {
+    this.testee = new MutationTestBuilder(this.wf, new NullAnalyser(),
+        this.source, new CostBalancedGrouper(1, 0));
+    final ClassName foo = ClassName.fromString("foo");
+    final ClassName bar = ClassName.fromString("bar");
+    final MutationDetails slow = createDetails("foo");
+    slow.addTestsInOrder(Collections.singletonList(new TestInfo("test",
+        "test", 1000, Optional.empty(), 0)));
+    when(this.source.createMutations(foo)).thenReturn(Arrays.asList(slow));
+    when(this.source.createMutations(bar)).thenReturn(
+        Arrays.asList(createDetails("bar"), createDetails("bar")));
+    final List<MutationAnalysisUnit> actual = this.testee
+        .createMutationTestUnits(Arrays.asList(foo, bar));
+    assertEquals(1001, actual.get(0).priority());
+  }
+
+  @Test
+  public void shouldCreateWorkStealingUnitsWhenGrouperAllowsIt() {
+    this.testee = new MutationTestBuilder(this.wf, new NullAnalyser(),
+        this.source, new CostBalancedGrouper(1, 0));
+    when(this.source.createMutations(any(ClassName.class))).thenReturn(
+        Arrays.asList(createDetails("foo")));
+    final List<MutationAnalysisUnit> actual = this.testee
+        .createMutationTestUnits(Arrays.asList(ClassName.fromString("foo")));
+    assertTrue(actual.get(0) instanceof WorkStealingMutationTestUnit);
+  }
+
+  @Test
+  public void shouldFindMutationsForAllClassesWhenUsingSeveralThreads() {
+    // mutations are made up front as the builders used are not thread safe
+    final Map<ClassName, List<MutationDetails>> mutations = new HashMap<>();
+    for (int i = 0; i != 50; i++) {
+      mutations.put(ClassName.fromString("foo" + i),
+          Arrays.asList(createDetails("foo" + i), createDetails("foo" + i)));
+    }
+    final Set<String> threads = ConcurrentHashMap.newKeySet();
+    final MutationSource recordingSource = new MutationSource(null, null,
+        null, CompoundMutationInterceptor.nullInterceptor()) {
+      @Override
+      public Collection<MutationDetails> createMutations(final ClassName clazz) {
+        threads.add(Thread.currentThread().getName());
+        return mutations.get(clazz);
+      }
+    };
+    this.testee = new MutationTestBuilder(this.wf, new NullAnalyser(),
+        recordingSource, new DefaultGrouper(0), 4);
+
+    final List<ClassName> classes = new ArrayList<>(mutations.keySet());
+    final List<MutationAnalysisUnit> actual = this.testee
+        .createMutationTestUnits(classes);
+
+    assertEquals(50, actual.size());
+    for (final MutationAnalysisUnit each : actual) {
+      assertEquals(2, each.priority());
+    }
+    assertThat(threads).allMatch(t -> t.startsWith("mutationDiscovery"));
+  }
+
+  @Test(expected = PitError.class)
+  public void shouldReportErrorsFromDiscoveryThreads() {
+    when(this.source.createMutations(any(ClassName.class))).thenThrow(
+        new PitError("oops"));
+    this.testee = new MutationTestBuilder(this.wf, new NullAnalyser(),
+        this.source, new DefaultGrouper(0), 2);
+    this.testee.createMutationTestUnits(Arrays.asList(
+        ClassName.fromString("foo"), ClassName.fromString("bar")));
+  }
+
   private void assertCreatesOneTestUnitForTwoMutations() {
     final MutationDetails mutation1 = createDetails("foo");
     final MutationDetails mutation2 = createDetails("foo");
@@ -0,0 +1,116 @@
+package org.pitest.mutationtest.build;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.pitest.mutationtest.build.MutationTestBuilderTest.createDetails;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.pitest.classinfo.ClassName;
+import org.pitest.mutationtest.NullAnalyser;
+import org.pitest.mutationtest.engine.MutationDetails;
+import org.pitest.util.PitError;
+
+public class MutationTestUnitPipelineTest {
+
+  private final Map<ClassName, List<MutationDetails>> mutations = new HashMap<>();
+  private final List<ClassName>                       classes   = new ArrayList<>();
+  private final AtomicInteger                         searched  = new AtomicInteger();
+
+  private ClassName                                   failing;
+
+  @Before
+  public void setUp() {
+    // the number of mutations in each class identifies its unit
+    for (int i = 0; i != 20; i++) {
+      final ClassName clazz = ClassName.fromString("foo" + i);
+      final List<MutationDetails> ms = new ArrayList<>();
+      for (int j = 0; j <= i; j++) {
+        ms.add(createDetails(clazz.asJavaName()));
+      }
+      this.mutations.put(clazz, ms);
+      this.classes.add(clazz);
+    }
+  }
+
+  @Test(timeout = 10000)
+  public void shouldHandOutUnitsInClassOrder() {
+    final List<Integer> actual = new ArrayList<>();
+    try (MutationTestUnitPipeline testee = pipeline(4)) {
+      while (testee.hasNext()) {
+        actual.add(testee.next().priority());
+      }
+    }
+
+    final List<Integer> expected = new ArrayList<>();
+    for (int i = 1; i <= 20; i++) {
+      expected.add(i);
+    }
+    assertThat(actual).isEqualTo(expected);
+  }
+
+  @Test(timeout = 10000)
+  public void shouldSkipClassesWithoutMutations() {
+    this.mutations.put(this.classes.get(0),
+        Collections.<MutationDetails> emptyList());
+    try (MutationTestUnitPipeline testee = pipeline(1)) {
+      assertThat(testee.next().priority()).isEqualTo(2);
+    }
+  }
+
+  @Test(timeout = 10000)
+  public void shouldHaveNoUnitsWhenThereAreNoClasses() {
+    this.classes.clear();
+    try (MutationTestUnitPipeline testee = pipeline(2)) {
+      assertThat(testee.hasNext()).isFalse();
+    }
+  }
+
+  @Test(timeout = 10000)
+  public void shouldReportErrorsOnceEarlierUnitsHaveBeenTaken() {
+    this.failing = this.classes.get(2);
+    final List<Integer> taken = new ArrayList<>();
+    try (MutationTestUnitPipeline testee = pipeline(2)) {
+      assertThatThrownBy(() -> {
+        while (testee.hasNext()) {
+          taken.add(testee.next().priority());
+        }
+      }).isInstanceOf(PitError.class);
+    }
+    assertThat(taken).containsExactly(1, 2);
+  }
+
+  @Test(timeout = 10000)
+  public void shouldOnlySearchAFewClassesAheadOfTheUnitsTaken() {
+    try (MutationTestUnitPipeline testee = pipeline(1)) {
+      testee.next();
+      // one class in hand, two queued and two being searched
+      assertThat(this.searched.get()).isLessThanOrEqualTo(6);
+    }
+  }
+
+  private MutationTestUnitPipeline pipeline(final int threads) {
+    final MutationSource source = new MutationSource(null, null, null,
+        CompoundMutationInterceptor.nullInterceptor()) {
+      @Override
+      public Collection<MutationDetails> createMutations(final ClassName clazz) {
+        MutationTestUnitPipelineTest.this.searched.incrementAndGet();
+        if (clazz.equals(MutationTestUnitPipelineTest.this.failing)) {
+          throw new PitError("oops");
+        }
+        return MutationTestUnitPipelineTest.this.mutations.get(clazz);
+      }
+    };
+    return new MutationTestBuilder(null, new NullAnalyser(), source,
+        new DefaultGrouper(0), threads).streamMutationTestUnits(this.classes);
+  }
+
+}
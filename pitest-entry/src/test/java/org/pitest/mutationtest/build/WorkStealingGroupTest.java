@@ -0,0 +1,43 @@
+package org.pitest.mutationtest.build;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.pitest.mutationtest.build.MutationQueueTest.makeMutations;
+
+import java.util.List;
+
+import org.junit.Test;
+import org.pitest.mutationtest.engine.MutationDetails;
+
+public class WorkStealingGroupTest {
+
+  private final WorkStealingGroup testee = new WorkStealingGroup();
+
+  @Test
+  public void shouldStealNothingWhenNoUnitsRegistered() {
+    assertThat(this.testee.steal()).isEmpty();
+  }
+
+  @Test
+  public void shouldStealNothingWhileUnitsAreWaitingToStart() {
+    this.testee.register(makeMutations(4)).takeBatch();
+    this.testee.register(makeMutations(4));
+    assertThat(this.testee.steal()).isEmpty();
+  }
+
+  @Test
+  public void shouldStealFromUnitWithMostRemainingMutations() {
+    final List<MutationDetails> large = makeMutations(8);
+    this.testee.register(makeMutations(4)).takeBatch();
+    this.testee.register(large).takeBatch();
+    assertThat(this.testee.steal()).containsExactlyElementsOf(
+        large.subList(6, 8));
+  }
+
+  @Test
+  public void shouldStealNothingOnceAllMutationsStarted() {
+    final MutationQueue queue = this.testee.register(makeMutations(1));
+    queue.takeBatch();
+    assertThat(this.testee.steal()).isEmpty();
+  }
+
+}
@@ -0,0 +1,83 @@
+package org.pitest.mutationtest.build;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.pitest.mutationtest.build.MutationQueueTest.makeMutations;
+
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.pitest.functional.FCollection;
+import org.pitest.mutationtest.DetectionStatus;
+import org.pitest.mutationtest.EngineArguments;
+import org.pitest.mutationtest.MutationConfig;
+import org.pitest.mutationtest.MutationMetaData;
+import org.pitest.mutationtest.MutationResult;
+import org.pitest.mutationtest.TimeoutLengthStrategy;
+import org.pitest.mutationtest.config.TestPluginArguments;
+import org.pitest.mutationtest.engine.MutationDetails;
+import org.pitest.mutationtest.engine.MutationEngine;
+import org.pitest.process.JavaAgent;
+import org.pitest.process.LaunchOptions;
+
+public class WorkStealingMutationTestUnitTest {
+
+  private WorkerFactory         workerFactory;
+
+  private WorkStealingGroup     group;
+
+  @Mock
+  private TimeoutLengthStrategy timeout;
+
+  @Mock
+  private JavaAgent             javaAgent;
+
+  @Mock
+  private MutationEngine        engine;
+
+  @Before
+  public void setUp() {
+    MockitoAnnotations.initMocks(this);
+    this.workerFactory = new WorkerFactory(null, TestPluginArguments.defaults(),
+        new MutationConfig(this.engine, new LaunchOptions(this.javaAgent)),
+        EngineArguments.arguments(), this.timeout, false, false, null, 1);
+    this.group = new WorkStealingGroup();
+  }
+
+  @Test
+  public void shouldAnalyseAllOwnMutations() throws Exception {
+    // mutations without tests are analysed without launching a minion
+    final List<MutationDetails> mutations = makeMutations(5);
+    final MutationMetaData actual = makeTestee(mutations).call();
+    assertThat(detailsOf(actual)).containsOnlyElementsOf(mutations).hasSize(5);
+    assertThat(actual.getMutations()).allMatch(
+        r -> r.getStatus() == DetectionStatus.NO_COVERAGE);
+  }
+
+  @Test
+  public void shouldStealUnstartedMutationsFromRunningUnits() throws Exception {
+    final List<MutationDetails> running = makeMutations(4);
+    this.group.register(running).takeBatch();
+    final MutationMetaData actual = makeTestee(makeMutations(1)).call();
+    assertThat(detailsOf(actual)).containsAll(running.subList(2, 4));
+  }
+
+  @Test
+  public void shouldReportPriorityItWasGiven() {
+    assertThat(new WorkStealingMutationTestUnit(null, this.group, null, 42)
+        .priority()).isEqualTo(42);
+  }
+
+  private WorkStealingMutationTestUnit makeTestee(
+      final List<MutationDetails> mutations) {
+    return new WorkStealingMutationTestUnit(this.group.register(mutations),
+        this.group, this.workerFactory, mutations.size());
+  }
+
+  private static List<MutationDetails> detailsOf(final MutationMetaData data) {
+    return FCollection.map(data.getMutations(), MutationResult::getDetails);
+  }
+
+}
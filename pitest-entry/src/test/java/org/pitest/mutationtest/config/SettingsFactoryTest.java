@@ -18,8 +18,11 @@ import org.pitest.coverage.execute.CoverageOptions;
 import org.pitest.coverage.export.NullCoverageExporter;
 import org.pitest.functional.SideEffect1;
 import org.pitest.mutationtest.engine.gregor.config.GregorEngineFactory;
+import org.pitest.mutationtest.incremental.BinaryHistoryStore;
+import org.pitest.mutationtest.incremental.ObjectOutputStreamHistoryStore;
 import org.pitest.plugin.Feature;
 import org.pitest.testapi.TestGroupConfig;
+import org.pitest.util.MinionTransport;
 import org.pitest.util.PitError;
 
 public class SettingsFactoryTest {
@@ -53,6 +56,41 @@ public class SettingsFactoryTest {
     this.testee.createEngine();
   }
 
+  @Test
+  public void shouldCreateTextHistoryStoreByDefault() {
+    assertTrue(this.testee
+        .createHistoryStore() instanceof ObjectOutputStreamHistoryStore);
+  }
+
+  @Test
+  public void shouldCreateBinaryHistoryStoreWhenRequested() {
+    this.options.setHistoryFormat("binary");
+    assertTrue(this.testee.createHistoryStore() instanceof BinaryHistoryStore);
+  }
+
+  @Test(expected = PitError.class)
+  public void shouldThrowErrorWhenRequestedHistoryFormatNotKnown() {
+    this.options.setHistoryFormat("unknown");
+    this.testee.createHistoryStore();
+  }
+
+  @Test
+  public void shouldConnectMinionsThroughSocketsByDefault() {
+    assertEquals(MinionTransport.SOCKET, this.testee.getMinionTransport());
+  }
+
+  @Test
+  public void shouldConnectMinionsThroughPipesWhenRequested() {
+    this.options.setMinionTransport("PIPE");
+    assertEquals(MinionTransport.PIPE, this.testee.getMinionTransport());
+  }
+
+  @Test(expected = PitError.class)
+  public void shouldThrowErrorWhenRequestedMinionTransportNotKnown() {
+    this.options.setMinionTransport("carrier pigeon");
+    this.testee.getMinionTransport();
+  }
+
   @Test
   public void shouldReturnListenerWhenRequestedListenerIsKnown() {
     this.options.addOutputFormats(Arrays.asList("XML"));
@@ -71,6 +109,19 @@ public class SettingsFactoryTest {
     this.testee.createListener();
   }
 
+  @Test
+  public void shouldNotCacheCoverageByDefault() {
+    this.options.setHistoryOutputLocation(new File("history"));
+    assertFalse(this.testee.createCoverageCache().isWritable());
+  }
+
+  @Test
+  public void shouldCacheCoverageWithHistoryWhenCacheEnabled() {
+    this.options.setHistoryOutputLocation(new File("history"));
+    this.options.setUseCoverageCache(true);
+    assertTrue(this.testee.createCoverageCache().isWritable());
+  }
+
   @Test
   public void shouldReturnADefaultJavaExecutableWhenNoneIsSpecified() {
     this.options.setJavaExecutable(null);
@@ -0,0 +1,75 @@
+package org.pitest.mutationtest.execute;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Test;
+
+public class MinionPoolTest {
+
+  private MinionPool         testee;
+
+  private List<PooledMinion> created;
+
+  @Before
+  public void setUp() {
+    this.created = new ArrayList<>();
+    this.testee = new MinionPool(1, () -> {
+      final PooledMinion minion = mock(PooledMinion.class);
+      when(minion.isAlive()).thenReturn(true);
+      this.created.add(minion);
+      return minion;
+    });
+  }
+
+  @Test
+  public void shouldStartNewMinionWhenNoneIdle() throws IOException {
+    final PooledMinion actual = this.testee.acquire();
+    assertThat(this.created).containsExactly(actual);
+    verify(actual).start();
+  }
+
+  @Test
+  public void shouldReuseReleasedMinion() throws IOException {
+    final PooledMinion first = this.testee.acquire();
+    this.testee.release(first);
+    assertThat(this.testee.acquire()).isSameAs(first);
+    assertThat(this.created).hasSize(1);
+  }
+
+  @Test
+  public void shouldNotReuseMinionThatHasDied() throws IOException {
+    final PooledMinion first = this.testee.acquire();
+    when(first.isAlive()).thenReturn(false);
+    this.testee.release(first);
+    verify(first).destroy();
+    assertThat(this.testee.acquire()).isNotSameAs(first);
+  }
+
+  @Test
+  public void shouldDestroyMinionsReleasedWhenPoolIsFull() throws IOException {
+    final PooledMinion first = this.testee.acquire();
+    final PooledMinion second = this.testee.acquire();
+    this.testee.release(first);
+    this.testee.release(second);
+    verify(first, never()).destroy();
+    verify(second).destroy();
+  }
+
+  @Test
+  public void shouldDestroyIdleMinionsOnShutdown() throws IOException {
+    final PooledMinion first = this.testee.acquire();
+    this.testee.release(first);
+    this.testee.shutdown();
+    verify(first).destroy();
+  }
+
+}
@@ -0,0 +1,194 @@
+package org.pitest.mutationtest.execute;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+import org.pitest.mutationtest.ClassMutationResults;
+import org.pitest.mutationtest.DetectionStatus;
+import org.pitest.mutationtest.MutationMetaData;
+import org.pitest.mutationtest.MutationResult;
+import org.pitest.mutationtest.MutationResultListener;
+import org.pitest.mutationtest.MutationStatusTestPair;
+import org.pitest.mutationtest.build.MutationAnalysisUnit;
+import org.pitest.mutationtest.report.MutationTestResultMother;
+
+public class MutationAnalysisExecutorTest {
+
+  private final List<String>   received         = Collections
+      .synchronizedList(new ArrayList<String>());
+
+  private final CountDownLatch fastUnitReported = new CountDownLatch(1);
+
+  @Test(timeout = 10000)
+  public void shouldDeliverResultsInCompletionOrder() {
+    final MutationAnalysisUnit slow = unit("slow", () -> {
+      await(this.fastUnitReported);
+    });
+    final MutationAnalysisUnit fast = unit("fast", () -> {
+    });
+
+    final MutationAnalysisExecutor testee = new MutationAnalysisExecutor(2,
+        Collections.singletonList(recordingListener()));
+    testee.run(Arrays.asList(slow, fast));
+
+    assertThat(this.received).containsExactly("fast", "slow");
+  }
+
+  @Test(timeout = 10000)
+  public void shouldDeliverResultsInSubmissionOrderWhenAsked() {
+    final CountDownLatch fastUnitFinished = new CountDownLatch(1);
+    final MutationAnalysisUnit slow = unit("slow", () -> {
+      await(fastUnitFinished);
+    });
+    final MutationAnalysisUnit fast = unit("fast",
+        () -> fastUnitFinished.countDown());
+
+    final MutationAnalysisExecutor testee = new MutationAnalysisExecutor(2,
+        Collections.singletonList(recordingListener()), true);
+    testee.run(Arrays.asList(slow, fast));
+
+    assertThat(this.received).containsExactly("slow", "fast");
+  }
+
+  @Test
+  public void shouldDeliverEveryResultInSubmissionOrderWhenMoreUnitsThanCanBeInFlight() {
+    final List<MutationAnalysisUnit> units = new ArrayList<>();
+    final List<String> expected = new ArrayList<>();
+    for (int i = 0; i != 20; i++) {
+      units.add(unit("unit" + i, () -> {
+      }));
+      expected.add("unit" + i);
+    }
+
+    final MutationAnalysisExecutor testee = new MutationAnalysisExecutor(3,
+        Collections.singletonList(recordingListener()), true);
+    testee.run(units);
+
+    assertThat(this.received).containsExactlyElementsOf(expected);
+  }
+
+  @Test
+  public void shouldDeliverEveryResultWhenMoreUnitsThanCanBeInFlight() {
+    final List<MutationAnalysisUnit> units = new ArrayList<>();
+    for (int i = 0; i != 20; i++) {
+      units.add(unit("unit" + i, () -> {
+      }));
+    }
+
+    final MutationAnalysisExecutor testee = new MutationAnalysisExecutor(1,
+        Collections.singletonList(recordingListener()));
+    testee.run(units);
+
+    assertThat(this.received).hasSize(20);
+  }
+
+  @Test
+  public void shouldNotHaveMoreThanTwiceThreadCountUnitsOutstanding() {
+    final AtomicInteger started = new AtomicInteger();
+    final AtomicInteger maxOutstanding = new AtomicInteger();
+    final List<MutationAnalysisUnit> units = new ArrayList<>();
+    for (int i = 0; i != 20; i++) {
+      units.add(unit("unit" + i, () -> {
+        final int outstanding = started.incrementAndGet()
+            - this.received.size();
+        maxOutstanding.accumulateAndGet(outstanding, Math::max);
+      }));
+    }
+
+    final MutationAnalysisExecutor testee = new MutationAnalysisExecutor(1,
+        Collections.singletonList(recordingListener()));
+    testee.run(units);
+
+    assertThat(maxOutstanding.get()).isLessThanOrEqualTo(2);
+  }
+
+  @Test(timeout = 10000)
+  public void shouldStartUnitsBeforeLaterUnitsHaveBeenCreated() {
+    final CountDownLatch firstUnitStarted = new CountDownLatch(1);
+    final MutationAnalysisUnit first = unit("first",
+        () -> firstUnitStarted.countDown());
+    final MutationAnalysisUnit second = unit("second", () -> {
+    });
+    // the second unit cannot be created until the first has started
+    final Iterator<MutationAnalysisUnit> units = new Iterator<MutationAnalysisUnit>() {
+      private int created;
+
+      @Override
+      public boolean hasNext() {
+        return this.created != 2;
+      }
+
+      @Override
+      public MutationAnalysisUnit next() {
+        this.created++;
+        if (this.created == 1) {
+          return first;
+        }
+        await(firstUnitStarted);
+        return second;
+      }
+    };
+
+    final MutationAnalysisExecutor testee = new MutationAnalysisExecutor(1,
+        Collections.singletonList(recordingListener()));
+    testee.run(units);
+
+    assertThat(this.received).containsExactly("first", "second");
+  }
+
+  private MutationResultListener recordingListener() {
+    return new MutationResultListener() {
+      @Override
+      public void runStart() {
+      }
+
+      @Override
+      public void handleMutationResult(final ClassMutationResults results) {
+        MutationAnalysisExecutorTest.this.received.add(results.getFileName());
+        if (results.getFileName().equals("fast")) {
+          MutationAnalysisExecutorTest.this.fastUnitReported.countDown();
+        }
+      }
+
+      @Override
+      public void runEnd() {
+      }
+    };
+  }
+
+  private static MutationAnalysisUnit unit(final String file,
+      final Runnable work) {
+    return new MutationAnalysisUnit() {
+      @Override
+      public MutationMetaData call() {
+        work.run();
+        return new MutationMetaData(Collections.singletonList(new MutationResult(
+            MutationTestResultMother.createDetails(file),
+            new MutationStatusTestPair(1, DetectionStatus.KILLED, "foo"))));
+      }
+
+      @Override
+      public int priority() {
+        return 0;
+      }
+    };
+  }
+
+  private static void await(final CountDownLatch latch) {
+    try {
+      latch.await(5, TimeUnit.SECONDS);
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+}
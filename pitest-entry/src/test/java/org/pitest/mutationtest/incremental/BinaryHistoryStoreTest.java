@@ -0,0 +1,243 @@
+package org.pitest.mutationtest.incremental;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.when;
+import static org.pitest.mutationtest.LocationMother.aMutationId;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.pitest.classinfo.ClassIdentifier;
+import org.pitest.classinfo.ClassName;
+import org.pitest.classinfo.HierarchicalClassId;
+import org.pitest.coverage.CoverageDatabase;
+import org.pitest.mutationtest.ClassHistory;
+import org.pitest.mutationtest.DetectionStatus;
+import org.pitest.mutationtest.MutationResult;
+import org.pitest.mutationtest.MutationStatusTestPair;
+import org.pitest.mutationtest.engine.MutationDetails;
+import org.pitest.mutationtest.engine.MutationIdentifier;
+
+public class BinaryHistoryStoreTest {
+
+  private static final String COV    = BigInteger.TEN.toString(16);
+
+  @Rule
+  public TemporaryFolder      folder = new TemporaryFolder();
+
+  @Mock
+  private CoverageDatabase    coverage;
+
+  private File                file;
+
+  @Before
+  public void setUp() {
+    MockitoAnnotations.initMocks(this);
+    when(this.coverage.getCoverageIdForClass(any(ClassName.class)))
+        .thenReturn(BigInteger.TEN);
+    this.file = new File(this.folder.getRoot(), "history");
+  }
+
+  @Test
+  public void shouldRecordAndRetrieveClassPath() {
+    final HierarchicalClassId foo = new HierarchicalClassId(
+        new ClassIdentifier(1, ClassName.fromString("foo")), "a1");
+    final HierarchicalClassId bar = new HierarchicalClassId(
+        new ClassIdentifier(2, ClassName.fromString("bar")), "b2");
+
+    final BinaryHistoryStore writer = storeWritingTo(this.file);
+    writer.recordClassPath(Arrays.asList(foo, bar), this.coverage);
+    writer.close();
+
+    final Map<ClassName, ClassHistory> expected = new HashMap<>();
+    expected.put(foo.getName(), new ClassHistory(foo, COV));
+    expected.put(bar.getName(), new ClassHistory(bar, COV));
+    assertEquals(expected, readFrom(this.file).getHistoricClassPath());
+  }
+
+  @Test
+  public void shouldRecordAndRetrieveResults() {
+    final MutationResult killed = aResult(1, new MutationStatusTestPair(1,
+        DetectionStatus.KILLED, Arrays.asList("killer"),
+        Arrays.asList("passes")));
+    final MutationResult survived = aResult(2, new MutationStatusTestPair(3,
+        DetectionStatus.SURVIVED));
+
+    final BinaryHistoryStore writer = storeWritingTo(this.file);
+    writer.recordResult(killed);
+    writer.recordResult(survived);
+    writer.close();
+
+    final Map<MutationIdentifier, MutationStatusTestPair> actual = readFrom(
+        this.file).getHistoricResults();
+    assertEquals(killed.getStatusTestPair(),
+        actual.get(killed.getDetails().getId()));
+    assertEquals(survived.getStatusTestPair(),
+        actual.get(survived.getDetails().getId()));
+    assertEquals(2, actual.size());
+  }
+
+  @Test
+  public void shouldReturnNullForResultsNotInHistory() {
+    final BinaryHistoryStore writer = storeWritingTo(this.file);
+    writer.recordResult(aResult(1, new MutationStatusTestPair(1,
+        DetectionStatus.KILLED)));
+    writer.close();
+
+    assertNull(readFrom(this.file).getHistoricResults().get(
+        aMutationId().withIndex(2).build()));
+  }
+
+  @Test
+  public void shouldIterateOverAllResults() {
+    final MutationResult first = aResult(1, new MutationStatusTestPair(1,
+        DetectionStatus.KILLED));
+    final MutationResult second = aResult(2, new MutationStatusTestPair(1,
+        DetectionStatus.TIMED_OUT));
+
+    final BinaryHistoryStore writer = storeWritingTo(this.file);
+    writer.recordResult(first);
+    writer.recordResult(second);
+    writer.close();
+
+    final Map<MutationIdentifier, MutationStatusTestPair> expected = new HashMap<>();
+    expected.put(first.getDetails().getId(), first.getStatusTestPair());
+    expected.put(second.getDetails().getId(), second.getStatusTestPair());
+    assertEquals(expected, new HashMap<>(readFrom(this.file)
+        .getHistoricResults()));
+  }
+
+  @Test
+  public void shouldReplaceHistoryThatIsBeingRead() {
+    final MutationResult old = aResult(1, new MutationStatusTestPair(1,
+        DetectionStatus.KILLED));
+    final BinaryHistoryStore first = storeWritingTo(this.file);
+    first.recordResult(old);
+    first.close();
+
+    final MutationResult replacement = aResult(2, new MutationStatusTestPair(
+        1, DetectionStatus.SURVIVED));
+    final BinaryHistoryStore second = new BinaryHistoryStore(
+        Optional.of(this.file), Optional.of(this.file));
+    second.initialize();
+    assertEquals(old.getStatusTestPair(), second.getHistoricResults().get(
+        old.getDetails().getId()));
+    second.recordResult(replacement);
+    second.close();
+
+    final Map<MutationIdentifier, MutationStatusTestPair> actual = readFrom(
+        this.file).getHistoricResults();
+    assertEquals(Collections.singletonMap(replacement.getDetails().getId(),
+        replacement.getStatusTestPair()), new HashMap<>(actual));
+    assertFalse(new File(this.file.getPath() + ".tmp").exists());
+  }
+
+  @Test
+  public void shouldMigrateTextHistory() {
+    final HierarchicalClassId foo = new HierarchicalClassId(
+        new ClassIdentifier(1, ClassName.fromString("foo")), "a1");
+    final MutationResult result = aResult(1, new MutationStatusTestPair(1,
+        DetectionStatus.KILLED, "killer"));
+    final FileWriterFactory textWriter = new FileWriterFactory(this.file);
+    final ObjectOutputStreamHistoryStore text = new ObjectOutputStreamHistoryStore(
+        textWriter, Optional.empty());
+    text.recordClassPath(Arrays.asList(foo), this.coverage);
+    text.recordResult(result);
+    text.close();
+
+    final BinaryHistoryStore migrating = new BinaryHistoryStore(
+        Optional.of(this.file), Optional.of(this.file));
+    migrating.initialize();
+    assertEquals(result.getStatusTestPair(), migrating.getHistoricResults()
+        .get(result.getDetails().getId()));
+    migrating.recordClassPath(Arrays.asList(foo), this.coverage);
+    migrating.recordResult(result);
+    migrating.close();
+
+    final BinaryHistoryStore binary = readFrom(this.file);
+    assertEquals(new ClassHistory(foo, COV), binary.getHistoricClassPath()
+        .get(foo.getName()));
+    assertEquals(result.getStatusTestPair(), binary.getHistoricResults().get(
+        result.getDetails().getId()));
+  }
+
+  @Test
+  public void shouldReadResultsBeforeATruncatedRecord() throws IOException {
+    final MutationResult first = aResult(1, new MutationStatusTestPair(1,
+        DetectionStatus.KILLED));
+    final MutationResult second = aResult(2, new MutationStatusTestPair(1,
+        DetectionStatus.SURVIVED));
+    final BinaryHistoryStore writer = storeWritingTo(this.file);
+    writer.recordResult(first);
+    writer.recordResult(second);
+    writer.close();
+
+    try (RandomAccessFile raf = new RandomAccessFile(this.file, "rw")) {
+      raf.setLength(raf.length() - 3);
+    }
+
+    final Map<MutationIdentifier, MutationStatusTestPair> actual = readFrom(
+        this.file).getHistoricResults();
+    assertEquals(first.getStatusTestPair(),
+        actual.get(first.getDetails().getId()));
+    assertNull(actual.get(second.getDetails().getId()));
+  }
+
+  @Test
+  public void shouldNotWriteWhenNoOutputSupplied() {
+    final BinaryHistoryStore testee = new BinaryHistoryStore(
+        Optional.<File> empty(), Optional.<File> empty());
+    testee.initialize();
+    testee.recordResult(aResult(1, new MutationStatusTestPair(1,
+        DetectionStatus.KILLED)));
+    testee.close();
+    assertTrue(testee.getHistoricResults().isEmpty());
+  }
+
+  @Test
+  public void shouldRecogniseBinaryHistory() throws IOException {
+    final BinaryHistoryStore writer = storeWritingTo(this.file);
+    writer.recordResult(aResult(1, new MutationStatusTestPair(1,
+        DetectionStatus.KILLED)));
+    writer.close();
+    assertTrue(BinaryHistoryStore.isBinaryHistory(this.file));
+  }
+
+  private BinaryHistoryStore storeWritingTo(final File output) {
+    final BinaryHistoryStore store = new BinaryHistoryStore(
+        Optional.<File> empty(), Optional.of(output));
+    store.initialize();
+    return store;
+  }
+
+  private BinaryHistoryStore readFrom(final File input) {
+    final BinaryHistoryStore store = new BinaryHistoryStore(
+        Optional.of(input), Optional.<File> empty());
+    store.initialize();
+    return store;
+  }
+
+  private static MutationResult aResult(final int index,
+      final MutationStatusTestPair status) {
+    return new MutationResult(new MutationDetails(aMutationId()
+        .withIndex(index).build(), "file", "desc", 42, 0), status);
+  }
+
+}
@@ -129,6 +129,37 @@ public class MutationStatisticsPrecursorTest {
     assertEquals(">> Ran 43 tests (21.5 tests per mutation)", actual[1]);
   }
 
+  @Test
+  public void shouldReportTestsRunPerKilledMutation() {
+    this.testee.registerResults(Arrays.asList(
+        makeResult(DetectionStatus.SURVIVED, 10),
+        makeResult(DetectionStatus.KILLED, 1),
+        makeResult(DetectionStatus.KILLED, 4)));
+    final ByteArrayOutputStream s = new ByteArrayOutputStream();
+    this.testee.toStatistics().reportTestsRunToKill(new PrintStream(s));
+    assertEquals(
+        ">> Ran 5 tests against killed mutations (2.5 tests per killed mutation)",
+        new String(s.toByteArray()).trim());
+    assertEquals(2.5d, this.testee.toStatistics()
+        .getAverageTestsRunPerKilledMutation(), 0.001d);
+  }
+
+  @Test
+  public void shouldNotReportTestsRunPerKilledMutationInSummary() {
+    this.testee.registerResults(Arrays.asList(
+        makeResult(DetectionStatus.KILLED, 1)));
+    assertEquals(2, generateReportLines().length);
+  }
+
+  @Test
+  public void shouldNotCountKillsWhereNoTestsWereRunInAverage() {
+    this.testee.registerResults(Arrays.asList(
+        makeResult(DetectionStatus.KILLED, 0),
+        makeResult(DetectionStatus.KILLED, 3)));
+    assertEquals(3d, this.testee.toStatistics()
+        .getAverageTestsRunPerKilledMutation(), 0.001d);
+  }
+
   private Predicate<Score> hasResultForMutator(final String mutator) {
     return a -> a.getMutatorName().equals(mutator);
   }
@@ -11,6 +11,8 @@ import java.util.HashMap;
 import org.junit.Test;
 import org.pitest.classpath.ClassPath;
 import org.pitest.functional.SideEffect1;
+import org.pitest.util.MinionChannel;
+import org.pitest.util.MinionTransport;
 import org.pitest.util.NullJavaAgent;
 
 public class WrappingProcessTest {
@@ -42,13 +44,15 @@ public class WrappingProcessTest {
         .andLaunchOptions(launchOptions).andStdout(nullHandler())
         .andStderr(nullHandler());
 
-    final WrappingProcess wrappingProcess = new WrappingProcess(-1, processArgs,
-        getClass());
-    wrappingProcess.start();
-    final JavaProcess process = wrappingProcess.getProcess();
+    try (MinionChannel channel = MinionTransport.SOCKET.open()) {
+      final WrappingProcess wrappingProcess = new WrappingProcess(channel,
+          processArgs, getClass());
+      wrappingProcess.start();
+      final JavaProcess process = wrappingProcess.getProcess();
 
-    assertTrue(process.isAlive());
-    assertEquals(EXIT_CODE, process.waitToDie());
+      assertTrue(process.isAlive());
+      assertEquals(EXIT_CODE, process.waitToDie());
+    }
   }
 
   private SideEffect1<String> nullHandler() {
@@ -0,0 +1,49 @@
+package org.pitest.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+
+import org.junit.Test;
+
+public class PipeMinionChannelTest {
+
+  private final PipeMinionChannel testee = new PipeMinionChannel();
+
+  @Test
+  public void shouldTellMinionToUseItsStandardStreams() {
+    assertEquals(MinionConnection.PIPE, this.testee.address());
+  }
+
+  @Test
+  public void shouldConnectToStandardStreamsOfMinion() throws IOException {
+    final ByteArrayOutputStream minionOut = new ByteArrayOutputStream();
+    minionOut.write("noise".getBytes("UTF-8"));
+    MinionConnection.writePipeHeader(minionOut);
+    minionOut.write(42);
+    final ByteArrayOutputStream minionIn = new ByteArrayOutputStream();
+
+    final Process minion = mock(Process.class);
+    when(minion.getInputStream()).thenReturn(
+        new ByteArrayInputStream(minionOut.toByteArray()));
+    when(minion.getOutputStream()).thenReturn(minionIn);
+    this.testee.launched(minion);
+
+    try (MinionConnection connection = this.testee.accept()) {
+      assertEquals(42, connection.getInputStream().read());
+      connection.getOutputStream().write(7);
+    }
+    assertEquals(7, minionIn.toByteArray()[0]);
+  }
+
+  @Test(expected = IOException.class)
+  public void shouldNotWaitForMinionOnceClosed() throws IOException {
+    this.testee.close();
+    this.testee.accept();
+  }
+
+}
@@ -11,8 +11,6 @@ import static org.mockito.Mockito.when;
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
-import java.net.ServerSocket;
-import java.net.Socket;
 
 import org.junit.Before;
 import org.junit.Test;
@@ -25,7 +23,7 @@ public class SocketReadingCallableTest {
   private SocketReadingCallable             testee;
 
   @Mock
-  private ServerSocket                      socket;
+  private MinionChannel                     channel;
 
   @Mock
   private SideEffect1<SafeDataOutputStream> sendDataSideEffect;
@@ -33,19 +31,14 @@ public class SocketReadingCallableTest {
   @Mock
   private ReceiveStrategy                   receiveStrategy;
 
-  @Mock
-  private Socket                            clientSocket;
-
   private ByteArrayOutputStream             o;
 
   @Before
   public void setUp() throws IOException {
     MockitoAnnotations.initMocks(this);
-    this.testee = new SocketReadingCallable(this.socket,
+    this.testee = new SocketReadingCallable(this.channel,
         this.sendDataSideEffect, this.receiveStrategy);
 
-    when(this.socket.accept()).thenReturn(this.clientSocket);
-
     this.o = new ByteArrayOutputStream();
   }
 
@@ -70,6 +63,13 @@ public class SocketReadingCallableTest {
         any(SafeDataInputStream.class));
   }
 
+  @Test
+  public void shouldCloseChannelOnceMinionHasFinished() throws Exception {
+    mockClientSocketToSendExitCode(ExitCode.OK);
+    this.testee.call();
+    verify(this.channel).close();
+  }
+
   @Test
   public void shouldPassCommandsToReceiver() throws Exception {
     final SafeDataOutputStream dos = new SafeDataOutputStream(this.o);
@@ -85,7 +85,8 @@ public class SocketReadingCallableTest {
   private void mockClientSocketInputStream() throws IOException {
     final ByteArrayInputStream bis = new ByteArrayInputStream(
         this.o.toByteArray());
-    when(this.clientSocket.getInputStream()).thenReturn(bis);
+    when(this.channel.accept()).thenReturn(
+        new MinionConnection(bis, new ByteArrayOutputStream(), bis));
   }
 
   private void mockClientSocketToSendExitCode(final ExitCode timeout)
@@ -111,6 +111,23 @@ public class AbstractPitMojo extends AbstractMojo {
   @Parameter(defaultValue = "false", property = "withHistory")
   private boolean                     withHistory;  
 
+  /**
+   * Format to write history in, text or binary. Binary history is smaller and
+   * faster to load for large projects. History in text format is converted
+   * when it is read.
+   */
+  @Parameter(defaultValue = "text", property = "historyFormat")
+  private String                      historyFormat;
+
+  /**
+   * Reuse coverage cached next to the history files for tests and classes
+   * that have not changed. Changes to classes that are not mutated, such as
+   * test helpers and libraries, or to resources and system properties, are
+   * not detected.
+   */
+  @Parameter(defaultValue = "false", property = "useCoverageCache")
+  private boolean                     useCoverageCache;
+
   /**
    * Maximum distance to look from test to class. Relevant when mutating static
    * initializers
@@ -358,6 +375,51 @@ public class AbstractPitMojo extends AbstractMojo {
   @Parameter(property = "useClasspathJar", defaultValue = "false")
   private boolean                     useClasspathJar;
 
+  /**
+   * Install all the mutants of a class as a single class, and switch between
+   * them without redefining the class. Mutants in constructors and static
+   * initializers are still installed one at a time.
+   */
+  @Parameter(property = "mutantSchemata", defaultValue = "false")
+  private boolean                     mutantSchemata;
+
+  /**
+   * Stop mutants that run for too long by checking for a timeout within the
+   * mutated code. The minion is only killed if the mutant does not stop.
+   */
+  @Parameter(property = "cooperativeTimeouts", defaultValue = "false")
+  private boolean                     cooperativeTimeouts;
+
+  /**
+   * Run the tests most likely to kill each mutant first, using kill statistics
+   * stored alongside the history file by previous runs.
+   */
+  @Parameter(property = "prioritiseByKillHistory", defaultValue = "false")
+  private boolean                     prioritiseByKillHistory;
+
+  /**
+   * Group mutations into units of similar cost, estimated from the execution
+   * times of their tests, and let idle threads take unstarted mutations from
+   * units that are still running.
+   */
+  @Parameter(property = "costBalancedGrouping", defaultValue = "false")
+  private boolean                     costBalancedGrouping;
+
+  /**
+   * Start analysing the mutations of each class as soon as they have been
+   * found, rather than waiting for mutations to be found in every class.
+   */
+  @Parameter(property = "pipelinedAnalysis", defaultValue = "false")
+  private boolean                     pipelinedAnalysis;
+
+  /**
+   * How minions connect to the main process, socket or pipe. Pipes use the
+   * standard input and output of each minion rather than a port, so tests
+   * must not write directly to the standard output file descriptor.
+   */
+  @Parameter(property = "minionTransport", defaultValue = "socket")
+  private String                      minionTransport;
+
   protected final GoalStrategy        goalStrategy;
 
   public AbstractPitMojo() {
@@ -590,6 +652,14 @@ public class AbstractPitMojo extends AbstractMojo {
     return this.historyInputFile;
   }
 
+  public String getHistoryFormat() {
+    return this.historyFormat;
+  }
+
+  public boolean isUseCoverageCache() {
+    return this.useCoverageCache;
+  }
+
   public boolean isExportLineCoverage() {
     return this.exportLineCoverage;
   }
@@ -668,6 +738,30 @@ public class AbstractPitMojo extends AbstractMojo {
     return this.useClasspathJar;
   }
 
+  public boolean isMutantSchemata() {
+    return this.mutantSchemata;
+  }
+
+  public boolean isCooperativeTimeouts() {
+    return this.cooperativeTimeouts;
+  }
+
+  public boolean isPrioritiseByKillHistory() {
+    return this.prioritiseByKillHistory;
+  }
+
+  public boolean isCostBalancedGrouping() {
+    return this.costBalancedGrouping;
+  }
+
+  public boolean isPipelinedAnalysis() {
+    return this.pipelinedAnalysis;
+  }
+
+  public String getMinionTransport() {
+    return this.minionTransport;
+  }
+
   static class RunDecision {
     private List<String> reasons = new ArrayList<>(4);
 
@@ -94,6 +94,12 @@ public class MojoToReportOptionsConverter {
     }
 
     data.setUseClasspathJar(this.mojo.isUseClasspathJar());
+    data.setUseMutantSchemata(this.mojo.isMutantSchemata());
+    data.setUseCooperativeTimeouts(this.mojo.isCooperativeTimeouts());
+    data.setPrioritiseByKillHistory(this.mojo.isPrioritiseByKillHistory());
+    data.setUseCostBalancedGrouping(this.mojo.isCostBalancedGrouping());
+    data.setUsePipelinedAnalysis(this.mojo.isPipelinedAnalysis());
+    data.setMinionTransport(this.mojo.getMinionTransport());
     data.setTestPlugin(this.mojo.getTestPlugin());
     data.setClassPathElements(classPath);
     data.setDependencyAnalysisMaxDistance(this.mojo.getMaxDependencyDistance());
@@ -141,6 +147,8 @@ public class MojoToReportOptionsConverter {
     data.setDetectInlinedCode(this.mojo.isDetectInlinedCode());
 
     determineHistory(data);
+    data.setHistoryFormat(this.mojo.getHistoryFormat());
+    data.setUseCoverageCache(this.mojo.isUseCoverageCache());
     
     data.setExportLineCoverage(this.mojo.isExportLineCoverage());
     data.setMutationEngine(this.mojo.getMutationEngine());
@@ -318,6 +318,11 @@ public class MojoToReportOptionsConverterTest extends BasePitMojoTest {
     assertFalse(actual.shouldExportLineCoverage());
   }
 
+  public void testParsesUseCoverageCacheFlagWhenSet() {
+    final ReportOptions actual = parseConfig("<useCoverageCache>true</useCoverageCache>");
+    assertTrue(actual.isUseCoverageCache());
+  }
+
   public void testParsesEngineWhenSet() {
     final ReportOptions actual = parseConfig("<mutationEngine>foo</mutationEngine>");
     assertEquals("foo", actual.getMutationEngine());
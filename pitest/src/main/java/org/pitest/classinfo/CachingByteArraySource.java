@@ -1,10 +1,16 @@
 package org.pitest.classinfo;
 
+import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.Map;
 
 import java.util.Optional;
 
+/**
+ * Caches the bytes most recently read from the child source. Safe for use by
+ * several threads, although two threads missing the cache for the same class
+ * may both read it from the child.
+ */
 public class CachingByteArraySource implements ClassByteArraySource {
 
   private final ClassByteArraySource child;
@@ -12,7 +18,7 @@ public class CachingByteArraySource implements ClassByteArraySource {
 
   public CachingByteArraySource(ClassByteArraySource child, int maxSize) {
     this.child = child;
-    this.cache = new FixedSizeHashMap<>(maxSize);
+    this.cache = Collections.synchronizedMap(new FixedSizeHashMap<>(maxSize));
   }
 
   @Override
@@ -14,18 +14,22 @@
  */
 package org.pitest.classinfo;
 
-import java.util.HashMap;
-import java.util.HashSet;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import java.util.Optional;
 
+/**
+ * Safe for use by several threads. Class info may be built more than once if
+ * threads race to fetch the same class, in which case the first stored wins.
+ */
 public class Repository implements ClassInfoSource {
 
   private final HashFunction              hashFunction;
-  private final Map<ClassName, ClassInfo> knownClasses   = new HashMap<>();
-  private final Set<ClassName>            unknownClasses = new HashSet<>();
+  private final Map<ClassName, ClassInfo> knownClasses   = new ConcurrentHashMap<>();
+  private final Set<ClassName>            unknownClasses = ConcurrentHashMap
+                                                             .newKeySet();
   private final ClassByteArraySource      source;
 
   public Repository(final ClassByteArraySource source) {
@@ -59,7 +63,11 @@ public class Repository implements ClassInfoSource {
 
     final Optional<ClassInfo> maybeInfo = nameToClassInfo(name);
     if (maybeInfo.isPresent()) {
-      this.knownClasses.put(name, maybeInfo.get());
+      final ClassInfo existing = this.knownClasses.putIfAbsent(name,
+          maybeInfo.get());
+      if (existing != null) {
+        return Optional.of(existing);
+      }
     }
     return maybeInfo;
   }
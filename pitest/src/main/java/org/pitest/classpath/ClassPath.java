@@ -15,6 +15,7 @@
 
 package org.pitest.classpath;
 
+import java.io.Closeable;
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
@@ -36,8 +37,9 @@ import org.pitest.util.Log;
 import org.pitest.util.ManifestUtils;
 import org.pitest.util.PitError;
 import org.pitest.util.StreamUtil;
+import org.pitest.util.Unchecked;
 
-public class ClassPath {
+public class ClassPath implements Closeable {
 
   private static final Logger         LOG = Log.getLogger();
 
@@ -151,6 +153,19 @@ public class ClassPath {
     return this.root.cacheLocation().get();
   }
 
+  /**
+   * Releases any file handles held by the roots of this class path. The class
+   * path remains usable, but handles will be reacquired on demand.
+   */
+  @Override
+  public void close() {
+    try {
+      this.root.close();
+    } catch (final IOException e) {
+      throw Unchecked.translateCheckedException(e);
+    }
+  }
+
   public ClassPath getComponent(final Predicate<ClassPathRoot> predicate) {
     return new ClassPath(FCollection.filter(this.root, predicate).toArray(
         new ClassPathRoot[0]));
@@ -1,5 +1,6 @@
 package org.pitest.classpath;
 
+import java.io.Closeable;
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
@@ -7,24 +8,40 @@ import java.net.MalformedURLException;
 import java.net.URL;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
-import org.pitest.functional.FCollection;
 import java.util.Optional;
 
+/**
+ * Class path root made up of other roots, searched in order.
+ *
+ * The names of the classes in roots that do expensive IO are indexed the first
+ * time a class is looked up, so that a lookup goes straight to the root that
+ * holds the class rather than probing every root in turn. Roots that are
+ * cheap to search, or that cannot list their classes, are still probed.
+ */
 public class CompoundClassPathRoot implements ClassPathRoot,
-    Iterable<ClassPathRoot> {
+    Iterable<ClassPathRoot>, Closeable {
 
-  private final List<ClassPathRoot> roots = new ArrayList<>();
+  private static final int          NOT_INDEXED = -1;
+
+  private final List<ClassPathRoot> roots       = new ArrayList<>();
+
+  private volatile ClassIndex       index;
 
   public CompoundClassPathRoot(final List<ClassPathRoot> roots) {
-    this.roots.addAll(wrapToAvoidIOOperations(roots));
+    this.roots.addAll(roots);
   }
 
   @Override
   public InputStream getData(final String name) throws IOException {
-    for (final ClassPathRoot each : this.roots) {
+    for (final ClassPathRoot each : rootsFor(name.replace('/', '.'))) {
       final InputStream is = each.getData(name);
       if (is != null) {
         return is;
@@ -35,9 +52,15 @@ public class CompoundClassPathRoot implements ClassPathRoot,
 
   @Override
   public Collection<String> classNames() {
+    final ClassIndex classIndex = index();
     final List<String> arrayList = new ArrayList<>();
-    for (final ClassPathRoot root : this.roots) {
-      arrayList.addAll(root.classNames());
+    for (int i = 0; i != this.roots.size(); i++) {
+      final Collection<String> indexed = classIndex.namesIn(i);
+      if (indexed != null) {
+        arrayList.addAll(indexed);
+      } else {
+        arrayList.addAll(this.roots.get(i).classNames());
+      }
     }
     return arrayList;
   }
@@ -52,7 +75,7 @@ public class CompoundClassPathRoot implements ClassPathRoot,
   }
 
   private URL findRootForResource(final String name) throws IOException {
-    for (final ClassPathRoot root : this.roots) {
+    for (final ClassPathRoot root : rootsForResource(name)) {
       final URL u = root.getResource(name);
       if (u != null) {
         return u;
@@ -74,15 +97,109 @@ public class CompoundClassPathRoot implements ClassPathRoot,
     return Optional.ofNullable(classpath.toString());
   }
 
+  @Override
+  public void close() throws IOException {
+    for (final ClassPathRoot each : this.roots) {
+      if (each instanceof Closeable) {
+        ((Closeable) each).close();
+      }
+    }
+  }
+
   @Override
   public Iterator<ClassPathRoot> iterator() {
     return this.roots.iterator();
   }
 
-  private  static List<ClassPathRoot> wrapToAvoidIOOperations(
-      List<ClassPathRoot> roots) {
-    return FCollection.map(roots, NameCachingRoot.toCachingRoot());
+  private List<ClassPathRoot> rootsForResource(final String name) {
+    // only class files are indexed
+    if (name.endsWith(".class")) {
+      return rootsFor(name.substring(0, name.length() - ".class".length())
+          .replace('/', '.'));
+    }
+    return this.roots;
+  }
+
+  private List<ClassPathRoot> rootsFor(final String className) {
+    final ClassIndex classIndex = index();
+    final int owner = classIndex.ownerOf(className);
+    if (classIndex.unindexed.length == 0) {
+      return owner == NOT_INDEXED ? Collections.<ClassPathRoot> emptyList()
+          : Collections.singletonList(this.roots.get(owner));
+    }
+
+    // roots that are not indexed may hide the owner, so keep class path order
+    final List<ClassPathRoot> candidates = new ArrayList<>();
+    boolean ownerAdded = owner == NOT_INDEXED;
+    for (final int each : classIndex.unindexed) {
+      if (!ownerAdded && (each > owner)) {
+        candidates.add(this.roots.get(owner));
+        ownerAdded = true;
+      }
+      candidates.add(this.roots.get(each));
+    }
+    if (!ownerAdded) {
+      candidates.add(this.roots.get(owner));
+    }
+    return candidates;
+  }
+
+  private ClassIndex index() {
+    ClassIndex classIndex = this.index;
+    if (classIndex == null) {
+      synchronized (this) {
+        classIndex = this.index;
+        if (classIndex == null) {
+          classIndex = new ClassIndex(this.roots);
+          this.index = classIndex;
+        }
+      }
+    }
+    return classIndex;
   }
 
+  private static final class ClassIndex {
+
+    // the position of the first indexed root holding each class
+    private final Map<String, Integer>     owners = new HashMap<>();
+    private final List<Collection<String>> names;
+    private final int[]                    unindexed;
+
+    ClassIndex(final List<ClassPathRoot> roots) {
+      // roots are listed in parallel, but indexed in order so that the first
+      // root holding a class owns it
+      this.names = IntStream.range(0, roots.size()).parallel()
+          .mapToObj(i -> listIfHeavy(roots.get(i)))
+          .collect(Collectors.toList());
+      for (int i = 0; i != this.names.size(); i++) {
+        final Collection<String> each = this.names.get(i);
+        if (each != null) {
+          final Integer position = i;
+          for (final String name : each) {
+            this.owners.putIfAbsent(name, position);
+          }
+        }
+      }
+      this.unindexed = IntStream.range(0, roots.size())
+          .filter(i -> this.names.get(i) == null).toArray();
+    }
+
+    int ownerOf(final String className) {
+      final Integer position = this.owners.get(className);
+      return position == null ? NOT_INDEXED : position;
+    }
+
+    Collection<String> namesIn(final int root) {
+      return this.names.get(root);
+    }
+
+    private static Collection<String> listIfHeavy(final ClassPathRoot root) {
+      if (root instanceof IOHeavyRoot) {
+        return root.classNames();
+      }
+      return null;
+    }
+
+  }
 
-}
\ No newline at end of file
+}
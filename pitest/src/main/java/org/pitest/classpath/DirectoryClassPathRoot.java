@@ -1,17 +1,30 @@
 package org.pitest.classpath;
 
 import java.io.File;
-import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.net.MalformedURLException;
 import java.net.URL;
+import java.nio.file.AccessDeniedException;
+import java.nio.file.FileVisitOption;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
 import java.util.Collection;
-import java.util.LinkedList;
+import java.util.Collections;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
 
 import java.util.Optional;
 
+import org.pitest.util.Unchecked;
+
 /*
  * Copyright 2010 Henry Coles
  *
@@ -26,9 +39,20 @@ import java.util.Optional;
  * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
  * See the License for the specific language governing permissions and limitations under the License.
  */
+/**
+ * Class path root backed by a directory of class files.
+ *
+ * The directory is scanned once, with each subdirectory walked in parallel,
+ * and the names found are kept so that every class path built from this root
+ * shares the same scan.
+ */
 public class DirectoryClassPathRoot implements ClassPathRoot, IOHeavyRoot {
 
-  private final File root;
+  private static final String         CLASS_SUFFIX = ".class";
+
+  private final File                  root;
+
+  private volatile Collection<String> classNames;
 
   public DirectoryClassPathRoot(final File root) {
     this.root = root;
@@ -38,10 +62,10 @@ public class DirectoryClassPathRoot implements ClassPathRoot, IOHeavyRoot {
   public InputStream getData(final String classname) throws IOException {
     final String filename = classname.replace('.', File.separatorChar).concat(
         ".class");
-    final File file = new File(this.root, filename);
-    if (file.canRead()) {
-      return new FileInputStream(file);
-    } else {
+    // open the file directly rather than checking it can be read first
+    try {
+      return Files.newInputStream(new File(this.root, filename).toPath());
+    } catch (final NoSuchFileException | AccessDeniedException ex) {
       return null;
     }
   }
@@ -59,27 +83,18 @@ public class DirectoryClassPathRoot implements ClassPathRoot, IOHeavyRoot {
 
   @Override
   public Collection<String> classNames() {
-    return classNames(this.root);
-  }
-
-  private Collection<String> classNames(final File file) {
-    final List<String> classNames = new LinkedList<>();
-    for (final File f : file.listFiles()) {
-      if (f.isDirectory()) {
-        classNames.addAll(classNames(f));
-      } else if (f.getName().endsWith(".class")) {
-        classNames.add(fileToClassName(f));
+    Collection<String> names = this.classNames;
+    if (names == null) {
+      synchronized (this) {
+        names = this.classNames;
+        if (names == null) {
+          names = Collections.unmodifiableList(ForkJoinPool.commonPool()
+              .invoke(new DirectoryScan(this.root.toPath(), "")));
+          this.classNames = names;
+        }
       }
     }
-    return classNames;
-  }
-
-  private String fileToClassName(final File f) {
-    return f
-        .getAbsolutePath()
-        .substring(this.root.getAbsolutePath().length() + 1,
-            (f.getAbsolutePath().length() - ".class".length()))
-            .replace(File.separatorChar, '.');
+    return names;
   }
 
   @Override
@@ -87,4 +102,65 @@ public class DirectoryClassPathRoot implements ClassPathRoot, IOHeavyRoot {
     return Optional.ofNullable(this.root.getAbsolutePath());
   }
 
+  /**
+   * Lists the classes in a directory, forking a new scan for each
+   * subdirectory. Names are built from the package of the directory, so paths
+   * are never converted back into names.
+   */
+  private static final class DirectoryScan extends RecursiveTask<List<String>> {
+
+    private static final long serialVersionUID = 1L;
+
+    private final Path        directory;
+    private final String      packagePrefix;
+
+    DirectoryScan(final Path directory, final String packagePrefix) {
+      this.directory = directory;
+      this.packagePrefix = packagePrefix;
+    }
+
+    @Override
+    protected List<String> compute() {
+      final List<String> names = new ArrayList<>();
+      final List<DirectoryScan> subdirectories = new ArrayList<>();
+      try {
+        // at the maximum depth subdirectories are visited as files, with the
+        // attributes read by the walk
+        Files.walkFileTree(this.directory,
+            EnumSet.of(FileVisitOption.FOLLOW_LINKS), 1,
+            new SimpleFileVisitor<Path>() {
+              @Override
+              public FileVisitResult visitFile(final Path file,
+                  final BasicFileAttributes attrs) {
+                final String name = file.getFileName().toString();
+                if (attrs.isDirectory()) {
+                  final DirectoryScan scan = new DirectoryScan(file,
+                      DirectoryScan.this.packagePrefix + name + ".");
+                  scan.fork();
+                  subdirectories.add(scan);
+                } else if (name.endsWith(CLASS_SUFFIX)) {
+                  names.add(DirectoryScan.this.packagePrefix
+                      + name.substring(0, name.length() - CLASS_SUFFIX.length()));
+                }
+                return FileVisitResult.CONTINUE;
+              }
+
+              @Override
+              public FileVisitResult visitFileFailed(final Path file,
+                  final IOException exc) {
+                return FileVisitResult.CONTINUE;
+              }
+            });
+      } catch (final IOException ex) {
+        throw Unchecked.translateCheckedException(ex);
+      }
+
+      for (final DirectoryScan each : subdirectories) {
+        names.addAll(each.join());
+      }
+      return names;
+    }
+
+  }
+
 }
@@ -18,7 +18,6 @@ import java.util.Collection;
 import java.util.stream.Collectors;
 
 import org.pitest.classinfo.ClassName;
-import org.pitest.functional.FCollection;
 
 public class ProjectClassPaths {
 
@@ -34,19 +33,15 @@ public class ProjectClassPaths {
   }
 
   public Collection<ClassName> code() {
-    return FCollection.filter(
-        this.classPath.getComponent(this.pathFilter.getCodeFilter())
-        .findClasses(this.classFilter.getCode()),
-        this.classFilter.getCode()).stream()
+    return this.classPath.getComponent(this.pathFilter.getCodeFilter())
+        .findClasses(this.classFilter.getCode()).stream()
         .map(ClassName.stringToClassName())
         .collect(Collectors.toList());
   }
 
   public Collection<ClassName> test() {
-    return FCollection.filter(
-        this.classPath.getComponent(this.pathFilter.getTestFilter())
-        .findClasses(this.classFilter.getTest()),
-        this.classFilter.getTest()).stream()
+    return this.classPath.getComponent(this.pathFilter.getTestFilter())
+        .findClasses(this.classFilter.getTest()).stream()
         .map(ClassName.stringToClassName())
         .collect(Collectors.toList());
   }
@@ -1,6 +1,7 @@
 package org.pitest.coverage;
 
 import java.util.Collection;
+import java.util.Optional;
 
 import org.pitest.testapi.Description;
 
@@ -10,20 +11,38 @@ public class CoverageResult {
   private final int                       executionTime;
   private final Collection<BlockLocation> visitedBlocks;
   private final boolean                   greenSuite;
+  private final Optional<String>          unitDescription;
 
   public CoverageResult(final Description testUnitDescription,
       final int executionTime, final boolean greenSuite,
       final Collection<BlockLocation> visitedBlocks) {
+    this(testUnitDescription, executionTime, greenSuite, visitedBlocks,
+        Optional.<String> empty());
+  }
+
+  public CoverageResult(final Description testUnitDescription,
+      final int executionTime, final boolean greenSuite,
+      final Collection<BlockLocation> visitedBlocks,
+      final Optional<String> unitDescription) {
     this.testUnitDescription = testUnitDescription;
     this.executionTime = executionTime;
     this.visitedBlocks = visitedBlocks;
     this.greenSuite = greenSuite;
+    this.unitDescription = unitDescription;
   }
 
   public Description getTestUnitDescription() {
     return this.testUnitDescription;
   }
 
+  /**
+   * @return the test framework's description of the unit that ran, if it can
+   *         be recreated from one
+   */
+  public Optional<String> getUnitDescription() {
+    return this.unitDescription;
+  }
+
   public int getExecutionTime() {
     return this.executionTime;
   }
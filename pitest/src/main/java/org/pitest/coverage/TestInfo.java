@@ -33,13 +33,24 @@ public final class TestInfo implements Serializable {
 
   private final ClassName         testee;
 
+  // describes the unit that ran the test, so it can be recreated
+  private final String            unit;
+
   public TestInfo(final String definingClass, final String name,
       final int time, final Optional<ClassName> testee, final int blocksCovered) {
+    this(definingClass, name, time, testee, blocksCovered,
+        Optional.<String> empty());
+  }
+
+  public TestInfo(final String definingClass, final String name,
+      final int time, final Optional<ClassName> testee,
+      final int blocksCovered, final Optional<String> unit) {
     this.definingClass = internIfNotNull(definingClass);
     this.name = name;
     this.time = time;
     this.testee = testee.orElse(null);
     this.blocks = blocksCovered;
+    this.unit = unit.orElse(null);
   }
 
   public String getName() {
@@ -54,6 +65,14 @@ public final class TestInfo implements Serializable {
     return this.blocks;
   }
 
+  /**
+   * @return a description of the test unit that ran this test, from which the
+   *         test framework can recreate it without searching for tests
+   */
+  public Optional<String> getUnitDescription() {
+    return Optional.ofNullable(this.unit);
+  }
+
   @Override
   public String toString() {
     return this.name;
@@ -18,10 +18,10 @@ import static org.pitest.util.Unchecked.translateCheckedException;
 
 import java.io.BufferedOutputStream;
 import java.io.IOException;
-import java.net.Socket;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
 import java.util.function.Predicate;
 import java.util.logging.Level;
 import java.util.logging.Logger;
@@ -41,11 +41,13 @@ import org.pitest.mutationtest.mocksupport.BendJavassistToMyWillTransformer;
 import org.pitest.mutationtest.mocksupport.JavassistInputStreamInterceptorAdapater;
 import org.pitest.testapi.Configuration;
 import org.pitest.testapi.TestUnit;
+import org.pitest.testapi.TestUnitCodec;
 import org.pitest.testapi.execute.FindTestUnits;
 import org.pitest.util.ExitCode;
 import org.pitest.util.Glob;
 import org.pitest.util.IsolationUtils;
 import org.pitest.util.Log;
+import org.pitest.util.MinionConnection;
 import org.pitest.util.SafeDataInputStream;
 
 import sun.pitest.CodeCoverageStore;
@@ -59,19 +61,20 @@ public class CoverageMinion {
     enablePowerMockSupport();
 
     ExitCode exitCode = ExitCode.OK;
-    Socket s = null;
+    MinionConnection s = null;
     CoveragePipe invokeQueue = null;
     try {
 
-      final int port = Integer.parseInt(args[0]);
-      s = new Socket("localhost", port);
+      s = MinionConnection.toParent(args[0]);
 
       final SafeDataInputStream dis = new SafeDataInputStream(
           s.getInputStream());
+      dis.checkProtocolVersion();
 
       final CoverageOptions paramsFromParent = dis.read(CoverageOptions.class);
 
       Log.setVerbose(paramsFromParent.isVerbose());
+      MinionConnection.echoStandardOut(paramsFromParent.isVerbose());
 
       invokeQueue = new CoveragePipe(new BufferedOutputStream(
           s.getOutputStream()));
@@ -81,10 +84,14 @@ public class CoverageMinion {
       HotSwapAgent.addTransformer(new CoverageTransformer(
           convertToJVMClassFilter(paramsFromParent.getFilter())));
 
-      final List<TestUnit> tus = getTestsFromParent(dis, paramsFromParent);
+      final Configuration testPlugin = createTestPlugin(paramsFromParent);
+      final List<TestUnit> tus = getTestsFromParent(dis, paramsFromParent,
+          testPlugin);
 
       LOG.info(tus.size() + " tests received");
 
+      describeTests(invokeQueue, testPlugin, tus);
+
       final CoverageWorker worker = new CoverageWorker(invokeQueue, tus);
 
       worker.run();
@@ -127,12 +134,11 @@ public class CoverageMinion {
   }
 
   private static List<TestUnit> getTestsFromParent(
-      final SafeDataInputStream dis, final CoverageOptions paramsFromParent)
-      throws IOException {
+      final SafeDataInputStream dis, final CoverageOptions paramsFromParent,
+      final Configuration testPlugin) throws IOException {
     final List<ClassName> classes = receiveTestClassesFromParent(dis);
     Collections.sort(classes); // ensure classes loaded in a consistent order
 
-    final Configuration testPlugin = createTestPlugin(paramsFromParent);
     verifyEnvironment(testPlugin);
 
     final List<TestUnit> tus = discoverTests(testPlugin, classes);
@@ -150,6 +156,24 @@ public class CoverageMinion {
 
   }
 
+  /**
+   * Sends a description of each unit that the test framework can recreate, so
+   * that mutation minions need not discover the tests again.
+   */
+  private static void describeTests(final CoveragePipe invokeQueue,
+      final Configuration testPlugin, final List<TestUnit> tus) {
+    final Optional<TestUnitCodec> codec = testPlugin.testUnitCodec();
+    if (!codec.isPresent()) {
+      return;
+    }
+    for (final TestUnit each : tus) {
+      final Optional<String> unit = codec.get().describe(each);
+      if (unit.isPresent()) {
+        invokeQueue.recordTestUnit(each.getDescription(), unit.get());
+      }
+    }
+  }
+
   private static List<TestUnit> discoverTests(final Configuration testPlugin,
  final List<ClassName> classes) {
     final FindTestUnits finder = new FindTestUnits(testPlugin);
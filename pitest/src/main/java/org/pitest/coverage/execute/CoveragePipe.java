@@ -1,7 +1,6 @@
 package org.pitest.coverage.execute;
 
 import java.io.OutputStream;
-import java.util.Collection;
 
 import org.pitest.coverage.CoverageReceiver;
 import org.pitest.testapi.Description;
@@ -10,8 +9,14 @@ import org.pitest.util.Id;
 import org.pitest.util.SafeDataOutputStream;
 
 import sun.pitest.CodeCoverageStore;
+import sun.pitest.ProbeHitsReceiver;
 
-public class CoveragePipe implements CoverageReceiver {
+public class CoveragePipe implements CoverageReceiver, ProbeHitsReceiver {
+
+  /**
+   * Written in place of a class id to mark the end of the hits for a test
+   */
+  public static final int            END_OF_HITS = -1;
 
   private final SafeDataOutputStream dos;
 
@@ -27,19 +32,38 @@ public class CoveragePipe implements CoverageReceiver {
   @Override
   public synchronized void recordTestOutcome(final Description description,
       final boolean wasGreen, final int executionTime) {
-    final Collection<Long> hits = CodeCoverageStore.getHits();
-
     this.dos.writeByte(Id.OUTCOME);
-    this.dos.write(description);
-    this.dos.writeInt(hits.size());
-    for (final Long each : hits) {
-      this.dos.writeLong(each);
-    }
+    this.dos.writeInternedString(description.getFirstTestClass());
+    this.dos.writeString(description.getName());
+    CodeCoverageStore.getHits(this);
+    this.dos.writeInt(END_OF_HITS);
     this.dos.writeBoolean(wasGreen);
     this.dos.writeInt(executionTime);
 
   }
 
+  /**
+   * Sends the test framework's description of a unit that will be run, so
+   * that mutation minions can recreate it without searching for tests.
+   */
+  public synchronized void recordTestUnit(final Description description,
+      final String unit) {
+    this.dos.writeByte(Id.UNIT);
+    this.dos.writeInternedString(description.getFirstTestClass());
+    this.dos.writeString(description.getName());
+    this.dos.writeString(unit);
+  }
+
+  @Override
+  public void classHits(final int classId, final long[] probes,
+      final int numberOfWords) {
+    this.dos.writeInt(classId);
+    this.dos.writeInt(numberOfWords);
+    for (int i = 0; i != numberOfWords; i++) {
+      this.dos.writeLong(probes[i]);
+    }
+  }
+
   public synchronized void end(final ExitCode exitCode) {
     this.dos.writeByte(Id.DONE);
     this.dos.writeInt(exitCode.getCode());
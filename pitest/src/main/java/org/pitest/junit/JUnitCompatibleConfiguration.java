@@ -24,6 +24,7 @@ import org.pitest.help.PitHelpError;
 import org.pitest.testapi.Configuration;
 import org.pitest.testapi.TestGroupConfig;
 import org.pitest.testapi.TestSuiteFinder;
+import org.pitest.testapi.TestUnitCodec;
 import org.pitest.testapi.TestUnitFinder;
 import org.pitest.util.Preconditions;
 
@@ -56,6 +57,10 @@ public class JUnitCompatibleConfiguration implements Configuration {
         new JUnit4SuiteFinder(), new RunnerSuiteFinder()));
   }
 
+  @Override
+  public Optional<TestUnitCodec> testUnitCodec() {
+    return Optional.<TestUnitCodec> of(new JUnitTestUnitCodec());
+  }
 
   @Override
   public Optional<PitHelpError> verifyEnvironment() {
@@ -0,0 +1,65 @@
+package org.pitest.junit;
+
+import java.util.Optional;
+
+import org.junit.runner.manipulation.Filter;
+import org.pitest.junit.adapter.AdaptedJUnitTestUnit;
+import org.pitest.testapi.TestUnit;
+import org.pitest.testapi.TestUnitCodec;
+
+/**
+ * Describes the units found by the JUnit finders by the filter they were
+ * given, which is all that is needed to recreate them for their class.
+ */
+class JUnitTestUnitCodec implements TestUnitCodec {
+
+  private static final String WHOLE_CLASS   = "C";
+  private static final String DESCRIPTION   = "D";
+  private static final String PARAMETERISED = "P";
+
+  @Override
+  public Optional<String> describe(final TestUnit unit) {
+    if (!(unit instanceof AdaptedJUnitTestUnit)) {
+      return Optional.empty();
+    }
+    final Optional<Filter> filter = ((AdaptedJUnitTestUnit) unit).getFilter();
+    if (!filter.isPresent()) {
+      return Optional.of(WHOLE_CLASS);
+    }
+    // only filters created by the finders can be recreated
+    if (filter.get().getClass() == DescriptionFilter.class) {
+      return Optional.of(DESCRIPTION + filter.get().describe());
+    }
+    if (filter.get().getClass() == ParameterisedTestFilter.class) {
+      return Optional.of(PARAMETERISED + filter.get().describe());
+    }
+    return Optional.empty();
+  }
+
+  @Override
+  public Optional<TestUnit> recreate(final Class<?> testClass,
+      final String description) {
+    if (description.isEmpty()) {
+      return Optional.empty();
+    }
+    final String filter = description.substring(1);
+    if (description.startsWith(WHOLE_CLASS)) {
+      return Optional.of(unit(testClass, Optional.<Filter> empty()));
+    }
+    if (description.startsWith(DESCRIPTION)) {
+      return Optional.of(unit(testClass,
+          Optional.<Filter> of(new DescriptionFilter(filter))));
+    }
+    if (description.startsWith(PARAMETERISED)) {
+      return Optional.of(unit(testClass,
+          Optional.<Filter> of(new ParameterisedTestFilter(filter))));
+    }
+    return Optional.empty();
+  }
+
+  private static TestUnit unit(final Class<?> testClass,
+      final Optional<Filter> filter) {
+    return new AdaptedJUnitTestUnit(testClass, filter);
+  }
+
+}
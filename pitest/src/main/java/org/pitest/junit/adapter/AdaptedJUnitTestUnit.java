@@ -59,9 +59,8 @@ public class AdaptedJUnitTestUnit extends AbstractTestUnit {
   @Override
   public void execute(final ResultCollector rc) {
 
-    final Runner runner = createRunner(this.clazz);
-    checkForErrorRunner(runner);
-    filterIfRequired(rc, runner);
+    final Optional<String> cacheKey = cacheKey();
+    final Runner runner = prepareRunner(rc, cacheKey);
 
     try {
         final CustomRunnerExecutor nativeCe = new CustomRunnerExecutor(
@@ -69,6 +68,8 @@ public class AdaptedJUnitTestUnit extends AbstractTestUnit {
         nativeCe.run();
 
     } catch (final Exception e) {
+      // a mutant may have left the runner unusable
+      cacheKey.ifPresent(key -> RunnerCache.remove(this.clazz, key));
       LOG.log(Level.SEVERE, "Error while running adapter JUnit fixture "
           + this.clazz + " with filter " + this.filter, e);
       throw translateCheckedException(e);
@@ -76,6 +77,37 @@ public class AdaptedJUnitTestUnit extends AbstractTestUnit {
 
   }
 
+  private Runner prepareRunner(final ResultCollector rc,
+      final Optional<String> cacheKey) {
+    if (cacheKey.isPresent()) {
+      final Optional<Runner> cached = RunnerCache.get(this.clazz,
+          cacheKey.get());
+      if (cached.isPresent()) {
+        return cached.get();
+      }
+    }
+
+    final Runner runner = createRunner(this.clazz);
+    checkForErrorRunner(runner);
+    if (filterIfRequired(rc, runner) && cacheKey.isPresent()) {
+      RunnerCache.put(this.clazz, cacheKey.get(), runner);
+    }
+    return runner;
+  }
+
+  private Optional<String> cacheKey() {
+    if (!this.filter.isPresent()) {
+      return Optional.of("");
+    }
+    // filters are only told apart by their descriptions
+    final String described = this.filter.get().describe();
+    if (described == null) {
+      return Optional.empty();
+    }
+    return Optional.of(this.filter.get().getClass().getName() + ":"
+        + described);
+  }
+
   private void checkForErrorRunner(final Runner runner) {
     if (runner instanceof ErrorReportingRunner) {
       LOG.warning("JUnit error for class " + this.clazz + " : "
@@ -84,21 +116,26 @@ public class AdaptedJUnitTestUnit extends AbstractTestUnit {
 
   }
 
-  private void filterIfRequired(final ResultCollector rc, final Runner runner) {
+  /**
+   * @return true if the runner will run only the tests selected by the filter
+   */
+  private boolean filterIfRequired(final ResultCollector rc,
+      final Runner runner) {
     if (this.filter.isPresent()) {
       if (!(runner instanceof Filterable)) {
         LOG.warning("Not able to filter " + runner.getDescription()
             + ". Mutation may have prevented JUnit from constructing test");
-        return;
+        return false;
       }
       final Filterable f = (Filterable) runner;
       try {
         f.filter(this.filter.get());
       } catch (final NoTestsRemainException e1) {
         rc.notifySkipped(this.getDescription());
-        return;
+        return false;
       }
     }
+    return true;
   }
 
   public static Runner createRunner(final Class<?> clazz) {
@@ -116,6 +153,14 @@ public class AdaptedJUnitTestUnit extends AbstractTestUnit {
     return new AllDefaultPossibilitiesBuilder(true);
   }
 
+  public Class<?> getTestClass() {
+    return this.clazz;
+  }
+
+  public Optional<Filter> getFilter() {
+    return this.filter;
+  }
+
   @Override
   public String toString() {
     return "AdaptedJUnitTestUnit [clazz=" + this.clazz + ", filter="
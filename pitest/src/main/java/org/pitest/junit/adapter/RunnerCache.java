@@ -0,0 +1,265 @@
+package org.pitest.junit.adapter;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.runner.RunWith;
+import org.junit.runner.Runner;
+import org.junit.runners.Parameterized.Parameters;
+
+/**
+ * Keeps the filtered runners built for each test class, so that a test run
+ * against many mutants is not given a new runner, scanned by reflection and
+ * filtered again for each one.
+ *
+ * Redefining a class with a mutant cannot change its structure, so runners
+ * built only by reflecting on the test class are kept for as long as the class
+ * is loaded. Parameterized runners also call the parameters method of the
+ * class when built, so they are kept only while that method returns equal
+ * parameters. The parameters read when a runner is looked up and not found
+ * are the ones it is kept against once built, and runners are not kept for
+ * classes whose parameters cannot be compared by value. Any other runner may
+ * run arbitrary code when built and is never kept.
+ *
+ * A filtered parameterized runner still holds a runner for every set of
+ * parameters, so the number of runners held is bounded. Once the bound is
+ * reached further runners are built afresh each time they are needed.
+ *
+ * Runners are held against the test class itself, so the cache does not keep
+ * the class loaders of the tests alive.
+ */
+final class RunnerCache {
+
+  private static final Set<String>                  STRUCTURAL_RUNNERS = new HashSet<>(
+      Arrays.asList("org.junit.runners.BlockJUnit4ClassRunner",
+          "org.junit.runners.JUnit4",
+          "org.junit.internal.builders.IgnoredClassRunner"));
+
+  private static final String                       PARAMETERIZED      = "org.junit.runners.Parameterized";
+
+  private static final int                          MAX_HELD_RUNNERS   = 10000;
+
+  private static final AtomicInteger                HELD_RUNNERS       = new AtomicInteger();
+
+  private static final ClassValue<TestClassRunners> RUNNERS            = new ClassValue<TestClassRunners>() {
+    @Override
+    protected TestClassRunners computeValue(final Class<?> type) {
+      return new TestClassRunners(type);
+    }
+  };
+
+  private RunnerCache() {
+  }
+
+  /**
+   * @return the runner kept for the class and key, if it is still valid
+   */
+  static Optional<Runner> get(final Class<?> clazz, final String key) {
+    return RUNNERS.get(clazz).get(key);
+  }
+
+  /**
+   * Keeps a runner that has been built and filtered for the class, if runners
+   * of its type can be reused.
+   */
+  static void put(final Class<?> clazz, final String key, final Runner runner) {
+    RUNNERS.get(clazz).put(key, runner);
+  }
+
+  static void remove(final Class<?> clazz, final String key) {
+    RUNNERS.get(clazz).remove(key);
+  }
+
+  private static boolean reserve(final int runners) {
+    if (HELD_RUNNERS.addAndGet(runners) > MAX_HELD_RUNNERS) {
+      release(runners);
+      return false;
+    }
+    return true;
+  }
+
+  private static void release(final int runners) {
+    HELD_RUNNERS.addAndGet(-runners);
+  }
+
+  private static final class TestClassRunners {
+
+    private final Class<?>                  clazz;
+    private final Map<String, CachedRunner> runners              = new ConcurrentHashMap<>();
+    private final Map<String, List<Object>> lookedUp             = new ConcurrentHashMap<>();
+
+    private volatile Optional<Method>       parametersMethod;
+    private volatile boolean                parametersComparable = true;
+
+    TestClassRunners(final Class<?> clazz) {
+      this.clazz = clazz;
+    }
+
+    Optional<Runner> get(final String key) {
+      final CachedRunner cached = this.runners.get(key);
+      if ((cached != null) && !cached.parameters.isPresent()) {
+        return Optional.of(cached.runner);
+      }
+      if (!this.parametersComparable || !isParameterized()) {
+        return Optional.empty();
+      }
+
+      final Optional<List<Object>> current = parameters();
+      if (cached != null) {
+        if (current.isPresent()
+            && Arrays.deepEquals(cached.parameters.get().toArray(),
+                current.get().toArray())) {
+          return Optional.of(cached.runner);
+        }
+        // the mutant changes the tests the runner would create
+        remove(key);
+      }
+      // kept for the runner about to be built from the same parameters
+      if (current.isPresent()) {
+        this.lookedUp.put(key, current.get());
+      } else {
+        this.lookedUp.remove(key);
+      }
+      return Optional.empty();
+    }
+
+    void put(final String key, final Runner runner) {
+      final String type = runner.getClass().getName();
+      if (STRUCTURAL_RUNNERS.contains(type)) {
+        hold(key, new CachedRunner(runner, Optional.<List<Object>> empty(), 1));
+      } else if (type.equals(PARAMETERIZED)) {
+        final List<Object> parameters = this.lookedUp.remove(key);
+        if ((parameters == null) || (HELD_RUNNERS.get() >= MAX_HELD_RUNNERS)) {
+          return;
+        }
+        if (!isValueComparable(parameters)) {
+          // would never compare equal, so the runner would be rebuilt anyway
+          this.parametersComparable = false;
+          return;
+        }
+        hold(key, new CachedRunner(runner, Optional.of(parameters),
+            parameters.size() + 1));
+      }
+    }
+
+    void remove(final String key) {
+      final CachedRunner removed = this.runners.remove(key);
+      if (removed != null) {
+        release(removed.size);
+      }
+    }
+
+    private void hold(final String key, final CachedRunner cached) {
+      if (reserve(cached.size)) {
+        final CachedRunner replaced = this.runners.put(key, cached);
+        if (replaced != null) {
+          release(replaced.size);
+        }
+      }
+    }
+
+    private boolean isParameterized() {
+      final RunWith runWith = this.clazz.getAnnotation(RunWith.class);
+      return (runWith != null)
+          && runWith.value().getName().equals(PARAMETERIZED);
+    }
+
+    private Optional<List<Object>> parameters() {
+      final Optional<Method> method = parametersMethod();
+      if (!method.isPresent()) {
+        return Optional.empty();
+      }
+      try {
+        return Optional.of(asList(method.get().invoke(null)));
+      } catch (final Exception ex) {
+        // leave the error to be reported by a newly built runner
+        return Optional.empty();
+      }
+    }
+
+    private Optional<Method> parametersMethod() {
+      Optional<Method> method = this.parametersMethod;
+      if (method == null) {
+        method = Optional.empty();
+        for (final Method each : this.clazz.getMethods()) {
+          if (Modifier.isStatic(each.getModifiers())
+              && each.isAnnotationPresent(Parameters.class)) {
+            method = Optional.of(each);
+            break;
+          }
+        }
+        this.parametersMethod = method;
+      }
+      return method;
+    }
+
+    private static List<Object> asList(final Object parameters) {
+      if (parameters instanceof Iterable) {
+        final List<Object> list = new ArrayList<>();
+        for (final Object each : (Iterable<?>) parameters) {
+          list.add(each);
+        }
+        return list;
+      }
+      if (parameters instanceof Object[]) {
+        return new ArrayList<>(Arrays.asList((Object[]) parameters));
+      }
+      return Collections.singletonList(parameters);
+    }
+
+    private static boolean isValueComparable(final Object value) {
+      if ((value == null) || (value instanceof Class)) {
+        return true;
+      }
+      if (value instanceof Object[]) {
+        return isValueComparable(Arrays.asList((Object[]) value));
+      }
+      if (value instanceof Iterable) {
+        for (final Object each : (Iterable<?>) value) {
+          if (!isValueComparable(each)) {
+            return false;
+          }
+        }
+        return true;
+      }
+      return value.getClass().isArray() || overridesEquals(value.getClass());
+    }
+
+    private static boolean overridesEquals(final Class<?> type) {
+      try {
+        return type.getMethod("equals", Object.class)
+            .getDeclaringClass() != Object.class;
+      } catch (final NoSuchMethodException ex) {
+        return false;
+      }
+    }
+
+  }
+
+  private static final class CachedRunner {
+
+    private final Runner                 runner;
+    private final Optional<List<Object>> parameters;
+    // the number of runners held, including any for each set of parameters
+    private final int                    size;
+
+    CachedRunner(final Runner runner, final Optional<List<Object>> parameters,
+        final int size) {
+      this.runner = runner;
+      this.parameters = parameters;
+      this.size = size;
+    }
+
+  }
+
+}
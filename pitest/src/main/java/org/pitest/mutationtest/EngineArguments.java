@@ -10,10 +10,25 @@ public class EngineArguments implements Serializable {
 
   private final Collection<String> mutators;
   private final Collection<String> excludedMethods;
+  private final boolean            mutantSchemata;
+  private final boolean            cooperativeTimeouts;
 
   public EngineArguments(Collection<String> mutators, Collection<String> excludedMethods) {
+    this(mutators, excludedMethods, false);
+  }
+
+  public EngineArguments(Collection<String> mutators,
+      Collection<String> excludedMethods, boolean mutantSchemata) {
+    this(mutators, excludedMethods, mutantSchemata, false);
+  }
+
+  public EngineArguments(Collection<String> mutators,
+      Collection<String> excludedMethods, boolean mutantSchemata,
+      boolean cooperativeTimeouts) {
     this.mutators = mutators;
     this.excludedMethods = excludedMethods;
+    this.mutantSchemata = mutantSchemata;
+    this.cooperativeTimeouts = cooperativeTimeouts;
   }
 
   public static EngineArguments arguments() {
@@ -21,11 +36,31 @@ public class EngineArguments implements Serializable {
   }
 
   public EngineArguments withMutators(Collection<String> mutators) {
-    return new EngineArguments(mutators, this.excludedMethods);
+    return new EngineArguments(mutators, this.excludedMethods,
+        this.mutantSchemata, this.cooperativeTimeouts);
   }
 
   public EngineArguments withExcludedMethods(Collection<String> excludedMethods) {
-    return new EngineArguments(this.mutators, excludedMethods);
+    return new EngineArguments(this.mutators, excludedMethods,
+        this.mutantSchemata, this.cooperativeTimeouts);
+  }
+
+  /**
+   * Install all mutants of a class as a single schemata class, rather than
+   * redefining the class for each mutant.
+   */
+  public EngineArguments withMutantSchemata(boolean mutantSchemata) {
+    return new EngineArguments(this.mutators, this.excludedMethods,
+        mutantSchemata, this.cooperativeTimeouts);
+  }
+
+  /**
+   * Insert timeout checks into mutated classes, so that a mutant that runs for
+   * too long can be stopped without killing the minion.
+   */
+  public EngineArguments withCooperativeTimeouts(boolean cooperativeTimeouts) {
+    return new EngineArguments(this.mutators, this.excludedMethods,
+        this.mutantSchemata, cooperativeTimeouts);
   }
 
   public Collection<String> mutators() {
@@ -36,5 +71,13 @@ public class EngineArguments implements Serializable {
     return this.excludedMethods;
   }
 
+  public boolean useMutantSchemata() {
+    return this.mutantSchemata;
+  }
+
+  public boolean useCooperativeTimeouts() {
+    return this.cooperativeTimeouts;
+  }
+
 }
 
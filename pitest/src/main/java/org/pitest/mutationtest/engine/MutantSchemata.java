@@ -0,0 +1,47 @@
+package org.pitest.mutationtest.engine;
+
+import java.util.Map;
+import java.util.Optional;
+
+import org.pitest.classinfo.ClassName;
+
+/**
+ * A single class containing several mutants of a class, any one of which can
+ * be activated by setting sun.pitest.ActiveMutant to its id.
+ */
+public final class MutantSchemata {
+
+  private final ClassName                        clazz;
+  private final byte[]                           bytes;
+  private final Map<MutationIdentifier, Integer> ids;
+
+  public MutantSchemata(final ClassName clazz, final byte[] bytes,
+      final Map<MutationIdentifier, Integer> ids) {
+    this.clazz = clazz;
+    this.bytes = bytes;
+    this.ids = ids;
+  }
+
+  public ClassName getClassName() {
+    return this.clazz;
+  }
+
+  public byte[] getBytes() {
+    return this.bytes;
+  }
+
+  /**
+   * @param mutant
+   *          a mutant of the class
+   * @return the id that activates the mutant, or empty if the mutant could not
+   *         be included and must be installed on its own
+   */
+  public Optional<Integer> idOf(final MutationIdentifier mutant) {
+    return Optional.ofNullable(this.ids.get(mutant));
+  }
+
+  public int size() {
+    return this.ids.size();
+  }
+
+}
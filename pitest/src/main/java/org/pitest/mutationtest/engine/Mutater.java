@@ -15,6 +15,7 @@
 package org.pitest.mutationtest.engine;
 
 import java.util.List;
+import java.util.Optional;
 
 import org.pitest.classinfo.ClassName;
 
@@ -32,6 +33,38 @@ public interface Mutater {
    */
   Mutant getMutation(MutationIdentifier id);
 
+  /**
+   * Creates mutants matching each of the given MutationIdentifiers, all of
+   * which must be in the same class. Mutants are created as the returned
+   * iterable is consumed, in the order of the supplied identifiers.
+   *
+   * Implementations may reuse work done for the class across mutants, so this
+   * should be preferred over repeated calls to getMutation.
+   *
+   * @param ids
+   *          the mutants to create
+   * @return the mutants
+   */
+  default Iterable<Mutant> getMutations(List<MutationIdentifier> ids) {
+    return () -> ids.stream().map(id -> getMutation(id)).iterator();
+  }
+
+  /**
+   * Combines mutants of a single class into one class, so that a mutant can
+   * be activated without redefining the class. Mutants that cannot be
+   * combined are left out of the schemata.
+   *
+   * @param mutants
+   *          mutants of a single class
+   * @param firstId
+   *          id to assign to the first mutant included in the schemata
+   * @return the schemata, or empty if this mutater cannot create them
+   */
+  default Optional<MutantSchemata> createSchemata(List<Mutant> mutants,
+      int firstId) {
+    return Optional.empty();
+  }
+
   /**
    * Scans for possible mutants in the given class
    *
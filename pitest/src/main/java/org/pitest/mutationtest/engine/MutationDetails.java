@@ -17,6 +17,7 @@ package org.pitest.mutationtest.engine;
 import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 
 import org.pitest.classinfo.ClassName;
@@ -37,7 +38,7 @@ public final class MutationDetails implements Serializable {
   private final int                 block;
   private final int                 lineNumber;
   private final String              description;
-  private final ArrayList<TestInfo> testsInOrder = new ArrayList<>();
+  private List<TestInfo>             testsInOrder = Collections.emptyList();
   private final boolean             isInFinallyBlock;
   private final PoisonStatus        poison;
 
@@ -180,8 +181,23 @@ public final class MutationDetails implements Serializable {
    *          The tests to add
    */
   public void addTestsInOrder(final Collection<TestInfo> testNames) {
-    this.testsInOrder.addAll(testNames);
-    this.testsInOrder.trimToSize();
+    final ArrayList<TestInfo> tests = new ArrayList<>(this.testsInOrder.size()
+        + testNames.size());
+    tests.addAll(this.testsInOrder);
+    tests.addAll(testNames);
+    this.testsInOrder = tests;
+  }
+
+  /**
+   * Sets the covering tests without copying them, so that mutations covered
+   * by the same tests can share a list. The list must not be modified
+   * afterwards.
+   *
+   * @param tests
+   *          The tests in optimised order
+   */
+  public void shareTestsInOrder(final List<TestInfo> tests) {
+    this.testsInOrder = tests;
   }
 
   /**
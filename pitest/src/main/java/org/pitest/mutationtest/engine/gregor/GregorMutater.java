@@ -21,14 +21,17 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Predicate;
 
 import org.objectweb.asm.ClassReader;
+import org.objectweb.asm.ClassVisitor;
 import org.objectweb.asm.ClassWriter;
 import org.pitest.bytecode.FrameOptions;
 import org.pitest.bytecode.NullVisitor;
@@ -37,6 +40,7 @@ import org.pitest.classinfo.ClassName;
 import org.pitest.classinfo.ComputeClassWriter;
 import org.pitest.functional.FCollection;
 import org.pitest.mutationtest.engine.Mutant;
+import org.pitest.mutationtest.engine.MutantSchemata;
 import org.pitest.mutationtest.engine.Mutater;
 import org.pitest.mutationtest.engine.MutationDetails;
 import org.pitest.mutationtest.engine.MutationIdentifier;
@@ -91,24 +95,90 @@ public class GregorMutater implements Mutater {
   @Override
   public Mutant getMutation(final MutationIdentifier id) {
 
+    final byte[] bytes = classBytes(id);
+    final ClassReader reader = new ClassReader(bytes);
+    return createMutant(id, FrameOptions.pickFlags(bytes),
+        v -> reader.accept(v, ClassReader.EXPAND_FRAMES));
+
+  }
+
+  @Override
+  public Iterable<Mutant> getMutations(final List<MutationIdentifier> ids) {
+    return () -> new ClassMutants(ids.iterator());
+  }
+
+  @Override
+  public Optional<MutantSchemata> createSchemata(final List<Mutant> mutants,
+      final int firstId) {
+    if (mutants.isEmpty()) {
+      return Optional.empty();
+    }
+    final MutationIdentifier first = mutants.get(0).getDetails().getId();
+    return new MutantSchemataBuilder(this.byteSource, this.computeCache).build(
+        first.getClassName(), classBytes(first), mutants, firstId);
+  }
+
+  private byte[] classBytes(final MutationIdentifier id) {
+    return this.byteSource.getBytes(id.getClassName().asJavaName()).get();
+  }
+
+  private Mutant createMutant(final MutationIdentifier id, final int flags,
+      final Consumer<ClassVisitor> source) {
     final ClassContext context = new ClassContext();
     context.setTargetMutation(Optional.ofNullable(id));
 
-    final Optional<byte[]> bytes = this.byteSource.getBytes(id.getClassName()
-        .asJavaName());
-
-    final ClassReader reader = new ClassReader(bytes.get());
     final ClassWriter w = new ComputeClassWriter(this.byteSource,
-        this.computeCache, FrameOptions.pickFlags(bytes.get()));
+        this.computeCache, flags);
     final MutatingClassVisitor mca = new MutatingClassVisitor(w, context,
         filterMethods(), FCollection.filter(this.mutators,
             isMutatorFor(id)));
-    reader.accept(mca, ClassReader.EXPAND_FRAMES);
+    source.accept(mca);
 
     final List<MutationDetails> details = context.getMutationDetails(context
         .getTargetMutation().get());
 
     return new Mutant(details.get(0), w.toByteArray());
+  }
+
+  /**
+   * Creates the mutants of a single class. The class bytes are fetched and
+   * parsed once, on first use, and each mutant is then generated from the same
+   * reader. The class is parsed again should an id for a different class be
+   * supplied.
+   *
+   * A reader is shared rather than a ClassNode replayed, as a replayed tree
+   * loses the reader's knowledge of which labels are only used by debug
+   * information. The resulting mutants would contain extra stack map frames
+   * and differ from those created by getMutation.
+   */
+  private final class ClassMutants implements Iterator<Mutant> {
+
+    private final Iterator<MutationIdentifier> ids;
+    private ClassName                          clazz;
+    private ClassReader                        reader;
+    private int                                flags;
+
+    ClassMutants(final Iterator<MutationIdentifier> ids) {
+      this.ids = ids;
+    }
+
+    @Override
+    public boolean hasNext() {
+      return this.ids.hasNext();
+    }
+
+    @Override
+    public Mutant next() {
+      final MutationIdentifier id = this.ids.next();
+      if (!id.getClassName().equals(this.clazz)) {
+        this.clazz = id.getClassName();
+        final byte[] bytes = classBytes(id);
+        this.reader = new ClassReader(bytes);
+        this.flags = FrameOptions.pickFlags(bytes);
+      }
+      return createMutant(id, this.flags,
+          v -> this.reader.accept(v, ClassReader.EXPAND_FRAMES));
+    }
 
   }
 
@@ -0,0 +1,210 @@
+package org.pitest.mutationtest.engine.gregor;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import org.objectweb.asm.ClassReader;
+import org.objectweb.asm.ClassWriter;
+import org.objectweb.asm.Opcodes;
+import org.objectweb.asm.tree.ClassNode;
+import org.objectweb.asm.tree.FieldInsnNode;
+import org.objectweb.asm.tree.InsnList;
+import org.objectweb.asm.tree.LabelNode;
+import org.objectweb.asm.tree.LocalVariableNode;
+import org.objectweb.asm.tree.LookupSwitchInsnNode;
+import org.objectweb.asm.tree.MethodNode;
+import org.objectweb.asm.tree.TryCatchBlockNode;
+import org.pitest.bytecode.FrameOptions;
+import org.pitest.classinfo.ClassByteArraySource;
+import org.pitest.classinfo.ClassName;
+import org.pitest.classinfo.ComputeClassWriter;
+import org.pitest.mutationtest.engine.Location;
+import org.pitest.mutationtest.engine.Mutant;
+import org.pitest.mutationtest.engine.MutantSchemata;
+import org.pitest.mutationtest.engine.MutationIdentifier;
+import org.pitest.util.Log;
+
+/**
+ * Combines the mutants of a class into a single class. The code of each
+ * mutated method is copied into the original method behind a switch on
+ * sun.pitest.ActiveMutant, with the unmutated code as the default branch.
+ *
+ * The JVM does not allow methods to be added when a class is redefined, so
+ * the mutant code is placed in the body of the original method, not in
+ * methods of its own. Constructors and static initializers are left out, as
+ * their code cannot be branched around in this way.
+ */
+class MutantSchemataBuilder {
+
+  private static final Logger        LOG           = Log.getLogger();
+
+  private static final String        ACTIVE_MUTANT = "sun/pitest/ActiveMutant";
+
+  private final ClassByteArraySource byteSource;
+  private final Map<String, String>  computeCache;
+
+  MutantSchemataBuilder(final ClassByteArraySource byteSource,
+      final Map<String, String> computeCache) {
+    this.byteSource = byteSource;
+    this.computeCache = computeCache;
+  }
+
+  Optional<MutantSchemata> build(final ClassName clazz, final byte[] original,
+      final List<Mutant> mutants, final int firstId) {
+    final ClassNode template = read(original);
+    final Map<Location, List<Branch>> branches = new LinkedHashMap<>();
+    final Map<MutationIdentifier, Integer> ids = new LinkedHashMap<>();
+    int next = firstId;
+    for (final Mutant each : mutants) {
+      final MutationIdentifier id = each.getDetails().getId();
+      if (!id.getClassName().equals(clazz) || !canBranch(id.getLocation())) {
+        continue;
+      }
+      if (findMethod(template, id.getLocation()).isPresent()) {
+        branches.computeIfAbsent(id.getLocation(), k -> new ArrayList<>())
+            .add(new Branch(next, each.getBytes()));
+        ids.put(id, next);
+        next++;
+      }
+    }
+
+    if (ids.isEmpty()) {
+      return Optional.empty();
+    }
+
+    Optional<byte[]> bytes = write(original, branches);
+    if (!bytes.isPresent()) {
+      // most likely a method has grown beyond the size limit, so the mutants
+      // of any method that cannot be written are left out and installed
+      // individually instead
+      LOG.fine("Could not create mutant schemata for all methods of " + clazz);
+      dropUnwritableMethods(original, branches, ids);
+      bytes = ids.isEmpty() ? Optional.empty() : write(original, branches);
+    }
+    return bytes.map(b -> new MutantSchemata(clazz, b, ids));
+  }
+
+  private void dropUnwritableMethods(final byte[] original,
+      final Map<Location, List<Branch>> branches,
+      final Map<MutationIdentifier, Integer> ids) {
+    final Iterator<Entry<Location, List<Branch>>> it = branches.entrySet()
+        .iterator();
+    while (it.hasNext()) {
+      final Entry<Location, List<Branch>> each = it.next();
+      if (!write(original,
+          Collections.singletonMap(each.getKey(), each.getValue()))
+              .isPresent()) {
+        LOG.fine("Leaving mutants of " + each.getKey()
+            + " out of mutant schemata");
+        for (final Branch branch : each.getValue()) {
+          ids.values().remove(branch.id);
+        }
+        it.remove();
+      }
+    }
+  }
+
+  private Optional<byte[]> write(final byte[] original,
+      final Map<Location, List<Branch>> branches) {
+    try {
+      // read afresh as adding branches consumes the nodes
+      final ClassNode target = read(original);
+      for (final Entry<Location, List<Branch>> each : branches.entrySet()) {
+        addBranches(findMethod(target, each.getKey()).get(), each.getKey(),
+            each.getValue());
+      }
+      final ClassWriter w = new ComputeClassWriter(this.byteSource,
+          this.computeCache, FrameOptions.pickFlags(original));
+      target.accept(w);
+      return Optional.of(w.toByteArray());
+    } catch (final RuntimeException e) {
+      LOG.fine(e.getMessage());
+      return Optional.empty();
+    }
+  }
+
+  private static boolean canBranch(final Location location) {
+    final String name = location.getMethodName().name();
+    return !name.equals("<init>") && !name.equals("<clinit>");
+  }
+
+  private static ClassNode read(final byte[] bytes) {
+    final ClassNode node = new ClassNode();
+    // frames are recomputed for the combined code
+    new ClassReader(bytes).accept(node, ClassReader.SKIP_FRAMES);
+    return node;
+  }
+
+  private static Optional<MethodNode> findMethod(final ClassNode clazz,
+      final Location location) {
+    for (final MethodNode each : clazz.methods) {
+      if (each.name.equals(location.getMethodName().name())
+          && each.desc.equals(location.getMethodDesc())) {
+        return Optional.of(each);
+      }
+    }
+    return Optional.empty();
+  }
+
+  private static void addBranches(final MethodNode method,
+      final Location location, final List<Branch> branches) {
+    final int[] keys = new int[branches.size()];
+    final LabelNode[] labels = new LabelNode[branches.size()];
+    for (int i = 0; i != branches.size(); i++) {
+      keys[i] = branches.get(i).id;
+      labels[i] = new LabelNode();
+    }
+
+    final LabelNode unmutated = new LabelNode();
+    final InsnList code = new InsnList();
+    code.add(new FieldInsnNode(Opcodes.GETSTATIC, ACTIVE_MUTANT, "id", "I"));
+    code.add(new LookupSwitchInsnNode(unmutated, keys, labels));
+
+    final List<TryCatchBlockNode> handlers = new ArrayList<>();
+    final List<LocalVariableNode> locals = new ArrayList<>();
+    for (int i = 0; i != branches.size(); i++) {
+      // the mutated method is discarded, so its code is moved, not copied
+      final MethodNode mutant = findMethod(read(branches.get(i).bytes),
+          location).get();
+      code.add(labels[i]);
+      code.add(mutant.instructions);
+      handlers.addAll(mutant.tryCatchBlocks);
+      addAll(locals, mutant.localVariables);
+      method.maxLocals = Math.max(method.maxLocals, mutant.maxLocals);
+    }
+
+    code.add(unmutated);
+    code.add(method.instructions);
+    handlers.addAll(method.tryCatchBlocks);
+    addAll(locals, method.localVariables);
+
+    method.instructions = code;
+    method.tryCatchBlocks = handlers;
+    method.localVariables = locals;
+  }
+
+  private static void addAll(final List<LocalVariableNode> to,
+      final List<LocalVariableNode> from) {
+    if (from != null) {
+      to.addAll(from);
+    }
+  }
+
+  private static class Branch {
+    private final int    id;
+    private final byte[] bytes;
+
+    Branch(final int id, final byte[] bytes) {
+      this.id = id;
+      this.bytes = bytes;
+    }
+  }
+
+}
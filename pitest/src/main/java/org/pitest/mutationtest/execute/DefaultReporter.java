@@ -35,7 +35,7 @@ public class DefaultReporter implements Reporter {
   public synchronized void describe(final MutationIdentifier i)
       throws IOException {
     this.w.writeByte(Id.DESCRIBE);
-    this.w.write(i);
+    MutationResultCodec.writeIdentifier(this.w, i);
     this.w.flush();
   }
 
@@ -43,8 +43,14 @@ public class DefaultReporter implements Reporter {
   public synchronized void report(final MutationIdentifier i,
       final MutationStatusTestPair mutationDetected) throws IOException {
     this.w.writeByte(Id.REPORT);
-    this.w.write(i);
-    this.w.write(mutationDetected);
+    MutationResultCodec.writeIdentifier(this.w, i);
+    MutationResultCodec.writeStatus(this.w, mutationDetected);
+    this.w.flush();
+  }
+
+  @Override
+  public synchronized void batchDone() {
+    this.w.writeByte(Id.BATCH_DONE);
     this.w.flush();
   }
 
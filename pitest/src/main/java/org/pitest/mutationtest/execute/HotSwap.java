@@ -32,6 +32,17 @@ class HotSwap implements F3<ClassName, ClassLoader, byte[], Boolean> {
 
   }
 
+  void restore() {
+    if (this.lastMutatedClass != null) {
+      try {
+        restoreForLoader(this.lastUsedLoader);
+      } catch (final ClassNotFoundException e) {
+        throw Unchecked.translateCheckedException(e);
+      }
+      this.lastMutatedClass = null;
+    }
+  }
+
   private void restoreLastClass(final ClassByteArraySource byteSource,
       final ClassName clazzName, final ClassLoader loader)
           throws ClassNotFoundException {
@@ -0,0 +1,89 @@
+package org.pitest.mutationtest.execute;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.pitest.classinfo.ClassName;
+import org.pitest.mutationtest.DetectionStatus;
+import org.pitest.mutationtest.MutationStatusTestPair;
+import org.pitest.mutationtest.engine.Location;
+import org.pitest.mutationtest.engine.MethodName;
+import org.pitest.mutationtest.engine.MutationIdentifier;
+import org.pitest.util.SafeDataInputStream;
+import org.pitest.util.SafeDataOutputStream;
+
+/**
+ * Binary encoding of the values a mutation test minion reports to the parent.
+ * Class, method and test names are interned on the stream, so each is sent in
+ * full once per connection.
+ */
+public final class MutationResultCodec {
+
+  private static final DetectionStatus[] STATUSES = DetectionStatus.values();
+
+  private MutationResultCodec() {
+  }
+
+  public static void writeIdentifier(final SafeDataOutputStream os,
+      final MutationIdentifier id) {
+    final Location location = id.getLocation();
+    os.writeInternedString(location.getClassName().asInternalName());
+    os.writeInternedString(location.getMethodName().name());
+    os.writeInternedString(location.getMethodDesc());
+    os.writeInternedString(id.getMutator());
+    final List<Integer> indexes = id.getIndexes();
+    os.writeInt(indexes.size());
+    for (final int each : indexes) {
+      os.writeInt(each);
+    }
+  }
+
+  public static MutationIdentifier readIdentifier(final SafeDataInputStream is) {
+    final ClassName clazz = ClassName.fromString(is.readInternedString());
+    final MethodName method = MethodName.fromString(is.readInternedString());
+    final String desc = is.readInternedString();
+    final String mutator = is.readInternedString();
+    final int numberOfIndexes = is.readInt();
+    final List<Integer> indexes = new ArrayList<>(numberOfIndexes);
+    for (int i = 0; i != numberOfIndexes; i++) {
+      indexes.add(is.readInt());
+    }
+    return new MutationIdentifier(Location.location(clazz, method, desc),
+        indexes, mutator);
+  }
+
+  public static void writeStatus(final SafeDataOutputStream os,
+      final MutationStatusTestPair status) {
+    os.writeInt(status.getNumberOfTestsRun());
+    os.writeByte((byte) status.getStatus().ordinal());
+    writeNames(os, status.getKillingTests());
+    writeNames(os, status.getSucceedingTests());
+  }
+
+  public static MutationStatusTestPair readStatus(final SafeDataInputStream is) {
+    final int numberOfTestsRun = is.readInt();
+    final DetectionStatus status = STATUSES[is.readByte()];
+    final List<String> killingTests = readNames(is);
+    final List<String> succeedingTests = readNames(is);
+    return new MutationStatusTestPair(numberOfTestsRun, status, killingTests,
+        succeedingTests);
+  }
+
+  private static void writeNames(final SafeDataOutputStream os,
+      final List<String> names) {
+    os.writeInt(names.size());
+    for (final String each : names) {
+      os.writeInternedString(each);
+    }
+  }
+
+  private static List<String> readNames(final SafeDataInputStream is) {
+    final int size = is.readInt();
+    final List<String> names = new ArrayList<>(size);
+    for (int i = 0; i != size; i++) {
+      names.add(is.readInternedString());
+    }
+    return names;
+  }
+
+}
@@ -16,9 +16,12 @@ package org.pitest.mutationtest.execute;
 
 import java.io.IOException;
 import java.lang.management.MemoryNotificationInfo;
-import java.net.Socket;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 import java.util.stream.Collectors;
@@ -31,25 +34,33 @@ import org.pitest.classinfo.CachingByteArraySource;
 import org.pitest.classinfo.ClassByteArraySource;
 import org.pitest.classinfo.ClassName;
 import org.pitest.classpath.ClassloaderByteArraySource;
+import org.pitest.coverage.TestInfo;
 import org.pitest.functional.F3;
 import org.pitest.functional.prelude.Prelude;
 import org.pitest.mutationtest.EngineArguments;
 import org.pitest.mutationtest.config.ClientPluginServices;
 import org.pitest.mutationtest.config.MinionSettings;
 import org.pitest.mutationtest.config.TestPluginArguments;
+import org.pitest.mutationtest.engine.MutationDetails;
 import org.pitest.mutationtest.engine.MutationEngine;
 import org.pitest.mutationtest.mocksupport.BendJavassistToMyWillTransformer;
 import org.pitest.mutationtest.mocksupport.JavassistInputStreamInterceptorAdapater;
 import org.pitest.mutationtest.mocksupport.JavassistInterceptor;
 import org.pitest.testapi.Configuration;
 import org.pitest.testapi.TestUnit;
+import org.pitest.testapi.TestUnitCodec;
 import org.pitest.testapi.execute.FindTestUnits;
 import org.pitest.util.ExitCode;
 import org.pitest.util.Glob;
+import org.pitest.util.Id;
 import org.pitest.util.IsolationUtils;
 import org.pitest.util.Log;
+import org.pitest.util.MinionConnection;
 import org.pitest.util.SafeDataInputStream;
 
+import sun.pitest.ActiveMutant;
+import sun.pitest.TimeoutBudget;
+
 public class MutationTestMinion {
 
   private static final Logger       LOG = Log.getLogger();
@@ -72,32 +83,27 @@ public class MutationTestMinion {
   public void run() {
     try {
 
-      final MinionArguments paramsFromParent = this.dis
-          .read(MinionArguments.class);
-
-      Log.setVerbose(paramsFromParent.isVerbose());
-
       final ClassLoader loader = IsolationUtils.getContextClassLoader();
 
       final ClassByteArraySource byteSource = new CachingByteArraySource(new ClassloaderByteArraySource(
           loader), CACHE_SIZE);
 
-      final F3<ClassName, ClassLoader, byte[], Boolean> hotswap = new HotSwap(
-          byteSource);
-
-      final MutationEngine engine = createEngine(paramsFromParent.engine, paramsFromParent.engineArgs);
-
+      final HotSwap hotswap = new HotSwap(byteSource);
 
-      final MutationTestWorker worker = new MutationTestWorker(hotswap,
-          engine.createMutator(byteSource), loader, paramsFromParent.fullMutationMatrix);
+      final MutationTestThread testThread = new MutationTestThread();
 
-      final List<TestUnit> tests = findTestsForTestClasses(loader,
-          paramsFromParent.testClasses, createTestPlugin(paramsFromParent.pitConfig));
-
-      worker.run(paramsFromParent.mutations, this.reporter,
-          new TimeOutDecoratedTestSource(paramsFromParent.timeoutStrategy,
-              tests, this.reporter));
+      // the parent may send any number of batches before asking us to exit,
+      // so everything that does not depend on the batch is set up only once
+      byte control = this.dis.readByte();
+      while (control == Id.RUN) {
+        final MinionArguments paramsFromParent = this.dis
+            .read(MinionArguments.class);
+        runBatch(paramsFromParent, loader, byteSource, hotswap, testThread);
+        this.reporter.batchDone();
+        control = this.dis.readByte();
+      }
 
+      testThread.shutdown();
       this.reporter.done(ExitCode.OK);
     } catch (final Throwable ex) {
       ex.printStackTrace(System.out);
@@ -107,6 +113,45 @@ public class MutationTestMinion {
 
   }
 
+  private void runBatch(final MinionArguments paramsFromParent,
+      final ClassLoader loader, final ClassByteArraySource byteSource,
+      final HotSwap hotswap, final MutationTestThread testThread)
+      throws IOException {
+
+    Log.setVerbose(paramsFromParent.isVerbose());
+    MinionConnection.echoStandardOut(paramsFromParent.isVerbose());
+
+    final MutationEngine engine = createEngine(paramsFromParent.engine, paramsFromParent.engineArgs);
+
+    final boolean cooperativeTimeouts = paramsFromParent.engineArgs
+        .useCooperativeTimeouts();
+    final MutationTestWorker worker = new MutationTestWorker(
+        cooperativeTimeouts ? withTimeoutChecks(hotswap) : hotswap,
+        engine.createMutator(byteSource), loader, paramsFromParent.fullMutationMatrix,
+        paramsFromParent.engineArgs.useMutantSchemata());
+
+    final List<TestUnit> tests = findTests(loader, paramsFromParent,
+        createTestPlugin(paramsFromParent.pitConfig));
+
+    try {
+      worker.run(paramsFromParent.mutations, this.reporter,
+          new TimeOutDecoratedTestSource(paramsFromParent.timeoutStrategy,
+              tests, this.reporter, cooperativeTimeouts, testThread));
+    } finally {
+      // leave the jvm unmutated so the next batch starts from a clean state
+      hotswap.restore();
+      ActiveMutant.deactivate();
+      TimeoutBudget.reset();
+      JavassistInterceptor.setMutant(null);
+    }
+  }
+
+  private static F3<ClassName, ClassLoader, byte[], Boolean> withTimeoutChecks(
+      final HotSwap hotswap) {
+    return (clazz, loader, bytes) -> hotswap.apply(clazz, loader,
+        TimeoutCheckInserter.insertChecks(bytes));
+  }
+
   private MutationEngine createEngine(String engine, EngineArguments args) {
     return this.plugins.createEngine(engine).createEngine(args);
   }
@@ -121,13 +166,12 @@ public class MutationTestMinion {
 
     enablePowerMockSupport();
 
-    final int port = Integer.valueOf(args[0]);
-
-    Socket s = null;
+    MinionConnection s = null;
     try {
-      s = new Socket("localhost", port);
+      s = MinionConnection.toParent(args[0]);
       final SafeDataInputStream dis = new SafeDataInputStream(
           s.getInputStream());
+      dis.checkProtocolVersion();
 
       final Reporter reporter = new DefaultReporter(s.getOutputStream());
       addMemoryWatchDog(reporter);
@@ -140,10 +184,68 @@ public class MutationTestMinion {
       LOG.log(Level.WARNING, "Error during mutation test", ex);
     } finally {
       if (s != null) {
-        safelyCloseSocket(s);
+        safelyCloseConnection(s);
+      }
+    }
+
+  }
+
+  private static List<TestUnit> findTests(final ClassLoader loader,
+      final MinionArguments paramsFromParent, final Configuration pitConfig) {
+    final Optional<List<TestUnit>> recreated = recreateTests(loader,
+        paramsFromParent.mutations, pitConfig);
+    if (recreated.isPresent()) {
+      return recreated.get();
+    }
+    return findTestsForTestClasses(loader, paramsFromParent.testClasses,
+        pitConfig);
+  }
+
+  /**
+   * Recreates the units that ran the tests of the batch from the descriptions
+   * recorded when coverage was gathered, so that the test classes need not be
+   * searched again. Returns nothing if any of the units cannot be recreated.
+   */
+  static Optional<List<TestUnit>> recreateTests(final ClassLoader loader,
+      final Collection<MutationDetails> mutations,
+      final Configuration pitConfig) {
+    final Optional<TestUnitCodec> codec = pitConfig.testUnitCodec();
+    if (!codec.isPresent()) {
+      return Optional.empty();
+    }
+
+    final Map<String, TestInfo> needed = new LinkedHashMap<>();
+    for (final MutationDetails each : mutations) {
+      for (final TestInfo test : each.getTestsInOrder()) {
+        needed.putIfAbsent(test.getName(), test);
       }
     }
 
+    final List<TestUnit> units = new ArrayList<>(needed.size());
+    for (final TestInfo each : needed.values()) {
+      final Optional<TestUnit> unit = recreate(loader, codec.get(), each);
+      if (!unit.isPresent()) {
+        LOG.fine("Could not recreate " + each.getName()
+            + ". Tests will be discovered");
+        return Optional.empty();
+      }
+      units.add(unit.get());
+    }
+    return Optional.of(units);
+  }
+
+  private static Optional<TestUnit> recreate(final ClassLoader loader,
+      final TestUnitCodec codec, final TestInfo test) {
+    final Optional<String> description = test.getUnitDescription();
+    if (!description.isPresent()) {
+      return Optional.empty();
+    }
+    return ClassName.nameToClass(loader)
+        .apply(TestInfo.toDefiningClassName().apply(test)).findFirst()
+        .flatMap(clazz -> codec.recreate(clazz, description.get()))
+        // the unit must be found again by the name coverage recorded
+        .filter(unit -> unit.getDescription().getQualifiedName()
+            .equals(test.getName()));
   }
 
   private static List<TestUnit> findTestsForTestClasses(
@@ -160,12 +262,12 @@ public class MutationTestMinion {
         .or(new Glob("javassist/*")), JavassistInputStreamInterceptorAdapater.inputStreamAdapterSupplier(JavassistInterceptor.class)));
   }
 
-  private static void safelyCloseSocket(final Socket s) {
+  private static void safelyCloseConnection(final MinionConnection s) {
     if (s != null) {
       try {
         s.close();
       } catch (final IOException e) {
-        LOG.log(Level.WARNING, "Couldn't close socket", e);
+        LOG.log(Level.WARNING, "Couldn't close connection", e);
       }
     }
   }
@@ -0,0 +1,50 @@
+package org.pitest.mutationtest.execute;
+
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Runs tests on a long lived thread, so that a thread is not started for each
+ * test run against each mutant. The thread is replaced only when a test that
+ * has timed out leaves it stuck.
+ */
+public final class MutationTestThread {
+
+  private static final long  KEEP_ALIVE_SECONDS = 60;
+
+  private ThreadPoolExecutor executor           = createExecutor();
+
+  public Future<?> submit(final Runnable test) {
+    return this.executor.submit(test);
+  }
+
+  /**
+   * Abandons the current thread to the test that is stuck on it. Tests
+   * submitted afterwards run on a new thread.
+   */
+  public void replace() {
+    this.executor.shutdownNow();
+    this.executor = createExecutor();
+  }
+
+  public void shutdown() {
+    this.executor.shutdown();
+  }
+
+  private static ThreadPoolExecutor createExecutor() {
+    final ThreadPoolExecutor executor = new ThreadPoolExecutor(1, 1,
+        KEEP_ALIVE_SECONDS, TimeUnit.SECONDS, new LinkedBlockingQueue<>(),
+        r -> {
+          final Thread thread = new Thread(r);
+          thread.setDaemon(true);
+          thread.setName("mutationTestThread");
+          return thread;
+        });
+    // don't keep a thread alive for a runner that is no longer used
+    executor.allowCoreThreadTimeOut(true);
+    return executor;
+  }
+
+}
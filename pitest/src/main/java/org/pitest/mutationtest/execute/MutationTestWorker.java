@@ -20,7 +20,11 @@ import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 import java.util.stream.Collectors;
@@ -30,6 +34,7 @@ import org.pitest.functional.F3;
 import org.pitest.mutationtest.DetectionStatus;
 import org.pitest.mutationtest.MutationStatusTestPair;
 import org.pitest.mutationtest.engine.Mutant;
+import org.pitest.mutationtest.engine.MutantSchemata;
 import org.pitest.mutationtest.engine.Mutater;
 import org.pitest.mutationtest.engine.MutationDetails;
 import org.pitest.mutationtest.engine.MutationIdentifier;
@@ -44,6 +49,9 @@ import org.pitest.testapi.execute.containers.ConcreteResultCollector;
 import org.pitest.testapi.execute.containers.UnContainer;
 import org.pitest.util.Log;
 
+import sun.pitest.ActiveMutant;
+import sun.pitest.TimeoutBudget;
+
 public class MutationTestWorker {
 
   private static final Logger                               LOG   = Log
@@ -57,39 +65,137 @@ public class MutationTestWorker {
   private final ClassLoader                                 loader;
   private final F3<ClassName, ClassLoader, byte[], Boolean> hotswap;
   private final boolean                                     fullMutationMatrix;
+  private final boolean                                     useSchemata;
+
+  private Optional<MutantSchemata>                          schemata       = Optional
+      .empty();
+  private int                                               nextSchemataId = 0;
 
   public MutationTestWorker(
       final F3<ClassName, ClassLoader, byte[], Boolean> hotswap,
       final Mutater mutater, final ClassLoader loader, final boolean fullMutationMatrix) {
+    this(hotswap, mutater, loader, fullMutationMatrix, false);
+  }
+
+  public MutationTestWorker(
+      final F3<ClassName, ClassLoader, byte[], Boolean> hotswap,
+      final Mutater mutater, final ClassLoader loader,
+      final boolean fullMutationMatrix, final boolean useSchemata) {
     this.loader = loader;
     this.mutater = mutater;
     this.hotswap = hotswap;
     this.fullMutationMatrix = fullMutationMatrix;
+    this.useSchemata = useSchemata;
   }
 
   protected void run(final Collection<MutationDetails> range, final Reporter r,
       final TimeOutDecoratedTestSource testSource) throws IOException {
 
-    for (final MutationDetails mutation : range) {
-      if (DEBUG) {
-        LOG.fine("Running mutation " + mutation);
+    for (final List<MutationDetails> mutations : groupByClass(range)) {
+      final Iterator<Mutant> mutants = this.mutater.getMutations(
+          ids(mutations)).iterator();
+      if (this.useSchemata) {
+        runWithSchemata(r, testSource, mutations, mutants);
+      } else {
+        for (final MutationDetails mutation : mutations) {
+          runMutation(r, testSource, mutation, mutants.next());
+        }
       }
-      final long t0 = System.currentTimeMillis();
-      processMutation(r, testSource, mutation);
-      if (DEBUG) {
-        LOG.fine("processed mutation in " + (System.currentTimeMillis() - t0)
-            + " ms.");
+    }
+
+  }
+
+  /**
+   * Installs one class containing all the mutants that could be combined into
+   * a schemata, and runs each by switching the active mutant. The remaining
+   * mutants are then installed one at a time, replacing the schemata.
+   */
+  private void runWithSchemata(final Reporter r,
+      final TimeOutDecoratedTestSource testSource,
+      final List<MutationDetails> mutations, final Iterator<Mutant> mutants)
+      throws IOException {
+    final List<Mutant> created = new ArrayList<>(mutations.size());
+    mutants.forEachRemaining(created::add);
+
+    this.schemata = this.mutater.createSchemata(created, this.nextSchemataId)
+        .filter(this::install);
+    if (this.schemata.isPresent()) {
+      this.nextSchemataId = this.nextSchemataId + this.schemata.get().size();
+    }
+
+    final List<Integer> unschematized = new ArrayList<>();
+    for (int i = 0; i != mutations.size(); i++) {
+      if (schemataIdFor(mutations.get(i)).isPresent()) {
+        runMutation(r, testSource, mutations.get(i), created.get(i));
+      } else {
+        unschematized.add(i);
       }
     }
 
+    this.schemata = Optional.empty();
+    for (final int i : unschematized) {
+      runMutation(r, testSource, mutations.get(i), created.get(i));
+    }
+  }
+
+  private boolean install(final MutantSchemata schemata) {
+    final long t0 = System.currentTimeMillis();
+    final boolean installed = this.hotswap.apply(schemata.getClassName(),
+        this.loader, schemata.getBytes());
+    if (installed) {
+      LOG.fine("Installed schemata of " + schemata.size() + " mutants for "
+          + schemata.getClassName() + " in "
+          + (System.currentTimeMillis() - t0) + " ms");
+    } else {
+      LOG.fine("Could not install schemata for " + schemata.getClassName()
+          + ". Mutants will be installed individually");
+    }
+    return installed;
+  }
+
+  private Optional<Integer> schemataIdFor(final MutationDetails mutation) {
+    return this.schemata.flatMap(s -> s.idOf(mutation.getId()));
+  }
+
+  private void runMutation(final Reporter r,
+      final TimeOutDecoratedTestSource testSource,
+      final MutationDetails mutation, final Mutant mutant) throws IOException {
+    if (DEBUG) {
+      LOG.fine("Running mutation " + mutation);
+    }
+    final long t0 = System.currentTimeMillis();
+    processMutation(r, testSource, mutation, mutant);
+    if (DEBUG) {
+      LOG.fine("processed mutation in " + (System.currentTimeMillis() - t0)
+          + " ms.");
+    }
+  }
+
+  private static Collection<List<MutationDetails>> groupByClass(
+      final Collection<MutationDetails> range) {
+    final Map<ClassName, List<MutationDetails>> byClass = new LinkedHashMap<>();
+    for (final MutationDetails each : range) {
+      byClass.computeIfAbsent(each.getClassName(), k -> new ArrayList<>())
+          .add(each);
+    }
+    return byClass.values();
+  }
+
+  private static List<MutationIdentifier> ids(
+      final List<MutationDetails> mutations) {
+    final List<MutationIdentifier> ids = new ArrayList<>(mutations.size());
+    for (final MutationDetails each : mutations) {
+      ids.add(each.getId());
+    }
+    return ids;
   }
 
   private void processMutation(final Reporter r,
       final TimeOutDecoratedTestSource testSource,
-      final MutationDetails mutationDetails) throws IOException {
+      final MutationDetails mutationDetails, final Mutant mutatedClass)
+      throws IOException {
 
     final MutationIdentifier mutationId = mutationDetails.getId();
-    final Mutant mutatedClass = this.mutater.getMutation(mutationId);
 
     // For the benefit of mocking frameworks such as PowerMock
     // mess with the internals of Javassist so our mutated class
@@ -140,6 +246,17 @@ public class MutationTestWorker {
     }
 
     final Container c = createNewContainer();
+    final Optional<Integer> schemataId = schemataIdFor(mutationId);
+    if (schemataId.isPresent()) {
+      ActiveMutant.activate(schemataId.get());
+      try {
+        mutationDetected = doTestsDetectMutation(c, relevantTests);
+      } finally {
+        ActiveMutant.deactivate();
+      }
+      return mutationDetected;
+    }
+
     final long t0 = System.currentTimeMillis();
     if (this.hotswap.apply(mutationId.getClassName(), this.loader,
         mutatedClass.getBytes())) {
@@ -191,6 +308,14 @@ public class MutationTestWorker {
         pit.run(c, createEarlyExitTestGroup(tests));
       }
 
+      if (TimeoutBudget.hasExpired()) {
+        // the mutant was stopped by its timeout checks, so any failures are
+        // not real kills
+        TimeoutBudget.reset();
+        return new MutationStatusTestPair(listener.getNumberOfTestsRun(),
+            DetectionStatus.TIMED_OUT);
+      }
+
       return createStatusTestPair(listener);
     } catch (final Exception ex) {
       throw translateCheckedException(ex);
@@ -15,7 +15,7 @@
 package org.pitest.mutationtest.execute;
 
 import java.util.concurrent.ExecutionException;
-import java.util.concurrent.FutureTask;
+import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 
@@ -26,19 +26,52 @@ import org.pitest.testapi.ResultCollector;
 import org.pitest.testapi.TestUnit;
 import org.pitest.util.Unchecked;
 
+import sun.pitest.TimeoutBudget;
+
 public final class MutationTimeoutDecorator extends TestUnitDecorator {
 
+  // time allowed for a test to stop once asked to, before the side effect is
+  // applied
+  static final long                   GRACE_PERIOD = 1000;
+
   private final TimeoutLengthStrategy timeOutStrategy;
   private final SideEffect            timeOutSideEffect;
   private final long                  executionTime;
+  private final boolean               cooperative;
+  private final MutationTestThread    testThread;
 
   public MutationTimeoutDecorator(final TestUnit child,
       final SideEffect timeOutSideEffect,
       final TimeoutLengthStrategy timeStrategy, final long executionTime) {
+    this(child, timeOutSideEffect, timeStrategy, executionTime, false);
+  }
+
+  public MutationTimeoutDecorator(final TestUnit child,
+      final SideEffect timeOutSideEffect,
+      final TimeoutLengthStrategy timeStrategy, final long executionTime,
+      final boolean cooperative) {
+    this(child, timeOutSideEffect, timeStrategy, executionTime, cooperative,
+        new MutationTestThread());
+  }
+
+  /**
+   * @param cooperative
+   *          if true, the mutant is first asked to stop by expiring the
+   *          {@link TimeoutBudget}, and the side effect is applied only if it
+   *          has not stopped within the grace period
+   * @param testThread
+   *          thread to run the test on, which may be shared with other tests
+   */
+  public MutationTimeoutDecorator(final TestUnit child,
+      final SideEffect timeOutSideEffect,
+      final TimeoutLengthStrategy timeStrategy, final long executionTime,
+      final boolean cooperative, final MutationTestThread testThread) {
     super(child);
     this.timeOutSideEffect = timeOutSideEffect;
     this.executionTime = executionTime;
     this.timeOutStrategy = timeStrategy;
+    this.cooperative = cooperative;
+    this.testThread = testThread;
   }
 
   @Override
@@ -47,16 +80,21 @@ public final class MutationTimeoutDecorator extends TestUnitDecorator {
     final long maxTime = this.timeOutStrategy
         .getAllowedTime(this.executionTime);
 
-    final FutureTask<?> future = createFutureForChildTestUnit(rc);
+    final Future<?> future = this.testThread.submit(createRunnable(rc));
     executeFutureWithTimeOut(maxTime, future, rc);
+    if (!future.isDone() && this.cooperative) {
+      TimeoutBudget.expire();
+      executeFutureWithTimeOut(GRACE_PERIOD, future, rc);
+    }
     if (!future.isDone()) {
+      this.testThread.replace();
       this.timeOutSideEffect.apply();
     }
 
   }
 
   private void executeFutureWithTimeOut(final long maxTime,
-      final FutureTask<?> future, final ResultCollector rc) {
+      final Future<?> future, final ResultCollector rc) {
     try {
       future.get(maxTime, TimeUnit.MILLISECONDS);
     } catch (final TimeoutException ex) {
@@ -68,15 +106,6 @@ public final class MutationTimeoutDecorator extends TestUnitDecorator {
     }
   }
 
-  private FutureTask<?> createFutureForChildTestUnit(final ResultCollector rc) {
-    final FutureTask<?> future = new FutureTask<>(createRunnable(rc), null);
-    final Thread thread = new Thread(future);
-    thread.setDaemon(true);
-    thread.setName("mutationTestThread");
-    thread.start();
-    return future;
-  }
-
   private Runnable createRunnable(final ResultCollector rc) {
     return () -> {
       try {
@@ -27,6 +27,8 @@ public interface Reporter {
   void report(MutationIdentifier i, MutationStatusTestPair mutationDetected)
       throws IOException;
 
+  void batchDone();
+
   void done(ExitCode exitCode);
 
 }
@@ -31,13 +31,32 @@ public class TimeOutDecoratedTestSource {
   private final Map<String, TestUnit> allTests = new HashMap<>();
   private final TimeoutLengthStrategy timeoutStrategy;
   private final Reporter              r;
+  private final boolean               cooperativeTimeouts;
+  private final MutationTestThread    testThread;
 
   public TimeOutDecoratedTestSource(
       final TimeoutLengthStrategy timeoutStrategy,
       final List<TestUnit> allTests, final Reporter r) {
+    this(timeoutStrategy, allTests, r, false);
+  }
+
+  public TimeOutDecoratedTestSource(
+      final TimeoutLengthStrategy timeoutStrategy,
+      final List<TestUnit> allTests, final Reporter r,
+      final boolean cooperativeTimeouts) {
+    this(timeoutStrategy, allTests, r, cooperativeTimeouts,
+        new MutationTestThread());
+  }
+
+  public TimeOutDecoratedTestSource(
+      final TimeoutLengthStrategy timeoutStrategy,
+      final List<TestUnit> allTests, final Reporter r,
+      final boolean cooperativeTimeouts, final MutationTestThread testThread) {
     this.timeoutStrategy = timeoutStrategy;
     mapTests(allTests);
     this.r = r;
+    this.cooperativeTimeouts = cooperativeTimeouts;
+    this.testThread = testThread;
   }
 
   private void mapTests(final List<TestUnit> tests) {
@@ -59,7 +78,9 @@ public class TimeOutDecoratedTestSource {
             .<TestUnit> of(new MutationTimeoutDecorator(tu,
                 new TimeOutSystemExitSideEffect(
                     TimeOutDecoratedTestSource.this.r),
-                    TimeOutDecoratedTestSource.this.timeoutStrategy, a.getTime()));
+                    TimeOutDecoratedTestSource.this.timeoutStrategy, a.getTime(),
+                    TimeOutDecoratedTestSource.this.cooperativeTimeouts,
+                    TimeOutDecoratedTestSource.this.testThread));
       }
       return Stream.empty();
     };
@@ -0,0 +1,86 @@
+package org.pitest.mutationtest.execute;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import org.objectweb.asm.ClassReader;
+import org.objectweb.asm.ClassVisitor;
+import org.objectweb.asm.ClassWriter;
+import org.objectweb.asm.Label;
+import org.objectweb.asm.MethodVisitor;
+import org.objectweb.asm.Opcodes;
+
+/**
+ * Inserts a call to sun.pitest.TimeoutBudget.check at the start of each
+ * method and before each backwards jump, so that a mutant stuck in a loop
+ * can be stopped once its time has run out.
+ *
+ * Static initializers are left alone, as a class whose initializer fails
+ * cannot be used again.
+ */
+class TimeoutCheckInserter extends ClassVisitor {
+
+  private static final String BUDGET = "sun/pitest/TimeoutBudget";
+
+  TimeoutCheckInserter(final ClassVisitor cv) {
+    super(Opcodes.ASM6, cv);
+  }
+
+  static byte[] insertChecks(final byte[] bytes) {
+    final ClassReader reader = new ClassReader(bytes);
+    // the check needs no stack and adds no branches, so maxs and frames are
+    // unchanged
+    final ClassWriter writer = new ClassWriter(reader, 0);
+    reader.accept(new TimeoutCheckInserter(writer), 0);
+    return writer.toByteArray();
+  }
+
+  @Override
+  public MethodVisitor visitMethod(final int access, final String name,
+      final String desc, final String signature, final String[] exceptions) {
+    final MethodVisitor mv = super.visitMethod(access, name, desc, signature,
+        exceptions);
+    if (name.equals("<clinit>")) {
+      return mv;
+    }
+    return new TimeoutCheckMethodVisitor(mv);
+  }
+
+  private static class TimeoutCheckMethodVisitor extends MethodVisitor {
+
+    private final Set<Label> visited = new HashSet<>();
+
+    TimeoutCheckMethodVisitor(final MethodVisitor mv) {
+      super(Opcodes.ASM6, mv);
+    }
+
+    @Override
+    public void visitCode() {
+      super.visitCode();
+      insertCheck();
+    }
+
+    @Override
+    public void visitLabel(final Label label) {
+      this.visited.add(label);
+      super.visitLabel(label);
+    }
+
+    @Override
+    public void visitJumpInsn(final int opcode, final Label label) {
+      // labels are visited in code order, so a jump to a label already seen
+      // closes a loop
+      if (this.visited.contains(label)) {
+        insertCheck();
+      }
+      super.visitJumpInsn(opcode, label);
+    }
+
+    private void insertCheck() {
+      super.visitMethodInsn(Opcodes.INVOKESTATIC, BUDGET, "check", "()V",
+          false);
+    }
+
+  }
+
+}
@@ -26,4 +26,12 @@ public interface Configuration {
 
   Optional<PitHelpError> verifyEnvironment();
 
+  /**
+   * @return a codec for the units found by this configuration, if they can be
+   *         recreated without searching for them again
+   */
+  default Optional<TestUnitCodec> testUnitCodec() {
+    return Optional.empty();
+  }
+
 }
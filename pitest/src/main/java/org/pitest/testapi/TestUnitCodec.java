@@ -0,0 +1,21 @@
+package org.pitest.testapi;
+
+import java.util.Optional;
+
+/**
+ * Describes test units in a short string, so that a unit found in one JVM can
+ * be recreated in another without searching its class for tests again.
+ */
+public interface TestUnitCodec {
+
+  /**
+   * @return a description of the unit, or empty if it cannot be recreated
+   */
+  Optional<String> describe(TestUnit unit);
+
+  /**
+   * @return the unit described, or empty if it cannot be recreated
+   */
+  Optional<TestUnit> recreate(Class<?> testClass, String description);
+
+}
@@ -15,10 +15,13 @@
 package org.pitest.util;
 
 public abstract class Id {
-  public static final byte DESCRIBE = 1;
-  public static final byte REPORT   = 2;
-  public static final byte PROBES   = 4;
-  public static final byte OUTCOME  = 16;
-  public static final byte CLAZZ    = 32;
-  public static final byte DONE     = 64;
+  public static final byte DESCRIBE   = 1;
+  public static final byte REPORT     = 2;
+  public static final byte RUN        = 3;
+  public static final byte PROBES     = 4;
+  public static final byte UNIT       = 5;
+  public static final byte BATCH_DONE = 8;
+  public static final byte OUTCOME    = 16;
+  public static final byte CLAZZ      = 32;
+  public static final byte DONE       = 64;
 }
@@ -0,0 +1,157 @@
+package org.pitest.util;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.Closeable;
+import java.io.FileDescriptor;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.net.Socket;
+
+/**
+ * The streams that connect a minion to the process that launched it.
+ *
+ * A minion is told how to connect by the address it is launched with. This is
+ * either the port of a socket the parent is listening on, or {@link #PIPE} if
+ * the parent talks to the minion over its standard input and output.
+ */
+public final class MinionConnection implements Closeable {
+
+  /**
+   * Address given to minions that are connected by their standard streams
+   */
+  public static final String  PIPE        = "pipe";
+
+  /**
+   * Written by a minion before anything else it sends over its standard
+   * output, so that the parent can skip anything the JVM prints before the
+   * minion starts. The first byte does not appear again in the header.
+   */
+  private static final byte[] PIPE_HEADER = { (byte) 0xCA, 'P', 'I', 'T',
+      (byte) 0xFE };
+
+  /**
+   * Where standard out is echoed to when it is taken over by a connection
+   */
+  private static PrintStream  standardOutEcho;
+
+  private final InputStream   in;
+  private final OutputStream  out;
+  private final Closeable     resource;
+
+  public MinionConnection(final InputStream in, final OutputStream out,
+      final Closeable resource) {
+    this.in = in;
+    this.out = out;
+    this.resource = resource;
+  }
+
+  /**
+   * Connects a minion to its parent using the address it was launched with.
+   */
+  public static MinionConnection toParent(final String address)
+      throws IOException {
+    if (PIPE.equals(address)) {
+      return overStandardStreams();
+    }
+    final Socket s = new Socket("localhost", Integer.parseInt(address));
+    return new MinionConnection(s.getInputStream(), s.getOutputStream(), s);
+  }
+
+  /**
+   * Reads up to and including the header a minion writes when it connects
+   * over its standard output.
+   */
+  public static void skipToPipeHeader(final InputStream in) throws IOException {
+    int matched = 0;
+    while (matched != PIPE_HEADER.length) {
+      final int b = in.read();
+      if (b == -1) {
+        throw new IOException("Minion exited before connecting");
+      }
+      if ((byte) b == PIPE_HEADER[matched]) {
+        matched++;
+      } else {
+        matched = (byte) b == PIPE_HEADER[0] ? 1 : 0;
+      }
+    }
+  }
+
+  /**
+   * Sets whether anything written to standard out is passed on to the parent,
+   * which only echoes the output of minions when verbose. Has no effect unless
+   * this minion is connected over its standard streams, as standard out is
+   * otherwise left to the parent to handle.
+   */
+  public static void echoStandardOut(final boolean echo) {
+    if (standardOutEcho != null) {
+      System.setOut(echo ? standardOutEcho : discarding());
+    }
+  }
+
+  static void writePipeHeader(final OutputStream out) throws IOException {
+    out.write(PIPE_HEADER);
+  }
+
+  public InputStream getInputStream() {
+    return this.in;
+  }
+
+  public OutputStream getOutputStream() {
+    return this.out;
+  }
+
+  @Override
+  public void close() throws IOException {
+    this.resource.close();
+  }
+
+  private static MinionConnection overStandardStreams() throws IOException {
+    // every message sent by a minion is flushed, so the streams can be
+    // buffered
+    final InputStream in = new BufferedInputStream(new FileInputStream(
+        FileDescriptor.in));
+    final OutputStream out = new BufferedOutputStream(new FileOutputStream(
+        FileDescriptor.out));
+
+    // the streams now belong to the connection, so anything the tests write
+    // to standard out is discarded until we know if it should be echoed to
+    // standard error instead
+    System.out.flush();
+    standardOutEcho = System.err;
+    System.setOut(discarding());
+    System.setIn(new ByteArrayInputStream(new byte[0]));
+
+    writePipeHeader(out);
+    out.flush();
+    // not a lambda, as the first lambda in a minion is slow to bootstrap
+    return new MinionConnection(in, out, new Closeable() {
+      @Override
+      public void close() throws IOException {
+        try {
+          out.close();
+        } finally {
+          in.close();
+        }
+      }
+    });
+  }
+
+  private static PrintStream discarding() {
+    return new PrintStream(new OutputStream() {
+      @Override
+      public void write(final int b) {
+      }
+
+      @Override
+      public void write(final byte[] b, final int off, final int len) {
+      }
+    });
+  }
+
+}
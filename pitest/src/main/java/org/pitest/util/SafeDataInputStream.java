@@ -21,10 +21,13 @@ import java.io.InputStream;
 import java.io.ObjectInput;
 import java.io.ObjectInputStream;
 import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
 
 public class SafeDataInputStream {
 
   private final DataInputStream dis;
+  private final List<String>    interned = new ArrayList<>();
 
   public SafeDataInputStream(final InputStream is) {
     this.dis = new DataInputStream(is);
@@ -46,6 +49,28 @@ public class SafeDataInputStream {
     }
   }
 
+  public String readInternedString() {
+    final int index = readInt();
+    if (index == SafeDataOutputStream.NULL_STRING) {
+      return null;
+    }
+    if (index == SafeDataOutputStream.NEW_STRING) {
+      final String str = readString();
+      this.interned.add(str);
+      return str;
+    }
+    return this.interned.get(index);
+  }
+
+  public void checkProtocolVersion() {
+    final int version = readInt();
+    if (version != SafeDataOutputStream.PROTOCOL_VERSION) {
+      throw new PitError("Expected protocol version "
+          + SafeDataOutputStream.PROTOCOL_VERSION + " but other side sent "
+          + version);
+    }
+  }
+
   public byte[] readBytes() {
     try {
       final int length = this.dis.readInt();
@@ -21,10 +21,22 @@ import java.io.ObjectOutput;
 import java.io.ObjectOutputStream;
 import java.io.OutputStream;
 import java.io.Serializable;
+import java.util.HashMap;
+import java.util.Map;
 
 public class SafeDataOutputStream {
 
-  private final DataOutputStream dos;
+  /**
+   * Version of the encoding used for messages between minions and the parent.
+   * Must be changed whenever the layout of any message changes.
+   */
+  static final int                   PROTOCOL_VERSION = 1;
+
+  static final int                   NULL_STRING      = -1;
+  static final int                   NEW_STRING       = -2;
+
+  private final DataOutputStream     dos;
+  private final Map<String, Integer> interned         = new HashMap<>();
 
   public SafeDataOutputStream(final OutputStream os) {
     this.dos = new DataOutputStream(os);
@@ -47,6 +59,30 @@ public class SafeDataOutputStream {
     }
   }
 
+  /**
+   * Writes a string that is likely to be repeated on this stream, such as a
+   * class or test name. Each distinct string is sent in full only once, after
+   * which it is sent as its index. Must be read with
+   * {@link SafeDataInputStream#readInternedString()}.
+   */
+  public void writeInternedString(final String str) {
+    if (str == null) {
+      writeInt(NULL_STRING);
+      return;
+    }
+    final Integer index = this.interned.get(str);
+    if (index != null) {
+      writeInt(index);
+      return;
+    }
+    this.interned.put(str, this.interned.size());
+    writeInt(NEW_STRING);
+    writeString(str);
+  }
+
+  public void writeProtocolVersion() {
+    writeInt(PROTOCOL_VERSION);
+  }
 
   public void writeBytes(final byte[] data) {
     try {
@@ -0,0 +1,28 @@
+package sun.pitest;
+
+/**
+ * Selects which mutant of a mutant schemata class is active. Each mutated
+ * method in a schemata class begins with a switch on {@link #id}, so a
+ * different mutant can be activated without redefining the class.
+ */
+public final class ActiveMutant {
+
+  public static final int    NONE = -1;
+
+  // read directly by generated code, which may run on any thread the test
+  // starts, so the write made when a mutant is activated must be visible to
+  // all of them
+  public static volatile int id   = NONE;
+
+  private ActiveMutant() {
+  }
+
+  public static void activate(final int mutant) {
+    id = mutant;
+  }
+
+  public static void deactivate() {
+    id = NONE;
+  }
+
+}
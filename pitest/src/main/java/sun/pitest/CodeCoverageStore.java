@@ -20,11 +20,7 @@
 // to still delegate it's loading
 package sun.pitest;
 
-import java.util.ArrayList;
-import java.util.Collection;
-import java.util.Map;
-import java.util.Map.Entry;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.Arrays;
 
 /**
  * Store for line visit information.
@@ -48,8 +44,16 @@ public final class CodeCoverageStore {
   // before relationship significantly outperforms
   // both AtomicInteger array with bit per flag and integer per flag.
   // optimisation with other methods of ensuring a happens before not yet
-  // investigated
-  private static final Map<Integer, boolean[]> CLASS_HITS        = new ConcurrentHashMap<>();
+  // investigated.
+  // Indexed directly by class id, which are handed out sequentially. The
+  // volatile read on each visit stands in for the map lookup that previously
+  // published newly registered classes to probing threads.
+  private static volatile boolean[][]          classHits         = new boolean[64][];
+
+  // ids of classes hit since the last reset, so reset and hit extraction
+  // need not walk every registered class
+  private static int[]                         dirtyClasses      = new int[64];
+  private static int                           dirtyCount        = 0;
 
   public static void init(final InvokeReceiver invokeQueue) {
     CodeCoverageStore.invokeQueue = invokeQueue;
@@ -59,15 +63,13 @@ public final class CodeCoverageStore {
   }
 
   public static void visitSingleProbe(final int classId, final int probe) { // NO_UCD
-    final boolean[] bs = CLASS_HITS.get(classId);
-    bs[CLASS_HIT_INDEX] = true;
+    final boolean[] bs = hitsFor(classId);
     bs[probe + 1] = true;
   }
 
   public static void visitProbes(final int classId, final int offset,
       final boolean[] probes) { // NO_UCD
-    final boolean[] bs = CLASS_HITS.get(classId);
-    bs[CLASS_HIT_INDEX] = true;
+    final boolean[] bs = hitsFor(classId);
     for (int i = 0; i != probes.length; i++) {
       if (probes[i]) {
         bs[i + offset + 1] = true;
@@ -84,8 +86,7 @@ public final class CodeCoverageStore {
 
   public static void visitProbes(final int classId, final int offset,
       final boolean p0) { // NO_UCD
-    final boolean[] bs = CLASS_HITS.get(classId);
-    bs[CLASS_HIT_INDEX] = true;
+    final boolean[] bs = hitsFor(classId);
     if (p0) {
       bs[offset + 1] = true;
     }
@@ -93,8 +94,7 @@ public final class CodeCoverageStore {
 
   public static void visitProbes(final int classId, final int offset,
       final boolean p0, final boolean p1) { // NO_UCD
-    final boolean[] bs = CLASS_HITS.get(classId);
-    bs[CLASS_HIT_INDEX] = true;
+    final boolean[] bs = hitsFor(classId);
     if (p0) {
       bs[offset + 1] = true;
     }
@@ -105,8 +105,7 @@ public final class CodeCoverageStore {
 
   public static void visitProbes(final int classId, final int offset,
       final boolean p0, final boolean p1, final boolean p2) { // NO_UCD
-    final boolean[] bs = CLASS_HITS.get(classId);
-    bs[CLASS_HIT_INDEX] = true;
+    final boolean[] bs = hitsFor(classId);
     if (p0) {
       bs[offset + 1] = true;
     }
@@ -120,8 +119,7 @@ public final class CodeCoverageStore {
 
   public static void visitProbes(final int classId, final int offset,
       final boolean p0, final boolean p1, final boolean p2, final boolean p3) { // NO_UCD
-    final boolean[] bs = CLASS_HITS.get(classId);
-    bs[CLASS_HIT_INDEX] = true;
+    final boolean[] bs = hitsFor(classId);
     if (p0) {
       bs[offset + 1] = true;
     }
@@ -139,8 +137,7 @@ public final class CodeCoverageStore {
   public static void visitProbes(final int classId, final int offset,
       final boolean p0, final boolean p1, final boolean p2, final boolean p3,
       final boolean p4) { // NO_UCD
-    final boolean[] bs = CLASS_HITS.get(classId);
-    bs[CLASS_HIT_INDEX] = true;
+    final boolean[] bs = hitsFor(classId);
     if (p0) {
       bs[offset + 1] = true;
     }
@@ -161,8 +158,7 @@ public final class CodeCoverageStore {
   public static void visitProbes(final int classId, final int offset,
       final boolean p0, final boolean p1, final boolean p2, final boolean p3,
       final boolean p4, final boolean p5) { // NO_UCD
-    final boolean[] bs = CLASS_HITS.get(classId);
-    bs[CLASS_HIT_INDEX] = true;
+    final boolean[] bs = hitsFor(classId);
     if (p0) {
       bs[offset + 1] = true;
     }
@@ -186,8 +182,7 @@ public final class CodeCoverageStore {
   public static void visitProbes(final int classId, final int offset,
       final boolean p0, final boolean p1, final boolean p2, final boolean p3,
       final boolean p4, final boolean p5, final boolean p6) { // NO_UCD
-    final boolean[] bs = CLASS_HITS.get(classId);
-    bs[CLASS_HIT_INDEX] = true;
+    final boolean[] bs = hitsFor(classId);
     if (p0) {
       bs[offset + 1] = true;
     }
@@ -214,8 +209,7 @@ public final class CodeCoverageStore {
   public static void visitProbes(final int classId, final int offset,
       final boolean p0, final boolean p1, final boolean p2, final boolean p3,
       final boolean p4, final boolean p5, final boolean p6, final boolean p7) { // NO_UCD
-    final boolean[] bs = CLASS_HITS.get(classId);
-    bs[CLASS_HIT_INDEX] = true;
+    final boolean[] bs = hitsFor(classId);
     if (p0) {
       bs[offset + 1] = true;
     }
@@ -246,8 +240,7 @@ public final class CodeCoverageStore {
       final boolean p0, final boolean p1, final boolean p2, final boolean p3,
       final boolean p4, final boolean p5, final boolean p6, final boolean p7,
       final boolean p8) { // NO_UCD
-    final boolean[] bs = CLASS_HITS.get(classId);
-    bs[CLASS_HIT_INDEX] = true;
+    final boolean[] bs = hitsFor(classId);
     if (p0) {
       bs[offset + 1] = true;
     }
@@ -281,8 +274,7 @@ public final class CodeCoverageStore {
       final boolean p0, final boolean p1, final boolean p2, final boolean p3,
       final boolean p4, final boolean p5, final boolean p6, final boolean p7,
       final boolean p8, final boolean p9) { // NO_UCD
-    final boolean[] bs = CLASS_HITS.get(classId);
-    bs[CLASS_HIT_INDEX] = true;
+    final boolean[] bs = hitsFor(classId);
     if (p0) {
       bs[offset + 1] = true;
     }
@@ -319,8 +311,7 @@ public final class CodeCoverageStore {
       final boolean p0, final boolean p1, final boolean p2, final boolean p3,
       final boolean p4, final boolean p5, final boolean p6, final boolean p7,
       final boolean p8, final boolean p9, final boolean p10) { // NO_UCD
-    final boolean[] bs = CLASS_HITS.get(classId);
-    bs[CLASS_HIT_INDEX] = true;
+    final boolean[] bs = hitsFor(classId);
     if (p0) {
       bs[offset + 1] = true;
     }
@@ -360,8 +351,7 @@ public final class CodeCoverageStore {
       final boolean p0, final boolean p1, final boolean p2, final boolean p3,
       final boolean p4, final boolean p5, final boolean p6, final boolean p7,
       final boolean p8, final boolean p9, final boolean p10, final boolean p11) { // NO_UCD
-    final boolean[] bs = CLASS_HITS.get(classId);
-    bs[CLASS_HIT_INDEX] = true;
+    final boolean[] bs = hitsFor(classId);
     if (p0) {
       bs[offset + 1] = true;
     }
@@ -405,8 +395,7 @@ public final class CodeCoverageStore {
       final boolean p4, final boolean p5, final boolean p6, final boolean p7,
       final boolean p8, final boolean p9, final boolean p10, final boolean p11,
       final boolean p12) { // NO_UCD
-    final boolean[] bs = CLASS_HITS.get(classId);
-    bs[CLASS_HIT_INDEX] = true;
+    final boolean[] bs = hitsFor(classId);
     if (p0) {
       bs[offset + 1] = true;
     }
@@ -453,8 +442,7 @@ public final class CodeCoverageStore {
       final boolean p4, final boolean p5, final boolean p6, final boolean p7,
       final boolean p8, final boolean p9, final boolean p10, final boolean p11,
       final boolean p12, final boolean p13) { // NO_UCD
-    final boolean[] bs = CLASS_HITS.get(classId);
-    bs[CLASS_HIT_INDEX] = true;
+    final boolean[] bs = hitsFor(classId);
     if (p0) {
       bs[offset + 1] = true;
     }
@@ -504,8 +492,7 @@ public final class CodeCoverageStore {
       final boolean p4, final boolean p5, final boolean p6, final boolean p7,
       final boolean p8, final boolean p9, final boolean p10, final boolean p11,
       final boolean p12, final boolean p13, final boolean p14) { // NO_UCD
-    final boolean[] bs = CLASS_HITS.get(classId);
-    bs[CLASS_HIT_INDEX] = true;
+    final boolean[] bs = hitsFor(classId);
     if (p0) {
       bs[offset + 1] = true;
     }
@@ -553,29 +540,67 @@ public final class CodeCoverageStore {
     }
   }
 
-  public static synchronized void reset() {
-    for (final Entry<Integer, boolean[]> each : CLASS_HITS.entrySet()) {
-      CLASS_HITS.put(each.getKey(), new boolean[each.getValue().length]);
+  private static boolean[] hitsFor(final int classId) {
+    final boolean[] bs = classHits[classId];
+    if (!bs[CLASS_HIT_INDEX]) {
+      markDirty(classId, bs);
     }
+    return bs;
+  }
+
+  private static synchronized void markDirty(final int classId,
+      final boolean[] bs) {
+    // first entry tracks if class has been visited at all
+    if (bs[CLASS_HIT_INDEX]) {
+      return;
+    }
+    bs[CLASS_HIT_INDEX] = true;
+    if (dirtyCount == dirtyClasses.length) {
+      dirtyClasses = Arrays.copyOf(dirtyClasses, dirtyCount * 2);
+    }
+    dirtyClasses[dirtyCount] = classId;
+    dirtyCount++;
+  }
+
+  public static synchronized void reset() {
+    // classes hit by the last test get fresh arrays rather than being cleared
+    // in place. The volatile write publishes them to probing threads, and any
+    // thread still running the last test writes to the discarded array, so
+    // its hits are not credited to the next test.
+    final boolean[][] hits = classHits;
+    for (int i = 0; i != dirtyCount; i++) {
+      final int id = dirtyClasses[i];
+      hits[id] = new boolean[hits[id].length];
+    }
+    dirtyCount = 0;
+    classHits = hits;
   }
 
-  public static synchronized Collection<Long> getHits() {
-    final Collection<Long> blockHits = new ArrayList<>();
-    for (final Entry<Integer, boolean[]> each : CLASS_HITS.entrySet()) {
-      final boolean[] bs = each.getValue();
-      // first entry tracks if class has been visited at all
-      if (!bs[CLASS_HIT_INDEX]) {
-        continue;
+  /**
+   * Passes the probes hit since the last reset to the supplied receiver, one
+   * call per class visited. Probe n of the class is represented by bit n % 64
+   * of word n / 64.
+   */
+  public static synchronized void getHits(final ProbeHitsReceiver receiver) {
+    final boolean[][] hits = classHits;
+    long[] words = new long[0];
+    for (int i = 0; i != dirtyCount; i++) {
+      final int classId = dirtyClasses[i];
+      final boolean[] bs = hits[classId];
+      final int numberOfWords = ((bs.length - 1) + 63) >>> 6;
+      if (words.length < numberOfWords) {
+        words = new long[numberOfWords];
+      } else {
+        Arrays.fill(words, 0, numberOfWords, 0L);
       }
-      final int classId = each.getKey();
-      // final int[] mapping = classProbeToBlockMapping.get(classId);
       for (int probeId = 1; probeId != bs.length; probeId++) {
         if (bs[probeId]) {
-          blockHits.add(encode(classId, probeId - 1));
+          final int bit = probeId - 1;
+          words[bit >>> 6] |= 1L << bit;
         }
       }
+      receiver.classHits(classId, words, numberOfWords);
     }
-    return blockHits;
   }
 
   public static int registerClass(final String className) {
@@ -606,12 +631,24 @@ public final class CodeCoverageStore {
     return ((long) classId << 32) | line;
   }
 
-  public static void registerClassProbes(final int classId, int probeCount) {
-    CLASS_HITS.put(classId, new boolean[probeCount + 1]);
+  public static synchronized void registerClassProbes(final int classId,
+      int probeCount) {
+    boolean[][] hits = classHits;
+    if (classId >= hits.length) {
+      hits = Arrays.copyOf(hits, Math.max(classId + 1, hits.length * 2));
+    }
+    final boolean[] previous = hits[classId];
+    hits[classId] = new boolean[probeCount + 1];
+    // a class already in the dirty list must stay marked so it is not listed
+    // twice
+    hits[classId][CLASS_HIT_INDEX] = (previous != null)
+        && previous[CLASS_HIT_INDEX];
+    classHits = hits;
   }
 
-  public static void resetAllStaticState() {
-    CLASS_HITS.clear();
+  public static synchronized void resetAllStaticState() {
+    classHits = new boolean[64][];
+    dirtyCount = 0;
   }
 
 }
@@ -0,0 +1,15 @@
+package sun.pitest;
+
+/**
+ * Thrown by code under mutation test once its time has run out. Extends Error
+ * so that it is not swallowed by code that catches exceptions.
+ */
+public final class MutantTimedOutError extends Error {
+
+  private static final long serialVersionUID = 1L;
+
+  public MutantTimedOutError() {
+    super("Mutant exceeded the time allowed for the test", null, false, false);
+  }
+
+}
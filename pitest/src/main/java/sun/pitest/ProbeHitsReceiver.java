@@ -0,0 +1,18 @@
+package sun.pitest;
+
+/**
+ * Receives the probes hit for a class as a bitmap.
+ */
+public interface ProbeHitsReceiver {
+
+  /**
+   * @param classId
+   *          id of the class
+   * @param probes
+   *          bitmap of probes hit, only valid for the duration of the call
+   * @param numberOfWords
+   *          number of words in the bitmap that belong to this class
+   */
+  void classHits(int classId, long[] probes, int numberOfWords);
+
+}
@@ -0,0 +1,35 @@
+package sun.pitest;
+
+/**
+ * Lets a mutant that has run for longer than allowed be stopped without
+ * killing the jvm. Calls to {@link #check()} are inserted at method entries
+ * and loop back edges of the mutated class, and throw once the budget has
+ * been marked as expired.
+ */
+public final class TimeoutBudget {
+
+  private static volatile boolean expired = false;
+
+  private TimeoutBudget() {
+  }
+
+  // called by generated code
+  public static void check() {
+    if (expired) {
+      throw new MutantTimedOutError();
+    }
+  }
+
+  public static void expire() {
+    expired = true;
+  }
+
+  public static boolean hasExpired() {
+    return expired;
+  }
+
+  public static void reset() {
+    expired = false;
+  }
+
+}
@@ -14,6 +14,7 @@
  */
 package org.pitest.classpath;
 
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
@@ -25,13 +26,20 @@ import java.io.InputStream;
 import java.util.Arrays;
 import java.util.Collection;
 
+import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
+import org.pitest.util.StreamUtil;
 
 public class ArchiveClassPathRootTest {
 
   private ArchiveClassPathRoot testee;
 
+  @After
+  public void tearDown() {
+    this.testee.close();
+  }
+
   @Before
   public void setup() throws Exception {
     // note mytests.jar is taken from
@@ -70,6 +78,28 @@ public class ArchiveClassPathRootTest {
     }
   }
 
+  @Test
+  public void shouldReturnSameDataOnRepeatedLookups() throws Exception {
+    final byte[] first = StreamUtil.streamToByteArray(this.testee
+        .getData("injar.p1.P1Test"));
+    final byte[] second = StreamUtil.streamToByteArray(this.testee
+        .getData("injar.p1.P1Test"));
+    assertArrayEquals(first, second);
+  }
+
+  @Test
+  public void shouldReopenArchiveWhenUsedAfterBeingClosed() throws Exception {
+    this.testee.getData("injar.p1.P1Test");
+    this.testee.close();
+    assertNotNull(this.testee.getData("injar.p1.P1Test"));
+    assertEquals(4, this.testee.classNames().size());
+  }
+
+  @Test
+  public void shouldAllowCloseWhenArchiveNeverOpened() {
+    this.testee.close();
+  }
+
   @Test
   public void getResourceShouldReturnNullForAnUnknownResource()
       throws Exception {
@@ -66,6 +66,14 @@ public class ClassPathTest {
     verify(stream).close();
   }
 
+  @Test
+  public void shouldReleaseArchiveHandlesWhenClosed() {
+    final ArchiveClassPathRoot archive = Mockito.mock(ArchiveClassPathRoot.class);
+    this.testee = new ClassPath(this.firstComponent, archive);
+    this.testee.close();
+    verify(archive).close();
+  }
+
   @Test
   public void shouldReturnAllClassNames() {
     assertEquals(Arrays.asList("FooClass", "BarClass"),
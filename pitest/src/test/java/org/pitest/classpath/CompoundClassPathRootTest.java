@@ -2,7 +2,9 @@ package org.pitest.classpath;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -14,6 +16,7 @@ import java.util.Collections;
 
 import org.junit.Before;
 import org.junit.Test;
+import org.mockito.InOrder;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.MockitoAnnotations;
@@ -31,6 +34,9 @@ public class CompoundClassPathRootTest {
   @Mock
   private IOHeavyRoot           heavyChild;
 
+  @Mock
+  private IOHeavyRoot           otherHeavyChild;
+
   @Before
   public void setUp() {
     MockitoAnnotations.initMocks(this);
@@ -89,6 +95,56 @@ public class CompoundClassPathRootTest {
     verify(this.heavyChild).getData("Heavy");
   }
 
-}
+  @Test
+  public void shouldQueryOnlyFirstHeavyRootContainingClass() throws IOException {
+    this.testee = new CompoundClassPathRoot(Arrays.asList(this.heavyChild,
+        this.otherHeavyChild));
+    when(this.heavyChild.classNames()).thenReturn(Collections.singletonList("Foo"));
+    when(this.otherHeavyChild.classNames()).thenReturn(Arrays.asList("Foo", "Bar"));
+
+    this.testee.getData("Foo");
+    verify(this.heavyChild).getData("Foo");
+    verify(this.otherHeavyChild, never()).getData("Foo");
+  }
+
+  @Test
+  public void shouldQueryRootsThatAreNotIndexedInClassPathOrder() throws IOException {
+    when(this.heavyChild.classNames()).thenReturn(Collections.singletonList("Heavy"));
+    final InputStream is = Mockito.mock(InputStream.class);
+    when(this.child2.getData("Heavy")).thenReturn(is);
+
+    assertThat(this.testee.getData("Heavy")).isSameAs(is);
+    final InOrder order = inOrder(this.child1, this.heavyChild, this.child2);
+    order.verify(this.child1).getData("Heavy");
+    order.verify(this.heavyChild).getData("Heavy");
+    order.verify(this.child2).getData("Heavy");
+  }
+
+  @Test
+  public void shouldListClassesInHeavyRootsOnlyOnce() throws IOException {
+    when(this.heavyChild.classNames()).thenReturn(Collections.singletonList("Heavy"));
+
+    this.testee.getData("Heavy");
+    this.testee.getData("Bar");
+    this.testee.classNames();
+    verify(this.heavyChild, times(1)).classNames();
+  }
+
+  @Test
+  public void shouldNotQueryHeavyRootsForClassFilesTheyDoNotContain() throws IOException {
+    when(this.heavyChild.classNames()).thenReturn(Collections.singletonList("com.example.Heavy"));
 
+    this.testee.getResource("com/example/Bar.class");
+    verify(this.heavyChild, never()).getResource(any(String.class));
 
+    this.testee.getResource("com/example/Heavy.class");
+    verify(this.heavyChild).getResource("com/example/Heavy.class");
+  }
+
+  @Test
+  public void shouldQueryAllRootsForResourcesThatAreNotClasses() throws IOException {
+    this.testee.getResource("foo.properties");
+    verify(this.heavyChild).getResource("foo.properties");
+  }
+
+}
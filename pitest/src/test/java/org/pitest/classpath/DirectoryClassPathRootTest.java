@@ -1,14 +1,23 @@
 package org.pitest.classpath;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 
 import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
 
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
 
 public class DirectoryClassPathRootTest {
 
+  @Rule
+  public TemporaryFolder         folder = new TemporaryFolder();
+
   private DirectoryClassPathRoot testee;
 
   @Test
@@ -26,4 +35,57 @@ public class DirectoryClassPathRootTest {
         DirectoryClassPathRootTest.class.getName()));
   }
 
+  @Test
+  public void shouldNameClassesInNestedPackages() throws Exception {
+    createFile("Default.class");
+    createFile("com/example/Foo.class");
+    createFile("com/example/deep/er/Bar$1.class");
+    createFile("com/other/Baz.class");
+    this.testee = new DirectoryClassPathRoot(this.folder.getRoot());
+    assertThat(this.testee.classNames()).containsOnly("Default",
+        "com.example.Foo", "com.example.deep.er.Bar$1", "com.other.Baz");
+  }
+
+  @Test
+  public void shouldNotNameFilesThatAreNotClasses() throws Exception {
+    createFile("com/example/Foo.class");
+    createFile("com/example/foo.properties");
+    this.folder.newFolder("com", "example", "empty.class");
+    this.testee = new DirectoryClassPathRoot(this.folder.getRoot());
+    assertThat(this.testee.classNames()).containsOnly("com.example.Foo");
+  }
+
+  @Test
+  public void shouldScanDirectoryOnlyOnce() throws Exception {
+    createFile("com/example/Foo.class");
+    this.testee = new DirectoryClassPathRoot(this.folder.getRoot());
+    final Object first = this.testee.classNames();
+    createFile("com/example/Bar.class");
+    assertThat(this.testee.classNames()).isSameAs(first);
+  }
+
+  @Test
+  public void shouldReturnNoClassNamesForMissingDirectory() {
+    this.testee = new DirectoryClassPathRoot(new File(this.folder.getRoot(),
+        "missing"));
+    assertThat(this.testee.classNames()).isEmpty();
+  }
+
+  @Test
+  public void getDataShouldReturnContentsOfClassFile() throws Exception {
+    Files.write(createFile("com/example/Foo.class").toPath(),
+        new byte[] { 1, 2, 3 });
+    this.testee = new DirectoryClassPathRoot(this.folder.getRoot());
+    try (InputStream is = this.testee.getData("com.example.Foo")) {
+      assertThat(is.read()).isEqualTo(1);
+    }
+  }
+
+  private File createFile(final String path) throws IOException {
+    final File file = new File(this.folder.getRoot(), path);
+    file.getParentFile().mkdirs();
+    file.createNewFile();
+    return file;
+  }
+
 }
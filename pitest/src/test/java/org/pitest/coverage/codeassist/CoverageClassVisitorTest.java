@@ -2,7 +2,9 @@ package org.pitest.coverage.codeassist;
 
 import static org.junit.Assert.assertEquals;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
 
 import org.junit.Before;
 import org.junit.Test;
@@ -42,8 +44,10 @@ public class CoverageClassVisitorTest {
     CodeCoverageStore.visitProbes(this.classId, 0, new boolean[] { false,
         false, true, false, false, false, false });
 
-    assertEquals(Arrays.asList(CodeCoverageStore.encode(this.classId, 2)),
-        CodeCoverageStore.getHits());
+    final List<String> hits = new ArrayList<>();
+    CodeCoverageStore.getHits((id, probes, numberOfWords) -> hits
+        .add(id + " " + Long.toBinaryString(probes[0])));
+    assertEquals(Arrays.asList(this.classId + " 100"), hits);
 
   }
 
@@ -0,0 +1,104 @@
+package org.pitest.junit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+import org.junit.runners.Parameterized.Parameters;
+import org.pitest.junit.adapter.AdaptedJUnitTestUnit;
+import org.pitest.testapi.AbstractTestUnit;
+import org.pitest.testapi.Description;
+import org.pitest.testapi.ResultCollector;
+import org.pitest.testapi.TestGroupConfig;
+import org.pitest.testapi.TestUnit;
+
+public class JUnitTestUnitCodecTest {
+
+  private final JUnitTestUnitCodec testee = new JUnitTestUnitCodec();
+
+  private static class HideFromJUnit {
+
+    public static class Methods {
+      @Test
+      public void one() {
+      }
+
+      @Test
+      public void two() {
+      }
+    }
+
+    @RunWith(Parameterized.class)
+    public static class Parameterised {
+      public Parameterised(final int i) {
+      }
+
+      @Parameters
+      public static Collection<Object[]> params() {
+        return Arrays.asList(new Object[][] { { 1 }, { 2 } });
+      }
+
+      @Test
+      public void test() {
+      }
+    }
+
+  }
+
+  @Test
+  public void shouldRecreateUnitsForEachTestMethod() {
+    assertRecreatesAll(HideFromJUnit.Methods.class,
+        new JUnitCustomRunnerTestUnitFinder(new TestGroupConfig(),
+            Collections.<String> emptyList(), Collections.<String> emptyList())
+            .findTestUnits(HideFromJUnit.Methods.class));
+  }
+
+  @Test
+  public void shouldRecreateUnitsForEachSetOfParameters() {
+    assertRecreatesAll(HideFromJUnit.Parameterised.class,
+        new ParameterisedJUnitTestFinder()
+            .findTestUnits(HideFromJUnit.Parameterised.class));
+  }
+
+  @Test
+  public void shouldRecreateUnitsForWholeClasses() {
+    final TestUnit unit = new AdaptedJUnitTestUnit(HideFromJUnit.Methods.class,
+        Optional.empty());
+    assertRecreatesAll(HideFromJUnit.Methods.class, Arrays.asList(unit));
+  }
+
+  @Test
+  public void shouldNotDescribeUnitsOfOtherFrameworks() {
+    final TestUnit unit = new AbstractTestUnit(new Description("foo")) {
+      @Override
+      public void execute(final ResultCollector rc) {
+      }
+    };
+    assertThat(this.testee.describe(unit)).isEmpty();
+  }
+
+  @Test
+  public void shouldNotRecreateUnitsFromUnknownDescriptions() {
+    assertThat(this.testee.recreate(HideFromJUnit.Methods.class, "")).isEmpty();
+    assertThat(this.testee.recreate(HideFromJUnit.Methods.class, "Xfoo"))
+        .isEmpty();
+  }
+
+  private void assertRecreatesAll(final Class<?> clazz,
+      final List<TestUnit> units) {
+    assertThat(units).isNotEmpty();
+    for (final TestUnit each : units) {
+      final String description = this.testee.describe(each).get();
+      assertThat(this.testee.recreate(clazz, description).get()
+          .getDescription()).isEqualTo(each.getDescription());
+    }
+  }
+
+}
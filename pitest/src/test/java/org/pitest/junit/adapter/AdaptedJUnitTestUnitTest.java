@@ -17,15 +17,25 @@ package org.pitest.junit.adapter;
 
 import static org.mockito.Matchers.any;
 import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
+import java.util.Arrays;
+import java.util.Collection;
+
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.Description;
+import org.junit.runner.RunWith;
 import org.junit.runner.manipulation.Filter;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 import java.util.Optional;
+
+import org.junit.runners.Parameterized;
+import org.junit.runners.Parameterized.Parameters;
+import org.pitest.junit.DescriptionFilter;
 import org.pitest.testapi.ResultCollector;
 
 public class AdaptedJUnitTestUnitTest {
@@ -56,6 +66,38 @@ public class AdaptedJUnitTestUnitTest {
 
     }
 
+    public static class JUnit4TestRunTwice {
+
+      @Test
+      public void pass() {
+
+      }
+
+    }
+
+    @RunWith(Parameterized.class)
+    public static class ParameterizedTest {
+
+      static boolean        pass = true;
+
+      private final boolean parameter;
+
+      public ParameterizedTest(final boolean parameter) {
+        this.parameter = parameter;
+      }
+
+      @Parameters
+      public static Collection<Object[]> params() {
+        return Arrays.asList(new Object[][] { { pass } });
+      }
+
+      @Test
+      public void test() {
+        org.junit.Assert.assertTrue(this.parameter);
+      }
+
+    }
+
   }
 
   @Test
@@ -83,6 +125,34 @@ public class AdaptedJUnitTestUnitTest {
         any(Throwable.class));
   }
 
+  @Test
+  public void shouldRunTestsEachTimeUnitIsExecuted() {
+    this.testee = new AdaptedJUnitTestUnit(
+        HideFromJUnit.JUnit4TestRunTwice.class,
+        Optional.<Filter> of(new DescriptionFilter(Description
+            .createTestDescription(HideFromJUnit.JUnit4TestRunTwice.class,
+                "pass").toString())));
+    this.testee.execute(this.rc);
+    this.testee.execute(this.rc);
+    verify(this.rc, times(2)).notifyEnd(this.testee.getDescription());
+  }
+
+  @Test
+  public void shouldRebuildParameterizedRunnerWhenParametersChange() {
+    this.testee = new AdaptedJUnitTestUnit(
+        HideFromJUnit.ParameterizedTest.class, Optional.<Filter> empty());
+    this.testee.execute(this.rc);
+    HideFromJUnit.ParameterizedTest.pass = false;
+    try {
+      this.testee.execute(this.rc);
+    } finally {
+      HideFromJUnit.ParameterizedTest.pass = true;
+    }
+    verify(this.rc).notifyEnd(eq(this.testee.getDescription()),
+        any(Throwable.class));
+    verify(this.rc, never()).notifySkipped(this.testee.getDescription());
+  }
+
   private void createTestee(
       final Class<?> clazz, final String method) {
     this.testee = new AdaptedJUnitTestUnit(clazz,
@@ -0,0 +1,216 @@
+package org.pitest.junit.adapter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+import org.junit.Test;
+import org.junit.runner.Description;
+import org.junit.runner.RunWith;
+import org.junit.runner.Runner;
+import org.junit.runner.notification.RunNotifier;
+import org.junit.runners.Parameterized;
+import org.junit.runners.Parameterized.Parameters;
+
+public class RunnerCacheTest {
+
+  private static class HideFromJUnit {
+
+    public static class Plain {
+      @Test
+      public void test() {
+      }
+    }
+
+    public static class Custom {
+      @Test
+      public void test() {
+      }
+    }
+
+    @RunWith(Parameterized.class)
+    public static class Unchanging {
+      public Unchanging(final int i) {
+      }
+
+      @Parameters
+      public static Collection<Object[]> params() {
+        return Arrays.asList(new Object[][] { { 1 }, { 2 } });
+      }
+
+      @Test
+      public void test() {
+      }
+    }
+
+    @RunWith(Parameterized.class)
+    public static class Changing {
+      static List<Object[]> params = new ArrayList<>(
+          Arrays.asList(new Object[][] { { 1 } }));
+
+      public Changing(final int i) {
+      }
+
+      @Parameters
+      public static Collection<Object[]> params() {
+        return params;
+      }
+
+      @Test
+      public void test() {
+      }
+    }
+
+    @RunWith(Parameterized.class)
+    public static class Counting {
+      static int calls = 0;
+
+      public Counting(final int i) {
+      }
+
+      @Parameters
+      public static Collection<Object[]> params() {
+        calls++;
+        return Arrays.asList(new Object[][] { { 1 } });
+      }
+
+      @Test
+      public void test() {
+      }
+    }
+
+    @RunWith(Parameterized.class)
+    public static class Incomparable {
+      static int calls = 0;
+
+      public Incomparable(final Object o) {
+      }
+
+      @Parameters
+      public static Collection<Object[]> params() {
+        calls++;
+        return Arrays.asList(new Object[][] { { new Object() } });
+      }
+
+      @Test
+      public void test() {
+      }
+    }
+
+    @RunWith(Parameterized.class)
+    public static class Breaking {
+      static boolean broken = false;
+
+      public Breaking(final int i) {
+      }
+
+      @Parameters
+      public static Collection<Object[]> params() {
+        if (broken) {
+          throw new IllegalStateException();
+        }
+        return Arrays.asList(new Object[][] { { 1 } });
+      }
+
+      @Test
+      public void test() {
+      }
+    }
+
+  }
+
+  @Test
+  public void shouldKeepRunnersBuiltByReflectingOnTestClass() {
+    final Runner runner = AdaptedJUnitTestUnit
+        .createRunner(HideFromJUnit.Plain.class);
+    RunnerCache.put(HideFromJUnit.Plain.class, "key", runner);
+    assertThat(RunnerCache.get(HideFromJUnit.Plain.class, "key")).contains(
+        runner);
+  }
+
+  @Test
+  public void shouldKeepRunnersSeparatelyForEachKey() {
+    final Runner runner = AdaptedJUnitTestUnit
+        .createRunner(HideFromJUnit.Plain.class);
+    RunnerCache.put(HideFromJUnit.Plain.class, "one", runner);
+    assertThat(RunnerCache.get(HideFromJUnit.Plain.class, "two")).isEmpty();
+  }
+
+  @Test
+  public void shouldNotKeepRunnersThatMayRunOtherCodeWhenBuilt() {
+    RunnerCache.put(HideFromJUnit.Custom.class, "key", new Runner() {
+      @Override
+      public Description getDescription() {
+        return Description.createSuiteDescription(HideFromJUnit.Custom.class);
+      }
+
+      @Override
+      public void run(final RunNotifier notifier) {
+      }
+    });
+    assertThat(RunnerCache.get(HideFromJUnit.Custom.class, "key")).isEmpty();
+  }
+
+  @Test
+  public void shouldKeepParameterizedRunnerWhileParametersAreUnchanged() {
+    final Runner runner = lookUpAndBuild(HideFromJUnit.Unchanging.class);
+    assertThat(RunnerCache.get(HideFromJUnit.Unchanging.class, "key"))
+        .contains(runner);
+  }
+
+  @Test
+  public void shouldNotKeepParameterizedRunnerThatWasNotLookedUp() {
+    RunnerCache.put(HideFromJUnit.Unchanging.class, "other",
+        AdaptedJUnitTestUnit.createRunner(HideFromJUnit.Unchanging.class));
+    assertThat(RunnerCache.get(HideFromJUnit.Unchanging.class, "other"))
+        .isEmpty();
+  }
+
+  @Test
+  public void shouldCallParametersMethodOnceWhenKeepingOrReusingRunner() {
+    HideFromJUnit.Counting.calls = 0;
+    lookUpAndBuild(HideFromJUnit.Counting.class);
+    assertThat(HideFromJUnit.Counting.calls).isEqualTo(2);
+    RunnerCache.get(HideFromJUnit.Counting.class, "key");
+    assertThat(HideFromJUnit.Counting.calls).isEqualTo(3);
+  }
+
+  @Test
+  public void shouldNotKeepParameterizedRunnerWhenParametersCannotBeCompared() {
+    lookUpAndBuild(HideFromJUnit.Incomparable.class);
+    HideFromJUnit.Incomparable.calls = 0;
+    assertThat(RunnerCache.get(HideFromJUnit.Incomparable.class, "key"))
+        .isEmpty();
+    assertThat(HideFromJUnit.Incomparable.calls).isEqualTo(0);
+  }
+
+  @Test
+  public void shouldDropParameterizedRunnerWhenParametersChange() {
+    lookUpAndBuild(HideFromJUnit.Changing.class);
+    HideFromJUnit.Changing.params.set(0, new Object[] { 2 });
+    assertThat(RunnerCache.get(HideFromJUnit.Changing.class, "key")).isEmpty();
+  }
+
+  @Test
+  public void shouldDropParameterizedRunnerWhenParametersCannotBeCreated() {
+    lookUpAndBuild(HideFromJUnit.Breaking.class);
+    HideFromJUnit.Breaking.broken = true;
+    try {
+      assertThat(RunnerCache.get(HideFromJUnit.Breaking.class, "key"))
+          .isEmpty();
+    } finally {
+      HideFromJUnit.Breaking.broken = false;
+    }
+  }
+
+  private static Runner lookUpAndBuild(final Class<?> clazz) {
+    assertThat(RunnerCache.get(clazz, "key")).isEmpty();
+    final Runner runner = AdaptedJUnitTestUnit.createRunner(clazz);
+    RunnerCache.put(clazz, "key", runner);
+    return runner;
+  }
+
+}
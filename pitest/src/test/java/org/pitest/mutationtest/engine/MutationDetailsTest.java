@@ -2,7 +2,12 @@ package org.pitest.mutationtest.engine;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+
 import org.junit.Test;
+import org.pitest.coverage.TestInfo;
 
 import nl.jqno.equalsverifier.EqualsVerifier;
 
@@ -27,6 +32,25 @@ public class MutationDetailsTest {
     assertThat(actual.mayPoisonJVM()).isTrue();
   }
 
+  @Test
+  public void shouldAppendAddedTestsToExistingTests() {
+    final TestInfo a = new TestInfo("foo", "a", 1, Optional.empty(), 0);
+    final TestInfo b = new TestInfo("foo", "b", 1, Optional.empty(), 0);
+    final MutationDetails testee = MutationDetailsMother.aMutationDetail().build();
+    testee.addTestsInOrder(Arrays.asList(a));
+    testee.addTestsInOrder(Arrays.asList(b));
+    assertThat(testee.getTestsInOrder()).containsExactly(a, b);
+  }
+
+  @Test
+  public void shouldNotCopySharedTests() {
+    final List<TestInfo> tests = Arrays.asList(new TestInfo("foo", "a", 1,
+        Optional.empty(), 0));
+    final MutationDetails testee = MutationDetailsMother.aMutationDetail().build();
+    testee.shareTestsInOrder(tests);
+    assertThat(testee.getTestsInOrder()).isSameAs(tests);
+  }
+
   @Test
   public void shouldObeyHashcodeEqualsContract() {
     EqualsVerifier.forClass(MutationDetails.class).verify();
@@ -0,0 +1,198 @@
+package org.pitest.mutationtest.engine.gregor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Callable;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.objectweb.asm.ClassReader;
+import org.objectweb.asm.util.CheckClassAdapter;
+import org.pitest.functional.FCollection;
+import org.pitest.mutationtest.engine.Mutant;
+import org.pitest.mutationtest.engine.MutantSchemata;
+import org.pitest.mutationtest.engine.MutationDetails;
+import org.pitest.mutationtest.engine.gregor.config.Mutator;
+import org.pitest.simpletest.ExcludedPrefixIsolationStrategy;
+import org.pitest.simpletest.TransformingClassLoader;
+import org.pitest.util.XStreamCloning;
+
+import sun.pitest.ActiveMutant;
+
+public class MutantSchemataBuilderTest extends MutatorTestBase {
+
+  public static class HasMutableMethods implements Callable<String> {
+    private final int base;
+
+    public HasMutableMethods() {
+      this.base = Integer.parseInt("2") + 1;
+    }
+
+    private static int add(final int a, final int b) {
+      return a + b;
+    }
+
+    private String describe(final int value) {
+      try {
+        if (value > 3) {
+          return "big " + value;
+        }
+        return "small " + (value - 1);
+      } catch (final IllegalStateException ex) {
+        return "failed";
+      }
+    }
+
+    @Override
+    public String call() {
+      return describe(add(this.base, 1)) + (this.base * 2);
+    }
+  }
+
+  public static class HasLargeMethod {
+    public static int grow(final int value) {
+      int v = value;
+      v = v * 3 + 1; v = v * 3 + 1; v = v * 3 + 1; v = v * 3 + 1; v = v * 3 + 1;
+      v = v * 3 + 1; v = v * 3 + 1; v = v * 3 + 1; v = v * 3 + 1; v = v * 3 + 1;
+      v = v * 3 + 1; v = v * 3 + 1; v = v * 3 + 1; v = v * 3 + 1; v = v * 3 + 1;
+      v = v * 3 + 1; v = v * 3 + 1; v = v * 3 + 1; v = v * 3 + 1; v = v * 3 + 1;
+      v = v * 3 + 1; v = v * 3 + 1; v = v * 3 + 1; v = v * 3 + 1; v = v * 3 + 1;
+      v = v * 3 + 1; v = v * 3 + 1; v = v * 3 + 1; v = v * 3 + 1; v = v * 3 + 1;
+      v = v * 3 + 1; v = v * 3 + 1; v = v * 3 + 1; v = v * 3 + 1; v = v * 3 + 1;
+      v = v * 3 + 1; v = v * 3 + 1; v = v * 3 + 1; v = v * 3 + 1; v = v * 3 + 1;
+      v = v * 3 + 1; v = v * 3 + 1; v = v * 3 + 1; v = v * 3 + 1; v = v * 3 + 1;
+      v = v * 3 + 1; v = v * 3 + 1; v = v * 3 + 1; v = v * 3 + 1; v = v * 3 + 1;
+      v = v * 3 + 1; v = v * 3 + 1; v = v * 3 + 1; v = v * 3 + 1; v = v * 3 + 1;
+      v = v * 3 + 1; v = v * 3 + 1; v = v * 3 + 1; v = v * 3 + 1; v = v * 3 + 1;
+      v = v * 3 + 1; v = v * 3 + 1; v = v * 3 + 1; v = v * 3 + 1; v = v * 3 + 1;
+      v = v * 3 + 1; v = v * 3 + 1; v = v * 3 + 1; v = v * 3 + 1; v = v * 3 + 1;
+      v = v * 3 + 1; v = v * 3 + 1; v = v * 3 + 1; v = v * 3 + 1; v = v * 3 + 1;
+      v = v * 3 + 1; v = v * 3 + 1; v = v * 3 + 1; v = v * 3 + 1; v = v * 3 + 1;
+      return v;
+    }
+
+    public static int twice(final int value) {
+      return value * 2;
+    }
+  }
+
+  private List<MutationDetails> details;
+
+  @Before
+  public void setUp() {
+    createTesteeWith(Mutator.defaults());
+    this.details = findMutationsFor(HasMutableMethods.class);
+  }
+
+  @Test
+  public void shouldBehaveAsUnmutatedCodeWhenNoMutantIsActive()
+      throws Exception {
+    final MutantSchemata schemata = createSchemata();
+    assertEquals(new HasMutableMethods().call(),
+        callWithActiveMutant(schemata, ActiveMutant.NONE));
+  }
+
+  @Test
+  public void shouldBehaveAsEachMutantWhenItIsActive() throws Exception {
+    final MutantSchemata schemata = createSchemata();
+    int checked = 0;
+    for (final Mutant each : getMutants(this.details)) {
+      final Optional<Integer> id = schemata.idOf(each.getDetails().getId());
+      if (id.isPresent()) {
+        assertEquals(each.getDetails().toString(),
+            callWithActiveMutant(each, ActiveMutant.NONE),
+            callWithActiveMutant(schemata, id.get()));
+        checked++;
+      }
+    }
+    assertThat(checked).isEqualTo(schemata.size()).isGreaterThan(1);
+  }
+
+  @Test
+  public void shouldNotIncludeConstructorMutants() {
+    final MutantSchemata schemata = createSchemata();
+    final List<MutationDetails> constructorMutants = constructorMutants();
+    assertThat(constructorMutants).isNotEmpty();
+    for (final MutationDetails each : constructorMutants) {
+      assertThat(schemata.idOf(each.getId())).isEmpty();
+    }
+  }
+
+  @Test
+  public void shouldNumberMutantsFromSuppliedId() {
+    final MutantSchemata schemata = this.engine.createSchemata(
+        getMutants(this.details), 100).get();
+    for (final MutationDetails each : this.details) {
+      schemata.idOf(each.getId()).ifPresent(
+          id -> assertThat(id).isGreaterThanOrEqualTo(100));
+    }
+  }
+
+  @Test
+  public void shouldCreateValidClass() {
+    final StringWriter sw = new StringWriter();
+    CheckClassAdapter.verify(new ClassReader(createSchemata().getBytes()),
+        false, new PrintWriter(sw));
+    assertTrue(sw.toString(), sw.toString().isEmpty());
+  }
+
+  @Test
+  public void shouldNotCreateSchemataWhenNoMutantCanBeIncluded() {
+    assertThat(this.engine.createSchemata(getMutants(constructorMutants()), 0))
+        .isEmpty();
+  }
+
+  @Test
+  public void shouldLeaveOutMutantsOfMethodsThatGrowTooLarge() {
+    final List<MutationDetails> large = findMutationsFor(HasLargeMethod.class);
+    final MutantSchemata schemata = this.engine.createSchemata(
+        getMutants(large), 0).get();
+    for (final MutationDetails each : large) {
+      assertThat(schemata.idOf(each.getId()).isPresent())
+          .isEqualTo(each.getMethod().name().equals("twice"));
+    }
+  }
+
+  private MutantSchemata createSchemata() {
+    return this.engine.createSchemata(getMutants(this.details), 0).get();
+  }
+
+  private String callWithActiveMutant(final MutantSchemata schemata,
+      final int id) throws Exception {
+    return callWithActiveMutant(
+        new Mutant(this.details.get(0), schemata.getBytes()), id);
+  }
+
+  @SuppressWarnings("unchecked")
+  private String callWithActiveMutant(final Mutant mutant, final int id)
+      throws Exception {
+    final ClassLoader loader = new TransformingClassLoader((name, bytes) -> {
+      if (name.equals(mutant.getDetails().getClassName().asJavaName())) {
+        return mutant.getBytes();
+      }
+      return bytes;
+    }, new ExcludedPrefixIsolationStrategy());
+    // the test loader has its own copy of ActiveMutant
+    loader.loadClass(ActiveMutant.class.getName()).getField("id").setInt(null,
+        id);
+    final Callable<String> c = (Callable<String>) XStreamCloning
+        .cloneForLoader(new HasMutableMethods(), loader);
+    try {
+      return c.call();
+    } catch (final RuntimeException ex) {
+      return ex.getClass().getName();
+    }
+  }
+
+  private List<MutationDetails> constructorMutants() {
+    return FCollection.filter(this.details,
+        d -> d.getMethod().name().equals("<init>"));
+  }
+
+}
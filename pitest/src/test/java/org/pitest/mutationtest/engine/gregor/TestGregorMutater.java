@@ -19,13 +19,18 @@ import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
 import java.util.function.Predicate;
+import java.util.stream.Collectors;
 
 import org.junit.Test;
 import org.pitest.functional.FCollection;
+import org.pitest.mutationtest.engine.Mutant;
 import org.pitest.mutationtest.engine.MutationDetails;
+import org.pitest.mutationtest.engine.MutationIdentifier;
 import org.pitest.mutationtest.engine.gregor.config.Mutator;
 import org.pitest.mutationtest.engine.gregor.mutators.IncrementsMutator;
 import org.pitest.mutationtest.engine.gregor.mutators.InvertNegsMutator;
@@ -355,6 +360,38 @@ public class TestGregorMutater extends MutatorTestBase {
     assertThat(actualDetails).isEmpty();
   }
 
+  @Test
+  public void shouldCreateSameMutantsInBatchAsIndividually() {
+    createTesteeWith(Mutator.all());
+    final List<MutationDetails> actualDetails = findMutationsFor(HasMultipleMutations.class);
+    final List<MutationIdentifier> ids = actualDetails.stream()
+        .map(MutationDetails::getId).collect(Collectors.toList());
+
+    final List<Mutant> batch = new ArrayList<>();
+    this.engine.getMutations(ids).forEach(batch::add);
+
+    assertThat(batch).hasSize(ids.size());
+    for (int i = 0; i != ids.size(); i++) {
+      final Mutant single = this.engine.getMutation(ids.get(i));
+      assertEquals(single.getDetails(), batch.get(i).getDetails());
+      assertThat(batch.get(i).getBytes()).isEqualTo(single.getBytes());
+    }
+  }
+
+  @Test
+  public void shouldCreateMutantsInBatchThatSpansClasses() {
+    createTesteeWith(Mutator.byName("RETURN_VALS"));
+    final MutationIdentifier first = findMutationsFor(HasTwoMutableMethods.class)
+        .get(0).getId();
+    final MutationIdentifier second = findMutationsFor(
+        HasMultipleMutations.class).get(0).getId();
+
+    final List<Mutant> batch = new ArrayList<>();
+    this.engine.getMutations(Arrays.asList(first, second)).forEach(batch::add);
+
+    assertEquals(first, batch.get(0).getDetails().getId());
+    assertEquals(second, batch.get(1).getDetails().getId());
+  }
 
   private static Predicate<MutationDetails> isInFinallyBlock() {
     return a -> a.isInFinallyBlock();
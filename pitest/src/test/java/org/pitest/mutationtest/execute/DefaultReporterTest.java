@@ -35,7 +35,7 @@ public class DefaultReporterTest {
     this.testee.describe(mi);
     final SafeDataInputStream is = resultToStream();
     assertEquals(Id.DESCRIBE, is.readByte());
-    assertEquals(is.read(MutationIdentifier.class), mi);
+    assertEquals(MutationResultCodec.readIdentifier(is), mi);
   }
 
   @Test
@@ -47,8 +47,8 @@ public class DefaultReporterTest {
     this.testee.report(mi, ms);
     final SafeDataInputStream is = resultToStream();
     assertEquals(Id.REPORT, is.readByte());
-    assertEquals(is.read(MutationIdentifier.class), mi);
-    assertEquals(is.read(MutationStatusTestPair.class), ms);
+    assertEquals(MutationResultCodec.readIdentifier(is), mi);
+    assertEquals(MutationResultCodec.readStatus(is), ms);
   }
 
   private SafeDataInputStream resultToStream() {
@@ -57,6 +57,13 @@ public class DefaultReporterTest {
     return is;
   }
 
+  @Test
+  public void shouldSendEndOfBatch() {
+    this.testee.batchDone();
+    final SafeDataInputStream is = resultToStream();
+    assertEquals(Id.BATCH_DONE, is.readByte());
+  }
+
   @Test
   public void shouldSendExitCode() {
     this.testee.done(ExitCode.TIMEOUT);
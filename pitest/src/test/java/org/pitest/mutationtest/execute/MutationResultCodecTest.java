@@ -0,0 +1,72 @@
+package org.pitest.mutationtest.execute;
+
+import static org.junit.Assert.assertEquals;
+import static org.pitest.mutationtest.LocationMother.aMutationId;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.Test;
+import org.pitest.mutationtest.DetectionStatus;
+import org.pitest.mutationtest.MutationStatusTestPair;
+import org.pitest.mutationtest.engine.MutationIdentifier;
+import org.pitest.util.SafeDataInputStream;
+import org.pitest.util.SafeDataOutputStream;
+
+public class MutationResultCodecTest {
+
+  private final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+  private final SafeDataOutputStream  os    = new SafeDataOutputStream(
+      this.bytes);
+
+  @Test
+  public void shouldRoundTripMutationIdentifiers() {
+    final MutationIdentifier mi = aMutationId().withIndex(3)
+        .withMutator("foo").build();
+    MutationResultCodec.writeIdentifier(this.os, mi);
+    MutationResultCodec.writeIdentifier(this.os, mi);
+
+    final SafeDataInputStream is = input();
+    assertEquals(mi, MutationResultCodec.readIdentifier(is));
+    assertEquals(mi, MutationResultCodec.readIdentifier(is));
+  }
+
+  @Test
+  public void shouldRoundTripIdentifiersWithSeveralIndexes() {
+    final MutationIdentifier mi = new MutationIdentifier(aMutationId().build()
+        .getLocation(), Arrays.asList(1, 5, 7), "bar");
+    MutationResultCodec.writeIdentifier(this.os, mi);
+
+    final MutationIdentifier actual = MutationResultCodec
+        .readIdentifier(input());
+    assertEquals(mi, actual);
+    assertEquals(Arrays.asList(1, 5, 7), actual.getIndexes());
+  }
+
+  @Test
+  public void shouldRoundTripStatusWithKillingTest() {
+    final MutationStatusTestPair status = new MutationStatusTestPair(2,
+        DetectionStatus.KILLED, "aTest");
+    MutationResultCodec.writeStatus(this.os, status);
+
+    assertEquals(status, MutationResultCodec.readStatus(input()));
+  }
+
+  @Test
+  public void shouldRoundTripStatusWithFullMatrix() {
+    final MutationStatusTestPair status = new MutationStatusTestPair(3,
+        DetectionStatus.SURVIVED, Collections.<String> emptyList(),
+        Arrays.asList("a", "b", "a"));
+    MutationResultCodec.writeStatus(this.os, status);
+
+    assertEquals(status, MutationResultCodec.readStatus(input()));
+  }
+
+  private SafeDataInputStream input() {
+    return new SafeDataInputStream(new ByteArrayInputStream(
+        this.bytes.toByteArray()));
+  }
+
+}
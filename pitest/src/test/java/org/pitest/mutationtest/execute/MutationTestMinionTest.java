@@ -1,12 +1,19 @@
 package org.pitest.mutationtest.execute;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.pitest.mutationtest.LocationMother.aMutationId;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
 
 import org.junit.Before;
 import org.junit.Test;
@@ -15,6 +22,8 @@ import org.mockito.Mockito;
 import org.mockito.MockitoAnnotations;
 import org.pitest.classinfo.ClassByteArraySource;
 import org.pitest.classinfo.ClassName;
+import org.pitest.coverage.TestInfo;
+import org.pitest.junit.JUnitCompatibleConfiguration;
 import org.pitest.mutationtest.EngineArguments;
 import org.pitest.mutationtest.MutationEngineFactory;
 import org.pitest.mutationtest.TimeoutLengthStrategy;
@@ -25,12 +34,19 @@ import org.pitest.mutationtest.engine.MutationDetails;
 import org.pitest.mutationtest.engine.MutationEngine;
 import org.pitest.mutationtest.engine.MutationIdentifier;
 import org.pitest.testapi.Configuration;
+import org.pitest.testapi.TestGroupConfig;
+import org.pitest.testapi.TestUnit;
+import org.pitest.testapi.TestUnitCodec;
 import org.pitest.util.ExitCode;
+import org.pitest.util.Id;
 import org.pitest.util.PitError;
 import org.pitest.util.SafeDataInputStream;
 
 public class MutationTestMinionTest {
 
+  private static final String          EXAMPLE = HideFromJUnit.Example.class
+      .getName();
+
   private MutationTestMinion           testee;
 
   @Mock
@@ -69,6 +85,7 @@ public class MutationTestMinionTest {
     this.args = new MinionArguments(this.mutations, this.tests,  "anEgine", EngineArguments.arguments(),
         this.timeoutStrategy, false, false, TestPluginArguments.defaults());
 
+    when(this.is.readByte()).thenReturn(Id.RUN, Id.DONE);
     when(this.is.read(MinionArguments.class)).thenReturn(this.args);
     when(this.engine.createMutator(any(ClassByteArraySource.class)))
     .thenReturn(this.mutater);
@@ -77,6 +94,10 @@ public class MutationTestMinionTest {
     when(factory.createEngine(any(EngineArguments.class))).thenReturn(this.engine);
 
     when(this.settings.createEngine(any(String.class))).thenReturn(factory);
+    when(this.settings.getTestFrameworkPlugin(any(TestPluginArguments.class),
+        any(ClassByteArraySource.class))).thenReturn(this.testConfig);
+    when(this.testConfig.testUnitCodec()).thenReturn(
+        Optional.<TestUnitCodec> empty());
 
     this.testee = new MutationTestMinion(this.settings, this.is, this.reporter);
   }
@@ -87,6 +108,22 @@ public class MutationTestMinionTest {
     verify(this.reporter).done(ExitCode.OK);
   }
 
+  @Test
+  public void shouldSignalEndOfEachBatchSuppliedByParent() {
+    when(this.is.readByte()).thenReturn(Id.RUN, Id.RUN, Id.RUN, Id.DONE);
+    this.testee.run();
+    verify(this.reporter, times(3)).batchDone();
+    verify(this.reporter).done(ExitCode.OK);
+  }
+
+  @Test
+  public void shouldExitWithoutRunningAnythingWhenParentSendsNoBatches() {
+    when(this.is.readByte()).thenReturn(Id.DONE);
+    this.testee.run();
+    verify(this.reporter, never()).batchDone();
+    verify(this.reporter).done(ExitCode.OK);
+  }
+
   @Test
   public void shouldReportErrorWhenOneOccursDuringAnalysis() {
     this.mutations.add(new MutationDetails(aMutationId().withIndex(0)
@@ -97,4 +134,77 @@ public class MutationTestMinionTest {
     verify(this.reporter).done(ExitCode.UNKNOWN_ERROR);
   }
 
+  @Test
+  public void shouldRecreateUnitsDescribedWhenCoverageWasGathered() {
+    final String name = EXAMPLE + "." + EXAMPLE;
+    this.mutations.add(aMutationCoveredBy(new TestInfo(EXAMPLE, name, 0,
+        Optional.<ClassName> empty(), 0, Optional.of("C"))));
+
+    final Optional<List<TestUnit>> actual = MutationTestMinion.recreateTests(
+        getClass().getClassLoader(), this.mutations, junit());
+
+    assertThat(actual.get()).hasSize(1);
+    assertThat(actual.get().get(0).getDescription().getQualifiedName())
+        .isEqualTo(name);
+  }
+
+  @Test
+  public void shouldRecreateEachUnitOnceWhenSharedByMutations() {
+    final TestInfo test = new TestInfo(EXAMPLE, EXAMPLE + "." + EXAMPLE, 0,
+        Optional.<ClassName> empty(), 0, Optional.of("C"));
+    this.mutations.add(aMutationCoveredBy(test));
+    this.mutations.add(aMutationCoveredBy(test));
+
+    assertThat(MutationTestMinion.recreateTests(getClass().getClassLoader(),
+        this.mutations, junit()).get()).hasSize(1);
+  }
+
+  @Test
+  public void shouldNotRecreateUnitsWhenAnyWasNotDescribed() {
+    this.mutations.add(aMutationCoveredBy(new TestInfo(EXAMPLE, "foo", 0,
+        Optional.<ClassName> empty(), 0)));
+
+    assertThat(MutationTestMinion.recreateTests(getClass().getClassLoader(),
+        this.mutations, junit())).isEmpty();
+  }
+
+  @Test
+  public void shouldNotRecreateUnitsWhenNamesDoNotMatchCoverage() {
+    this.mutations.add(aMutationCoveredBy(new TestInfo(EXAMPLE,
+        "not the name of the unit", 0, Optional.<ClassName> empty(), 0,
+        Optional.of("C"))));
+
+    assertThat(MutationTestMinion.recreateTests(getClass().getClassLoader(),
+        this.mutations, junit())).isEmpty();
+  }
+
+  @Test
+  public void shouldNotRecreateUnitsWhenTestFrameworkCannot() {
+    this.mutations.add(aMutationCoveredBy(new TestInfo(EXAMPLE, "foo", 0,
+        Optional.<ClassName> empty(), 0, Optional.of("C"))));
+
+    assertThat(MutationTestMinion.recreateTests(getClass().getClassLoader(),
+        this.mutations, this.testConfig)).isEmpty();
+  }
+
+  private static MutationDetails aMutationCoveredBy(final TestInfo test) {
+    final MutationDetails details = new MutationDetails(aMutationId()
+        .withIndex(0).withMutator("foo").build(), "file", "desc", 0, 0);
+    details.addTestsInOrder(Arrays.asList(test));
+    return details;
+  }
+
+  private static Configuration junit() {
+    return new JUnitCompatibleConfiguration(new TestGroupConfig(),
+        Collections.<String> emptyList(), Collections.<String> emptyList());
+  }
+
+  private static class HideFromJUnit {
+    public static class Example {
+      @Test
+      public void test() {
+      }
+    }
+  }
+
 }
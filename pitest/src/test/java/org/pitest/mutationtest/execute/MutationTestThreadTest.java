@@ -0,0 +1,56 @@
+package org.pitest.mutationtest.execute;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.After;
+import org.junit.Test;
+
+public class MutationTestThreadTest {
+
+  private final MutationTestThread testee = new MutationTestThread();
+
+  @After
+  public void shutdown() {
+    this.testee.shutdown();
+  }
+
+  @Test
+  public void shouldRunSuccessiveTestsOnTheSameThread() throws Exception {
+    assertThat(runAndRecordThread()).isSameAs(runAndRecordThread());
+  }
+
+  @Test
+  public void shouldRunTestsOnADaemonThread() throws Exception {
+    assertThat(runAndRecordThread().isDaemon()).isTrue();
+  }
+
+  @Test
+  public void shouldRunTestsOnANewThreadWhenReplaced() throws Exception {
+    final CountDownLatch stuck = new CountDownLatch(1);
+    final AtomicReference<Thread> stuckThread = new AtomicReference<>();
+    this.testee.submit(() -> {
+      stuckThread.set(Thread.currentThread());
+      try {
+        stuck.await();
+      } catch (final InterruptedException e) {
+        // replaced
+      }
+    });
+
+    this.testee.replace();
+
+    final Thread next = runAndRecordThread();
+    stuck.countDown();
+    assertThat(next).isNotSameAs(stuckThread.get());
+  }
+
+  private Thread runAndRecordThread() throws Exception {
+    final AtomicReference<Thread> thread = new AtomicReference<>();
+    this.testee.submit(() -> thread.set(Thread.currentThread())).get();
+    return thread.get();
+  }
+
+}
@@ -1,6 +1,11 @@
 package org.pitest.mutationtest.execute;
 
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyInt;
+import static org.mockito.Matchers.anyListOf;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.pitest.mutationtest.LocationMother.aLocation;
@@ -11,18 +16,24 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
 
 import org.junit.Before;
 import org.junit.Ignore;
 import org.junit.Test;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.mockito.stubbing.Answer;
 import org.pitest.classinfo.ClassName;
 import org.pitest.functional.F3;
 import org.pitest.mutationtest.DetectionStatus;
 import org.pitest.mutationtest.MutationStatusTestPair;
 import org.pitest.mutationtest.engine.Mutant;
+import org.pitest.mutationtest.engine.MutantSchemata;
 import org.pitest.mutationtest.engine.Mutater;
 import org.pitest.mutationtest.engine.MutationDetails;
 import org.pitest.mutationtest.engine.MutationIdentifier;
@@ -31,6 +42,9 @@ import org.pitest.testapi.ResultCollector;
 import org.pitest.testapi.TestUnit;
 
 import junit.framework.AssertionFailedError;
+import sun.pitest.ActiveMutant;
+import sun.pitest.MutantTimedOutError;
+import sun.pitest.TimeoutBudget;
 
 public class MutationTestWorkerTest {
 
@@ -56,6 +70,8 @@ public class MutationTestWorkerTest {
     MockitoAnnotations.initMocks(this);
     this.testee = new MutationTestWorker(this.hotswapper, this.mutater,
         this.loader, false);
+    when(this.mutater.getMutations(anyListOf(MutationIdentifier.class)))
+        .thenAnswer(createEachMutant());
   }
 
   @Test
@@ -162,6 +178,170 @@ public class MutationTestWorkerTest {
     };
   }
 
+  @Test
+  public void shouldCreateMutantsForEachClassInOneBatch() throws IOException {
+    final MutationDetails fooOne = makeMutant("foo", 1);
+    final MutationDetails bar = makeMutant("bar", 1);
+    final MutationDetails fooTwo = makeMutant("foo", 2);
+    this.testee.run(Arrays.asList(fooOne, bar, fooTwo), this.reporter,
+        this.testSource);
+    verify(this.mutater).getMutations(
+        Arrays.asList(fooOne.getId(), fooTwo.getId()));
+    verify(this.mutater).getMutations(Arrays.asList(bar.getId()));
+  }
+
+  @Test
+  public void shouldInstallSchemataOnceForAllMutantsItContains()
+      throws IOException {
+    useSchemata();
+    final MutationDetails one = makeMutant("foo", 1);
+    final MutationDetails two = makeMutant("foo", 2);
+    final byte[] schemataBytes = new byte[] { 1 };
+    when(this.mutater.createSchemata(anyListOf(Mutant.class), anyInt()))
+        .thenReturn(Optional.of(schemataOf(schemataBytes, one, two)));
+    givenATest(makePassingTest());
+    when(this.hotswapper.apply(any(ClassName.class), any(ClassLoader.class),
+        any(byte[].class))).thenReturn(true);
+
+    this.testee.run(Arrays.asList(one, two), this.reporter, this.testSource);
+
+    verify(this.hotswapper, times(1)).apply(any(ClassName.class),
+        any(ClassLoader.class), any(byte[].class));
+    verify(this.hotswapper).apply(ClassName.fromString("foo"), this.loader,
+        schemataBytes);
+    verify(this.reporter).report(two.getId(), new MutationStatusTestPair(1,
+        DetectionStatus.SURVIVED, new ArrayList<>(), new ArrayList<>()));
+  }
+
+  @Test
+  public void shouldActivateEachSchemataMutantWhileItsTestsRun()
+      throws IOException {
+    useSchemata();
+    final MutationDetails one = makeMutant("foo", 1);
+    final MutationDetails two = makeMutant("foo", 2);
+    when(this.mutater.createSchemata(anyListOf(Mutant.class), anyInt()))
+        .thenReturn(Optional.of(schemataOf(new byte[0], one, two)));
+    final List<Integer> activeDuringTest = new ArrayList<>();
+    givenATest(new TestUnit() {
+      @Override
+      public void execute(final ResultCollector rc) {
+        activeDuringTest.add(ActiveMutant.id);
+        rc.notifyStart(getDescription());
+        rc.notifyEnd(getDescription());
+      }
+
+      @Override
+      public Description getDescription() {
+        return new Description("atest");
+      }
+    });
+    when(this.hotswapper.apply(any(ClassName.class), any(ClassLoader.class),
+        any(byte[].class))).thenReturn(true);
+
+    this.testee.run(Arrays.asList(one, two), this.reporter, this.testSource);
+
+    assertEquals(Arrays.asList(0, 1), activeDuringTest);
+    assertEquals(ActiveMutant.NONE, ActiveMutant.id);
+  }
+
+  @Test
+  public void shouldInstallMutantsLeftOutOfSchemataIndividually()
+      throws IOException {
+    useSchemata();
+    final MutationDetails one = makeMutant("foo", 1);
+    final MutationDetails two = makeMutant("foo", 2);
+    final byte[] twoBytes = new byte[] { 2 };
+    when(this.mutater.getMutation(two.getId())).thenReturn(
+        new Mutant(two, twoBytes));
+    when(this.mutater.createSchemata(anyListOf(Mutant.class), anyInt()))
+        .thenReturn(Optional.of(schemataOf(new byte[] { 1 }, one)));
+    givenATest(makePassingTest());
+    when(this.hotswapper.apply(any(ClassName.class), any(ClassLoader.class),
+        any(byte[].class))).thenReturn(true);
+
+    this.testee.run(Arrays.asList(two, one), this.reporter, this.testSource);
+
+    verify(this.hotswapper, times(2)).apply(any(ClassName.class),
+        any(ClassLoader.class), any(byte[].class));
+    verify(this.hotswapper).apply(ClassName.fromString("foo"), this.loader,
+        twoBytes);
+  }
+
+  @Test
+  public void shouldInstallMutantsIndividuallyWhenSchemataCannotBeInstalled()
+      throws IOException {
+    useSchemata();
+    final MutationDetails one = makeMutant("foo", 1);
+    final byte[] schemataBytes = new byte[] { 1 };
+    when(this.mutater.createSchemata(anyListOf(Mutant.class), anyInt()))
+        .thenReturn(Optional.of(schemataOf(schemataBytes, one)));
+    givenATest(makeFailingTest());
+    when(this.hotswapper.apply(any(ClassName.class), any(ClassLoader.class),
+        any(byte[].class))).thenReturn(true);
+    when(this.hotswapper.apply(ClassName.fromString("foo"), this.loader,
+        schemataBytes)).thenReturn(false);
+
+    this.testee.run(Arrays.asList(one), this.reporter, this.testSource);
+
+    verify(this.hotswapper, times(2)).apply(any(ClassName.class),
+        any(ClassLoader.class), any(byte[].class));
+    verify(this.reporter).report(one.getId(), new MutationStatusTestPair(1,
+        DetectionStatus.KILLED, "atest"));
+  }
+
+  @Test
+  public void shouldReportTimedOutWhenTimeoutBudgetExpiresDuringTests()
+      throws IOException {
+    final MutationDetails mutantOne = makeMutant("foo", 1);
+    givenATest(new TestUnit() {
+      @Override
+      public void execute(final ResultCollector rc) {
+        rc.notifyStart(getDescription());
+        TimeoutBudget.expire();
+        rc.notifyEnd(getDescription(), new MutantTimedOutError());
+      }
+
+      @Override
+      public Description getDescription() {
+        return new Description("atest");
+      }
+    });
+    when(this.hotswapper.apply(any(ClassName.class), any(ClassLoader.class),
+        any(byte[].class))).thenReturn(true);
+
+    this.testee.run(Arrays.asList(mutantOne), this.reporter, this.testSource);
+
+    verify(this.reporter).report(mutantOne.getId(),
+        new MutationStatusTestPair(1, DetectionStatus.TIMED_OUT));
+    assertFalse(TimeoutBudget.hasExpired());
+  }
+
+  private void useSchemata() {
+    this.testee = new MutationTestWorker(this.hotswapper, this.mutater,
+        this.loader, false, true);
+  }
+
+  private void givenATest(final TestUnit test) {
+    when(this.testSource.translateTests(any(List.class))).thenReturn(
+        Collections.singletonList(test));
+  }
+
+  private static MutantSchemata schemataOf(final byte[] bytes,
+      final MutationDetails... mutants) {
+    final Map<MutationIdentifier, Integer> ids = new HashMap<>();
+    for (int i = 0; i != mutants.length; i++) {
+      ids.put(mutants[i].getId(), i);
+    }
+    return new MutantSchemata(mutants[0].getClassName(), bytes, ids);
+  }
+
+  @SuppressWarnings("unchecked")
+  private Answer<Iterable<Mutant>> createEachMutant() {
+    return invocation -> ((List<MutationIdentifier>) invocation.getArguments()[0])
+        .stream().map(id -> this.mutater.getMutation(id))
+        .collect(Collectors.toList());
+  }
+
   public MutationDetails makeMutant(final String clazz, final int index) {
     final MutationIdentifier id = aMutationId()
         .withLocation(aLocation().withClass(ClassName.fromString(clazz)))
@@ -14,21 +14,29 @@
  */
 package org.pitest.mutationtest.execute;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Matchers.any;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import org.junit.Before;
 import org.junit.Test;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 import org.pitest.functional.SideEffect;
 import org.pitest.mutationtest.TimeoutLengthStrategy;
+import org.pitest.testapi.Description;
 import org.pitest.testapi.ResultCollector;
 import org.pitest.testapi.TestUnit;
 
+import sun.pitest.MutantTimedOutError;
+import sun.pitest.TimeoutBudget;
+
 public class MutationTimeoutDecoratorTest {
 
   private MutationTimeoutDecorator testee;
@@ -76,4 +84,71 @@ public class MutationTimeoutDecoratorTest {
     verify(this.child).execute(any(ResultCollector.class));
     verify(this.sideEffect).apply();
   }
+
+  @Test
+  public void shouldNotApplySideEffectWhenChildStopsOnceBudgetExpires() {
+    when(this.timeoutStrategy.getAllowedTime(NORMAL_EXECUTION)).thenReturn(50l);
+    this.testee = new MutationTimeoutDecorator(this.child, this.sideEffect,
+        this.timeoutStrategy, NORMAL_EXECUTION, true);
+
+    doAnswer(invocation -> {
+      while (true) {
+        TimeoutBudget.check();
+        Thread.sleep(5);
+      }
+    }).when(this.child).execute(any(ResultCollector.class));
+
+    try {
+      this.testee.execute(this.rc);
+      verify(this.rc).notifyEnd(any(Description.class),
+          any(MutantTimedOutError.class));
+      verify(this.sideEffect, never()).apply();
+    } finally {
+      TimeoutBudget.reset();
+    }
+  }
+
+  @Test
+  public void shouldApplySideEffectWhenChildIgnoresExpiredBudget() {
+    when(this.timeoutStrategy.getAllowedTime(NORMAL_EXECUTION)).thenReturn(50l);
+    this.testee = new MutationTimeoutDecorator(this.child, this.sideEffect,
+        this.timeoutStrategy, NORMAL_EXECUTION, true);
+
+    doAnswer(invocation -> {
+      Thread.sleep(MutationTimeoutDecorator.GRACE_PERIOD + 500);
+      return null;
+    }).when(this.child).execute(any(ResultCollector.class));
+
+    try {
+      this.testee.execute(this.rc);
+      verify(this.sideEffect).apply();
+    } finally {
+      TimeoutBudget.reset();
+    }
+  }
+
+  @Test
+  public void shouldRunTestsOnSharedThreadUntilATestTimesOut() {
+    final MutationTestThread thread = new MutationTestThread();
+    final List<Thread> used = new ArrayList<>();
+    when(this.timeoutStrategy.getAllowedTime(NORMAL_EXECUTION)).thenReturn(50l);
+    doAnswer(invocation -> {
+      used.add(Thread.currentThread());
+      if (used.size() == 2) {
+        Thread.sleep(100);
+      }
+      return null;
+    }).when(this.child).execute(any(ResultCollector.class));
+
+    for (int i = 0; i != 3; i++) {
+      new MutationTimeoutDecorator(this.child, this.sideEffect,
+          this.timeoutStrategy, NORMAL_EXECUTION, false, thread)
+          .execute(this.rc);
+    }
+    thread.shutdown();
+
+    assertThat(used.get(1)).isSameAs(used.get(0));
+    assertThat(used.get(2)).isNotSameAs(used.get(1));
+    verify(this.sideEffect).apply();
+  }
 }
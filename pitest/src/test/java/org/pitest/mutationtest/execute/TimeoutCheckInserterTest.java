@@ -0,0 +1,108 @@
+package org.pitest.mutationtest.execute;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.Assert.assertTrue;
+
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.lang.reflect.InvocationTargetException;
+
+import org.junit.After;
+import org.junit.Test;
+import org.objectweb.asm.ClassReader;
+import org.objectweb.asm.util.CheckClassAdapter;
+import org.pitest.classpath.ClassloaderByteArraySource;
+
+import sun.pitest.MutantTimedOutError;
+import sun.pitest.TimeoutBudget;
+
+public class TimeoutCheckInserterTest {
+
+  public static class ExpiresWithinLoop {
+    public static int run() {
+      int i = 0;
+      while (i < 100) {
+        if (i == 10) {
+          TimeoutBudget.expire();
+        }
+        i++;
+      }
+      return i;
+    }
+  }
+
+  public static class HasStaticInitializer {
+    static int value;
+    static {
+      value = 42;
+    }
+
+    public static int run() {
+      return value;
+    }
+  }
+
+  @After
+  public void resetBudget() {
+    TimeoutBudget.reset();
+  }
+
+  @Test
+  public void shouldNotChangeBehaviourOfUninstrumentedCode() {
+    assertThat(ExpiresWithinLoop.run()).isEqualTo(100);
+  }
+
+  @Test
+  public void shouldStopLoopOnceBudgetHasExpired() throws Exception {
+    assertThat(runInstrumented(ExpiresWithinLoop.class)).isInstanceOf(
+        MutantTimedOutError.class);
+  }
+
+  @Test
+  public void shouldCheckBudgetOnMethodEntry() throws Exception {
+    TimeoutBudget.expire();
+    assertThat(runInstrumented(HasStaticInitializer.class)).isInstanceOf(
+        MutantTimedOutError.class);
+  }
+
+  @Test
+  public void shouldNotCheckBudgetInStaticInitializers() throws Exception {
+    final Class<?> clazz = loadInstrumented(HasStaticInitializer.class);
+    TimeoutBudget.expire();
+    Class.forName(clazz.getName(), true, clazz.getClassLoader());
+    TimeoutBudget.reset();
+    assertThat(clazz.getMethod("run").invoke(null)).isEqualTo(42);
+  }
+
+  @Test
+  public void shouldProduceValidClass() {
+    final StringWriter sw = new StringWriter();
+    CheckClassAdapter.verify(new ClassReader(instrument(ExpiresWithinLoop.class)),
+        false, new PrintWriter(sw));
+    assertTrue(sw.toString(), sw.toString().isEmpty());
+  }
+
+  private Object runInstrumented(final Class<?> clazz) throws Exception {
+    try {
+      return loadInstrumented(clazz).getMethod("run").invoke(null);
+    } catch (final InvocationTargetException ex) {
+      return ex.getCause();
+    }
+  }
+
+  private Class<?> loadInstrumented(final Class<?> clazz) {
+    final byte[] bytes = instrument(clazz);
+    // the budget must be shared with the test, so only the testee is reloaded
+    return new ClassLoader(getClass().getClassLoader()) {
+      Class<?> define() {
+        return defineClass(clazz.getName(), bytes, 0, bytes.length);
+      }
+    }.define();
+  }
+
+  private static byte[] instrument(final Class<?> clazz) {
+    return TimeoutCheckInserter.insertChecks(ClassloaderByteArraySource
+        .fromContext().getBytes(clazz.getName()).get());
+  }
+
+}
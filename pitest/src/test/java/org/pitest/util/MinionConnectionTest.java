@@ -0,0 +1,59 @@
+package org.pitest.util;
+
+import static org.junit.Assert.assertEquals;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+import org.junit.Test;
+
+public class MinionConnectionTest {
+
+  @Test
+  public void shouldSkipToDataFollowingPipeHeader() throws IOException {
+    final ByteArrayOutputStream o = new ByteArrayOutputStream();
+    MinionConnection.writePipeHeader(o);
+    o.write(42);
+
+    final InputStream in = new ByteArrayInputStream(o.toByteArray());
+    MinionConnection.skipToPipeHeader(in);
+    assertEquals(42, in.read());
+  }
+
+  @Test
+  public void shouldSkipAnythingWrittenBeforePipeHeader() throws IOException {
+    final ByteArrayOutputStream o = new ByteArrayOutputStream();
+    o.write("Picked up JAVA_TOOL_OPTIONS".getBytes("UTF-8"));
+    MinionConnection.writePipeHeader(o);
+    o.write(42);
+
+    final InputStream in = new ByteArrayInputStream(o.toByteArray());
+    MinionConnection.skipToPipeHeader(in);
+    assertEquals(42, in.read());
+  }
+
+  @Test
+  public void shouldFindPipeHeaderAfterPartOfIt() throws IOException {
+    final ByteArrayOutputStream header = new ByteArrayOutputStream();
+    MinionConnection.writePipeHeader(header);
+
+    final ByteArrayOutputStream o = new ByteArrayOutputStream();
+    o.write(header.toByteArray(), 0, 2);
+    MinionConnection.writePipeHeader(o);
+    o.write(42);
+
+    final InputStream in = new ByteArrayInputStream(o.toByteArray());
+    MinionConnection.skipToPipeHeader(in);
+    assertEquals(42, in.read());
+  }
+
+  @Test(expected = IOException.class)
+  public void shouldFailWhenStreamEndsBeforePipeHeader() throws IOException {
+    final InputStream in = new ByteArrayInputStream(
+        "Error: Could not find or load main class".getBytes("UTF-8"));
+    MinionConnection.skipToPipeHeader(in);
+  }
+
+}
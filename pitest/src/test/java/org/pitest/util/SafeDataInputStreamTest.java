@@ -15,6 +15,7 @@
 package org.pitest.util;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
 
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
@@ -43,4 +44,54 @@ public class SafeDataInputStreamTest {
 
   }
 
+  @Test
+  public void shouldReadBackInternedStrings() {
+    final ByteArrayOutputStream o = new ByteArrayOutputStream();
+    final SafeDataOutputStream dos = new SafeDataOutputStream(o);
+    dos.writeInternedString("foo");
+    dos.writeInternedString("bar");
+    dos.writeInternedString("foo");
+    dos.writeInternedString(null);
+    dos.writeInternedString("bar");
+
+    final SafeDataInputStream dis = new SafeDataInputStream(
+        new ByteArrayInputStream(o.toByteArray()));
+
+    assertEquals("foo", dis.readInternedString());
+    assertEquals("bar", dis.readInternedString());
+    assertEquals("foo", dis.readInternedString());
+    assertNull(dis.readInternedString());
+    assertEquals("bar", dis.readInternedString());
+  }
+
+  @Test
+  public void shouldSendRepeatedInternedStringsAsIndex() {
+    final ByteArrayOutputStream o = new ByteArrayOutputStream();
+    final SafeDataOutputStream dos = new SafeDataOutputStream(o);
+    dos.writeInternedString("foo");
+    final int firstSize = o.size();
+    dos.writeInternedString("foo");
+
+    assertEquals(4, o.size() - firstSize);
+  }
+
+  @Test
+  public void shouldAcceptMatchingProtocolVersion() {
+    final ByteArrayOutputStream o = new ByteArrayOutputStream();
+    new SafeDataOutputStream(o).writeProtocolVersion();
+
+    new SafeDataInputStream(new ByteArrayInputStream(o.toByteArray()))
+        .checkProtocolVersion();
+  }
+
+  @Test(expected = PitError.class)
+  public void shouldRejectOtherProtocolVersions() {
+    final ByteArrayOutputStream o = new ByteArrayOutputStream();
+    new SafeDataOutputStream(o).writeInt(
+        SafeDataOutputStream.PROTOCOL_VERSION + 1);
+
+    new SafeDataInputStream(new ByteArrayInputStream(o.toByteArray()))
+        .checkProtocolVersion();
+  }
+
 }
@@ -20,9 +20,12 @@ import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNull;
 import static org.mockito.Mockito.verify;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.ConcurrentModificationException;
+import java.util.List;
 import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
@@ -95,10 +98,72 @@ public class CodeCoverageStoreTest {
     CodeCoverageStore.visitProbes(classId, 0, new boolean[] { true });
     CodeCoverageStore.reset();
 
-    final Collection<Long> actual = CodeCoverageStore.getHits();
+    final Collection<Long> actual = hits();
     assertEquals(Collections.emptyList(), actual);
   }
 
+  @Test
+  public void shouldReportHitsAgainAfterReset() {
+    final int classId = CodeCoverageStore.registerClass("foo");
+    CodeCoverageStore.registerClassProbes(classId, 2);
+
+    CodeCoverageStore.visitProbes(classId, 0, new boolean[] { true, false });
+    CodeCoverageStore.reset();
+    CodeCoverageStore.visitProbes(classId, 0, new boolean[] { false, true });
+
+    assertThat(hits()).containsExactly(
+        CodeCoverageStore.encode(classId, 1));
+  }
+
+  @Test
+  public void shouldReportEachHitClassOnce() {
+    final int classId = CodeCoverageStore.registerClass("foo");
+    CodeCoverageStore.registerClassProbes(classId, 2);
+
+    CodeCoverageStore.visitSingleProbe(classId, 0);
+    CodeCoverageStore.visitSingleProbe(classId, 1);
+    CodeCoverageStore.visitProbes(classId, 0, new boolean[] { true, true });
+
+    assertThat(hits()).containsExactly(
+        CodeCoverageStore.encode(classId, 0),
+        CodeCoverageStore.encode(classId, 1));
+  }
+
+  @Test
+  public void shouldRegisterClassesBeyondInitialCapacity() {
+    int classId = 0;
+    for (int i = 0; i != 200; i++) {
+      classId = CodeCoverageStore.registerClass("foo" + i);
+      CodeCoverageStore.registerClassProbes(classId, 1);
+    }
+
+    CodeCoverageStore.visitSingleProbe(classId, 0);
+
+    assertThat(hits()).containsExactly(
+        CodeCoverageStore.encode(classId, 0));
+  }
+
+  @Test
+  public void shouldReportHitsAsPerClassBitmaps() {
+    final int classId = CodeCoverageStore.registerClass("foo");
+    CodeCoverageStore.registerClassProbes(classId, 70);
+    final int unhit = CodeCoverageStore.registerClass("bar");
+    CodeCoverageStore.registerClassProbes(unhit, 1);
+
+    CodeCoverageStore.visitSingleProbe(classId, 1);
+    CodeCoverageStore.visitSingleProbe(classId, 64);
+    CodeCoverageStore.visitSingleProbe(classId, 69);
+
+    final List<long[]> bitmaps = new ArrayList<>();
+    CodeCoverageStore.getHits((id, probes, words) -> {
+      assertEquals(classId, id);
+      bitmaps.add(Arrays.copyOf(probes, words));
+    });
+
+    assertThat(bitmaps).hasSize(1);
+    assertThat(bitmaps.get(0)).containsExactly(1L << 1, 1L | (1L << 5));
+  }
+
   @Test
   public void shouldBeSafeToAccessAcrossMultipleThreads()
       throws InterruptedException, ExecutionException {
@@ -278,20 +343,32 @@ public class CodeCoverageStoreTest {
   }
 
   private void assertHitsLine(final int classId, final int... i) {
-    final Collection<Long> actual = CodeCoverageStore.getHits();
+    final Collection<Long> actual = hits();
     for (final int probe : i) {
       assertThat(actual).contains(CodeCoverageStore.encode(classId, probe));
     }
   }
 
   private void assertDoesNotHitLine(final int classId, final int... i) {
-    final Collection<Long> actual = CodeCoverageStore.getHits();
+    final Collection<Long> actual = hits();
     for (final int probe : i) {
       assertThat(actual).doesNotContain(
           CodeCoverageStore.encode(classId, probe));
     }
   }
 
+  private static List<Long> hits() {
+    final List<Long> hits = new ArrayList<>();
+    CodeCoverageStore.getHits((classId, probes, numberOfWords) -> {
+      for (int probe = 0; probe != numberOfWords * 64; probe++) {
+        if ((probes[probe >> 6] & (1L << probe)) != 0) {
+          hits.add(CodeCoverageStore.encode(classId, probe));
+        }
+      }
+    });
+    return hits;
+  }
+
   private Callable<ConcurrentModificationException> makeReader() {
     final Callable<ConcurrentModificationException> read = new Callable<ConcurrentModificationException>() {
       @Override
@@ -309,7 +386,7 @@ public class CodeCoverageStoreTest {
 
       private long pointlesslyIterateCollection() {
         long total = 0;
-        for (final Long i : CodeCoverageStore.getHits()) {
+        for (final Long i : hits()) {
           total += i;
           try {
             Thread.sleep(5);